@@ -37,6 +37,47 @@ public enum AbilityKey {
     SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC("supportPersistentInstanceByGrpc",
             "support persistent instance by grpc", AbilityMode.SERVER),
     
+    /**
+     * Server support decoding payloads encoded by compact binary codec.
+     */
+    SERVER_SUPPORT_COMPACT_PAYLOAD_CODEC("supportCompactPayloadCodec", "support compact binary payload codec",
+            AbilityMode.SERVER),
+    
+    /**
+     * Server support decompressing payloads compressed by gzip.
+     */
+    SERVER_SUPPORT_PAYLOAD_COMPRESSION("supportPayloadCompression", "support gzip payload compression",
+            AbilityMode.SERVER),
+    
+    /**
+     * Server support querying several configs in one request.
+     */
+    SERVER_SUPPORT_BATCH_CONFIG_QUERY("supportBatchConfigQuery", "support batch config query", AbilityMode.SERVER),
+    
+    /**
+     * Sdk client support receiving several changed configs in one notify request.
+     */
+    SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY("supportBatchConfigChangeNotify",
+            "support batch config change notify", AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support applying incremental service info push.
+     */
+    SDK_CLIENT_SUPPORT_DELTA_SERVICE_PUSH("supportDeltaServicePush", "support delta service info push",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support decoding payloads encoded by compact binary codec.
+     */
+    SDK_CLIENT_SUPPORT_COMPACT_PAYLOAD_CODEC("supportCompactPayloadCodec", "support compact binary payload codec",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support decompressing payloads compressed by gzip.
+     */
+    SDK_CLIENT_SUPPORT_PAYLOAD_COMPRESSION("supportPayloadCompression", "support gzip payload compression",
+            AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
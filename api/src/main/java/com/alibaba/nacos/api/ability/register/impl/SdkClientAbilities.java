@@ -45,6 +45,10 @@ public class SdkClientAbilities extends AbstractAbilityRegistry {
          *
          */
         // put ability here, which you want current client supports
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_SERVICE_PUSH, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_COMPACT_PAYLOAD_CODEC, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_PAYLOAD_COMPRESSION, true);
     }
     
     /**.
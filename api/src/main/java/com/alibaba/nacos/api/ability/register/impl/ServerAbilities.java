@@ -46,6 +46,9 @@ public class ServerAbilities extends AbstractAbilityRegistry {
          */
         // put ability here, which you want current server supports
         supportedAbilities.put(AbilityKey.SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC, true);
+        supportedAbilities.put(AbilityKey.SERVER_SUPPORT_COMPACT_PAYLOAD_CODEC, true);
+        supportedAbilities.put(AbilityKey.SERVER_SUPPORT_PAYLOAD_COMPRESSION, true);
+        supportedAbilities.put(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY, true);
     }
     
     /**.
@@ -20,6 +20,9 @@ import com.alibaba.nacos.api.config.filter.IConfigFilter;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Config Service Interface.
  *
@@ -38,6 +41,20 @@ public interface ConfigService {
      */
     String getConfig(String dataId, String group, long timeoutMs) throws NacosException;
     
+    /**
+     * Get a batch of configs of one group, used to load many configs when application starting.
+     *
+     * <p>Configs are queried in batch requests if server supports, otherwise queried one by one like
+     * {@link #getConfig(String, String, long)}.
+     *
+     * @param dataIds   dataIds
+     * @param group     group
+     * @param timeoutMs read timeout
+     * @return dataId to config value in the order of dataIds, value is null if config not exist
+     * @throws NacosException NacosException
+     */
+    Map<String, String> getConfigs(List<String> dataIds, String group, long timeoutMs) throws NacosException;
+    
     /**
      * Get config and register Listener.
      *
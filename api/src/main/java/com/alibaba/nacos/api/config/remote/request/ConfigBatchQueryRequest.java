@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * request of querying a batch of configs in one round trip.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchQueryRequest extends AbstractConfigRequest {
+    
+    private List<ConfigQueryContext> configQueryContexts = new ArrayList<>();
+    
+    /**
+     * add query config.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @param tag    tag, nullable.
+     */
+    public void addConfigQueryContext(String dataId, String group, String tenant, String tag) {
+        ConfigQueryContext configQueryContext = new ConfigQueryContext();
+        configQueryContext.dataId = dataId;
+        configQueryContext.group = group;
+        configQueryContext.tenant = tenant;
+        configQueryContext.tag = tag;
+        configQueryContexts.add(configQueryContext);
+    }
+    
+    public List<ConfigQueryContext> getConfigQueryContexts() {
+        return configQueryContexts;
+    }
+    
+    public void setConfigQueryContexts(List<ConfigQueryContext> configQueryContexts) {
+        this.configQueryContexts = configQueryContexts;
+    }
+    
+    public static class ConfigQueryContext {
+        
+        String dataId;
+        
+        String group;
+        
+        String tenant;
+        
+        String tag;
+        
+        public ConfigQueryContext() {
+        
+        }
+        
+        public String getDataId() {
+            return dataId;
+        }
+        
+        public void setDataId(String dataId) {
+            this.dataId = dataId;
+        }
+        
+        public String getGroup() {
+            return group;
+        }
+        
+        public void setGroup(String group) {
+            this.group = group;
+        }
+        
+        public String getTenant() {
+            return tenant;
+        }
+        
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+        
+        public String getTag() {
+            return tag;
+        }
+        
+        public void setTag(String tag) {
+            this.tag = tag;
+        }
+        
+        @Override
+        public String toString() {
+            return "ConfigQueryContext{" + "dataId='" + dataId + '\'' + ", group='" + group + '\'' + ", tenant='"
+                    + tenant + '\'' + ", tag='" + tag + '\'' + '}';
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * config change sync request of a batch of configs on clusters.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeClusterSyncBatchRequest extends AbstractConfigRequest {
+    
+    private List<ConfigChangeItem> configChanges = new ArrayList<>();
+    
+    /**
+     * add changed config.
+     *
+     * @param dataId       dataId.
+     * @param group        group.
+     * @param tenant       tenant.
+     * @param grayName     gray name, blank if not a gray config.
+     * @param lastModified last modified time of config.
+     */
+    public void addConfigChange(String dataId, String group, String tenant, String grayName, long lastModified) {
+        ConfigChangeItem configChangeItem = new ConfigChangeItem();
+        configChangeItem.dataId = dataId;
+        configChangeItem.group = group;
+        configChangeItem.tenant = tenant;
+        configChangeItem.grayName = grayName;
+        configChangeItem.lastModified = lastModified;
+        configChanges.add(configChangeItem);
+    }
+    
+    public List<ConfigChangeItem> getConfigChanges() {
+        return configChanges;
+    }
+    
+    public void setConfigChanges(List<ConfigChangeItem> configChanges) {
+        this.configChanges = configChanges;
+    }
+    
+    public static class ConfigChangeItem {
+        
+        private String dataId;
+        
+        private String group;
+        
+        private String tenant;
+        
+        private String grayName;
+        
+        private long lastModified;
+        
+        /**
+         * content of the changed config, optional, the receiver reads config from db if not set.
+         */
+        private String content;
+        
+        private String md5;
+        
+        private String type;
+        
+        private String encryptedDataKey;
+        
+        public String getDataId() {
+            return dataId;
+        }
+        
+        public void setDataId(String dataId) {
+            this.dataId = dataId;
+        }
+        
+        public String getGroup() {
+            return group;
+        }
+        
+        public void setGroup(String group) {
+            this.group = group;
+        }
+        
+        public String getTenant() {
+            return tenant;
+        }
+        
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+        
+        public String getGrayName() {
+            return grayName;
+        }
+        
+        public void setGrayName(String grayName) {
+            this.grayName = grayName;
+        }
+        
+        public long getLastModified() {
+            return lastModified;
+        }
+        
+        public void setLastModified(long lastModified) {
+            this.lastModified = lastModified;
+        }
+        
+        public String getContent() {
+            return content;
+        }
+        
+        public void setContent(String content) {
+            this.content = content;
+        }
+        
+        public String getMd5() {
+            return md5;
+        }
+        
+        public void setMd5(String md5) {
+            this.md5 = md5;
+        }
+        
+        public String getType() {
+            return type;
+        }
+        
+        public void setType(String type) {
+            this.type = type;
+        }
+        
+        public String getEncryptedDataKey() {
+            return encryptedDataKey;
+        }
+        
+        public void setEncryptedDataKey(String encryptedDataKey) {
+            this.encryptedDataKey = encryptedDataKey;
+        }
+        
+        @Override
+        public String toString() {
+            return "ConfigChangeItem{" + "dataId='" + dataId + '\'' + ", group='" + group + '\'' + ", tenant='"
+                    + tenant + '\'' + ", grayName='" + grayName + '\'' + ", lastModified=" + lastModified
+                    + ", md5='" + md5 + '\'' + '}';
+        }
+    }
+}
@@ -36,6 +36,17 @@ public class ConfigChangeClusterSyncRequest extends AbstractConfigRequest {
     @Deprecated
     String tag;
     
+    /**
+     * content of the changed config, optional, the receiver reads config from db if not set.
+     */
+    String content;
+    
+    String md5;
+    
+    String type;
+    
+    String encryptedDataKey;
+    
     public boolean isBeta() {
         return isBeta;
     }
@@ -62,6 +73,38 @@ public class ConfigChangeClusterSyncRequest extends AbstractConfigRequest {
         this.tag = tag;
     }
     
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public void setMd5(String md5) {
+        this.md5 = md5;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    public void setEncryptedDataKey(String encryptedDataKey) {
+        this.encryptedDataKey = encryptedDataKey;
+    }
+    
     public String getGrayName() {
         return grayName;
     }
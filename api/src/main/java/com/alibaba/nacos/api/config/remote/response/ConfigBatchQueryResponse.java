@@ -0,0 +1,229 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response;
+
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ConfigBatchQueryResponse, carries the query result of every config in {@code ConfigBatchQueryRequest}.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchQueryResponse extends Response {
+    
+    List<ConfigQueryResult> configQueryResults = new ArrayList<>();
+    
+    public ConfigBatchQueryResponse() {
+    }
+    
+    /**
+     * add query result of one config.
+     *
+     * @param dataId        dataId.
+     * @param group         group.
+     * @param tenant        tenant.
+     * @param queryResponse query response of the config.
+     */
+    public void addConfigQueryResult(String dataId, String group, String tenant, ConfigQueryResponse queryResponse) {
+        ConfigQueryResult result = new ConfigQueryResult();
+        result.dataId = dataId;
+        result.group = group;
+        result.tenant = tenant;
+        result.resultCode = queryResponse.getResultCode();
+        result.errorCode = queryResponse.getErrorCode();
+        result.message = queryResponse.getMessage();
+        result.content = queryResponse.getContent();
+        result.encryptedDataKey = queryResponse.getEncryptedDataKey();
+        result.contentType = queryResponse.getContentType();
+        result.md5 = queryResponse.getMd5();
+        result.lastModified = queryResponse.getLastModified();
+        result.beta = queryResponse.isBeta();
+        result.tag = queryResponse.getTag();
+        configQueryResults.add(result);
+    }
+    
+    public List<ConfigQueryResult> getConfigQueryResults() {
+        return configQueryResults;
+    }
+    
+    public void setConfigQueryResults(List<ConfigQueryResult> configQueryResults) {
+        this.configQueryResults = configQueryResults;
+    }
+    
+    /**
+     * Build fail response.
+     *
+     * @param errorCode errorCode.
+     * @param message   message.
+     * @return response.
+     */
+    public static ConfigBatchQueryResponse buildFailResponse(int errorCode, String message) {
+        ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+        response.setErrorInfo(errorCode, message);
+        return response;
+    }
+    
+    public static class ConfigQueryResult {
+        
+        String dataId;
+        
+        String group;
+        
+        String tenant;
+        
+        int resultCode = ResponseCode.SUCCESS.getCode();
+        
+        int errorCode;
+        
+        String message;
+        
+        String content;
+        
+        String encryptedDataKey;
+        
+        String contentType;
+        
+        String md5;
+        
+        long lastModified;
+        
+        boolean beta;
+        
+        String tag;
+        
+        public ConfigQueryResult() {
+        
+        }
+        
+        /**
+         * Whether the config is found and returned successfully, same semantic as {@link Response#isSuccess()}.
+         *
+         * @return true if success
+         */
+        public boolean isSuccess() {
+            return this.resultCode == ResponseCode.SUCCESS.getCode();
+        }
+        
+        public String getDataId() {
+            return dataId;
+        }
+        
+        public void setDataId(String dataId) {
+            this.dataId = dataId;
+        }
+        
+        public String getGroup() {
+            return group;
+        }
+        
+        public void setGroup(String group) {
+            this.group = group;
+        }
+        
+        public String getTenant() {
+            return tenant;
+        }
+        
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+        
+        public int getResultCode() {
+            return resultCode;
+        }
+        
+        public void setResultCode(int resultCode) {
+            this.resultCode = resultCode;
+        }
+        
+        public int getErrorCode() {
+            return errorCode;
+        }
+        
+        public void setErrorCode(int errorCode) {
+            this.errorCode = errorCode;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        public void setMessage(String message) {
+            this.message = message;
+        }
+        
+        public String getContent() {
+            return content;
+        }
+        
+        public void setContent(String content) {
+            this.content = content;
+        }
+        
+        public String getEncryptedDataKey() {
+            return encryptedDataKey;
+        }
+        
+        public void setEncryptedDataKey(String encryptedDataKey) {
+            this.encryptedDataKey = encryptedDataKey;
+        }
+        
+        public String getContentType() {
+            return contentType;
+        }
+        
+        public void setContentType(String contentType) {
+            this.contentType = contentType;
+        }
+        
+        public String getMd5() {
+            return md5;
+        }
+        
+        public void setMd5(String md5) {
+            this.md5 = md5;
+        }
+        
+        public long getLastModified() {
+            return lastModified;
+        }
+        
+        public void setLastModified(long lastModified) {
+            this.lastModified = lastModified;
+        }
+        
+        public boolean isBeta() {
+            return beta;
+        }
+        
+        public void setBeta(boolean beta) {
+            this.beta = beta;
+        }
+        
+        public String getTag() {
+            return tag;
+        }
+        
+        public void setTag(String tag) {
+            this.tag = tag;
+        }
+    }
+}
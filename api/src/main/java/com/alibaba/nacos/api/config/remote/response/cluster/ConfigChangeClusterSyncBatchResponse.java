@@ -0,0 +1,47 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response.cluster;
+
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * config change sync response of a batch of configs on clusters.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeClusterSyncBatchResponse extends Response {
+    
+    /**
+     * indexes of the config changes in request which are failed to sync.
+     */
+    private List<Integer> failedIndexes = new ArrayList<>();
+    
+    public void addFailedIndex(int index) {
+        failedIndexes.add(index);
+    }
+    
+    public List<Integer> getFailedIndexes() {
+        return failedIndexes;
+    }
+    
+    public void setFailedIndexes(List<Integer> failedIndexes) {
+        this.failedIndexes = failedIndexes;
+    }
+}
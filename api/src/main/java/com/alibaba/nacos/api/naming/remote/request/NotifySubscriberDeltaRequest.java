@@ -0,0 +1,173 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+
+/**
+ * Notify subscriber the instances changed from {@link #baseRevision} to {@link #revision}.
+ *
+ * <p>Only sent to clients supporting
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SDK_CLIENT_SUPPORT_DELTA_SERVICE_PUSH}. Clients whose
+ * cached service info is not at {@link #baseRevision} should reply a failed response, and server will push the full
+ * service info by {@link NotifySubscriberRequest} instead.
+ *
+ * @author xiweng.yy
+ */
+public class NotifySubscriberDeltaRequest extends ServerRequest {
+    
+    private String serviceName;
+    
+    private String groupName;
+    
+    private String clusters;
+    
+    private long cacheMillis;
+    
+    private long lastRefTime;
+    
+    private String checksum;
+    
+    private boolean allIPs;
+    
+    private boolean reachProtectionThreshold;
+    
+    private long baseRevision;
+    
+    private long revision;
+    
+    private List<Instance> addedInstances = new ArrayList<>();
+    
+    private List<Instance> modifiedInstances = new ArrayList<>();
+    
+    private List<Instance> removedInstances = new ArrayList<>();
+    
+    @Override
+    public String getModule() {
+        return NAMING_MODULE;
+    }
+    
+    public String getServiceName() {
+        return serviceName;
+    }
+    
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+    
+    public String getGroupName() {
+        return groupName;
+    }
+    
+    public void setGroupName(String groupName) {
+        this.groupName = groupName;
+    }
+    
+    public String getClusters() {
+        return clusters;
+    }
+    
+    public void setClusters(String clusters) {
+        this.clusters = clusters;
+    }
+    
+    public long getCacheMillis() {
+        return cacheMillis;
+    }
+    
+    public void setCacheMillis(long cacheMillis) {
+        this.cacheMillis = cacheMillis;
+    }
+    
+    public long getLastRefTime() {
+        return lastRefTime;
+    }
+    
+    public void setLastRefTime(long lastRefTime) {
+        this.lastRefTime = lastRefTime;
+    }
+    
+    public String getChecksum() {
+        return checksum;
+    }
+    
+    public void setChecksum(String checksum) {
+        this.checksum = checksum;
+    }
+    
+    public boolean isAllIPs() {
+        return allIPs;
+    }
+    
+    public void setAllIPs(boolean allIPs) {
+        this.allIPs = allIPs;
+    }
+    
+    public boolean isReachProtectionThreshold() {
+        return reachProtectionThreshold;
+    }
+    
+    public void setReachProtectionThreshold(boolean reachProtectionThreshold) {
+        this.reachProtectionThreshold = reachProtectionThreshold;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public List<Instance> getAddedInstances() {
+        return addedInstances;
+    }
+    
+    public void setAddedInstances(List<Instance> addedInstances) {
+        this.addedInstances = addedInstances;
+    }
+    
+    public List<Instance> getModifiedInstances() {
+        return modifiedInstances;
+    }
+    
+    public void setModifiedInstances(List<Instance> modifiedInstances) {
+        this.modifiedInstances = modifiedInstances;
+    }
+    
+    public List<Instance> getRemovedInstances() {
+        return removedInstances;
+    }
+    
+    public void setRemovedInstances(List<Instance> removedInstances) {
+        this.removedInstances = removedInstances;
+    }
+}
@@ -36,6 +36,11 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * Revision of pushed service info, {@code 0} means the revision is not tracked by server.
+     */
+    private long revision;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -60,6 +65,14 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.serviceInfo = serviceInfo;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
     public String getNamespace() {
         return namespace;
     }
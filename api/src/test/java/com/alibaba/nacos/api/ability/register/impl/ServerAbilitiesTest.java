@@ -33,4 +33,19 @@ class ServerAbilitiesTest {
     void testSupportPersistentInstanceByGrpcAbilities() {
         assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC));
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testSupportCompactPayloadCodecAbilities() {
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_COMPACT_PAYLOAD_CODEC));
+    }
+    
+    @Test
+    void testSupportPayloadCompressionAbilities() {
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_PAYLOAD_COMPRESSION));
+    }
+    
+    @Test
+    void testSupportBatchConfigQueryAbilities() {
+        assertTrue(ServerAbilities.getStaticAbilities().get(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.remote.request.BasedConfigRequestTest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest.ConfigChangeItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigChangeClusterSyncBatchRequestTest extends BasedConfigRequestTest {
+    
+    ConfigChangeClusterSyncBatchRequest configChangeClusterSyncBatchRequest;
+    
+    String requestId;
+    
+    @BeforeEach
+    void before() {
+        configChangeClusterSyncBatchRequest = new ConfigChangeClusterSyncBatchRequest();
+        configChangeClusterSyncBatchRequest.addConfigChange(DATA_ID, GROUP, TENANT, null, 1L);
+        configChangeClusterSyncBatchRequest.addConfigChange(DATA_ID, GROUP, TENANT, "beta", 2L);
+        configChangeClusterSyncBatchRequest.putAllHeader(HEADERS);
+        requestId = injectRequestUuId(configChangeClusterSyncBatchRequest);
+    }
+    
+    @Override
+    @Test
+    public void testSerialize() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configChangeClusterSyncBatchRequest);
+        assertTrue(json.contains("\"module\":\"" + Constants.Config.CONFIG_MODULE));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+        assertTrue(json.contains("\"configChanges\":[{\"dataId\":\"" + DATA_ID));
+        assertTrue(json.contains("\"grayName\":\"beta\""));
+        assertTrue(json.contains("\"lastModified\":2"));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{\"header1\":\"test_header1\"},\"requestId\":\"ece89111-3c42-4055-aca4-c95e16ec564b\","
+                + "\"configChanges\":[{\"dataId\":\"test_data\",\"group\":\"group\",\"tenant\":\"test_tenant\","
+                + "\"lastModified\":1},{\"dataId\":\"test_data\",\"group\":\"group\",\"tenant\":\"test_tenant\","
+                + "\"grayName\":\"beta\",\"lastModified\":2}],\"module\":\"config\"}";
+        ConfigChangeClusterSyncBatchRequest actual = mapper.readValue(json, ConfigChangeClusterSyncBatchRequest.class);
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
+        assertEquals(2, actual.getConfigChanges().size());
+        ConfigChangeItem item = actual.getConfigChanges().get(1);
+        assertEquals(DATA_ID, item.getDataId());
+        assertEquals(GROUP, item.getGroup());
+        assertEquals(TENANT, item.getTenant());
+        assertEquals("beta", item.getGrayName());
+        assertEquals(2L, item.getLastModified());
+    }
+}
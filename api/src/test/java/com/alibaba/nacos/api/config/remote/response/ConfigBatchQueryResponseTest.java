@@ -0,0 +1,89 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response;
+
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigBatchQueryResponseTest extends BasedConfigResponseTest {
+    
+    ConfigBatchQueryResponse configBatchQueryResponse;
+    
+    @BeforeEach
+    void before() {
+        configBatchQueryResponse = new ConfigBatchQueryResponse();
+        requestId = injectResponseUuId(configBatchQueryResponse);
+        ConfigQueryResponse found = ConfigQueryResponse.buildSuccessResponse(CONTENT);
+        found.setMd5(MD5);
+        found.setEncryptedDataKey("key");
+        configBatchQueryResponse.addConfigQueryResult(DATA_ID, GROUP, TENANT, found);
+        configBatchQueryResponse.addConfigQueryResult("missing", GROUP, TENANT,
+                ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist"));
+    }
+    
+    @Override
+    @Test
+    public void testSerializeSuccessResponse() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configBatchQueryResponse);
+        assertTrue(json.contains("\"success\":" + Boolean.TRUE));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+        assertTrue(json.contains("\"resultCode\":" + ResponseCode.SUCCESS.getCode()));
+        assertTrue(json.contains("\"configQueryResults\":[{"));
+        assertTrue(json.contains("\"content\":\"" + CONTENT + "\""));
+        assertTrue(json.contains("\"encryptedDataKey\":\"key\""));
+        assertTrue(json.contains("\"errorCode\":" + ConfigQueryResponse.CONFIG_NOT_FOUND));
+    }
+    
+    @Override
+    @Test
+    public void testSerializeFailResponse() throws JsonProcessingException {
+        ConfigBatchQueryResponse response = ConfigBatchQueryResponse.buildFailResponse(ResponseCode.FAIL.getCode(),
+                "Fail");
+        String json = mapper.writeValueAsString(response);
+        assertTrue(json.contains("\"resultCode\":" + ResponseCode.FAIL.getCode()));
+        assertTrue(json.contains("\"errorCode\":" + ResponseCode.FAIL.getCode()));
+        assertTrue(json.contains("\"message\":\"Fail\""));
+        assertTrue(json.contains("\"success\":false"));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configBatchQueryResponse);
+        ConfigBatchQueryResponse actual = mapper.readValue(json, ConfigBatchQueryResponse.class);
+        assertTrue(actual.isSuccess());
+        assertEquals(requestId, actual.getRequestId());
+        assertEquals(2, actual.getConfigQueryResults().size());
+        ConfigBatchQueryResponse.ConfigQueryResult found = actual.getConfigQueryResults().get(0);
+        assertTrue(found.isSuccess());
+        assertEquals(DATA_ID, found.getDataId());
+        assertEquals(GROUP, found.getGroup());
+        assertEquals(TENANT, found.getTenant());
+        assertEquals(CONTENT, found.getContent());
+        assertEquals(MD5, found.getMd5());
+        assertEquals("key", found.getEncryptedDataKey());
+        ConfigBatchQueryResponse.ConfigQueryResult missing = actual.getConfigQueryResults().get(1);
+        assertFalse(missing.isSuccess());
+        assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, missing.getErrorCode());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotifySubscriberDeltaRequestTest {
+    
+    private static ObjectMapper mapper;
+    
+    @BeforeAll
+    static void setUp() throws Exception {
+        mapper = new ObjectMapper();
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+    
+    @Test
+    void testSerialize() throws JsonProcessingException {
+        NotifySubscriberDeltaRequest request = new NotifySubscriberDeltaRequest();
+        request.setServiceName("service");
+        request.setGroupName("group");
+        request.setBaseRevision(1L);
+        request.setRevision(3L);
+        request.setChecksum("checksum");
+        request.setAllIPs(true);
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        request.getAddedInstances().add(instance);
+        String json = mapper.writeValueAsString(request);
+        assertTrue(json.contains("\"serviceName\":\"service\""));
+        assertTrue(json.contains("\"baseRevision\":1"));
+        assertTrue(json.contains("\"revision\":3"));
+        assertTrue(json.contains("\"checksum\":\"checksum\""));
+        assertTrue(json.contains("\"allIPs\":true"));
+        assertTrue(json.contains("\"addedInstances\":[{"));
+        assertTrue(json.contains("\"module\":\"" + NAMING_MODULE + "\""));
+    }
+    
+    @Test
+    void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{},\"serviceName\":\"service\",\"groupName\":\"group\",\"clusters\":\"\","
+                + "\"baseRevision\":1,\"revision\":3,\"checksum\":\"checksum\",\"reachProtectionThreshold\":true,"
+                + "\"addedInstances\":[],\"modifiedInstances\":[],"
+                + "\"removedInstances\":[{\"ip\":\"1.1.1.1\",\"port\":8848}],\"module\":\"naming\"}";
+        NotifySubscriberDeltaRequest actual = mapper.readValue(json, NotifySubscriberDeltaRequest.class);
+        assertEquals("service", actual.getServiceName());
+        assertEquals("group", actual.getGroupName());
+        assertEquals(1L, actual.getBaseRevision());
+        assertEquals(3L, actual.getRevision());
+        assertEquals("checksum", actual.getChecksum());
+        assertTrue(actual.isReachProtectionThreshold());
+        assertEquals(1, actual.getRemovedInstances().size());
+        assertEquals("1.1.1.1:8848", actual.getRemovedInstances().get(0).toInetAddr());
+        assertEquals(NAMING_MODULE, actual.getModule());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Run benchmarks of this module with every thread count and write all results into one json file.
+ *
+ * <p>Usage: {@code BenchmarkLauncher [result file] [thread counts] [include regex]}, defaults are
+ * {@code nacos-benchmark.json}, {@code 1,4,16} and all benchmarks of this module. Data sizes are declared by
+ * {@code @Param} of each benchmark. Results of two runs can be compared by {@link BenchmarkResultComparator}.
+ *
+ * @author Nacos
+ */
+public class BenchmarkLauncher {
+    
+    private static final String DEFAULT_RESULT_FILE = "nacos-benchmark.json";
+    
+    private static final String DEFAULT_THREADS = "1,4,16";
+    
+    private static final String DEFAULT_INCLUDE = BenchmarkLauncher.class.getPackage().getName() + ".*Benchmark";
+    
+    private static final String THREADS_SEPARATOR = ",";
+    
+    private static final int WARMUP_ITERATIONS = 3;
+    
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    
+    /**
+     * Run benchmarks.
+     *
+     * @param args optional result file, thread counts split by comma and include regex
+     * @throws RunnerException benchmark run failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        String resultFile = args.length > 0 ? args[0] : DEFAULT_RESULT_FILE;
+        String threads = args.length > 1 ? args[1] : DEFAULT_THREADS;
+        String include = args.length > 2 ? args[2] : DEFAULT_INCLUDE;
+        Collection<RunResult> results = new ArrayList<>();
+        for (int each : parseThreads(threads)) {
+            Options options = new OptionsBuilder().include(include).threads(each).forks(1)
+                    .warmupIterations(WARMUP_ITERATIONS).measurementIterations(MEASUREMENT_ITERATIONS).build();
+            results.addAll(new Runner(options).run());
+        }
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, resultFile).writeOut(results);
+        System.out.println("Benchmark results are written to " + resultFile);
+    }
+    
+    static List<Integer> parseThreads(String threads) {
+        List<Integer> result = new ArrayList<>();
+        for (String each : threads.split(THREADS_SEPARATOR)) {
+            if (!each.trim().isEmpty()) {
+                result.add(Integer.parseInt(each.trim()));
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No thread count in " + threads);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark;
+
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compare two jmh json result files, such as results of {@link BenchmarkLauncher} before and after a change, and flag
+ * benchmarks which became slower than threshold.
+ *
+ * <p>Usage: {@code BenchmarkResultComparator <baseline file> <current file> [threshold percent]}, default threshold is
+ * 10 percent. Exit with status 1 if any regression is found, so it can be used to fail a build.
+ *
+ * <p>A change is only flagged when it's also larger than the sum of score errors of both runs, so noise of a short
+ * run isn't reported as regression.
+ *
+ * @author Nacos
+ */
+public class BenchmarkResultComparator {
+    
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10D;
+    
+    private static final double PERCENT = 100D;
+    
+    private static final int REQUIRED_ARGS = 2;
+    
+    private static final int USAGE_ERROR_STATUS = 2;
+    
+    private static final int REGRESSION_STATUS = 1;
+    
+    private static final String THROUGHPUT_MODE = "thrpt";
+    
+    private final double threshold;
+    
+    public BenchmarkResultComparator(double thresholdPercent) {
+        this.threshold = thresholdPercent / PERCENT;
+    }
+    
+    /**
+     * Compare results of the same benchmark, param and thread count in two runs.
+     *
+     * @param baseline json results of baseline run
+     * @param current  json results of current run
+     * @return comparisons of benchmarks in both runs, in order of baseline
+     */
+    public List<Comparison> compare(String baseline, String current) {
+        Map<String, JsonNode> currentResults = index(current);
+        List<Comparison> result = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : index(baseline).entrySet()) {
+            JsonNode currentResult = currentResults.get(entry.getKey());
+            if (null != currentResult) {
+                result.add(compare(entry.getKey(), entry.getValue(), currentResult));
+            }
+        }
+        return result;
+    }
+    
+    private Comparison compare(String key, JsonNode baseline, JsonNode current) {
+        JsonNode baselineMetric = baseline.get("primaryMetric");
+        JsonNode currentMetric = current.get("primaryMetric");
+        double baselineScore = baselineMetric.get("score").asDouble();
+        double currentScore = currentMetric.get("score").asDouble();
+        boolean higherIsBetter = THROUGHPUT_MODE.equals(baseline.get("mode").asText());
+        double change = 0 == baselineScore ? 0 : (currentScore - baselineScore) / baselineScore;
+        double worse = higherIsBetter ? -change : change;
+        double error = scoreError(baselineMetric) + scoreError(currentMetric);
+        boolean regression = worse > threshold && Math.abs(currentScore - baselineScore) > error;
+        return new Comparison(key, baselineMetric.get("scoreUnit").asText(), baselineScore, currentScore, change,
+                regression);
+    }
+    
+    private static double scoreError(JsonNode metric) {
+        double result = metric.path("scoreError").asDouble();
+        // score error of a run with only one iteration is NaN.
+        return Double.isNaN(result) ? 0 : result;
+    }
+    
+    private static Map<String, JsonNode> index(String results) {
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+        for (JsonNode each : JacksonUtils.toObj(results)) {
+            result.put(buildKey(each), each);
+        }
+        return result;
+    }
+    
+    private static String buildKey(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+        JsonNode params = result.get("params");
+        if (null != params) {
+            Map<String, String> sortedParams = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> iterator = params.fields();
+            while (iterator.hasNext()) {
+                Map.Entry<String, JsonNode> entry = iterator.next();
+                sortedParams.put(entry.getKey(), entry.getValue().asText());
+            }
+            key.append(sortedParams);
+        }
+        return key.append(" threads=").append(result.get("threads").asInt()).toString();
+    }
+    
+    /**
+     * Compare two result files and print the report.
+     *
+     * @param args baseline file, current file and optional threshold percent
+     * @throws IOException read result files failed
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < REQUIRED_ARGS) {
+            System.err.println("Usage: BenchmarkResultComparator <baseline file> <current file> [threshold percent]");
+            System.exit(USAGE_ERROR_STATUS);
+        }
+        String baseline = new String(Files.readAllBytes(Paths.get(args[0])), StandardCharsets.UTF_8);
+        String current = new String(Files.readAllBytes(Paths.get(args[1])), StandardCharsets.UTF_8);
+        double thresholdPercent = args.length > REQUIRED_ARGS ? Double.parseDouble(args[REQUIRED_ARGS]) : DEFAULT_THRESHOLD_PERCENT;
+        List<Comparison> comparisons = new BenchmarkResultComparator(thresholdPercent).compare(baseline, current);
+        int regressions = 0;
+        for (Comparison each : comparisons) {
+            System.out.println(each);
+            if (each.isRegression()) {
+                regressions++;
+            }
+        }
+        System.out.printf("%d benchmarks compared, %d regressions with threshold %.1f%%%n", comparisons.size(),
+                regressions, thresholdPercent);
+        if (regressions > 0) {
+            System.exit(REGRESSION_STATUS);
+        }
+    }
+    
+    /**
+     * Result of one benchmark in two runs.
+     */
+    public static class Comparison {
+        
+        private final String key;
+        
+        private final String unit;
+        
+        private final double baselineScore;
+        
+        private final double currentScore;
+        
+        private final double change;
+        
+        private final boolean regression;
+        
+        Comparison(String key, String unit, double baselineScore, double currentScore, double change,
+                boolean regression) {
+            this.key = key;
+            this.unit = unit;
+            this.baselineScore = baselineScore;
+            this.currentScore = currentScore;
+            this.change = change;
+            this.regression = regression;
+        }
+        
+        public String getKey() {
+            return key;
+        }
+        
+        public double getBaselineScore() {
+            return baselineScore;
+        }
+        
+        public double getCurrentScore() {
+            return currentScore;
+        }
+        
+        /**
+         * Get relative change of score, positive if score increased whatever the mode is.
+         *
+         * @return relative change of score
+         */
+        public double getChange() {
+            return change;
+        }
+        
+        public boolean isRegression() {
+            return regression;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s %s: %.3f -> %.3f %s (%+.1f%%)", regression ? "[REGRESSION]" : "[OK]", key,
+                    baselineScore, currentScore, unit, change * PERCENT);
+        }
+    }
+}
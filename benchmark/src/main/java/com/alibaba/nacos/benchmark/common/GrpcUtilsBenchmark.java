@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.impl.CompactPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.impl.JsonPayloadCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of {@link GrpcUtils} for a naming push, which is the largest payload sent by server.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GrpcUtilsBenchmark {
+    
+    private static final int COMPRESSION_THRESHOLD = 1024;
+    
+    @Param({JsonPayloadCodec.NAME, CompactPayloadCodec.NAME})
+    private String codecName;
+    
+    @Param({"none", PayloadCompressor.GZIP})
+    private String compression;
+    
+    @Param({"10", "100", "1000"})
+    private int instanceCount;
+    
+    private PayloadCodec codec;
+    
+    private int threshold;
+    
+    private NotifySubscriberRequest request;
+    
+    private Payload payload;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        PayloadRegistry.init();
+        codec = PayloadCodecManager.getInstance().getCodec(codecName);
+        threshold = PayloadCompressor.GZIP.equals(compression) ? COMPRESSION_THRESHOLD : PayloadCompressor.DISABLED;
+        ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@service");
+        serviceInfo.setLastRefTime(System.currentTimeMillis());
+        List<Instance> hosts = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            hosts.add(buildInstance("10.0." + (i / 256) + "." + (i % 256)));
+        }
+        serviceInfo.setHosts(hosts);
+        request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRequestId("10086");
+        payload = encode();
+    }
+    
+    /**
+     * Convert the push request to gRPC payload, compressed if large enough.
+     *
+     * @return payload
+     */
+    @Benchmark
+    public Payload encode() {
+        return PayloadCompressor.compress(GrpcUtils.convert(request, codec), threshold);
+    }
+    
+    /**
+     * Parse the push request from gRPC payload.
+     *
+     * @return request
+     */
+    @Benchmark
+    public Object decode() {
+        return GrpcUtils.parse(payload);
+    }
+    
+    private static Instance buildInstance(String ip) {
+        Instance result = new Instance();
+        result.setInstanceId(ip + "#8848#DEFAULT#DEFAULT_GROUP@@service");
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setClusterName("DEFAULT");
+        result.setServiceName("DEFAULT_GROUP@@service");
+        result.getMetadata().put("preserved.register.source", "SPRING_CLOUD");
+        result.getMetadata().put("version", "1.0.0");
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.common.notify.DefaultPublisher;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.EventPublisher;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.ShardingEventPublisher;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput of {@link NotifyCenter#publishEvent(Event)} with the default publisher and the sharding publisher.
+ *
+ * <p>The subscriber does nothing, so the result shows the cost of queueing and dispatching. Publishers fall back to
+ * handle events synchronously when the queue is full, which is also counted in.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NotifyCenterBenchmark {
+    
+    @Param({"default", "sharding"})
+    private String publisherType;
+    
+    @Param({"16384"})
+    private int bufferSize;
+    
+    @Param({"1000"})
+    private int keyCount;
+    
+    private final LongAdder handled = new LongAdder();
+    
+    private BenchmarkSubscriber subscriber;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        EventPublisher publisher = "sharding".equals(publisherType) ? new ShardingEventPublisher()
+                : new DefaultPublisher();
+        publisher.init(BenchmarkEvent.class, bufferSize);
+        NotifyCenter.registerToPublisher(BenchmarkEvent.class, publisher);
+        subscriber = new BenchmarkSubscriber(handled);
+        NotifyCenter.registerSubscriber(subscriber);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        NotifyCenter.deregisterSubscriber(subscriber);
+        NotifyCenter.deregisterPublisher(BenchmarkEvent.class);
+    }
+    
+    @Benchmark
+    public boolean publishEvent() {
+        return NotifyCenter.publishEvent(new BenchmarkEvent(ThreadLocalRandom.current().nextInt(keyCount)));
+    }
+    
+    private static class BenchmarkEvent extends Event {
+        
+        private static final long serialVersionUID = 4219624785234537845L;
+        
+        private final Integer key;
+        
+        BenchmarkEvent(Integer key) {
+            this.key = key;
+        }
+        
+        @Override
+        public Object shardKey() {
+            return key;
+        }
+    }
+    
+    private static class BenchmarkSubscriber extends Subscriber<BenchmarkEvent> {
+        
+        private final LongAdder handled;
+        
+        BenchmarkSubscriber(LongAdder handled) {
+            this.handled = handled;
+        }
+        
+        @Override
+        public void onEvent(BenchmarkEvent event) {
+            handled.increment();
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return BenchmarkEvent.class;
+        }
+    }
+}
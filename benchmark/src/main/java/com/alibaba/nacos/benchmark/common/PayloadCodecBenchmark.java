@@ -0,0 +1,156 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.impl.CompactPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.impl.JsonPayloadCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of {@link JsonPayloadCodec} and {@link CompactPayloadCodec} on the hot request types.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PayloadCodecBenchmark {
+    
+    private static final int BATCH_SIZE = 100;
+    
+    @Param({JsonPayloadCodec.NAME, CompactPayloadCodec.NAME})
+    private String codecName;
+    
+    @Param({"ConfigQueryRequest", "ConfigBatchListenRequest", "NotifySubscriberRequest", "InstanceRequest",
+            "ServiceQueryRequest"})
+    private String payloadType;
+    
+    private PayloadCodec codec;
+    
+    private Object payload;
+    
+    private Class<?> payloadClass;
+    
+    private byte[] encoded;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = PayloadCodecManager.getInstance().getCodec(codecName);
+        payload = buildPayload(payloadType);
+        payloadClass = payload.getClass();
+        encoded = codec.encode(payload, payloadClass);
+    }
+    
+    /**
+     * Encode one payload.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(payload, payloadClass);
+    }
+    
+    /**
+     * Decode one payload from a read only buffer, same as the buffer of gRPC payload body.
+     *
+     * @return decoded payload
+     */
+    @Benchmark
+    public Object decode() {
+        return codec.decode(ByteBuffer.wrap(encoded).asReadOnlyBuffer(), payloadClass);
+    }
+    
+    private static Object buildPayload(String payloadType) {
+        switch (payloadType) {
+            case "ConfigQueryRequest":
+                ConfigQueryRequest configQueryRequest = ConfigQueryRequest.build("app.properties", "DEFAULT_GROUP",
+                        "public");
+                configQueryRequest.setRequestId("10086");
+                return configQueryRequest;
+            case "ConfigBatchListenRequest":
+                // a client listening a batch of configs.
+                ConfigBatchListenRequest listenRequest = new ConfigBatchListenRequest();
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    listenRequest.addConfigListenContext("DEFAULT_GROUP", "app-" + i + ".properties", "public",
+                            "d41d8cd98f00b204e9800998ecf8427e");
+                }
+                listenRequest.setRequestId("10086");
+                return listenRequest;
+            case "NotifySubscriberRequest":
+                // a service with a batch of instances.
+                ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@service");
+                serviceInfo.setLastRefTime(System.currentTimeMillis());
+                List<Instance> hosts = new ArrayList<>(BATCH_SIZE);
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    hosts.add(buildInstance("10.0." + (i / 256) + "." + (i % 256)));
+                }
+                serviceInfo.setHosts(hosts);
+                NotifySubscriberRequest notifyRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(
+                        serviceInfo);
+                notifyRequest.setRequestId("10086");
+                return notifyRequest;
+            case "InstanceRequest":
+                InstanceRequest instanceRequest = new InstanceRequest("public", "service", "DEFAULT_GROUP",
+                        "registerInstance", buildInstance("10.0.0.1"));
+                instanceRequest.setRequestId("10086");
+                return instanceRequest;
+            case "ServiceQueryRequest":
+                ServiceQueryRequest serviceQueryRequest = new ServiceQueryRequest("public", "service",
+                        "DEFAULT_GROUP");
+                serviceQueryRequest.setCluster("DEFAULT");
+                serviceQueryRequest.setRequestId("10086");
+                return serviceQueryRequest;
+            default:
+                throw new IllegalArgumentException("Unknown payload type " + payloadType);
+        }
+    }
+    
+    private static Instance buildInstance(String ip) {
+        Instance result = new Instance();
+        result.setInstanceId(ip + "#8848#DEFAULT#DEFAULT_GROUP@@service");
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setClusterName("DEFAULT");
+        result.setServiceName("DEFAULT_GROUP@@service");
+        result.getMetadata().put("preserved.register.source", "SPRING_CLOUD");
+        result.getMetadata().put("version", "1.0.0");
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of md5 lookup and update on {@link ConfigCacheService}, the lookup is done for every config listened by
+ * every client when it checks for changes.
+ *
+ * <p>Content is not dumped to disk, only md5 in memory cache is updated.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConfigCacheServiceBenchmark {
+    
+    @Param({"1000", "100000"})
+    private int configCount;
+    
+    private String[] groupKeys;
+    
+    private String[] md5s;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        NotifyCenter.registerToPublisher(LocalDataChangeEvent.class, NotifyCenter.ringBufferSize);
+        groupKeys = new String[configCount];
+        md5s = new String[configCount];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < configCount; i++) {
+            groupKeys[i] = GroupKey2.getKey("app-" + i + ".properties", "DEFAULT_GROUP", "public");
+            md5s[i] = MD5Utils.md5Hex("content-" + i, StandardCharsets.UTF_8.name());
+            ConfigCacheService.updateMd5(groupKeys[i], md5s[i], now, null);
+        }
+    }
+    
+    /**
+     * Look up md5 of one config.
+     *
+     * @return md5 of config
+     */
+    @Benchmark
+    public String getContentMd5() {
+        return ConfigCacheService.getContentMd5(groupKeys[ThreadLocalRandom.current().nextInt(configCount)]);
+    }
+    
+    /**
+     * Compare md5 reported by client with server, most configs are up-to-date.
+     *
+     * @return whether up-to-date
+     */
+    @Benchmark
+    public boolean isUptodate() {
+        int index = ThreadLocalRandom.current().nextInt(configCount);
+        return ConfigCacheService.isUptodate(groupKeys[index], md5s[index]);
+    }
+    
+    /**
+     * Update md5 of one config and publish change event, md5 is switched between two values so every call changes.
+     */
+    @Benchmark
+    public void updateMd5() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(configCount);
+        String md5 = random.nextBoolean() ? md5s[index] : md5s[configCount - index - 1];
+        ConfigCacheService.updateMd5(groupKeys[index], md5, System.currentTimeMillis(), null);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.config.server.remote.ConfigChangeListenContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of listen, unlisten and lookups on {@link ConfigChangeListenContext}.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConfigChangeListenContextBenchmark {
+    
+    private static final int LISTEN_PER_CONNECTION = 10;
+    
+    @Param({"1000", "100000"})
+    private int configCount;
+    
+    @Param({"1000", "10000"})
+    private int connectionCount;
+    
+    private ConfigChangeListenContext context;
+    
+    private String[] groupKeys;
+    
+    private String[] connectionIds;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new ConfigChangeListenContext();
+        groupKeys = new String[configCount];
+        for (int i = 0; i < configCount; i++) {
+            groupKeys[i] = "app-" + i + ".properties+DEFAULT_GROUP+public";
+        }
+        connectionIds = new String[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            connectionIds[i] = "connection_" + i;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (String each : connectionIds) {
+            for (int i = 0; i < LISTEN_PER_CONNECTION; i++) {
+                context.addListen(groupKeys[random.nextInt(configCount)], "md5", each);
+            }
+        }
+    }
+    
+    /**
+     * A connection listens a config, includes re-listen with same md5.
+     */
+    @Benchmark
+    public void listen() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        context.addListen(groupKeys[random.nextInt(configCount)], "md5",
+                connectionIds[random.nextInt(connectionCount)]);
+    }
+    
+    /**
+     * A connection stops listening a config, includes configs not listened by it.
+     */
+    @Benchmark
+    public void unlisten() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        context.removeListen(groupKeys[random.nextInt(configCount)], connectionIds[random.nextInt(connectionCount)]);
+    }
+    
+    /**
+     * Find connections to notify when a config changed.
+     *
+     * @return connection ids listening the config
+     */
+    @Benchmark
+    public Set<String> getListeners() {
+        return context.getListeners(groupKeys[ThreadLocalRandom.current().nextInt(configCount)]);
+    }
+    
+    /**
+     * Find configs listened by a connection, done for every listen request.
+     *
+     * @return group keys and md5s listened by the connection
+     */
+    @Benchmark
+    public Map<String, String> getListenKeys() {
+        return context.getListenKeys(connectionIds[ThreadLocalRandom.current().nextInt(connectionCount)]);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.control;
+
+import com.alibaba.nacos.plugin.control.tps.barrier.LocalSimpleCountRateCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of counting one request by {@link LocalSimpleCountRateCounter}, which is done by tps control for every request.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocalSimpleCountRateCounterBenchmark {
+    
+    private LocalSimpleCountRateCounter counter;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        counter = new LocalSimpleCountRateCounter("benchmark", TimeUnit.SECONDS);
+    }
+    
+    @Benchmark
+    public long add() {
+        return counter.add(System.currentTimeMillis(), 1);
+    }
+    
+    /**
+     * Count with an upper limit never reached, same as a tps control rule not triggered.
+     *
+     * @return whether counted
+     */
+    @Benchmark
+    public boolean tryAdd() {
+        return counter.tryAdd(System.currentTimeMillis(), 1, Long.MAX_VALUE);
+    }
+    
+    @Benchmark
+    public long getCount() {
+        return counter.getCount(System.currentTimeMillis());
+    }
+}
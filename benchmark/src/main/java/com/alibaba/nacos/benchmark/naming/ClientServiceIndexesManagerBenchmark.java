@@ -0,0 +1,137 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of index updates and lookups on {@link ClientServiceIndexesManager}, which are done for every register,
+ * deregister and subscribe and for every push.
+ *
+ * <p>Operation events are handled by calling {@link ClientServiceIndexesManager#onEvent} directly, so the cost of
+ * event dispatching is not counted in, see {@code NotifyCenterBenchmark} for it.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClientServiceIndexesManagerBenchmark {
+    
+    private static final int QUEUE_SIZE = 16384;
+    
+    @Param({"100", "10000"})
+    private int serviceCount;
+    
+    @Param({"1000"})
+    private int clientCount;
+    
+    private ClientServiceIndexesManager indexesManager;
+    
+    private Service[] services;
+    
+    private String[] clientIds;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        NotifyCenter.registerToPublisher(ServiceEvent.ServiceChangedEvent.class,
+                NamingEventPublisherFactory.getInstance(), QUEUE_SIZE);
+        indexesManager = new ClientServiceIndexesManager();
+        services = new Service[serviceCount];
+        for (int i = 0; i < serviceCount; i++) {
+            services[i] = Service.newService("public", "DEFAULT_GROUP", "service-" + i);
+        }
+        clientIds = new String[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clientIds[i] = "connection_" + i;
+        }
+        // every client registers and subscribes one service at beginning.
+        for (int i = 0; i < clientCount; i++) {
+            Service service = services[i % serviceCount];
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientIds[i]));
+            indexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service, clientIds[i]));
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        NotifyCenter.deregisterSubscriber(indexesManager);
+    }
+    
+    /**
+     * A client registers to a service and then deregisters from it.
+     */
+    @Benchmark
+    public void registerAndDeregister() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Service service = services[random.nextInt(serviceCount)];
+        String clientId = clientIds[random.nextInt(clientCount)];
+        indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientId));
+        indexesManager.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(service, clientId));
+    }
+    
+    /**
+     * A client subscribes a service, includes services already subscribed by it.
+     */
+    @Benchmark
+    public void subscribe() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        indexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(
+                services[random.nextInt(serviceCount)], clientIds[random.nextInt(clientCount)]));
+    }
+    
+    /**
+     * Find clients registered to a service, done when push data of the service is generated.
+     *
+     * @return client ids
+     */
+    @Benchmark
+    public Collection<String> getAllClientsRegisteredService() {
+        return indexesManager.getAllClientsRegisteredService(
+                services[ThreadLocalRandom.current().nextInt(serviceCount)]);
+    }
+    
+    /**
+     * Find clients subscribing a service, done for every push.
+     *
+     * @return client ids
+     */
+    @Benchmark
+    public Collection<String> getAllClientsSubscribeService() {
+        return indexesManager.getAllClientsSubscribeService(
+                services[ThreadLocalRandom.current().nextInt(serviceCount)]);
+    }
+}
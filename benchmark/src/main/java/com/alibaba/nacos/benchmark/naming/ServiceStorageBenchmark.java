@@ -0,0 +1,114 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.client.manager.impl.ConnectionBasedClientManager;
+import com.alibaba.nacos.naming.core.v2.client.manager.impl.EphemeralIpPortClientManager;
+import com.alibaba.nacos.naming.core.v2.client.manager.impl.PersistentIpPortClientManager;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ServiceStorage#getPushData(Service)}, which rebuilds the instance list of a service from client
+ * indexes every time the service changed.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceStorageBenchmark {
+    
+    private static final int QUEUE_SIZE = 16384;
+    
+    @Param({"10", "100", "1000"})
+    private int instanceCount;
+    
+    private ClientServiceIndexesManager indexesManager;
+    
+    private ServiceStorage serviceStorage;
+    
+    private Service service;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        NotifyCenter.registerToPublisher(ServiceEvent.ServiceChangedEvent.class,
+                NamingEventPublisherFactory.getInstance(), QUEUE_SIZE);
+        SwitchDomain switchDomain = new SwitchDomain();
+        ConnectionBasedClientManager clientManager = new ConnectionBasedClientManager();
+        ClientManagerDelegate clientManagerDelegate = new ClientManagerDelegate(clientManager,
+                new EphemeralIpPortClientManager(null, switchDomain), new PersistentIpPortClientManager());
+        indexesManager = new ClientServiceIndexesManager();
+        serviceStorage = new ServiceStorage(indexesManager, clientManagerDelegate, switchDomain,
+                new NamingMetadataManager());
+        service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("public", "DEFAULT_GROUP", "service-" + instanceCount));
+        // every instance is registered by one client, same as instances of different applications.
+        for (int i = 0; i < instanceCount; i++) {
+            ConnectionBasedClient client = new ConnectionBasedClient("connection_" + i, true, 0L);
+            clientManager.clientConnected(client);
+            InstancePublishInfo instance = new InstancePublishInfo("10.0." + (i / 256) + "." + (i % 256), 8848);
+            instance.setCluster("DEFAULT");
+            instance.setHealthy(true);
+            client.addServiceInstance(service, instance);
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, client.getClientId()));
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        NotifyCenter.deregisterSubscriber(indexesManager);
+        ServiceManager.getInstance().removeSingleton(service);
+    }
+    
+    /**
+     * Generate push data of the service.
+     *
+     * @return service info to push
+     */
+    @Benchmark
+    public ServiceInfo getPushData() {
+        return serviceStorage.getPushData(service);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BenchmarkResultComparatorTest {
+    
+    private final BenchmarkResultComparator comparator = new BenchmarkResultComparator(10);
+    
+    @Test
+    void testThroughputRegression() {
+        String baseline = results(result("a.Benchmark.listen", "thrpt", 1, 1000, 10));
+        String current = results(result("a.Benchmark.listen", "thrpt", 1, 800, 10));
+        List<BenchmarkResultComparator.Comparison> comparisons = comparator.compare(baseline, current);
+        assertEquals(1, comparisons.size());
+        assertTrue(comparisons.get(0).isRegression());
+        assertEquals(-0.2, comparisons.get(0).getChange(), 0.0001);
+    }
+    
+    @Test
+    void testAverageTimeRegression() {
+        String baseline = results(result("a.Benchmark.encode", "avgt", 1, 100, 1));
+        String faster = results(result("a.Benchmark.encode", "avgt", 1, 50, 1));
+        String slower = results(result("a.Benchmark.encode", "avgt", 1, 150, 1));
+        assertFalse(comparator.compare(baseline, faster).get(0).isRegression());
+        assertTrue(comparator.compare(baseline, slower).get(0).isRegression());
+    }
+    
+    @Test
+    void testChangeWithinThresholdOrError() {
+        String baseline = results(result("a.Benchmark.encode", "avgt", 1, 100, 1));
+        String withinThreshold = results(result("a.Benchmark.encode", "avgt", 1, 105, 1));
+        String noisy = results(result("a.Benchmark.encode", "avgt", 1, 130, 40));
+        assertFalse(comparator.compare(baseline, withinThreshold).get(0).isRegression());
+        assertFalse(comparator.compare(baseline, noisy).get(0).isRegression());
+    }
+    
+    @Test
+    void testCompareSameThreadsAndParams() {
+        String baseline = results(result("a.Benchmark.listen", "thrpt", 1, 1000, 0),
+                result("a.Benchmark.listen", "thrpt", 4, 3000, 0));
+        String current = results(result("a.Benchmark.listen", "thrpt", 4, 2900, 0),
+                result("a.Benchmark.other", "thrpt", 1, 1, 0));
+        List<BenchmarkResultComparator.Comparison> comparisons = comparator.compare(baseline, current);
+        assertEquals(1, comparisons.size());
+        assertEquals("a.Benchmark.listen{size=10} threads=4", comparisons.get(0).getKey());
+        assertEquals(3000, comparisons.get(0).getBaselineScore(), 0.0001);
+        assertEquals(2900, comparisons.get(0).getCurrentScore(), 0.0001);
+        assertFalse(comparisons.get(0).isRegression());
+    }
+    
+    @Test
+    void testParseThreads() {
+        assertEquals(3, BenchmarkLauncher.parseThreads("1, 4,16").size());
+        assertEquals(16, BenchmarkLauncher.parseThreads("1, 4,16").get(2));
+    }
+    
+    private static String results(String... results) {
+        return "[" + String.join(",", results) + "]";
+    }
+    
+    private static String result(String benchmark, String mode, int threads, double score, double scoreError) {
+        return "{\"benchmark\":\"" + benchmark + "\",\"mode\":\"" + mode + "\",\"threads\":" + threads
+                + ",\"params\":{\"size\":\"10\"},\"primaryMetric\":{\"score\":" + score + ",\"scoreError\":"
+                + scoreError + ",\"scoreUnit\":\"ops/ms\"}}";
+    }
+}
@@ -40,7 +40,11 @@ import com.alibaba.nacos.client.utils.ValidatorUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -99,6 +103,12 @@ public class NacosConfigService implements ConfigService {
         return getConfigInner(namespace, dataId, group, timeoutMs);
     }
     
+    @Override
+    public Map<String, String> getConfigs(List<String> dataIds, String group, long timeoutMs)
+            throws NacosException {
+        return getConfigsInner(namespace, dataIds, group, timeoutMs);
+    }
+    
     @Override
     public String getConfigAndSignListener(String dataId, String group, long timeoutMs, Listener listener)
             throws NacosException {
@@ -214,6 +224,50 @@ public class NacosConfigService implements ConfigService {
         return content;
     }
     
+    private Map<String, String> getConfigsInner(String tenant, List<String> dataIds, String group, long timeoutMs)
+            throws NacosException {
+        group = blank2defaultGroup(group);
+        Map<String, String> result = new LinkedHashMap<>(dataIds.size());
+        List<String> remoteDataIds = new ArrayList<>(dataIds.size());
+        for (String dataId : dataIds) {
+            ParamUtils.checkKeyParam(dataId, group);
+            // failover content first, same as get config one by one.
+            if (LocalConfigInfoProcessor.getFailover(worker.getAgentName(), dataId, group, tenant) != null) {
+                result.put(dataId, getConfigInner(tenant, dataId, group, timeoutMs));
+            } else {
+                result.put(dataId, null);
+                remoteDataIds.add(dataId);
+            }
+        }
+        if (remoteDataIds.isEmpty()) {
+            return result;
+        }
+        Map<String, ConfigResponse> responses = Collections.emptyMap();
+        try {
+            responses = worker.getServerConfigs(remoteDataIds, group, tenant, timeoutMs);
+        } catch (NacosException e) {
+            LOGGER.warn("[{}] [get-configs] batch query from server error, group={}, tenant={}, msg={}",
+                    worker.getAgentName(), group, tenant, e.toString());
+        }
+        for (String dataId : remoteDataIds) {
+            ConfigResponse response = responses.get(dataId);
+            if (response == null) {
+                // not queried in batch, fallback to get config one by one.
+                result.put(dataId, getConfigInner(tenant, dataId, group, timeoutMs));
+                continue;
+            }
+            ConfigResponse cr = new ConfigResponse();
+            cr.setDataId(dataId);
+            cr.setTenant(tenant);
+            cr.setGroup(group);
+            cr.setContent(response.getContent());
+            cr.setEncryptedDataKey(response.getEncryptedDataKey());
+            configFilterChainManager.doFilter(null, cr);
+            result.put(dataId, cr.getContent());
+        }
+        return result;
+    }
+    
     private String blank2defaultGroup(String group) {
         return (StringUtils.isBlank(group)) ? Constants.DEFAULT_GROUP : group.trim();
     }
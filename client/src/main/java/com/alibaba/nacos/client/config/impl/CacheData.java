@@ -154,6 +154,8 @@ public class CacheData {
     
     private String type;
     
+    private volatile ConfigNotifyDispatcher notifyDispatcher;
+    
     public boolean isInitializing() {
         return isInitializing;
     }
@@ -398,7 +400,10 @@ public class CacheData {
     private void safeNotifyListener(final String dataId, final String group, final String content, final String type,
             final String md5, final String encryptedDataKey, final ManagerListenerWrap listenerWrap) {
         final Listener listener = listenerWrap.listener;
-        if (listenerWrap.inNotifying) {
+        // a lagging listener is coalesced by dispatcher instead of skipped.
+        final ConfigNotifyDispatcher dispatcher = notifyDispatcher;
+        final boolean dispatch = null == listener.getExecutor() && null != dispatcher;
+        if (listenerWrap.inNotifying && !dispatch) {
             LOGGER.warn(
                     "[{}] [notify-currentSkip] dataId={}, group={},tenant={}, md5={}, listener={}, listener is not finish yet,will try next time.",
                     envName, dataId, group, tenant, md5, listener);
@@ -476,6 +481,12 @@ public class CacheData {
                         envName, dataId, group, tenant, md5, listener);
                 job.async = true;
                 listener.getExecutor().execute(job);
+            } else if (dispatch) {
+                LOGGER.info(
+                        "[{}] [notify-listener] task dispatched to notify dispatcher, dataId={}, group={},tenant={}, md5={}, listener={} ",
+                        envName, dataId, group, tenant, md5, listener);
+                job.async = true;
+                dispatcher.dispatch(listenerWrap.notifySlot, md5, job);
             } else {
                 LOGGER.info(
                         "[{}] [notify-listener] task execute in nacos thread, dataId={}, group={},tenant={}, md5={}, listener={} ",
@@ -535,6 +546,10 @@ public class CacheData {
         isDiscard = discard;
     }
     
+    public void setNotifyDispatcher(ConfigNotifyDispatcher notifyDispatcher) {
+        this.notifyDispatcher = notifyDispatcher;
+    }
+    
     public CacheData(ConfigFilterChainManager configFilterChainManager, String envName, String dataId, String group) {
         this(configFilterChainManager, envName, dataId, group, TenantUtil.getUserTenantForAcm());
     }
@@ -585,6 +600,8 @@ public class CacheData {
         
         final Listener listener;
         
+        final ConfigNotifyDispatcher.NotifySlot notifySlot = new ConfigNotifyDispatcher.NotifySlot();
+        
         String lastCallMd5 = Constants.NULL;
         
         /**
@@ -17,17 +17,23 @@
 package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
@@ -77,7 +83,6 @@ import org.slf4j.Logger;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -89,6 +94,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -97,8 +104,6 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.common.Constants.APP_CONN_PREFIX;
 import static com.alibaba.nacos.api.common.Constants.ENCODE;
@@ -127,7 +132,18 @@ public class ClientWorker implements Closeable {
     /**
      * groupKey -> cacheData.
      */
-    private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
+    private final Map<String, CacheData> cacheMap = new ConcurrentHashMap<>(16);
+    
+    /**
+     * index(taskId) -> groupKey -> cacheData of this taskId.
+     */
+    private final List<Map<String, CacheData>> taskIdCaches = new CopyOnWriteArrayList<>();
+    
+    /**
+     * groupKeys of caches which may be not consistent with server, only these caches are checked in a listen cycle
+     * except the periodic all sync.
+     */
+    private final Set<String> dirtyGroupKeys = ConcurrentHashMap.newKeySet();
     
     private final DefaultLabelsCollectorManager defaultLabelsCollectorManager = new DefaultLabelsCollectorManager();
     
@@ -147,15 +163,12 @@ public class ClientWorker implements Closeable {
     
     private boolean enableRemoteSyncConfig = false;
     
+    private final ConfigNotifyDispatcher notifyDispatcher;
+    
     private static final int MIN_THREAD_NUM = 2;
     
     private static final int THREAD_MULTIPLE = 1;
     
-    /**
-     * index(taskId)-> total cache count for this taskId.
-     */
-    private final List<AtomicInteger> taskIdCacheCountList = new ArrayList<>();
-    
     /**
      * Add listeners for data.
      *
@@ -176,6 +189,7 @@ public class ClientWorker implements Closeable {
             if (getCache(dataId, group) != cache) {
                 putCache(GroupKey.getKey(dataId, group), cache);
             }
+            markDirty(GroupKey.getKey(dataId, group));
             agent.notifyListenConfig();
         }
     }
@@ -203,6 +217,7 @@ public class ClientWorker implements Closeable {
             if (getCache(dataId, group, tenant) != cache) {
                 putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
             }
+            markDirty(GroupKey.getKeyTenant(dataId, group, tenant));
             agent.notifyListenConfig();
         }
         
@@ -235,6 +250,7 @@ public class ClientWorker implements Closeable {
             if (getCache(dataId, group, tenant) != cache) {
                 putCache(GroupKey.getKeyTenant(dataId, group, tenant), cache);
             }
+            markDirty(GroupKey.getKeyTenant(dataId, group, tenant));
             agent.notifyListenConfig();
         }
         
@@ -256,6 +272,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    markDirty(GroupKey.getKeyTenant(dataId, group, TenantUtil.getUserTenantForAcm()));
                     agent.removeCache(dataId, group);
                 }
             }
@@ -280,6 +297,7 @@ public class ClientWorker implements Closeable {
                 if (cache.getListeners().isEmpty()) {
                     cache.setConsistentWithServer(false);
                     cache.setDiscard(true);
+                    markDirty(GroupKey.getKeyTenant(dataId, group, tenant));
                     agent.removeCache(dataId, group);
                 }
             }
@@ -289,16 +307,14 @@ public class ClientWorker implements Closeable {
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            CacheData remove = copy.remove(groupKey);
+            CacheData remove = cacheMap.remove(groupKey);
             if (remove != null) {
-                decreaseTaskIdCount(remove.getTaskId());
+                taskIdCachesOf(remove.getTaskId()).remove(groupKey, remove);
             }
-            cacheMap.set(copy);
         }
         LOGGER.info("[{}] [unsubscribe] {}", agent.getName(), groupKey);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
     }
     
     /**
@@ -351,6 +367,7 @@ public class ClientWorker implements Closeable {
         
         String key = GroupKey.getKey(dataId, group);
         cache = new CacheData(configFilterChainManager, agent.getName(), dataId, group);
+        cache.setNotifyDispatcher(notifyDispatcher);
         
         synchronized (cacheMap) {
             CacheData cacheFromMap = getCache(dataId, group);
@@ -361,19 +378,15 @@ public class ClientWorker implements Closeable {
                 //reset so that server not hang this check
                 cache.setInitializing(true);
             } else {
-                int taskId = calculateTaskId();
-                increaseTaskIdCount(taskId);
-                cache.setTaskId(taskId);
+                cache.setTaskId(calculateTaskId());
             }
             
-            Map<String, CacheData> copy = new HashMap<>(cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            putCache(key, cache);
         }
         
         LOGGER.info("[{}] [subscribe] {}", this.agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -403,9 +416,8 @@ public class ClientWorker implements Closeable {
                 cache.setInitializing(true);
             } else {
                 cache = new CacheData(configFilterChainManager, agent.getName(), dataId, group, tenant);
-                int taskId = calculateTaskId();
-                increaseTaskIdCount(taskId);
-                cache.setTaskId(taskId);
+                cache.setNotifyDispatcher(notifyDispatcher);
+                cache.setTaskId(calculateTaskId());
                 // fix issue # 1317
                 if (enableRemoteSyncConfig) {
                     ConfigResponse response = getServerConfig(dataId, group, tenant, requestTimeout, false);
@@ -414,13 +426,11 @@ public class ClientWorker implements Closeable {
                 }
             }
             
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            putCache(key, cache);
         }
         LOGGER.info("[{}] [subscribe] {}", agent.getName(), key);
         
-        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.get().size());
+        MetricsMonitor.getListenConfigCountMonitor().set(cacheMap.size());
         
         return cache;
     }
@@ -433,29 +443,42 @@ public class ClientWorker implements Closeable {
      */
     private void putCache(String key, CacheData cache) {
         synchronized (cacheMap) {
-            Map<String, CacheData> copy = new HashMap<>(this.cacheMap.get());
-            copy.put(key, cache);
-            cacheMap.set(copy);
+            CacheData old = cacheMap.put(key, cache);
+            if (old != null && old != cache) {
+                taskIdCachesOf(old.getTaskId()).remove(key, old);
+            }
+            taskIdCachesOf(cache.getTaskId()).put(key, cache);
         }
     }
     
-    private void increaseTaskIdCount(int taskId) {
-        taskIdCacheCountList.get(taskId).incrementAndGet();
+    /**
+     * Mark cache of group key to be checked in next listen cycle.
+     *
+     * @param groupKey groupKey
+     */
+    private void markDirty(String groupKey) {
+        dirtyGroupKeys.add(groupKey);
     }
     
-    private void decreaseTaskIdCount(int taskId) {
-        taskIdCacheCountList.get(taskId).decrementAndGet();
+    private Map<String, CacheData> taskIdCachesOf(int taskId) {
+        while (taskIdCaches.size() <= taskId) {
+            synchronized (taskIdCaches) {
+                if (taskIdCaches.size() <= taskId) {
+                    taskIdCaches.add(new ConcurrentHashMap<>(16));
+                }
+            }
+        }
+        return taskIdCaches.get(taskId);
     }
     
     private int calculateTaskId() {
         int perTaskSize = (int) ParamUtil.getPerTaskConfigSize();
-        for (int index = 0; index < taskIdCacheCountList.size(); index++) {
-            if (taskIdCacheCountList.get(index).get() < perTaskSize) {
+        for (int index = 0; index < taskIdCaches.size(); index++) {
+            if (taskIdCaches.get(index).size() < perTaskSize) {
                 return index;
             }
         }
-        taskIdCacheCountList.add(new AtomicInteger(0));
-        return taskIdCacheCountList.size() - 1;
+        return taskIdCaches.size();
     }
     
     public CacheData getCache(String dataId, String group) {
@@ -466,7 +489,7 @@ public class ClientWorker implements Closeable {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException();
         }
-        return cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+        return cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
     }
     
     public ConfigResponse getServerConfig(String dataId, String group, String tenant, long readTimeout, boolean notify)
@@ -477,6 +500,27 @@ public class ClientWorker implements Closeable {
         return this.agent.queryConfig(dataId, group, tenant, readTimeout, notify);
     }
     
+    /**
+     * Query a batch of configs from server in as few requests as possible.
+     *
+     * <p>Configs which are not returned, for example because the server does not support batch query or the
+     * query of the config failed, are absent in the result and should be queried one by one by the caller.
+     *
+     * @param dataIds     dataIds of the configs
+     * @param group       group of the configs
+     * @param tenant      tenant of the configs
+     * @param readTimeout read timeout of each batch request
+     * @return dataId to config response
+     * @throws NacosException exception when no running rpc client
+     */
+    public Map<String, ConfigResponse> getServerConfigs(List<String> dataIds, String group, String tenant,
+            long readTimeout) throws NacosException {
+        if (StringUtils.isBlank(group)) {
+            group = Constants.DEFAULT_GROUP;
+        }
+        return this.agent.queryConfigs(dataIds, group, tenant, readTimeout);
+    }
+    
     private String blank2defaultGroup(String group) {
         return StringUtils.isBlank(group) ? Constants.DEFAULT_GROUP : group.trim();
     }
@@ -485,6 +529,7 @@ public class ClientWorker implements Closeable {
     public ClientWorker(final ConfigFilterChainManager configFilterChainManager, ConfigServerListManager serverListManager,
             final NacosClientProperties properties) throws NacosException {
         this.configFilterChainManager = configFilterChainManager;
+        this.notifyDispatcher = ConfigNotifyDispatcher.create(properties);
         
         init(properties);
         
@@ -528,7 +573,7 @@ public class ClientWorker implements Closeable {
     
     Map<String, Object> getMetrics(List<ClientConfigMetricRequest.MetricsKey> metricsKeys) {
         Map<String, Object> metric = new HashMap<>(16);
-        metric.put("listenConfigSize", String.valueOf(this.cacheMap.get().size()));
+        metric.put("listenConfigSize", String.valueOf(this.cacheMap.size()));
         metric.put("clientVersion", VersionUtils.getFullClientVersion());
         metric.put("snapshotDir", LocalConfigInfoProcessor.LOCAL_SNAPSHOT_PATH);
         metric.put("addressUrl", agent.serverListManager.getAddressSource());
@@ -550,7 +595,7 @@ public class ClientWorker implements Closeable {
         Map<ClientConfigMetricRequest.MetricsKey, Object> values = new HashMap<>(16);
         for (ClientConfigMetricRequest.MetricsKey metricsKey : metricsKeys) {
             if (ClientConfigMetricRequest.MetricsKey.CACHE_DATA.equals(metricsKey.getType())) {
-                CacheData cacheData = cacheMap.get().get(metricsKey.getKey());
+                CacheData cacheData = cacheMap.get(metricsKey.getKey());
                 values.putIfAbsent(metricsKey,
                         cacheData == null ? null : cacheData.getContent() + ":" + cacheData.getMd5());
             }
@@ -572,6 +617,9 @@ public class ClientWorker implements Closeable {
         if (agent != null) {
             agent.shutdown();
         }
+        if (notifyDispatcher != null) {
+            notifyDispatcher.shutdown();
+        }
         LOGGER.info("{} do shutdown stop", className);
     }
     
@@ -593,7 +641,12 @@ public class ClientWorker implements Closeable {
         
         private final Object bellItem = new Object();
         
-        private long lastAllSyncTime = System.currentTimeMillis();
+        /**
+         * Start with all sync, so that caches added before start are all checked.
+         */
+        private long lastAllSyncTime = 0L;
+        
+        private long lastLocalConfigCheckTime = 0L;
         
         Subscriber subscriber = null;
         
@@ -602,6 +655,16 @@ public class ClientWorker implements Closeable {
          */
         private static final long ALL_SYNC_INTERNAL = 3 * 60 * 1000L;
         
+        /**
+         * 5 seconds to check failover files of all listen cache keys.
+         */
+        private static final long LOCAL_CONFIG_CHECK_INTERNAL = 5 * 1000L;
+        
+        /**
+         * max count of configs queried in one batch query request.
+         */
+        private static final int BATCH_QUERY_SIZE = 50;
+        
         public ConfigRpcTransportClient(NacosClientProperties properties, ConfigServerListManager serverListManager) {
             super(properties, serverListManager);
         }
@@ -634,8 +697,7 @@ public class ClientWorker implements Closeable {
                 
                 LOGGER.info("Shutdown executor {}", executor);
                 executor.shutdown();
-                Map<String, CacheData> stringCacheDataMap = cacheMap.get();
-                for (Map.Entry<String, CacheData> entry : stringCacheDataMap.entrySet()) {
+                for (Map.Entry<String, CacheData> entry : cacheMap.entrySet()) {
                     entry.getValue().setConsistentWithServer(false);
                 }
                 if (subscriber != null) {
@@ -673,11 +735,12 @@ public class ClientWorker implements Closeable {
             String groupKey = GroupKey.getKeyTenant(configChangeNotifyRequest.getDataId(),
                     configChangeNotifyRequest.getGroup(), configChangeNotifyRequest.getTenant());
             
-            CacheData cacheData = cacheMap.get().get(groupKey);
+            CacheData cacheData = cacheMap.get(groupKey);
             if (cacheData != null) {
                 synchronized (cacheData) {
                     cacheData.getReceiveNotifyChanged().set(true);
                     cacheData.setConsistentWithServer(false);
+                    markDirty(groupKey);
                     notifyListenConfig();
                 }
                 
@@ -685,6 +748,29 @@ public class ClientWorker implements Closeable {
             return new ConfigChangeNotifyResponse();
         }
         
+        ConfigChangeBatchNotifyResponse handleConfigChangeBatchNotifyRequest(
+                ConfigChangeBatchNotifyRequest configChangeBatchNotifyRequest, String clientName) {
+            LOGGER.info("[{}] [server-push] {} configs changed.", clientName,
+                    configChangeBatchNotifyRequest.getConfigs().size());
+            boolean changed = false;
+            for (ConfigChangeBatchNotifyRequest.ConfigContext each : configChangeBatchNotifyRequest.getConfigs()) {
+                String groupKey = GroupKey.getKeyTenant(each.getDataId(), each.getGroup(), each.getTenant());
+                CacheData cacheData = cacheMap.get(groupKey);
+                if (cacheData != null) {
+                    synchronized (cacheData) {
+                        cacheData.getReceiveNotifyChanged().set(true);
+                        cacheData.setConsistentWithServer(false);
+                        markDirty(groupKey);
+                    }
+                    changed = true;
+                }
+            }
+            if (changed) {
+                notifyListenConfig();
+            }
+            return new ConfigChangeBatchNotifyResponse();
+        }
+        
         ClientConfigMetricResponse handleClientMetricsRequest(ClientConfigMetricRequest configMetricRequest) {
             ClientConfigMetricResponse response = new ClientConfigMetricResponse();
             response.setMetrics(getMetrics(configMetricRequest.getMetricsKeys()));
@@ -700,6 +786,10 @@ public class ClientWorker implements Closeable {
                     return handleConfigChangeNotifyRequest((ConfigChangeNotifyRequest) request,
                             rpcClientInner.getName());
                 }
+                if (request instanceof ConfigChangeBatchNotifyRequest) {
+                    return handleConfigChangeBatchNotifyRequest((ConfigChangeBatchNotifyRequest) request,
+                            rpcClientInner.getName());
+                }
                 return null;
             });
             
@@ -722,16 +812,11 @@ public class ClientWorker implements Closeable {
                 public void onDisConnect(Connection connection) {
                     String taskId = rpcClientInner.getLabels().get("taskId");
                     LOGGER.info("[{}] DisConnected,clear listen context...", rpcClientInner.getName());
-                    Collection<CacheData> values = cacheMap.get().values();
-                    
-                    for (CacheData cacheData : values) {
-                        if (StringUtils.isNotBlank(taskId)) {
-                            if (Integer.valueOf(taskId).equals(cacheData.getTaskId())) {
-                                cacheData.setConsistentWithServer(false);
-                            }
-                        } else {
-                            cacheData.setConsistentWithServer(false);
-                        }
+                    Map<String, CacheData> caches = StringUtils.isNotBlank(taskId) ? taskIdCachesOf(
+                            Integer.parseInt(taskId)) : cacheMap;
+                    for (Map.Entry<String, CacheData> entry : caches.entrySet()) {
+                        entry.getValue().setConsistentWithServer(false);
+                        markDirty(entry.getKey());
                     }
                 }
                 
@@ -812,7 +897,13 @@ public class ClientWorker implements Closeable {
             Map<String, List<CacheData>> removeListenCachesMap = new HashMap<>(16);
             long now = System.currentTimeMillis();
             boolean needAllSync = now - lastAllSyncTime >= ALL_SYNC_INTERNAL;
-            for (CacheData cache : cacheMap.get().values()) {
+            if (needAllSync || now - lastLocalConfigCheckTime >= LOCAL_CONFIG_CHECK_INTERNAL) {
+                checkAllLocalConfig();
+                lastLocalConfigCheckTime = now;
+            }
+            // only caches changed since last cycle are checked, except all sync.
+            Map<String, CacheData> caches = needAllSync ? cacheMap : pollDirtyCaches();
+            for (CacheData cache : caches.values()) {
                 
                 synchronized (cache) {
                     
@@ -845,14 +936,26 @@ public class ClientWorker implements Closeable {
             }
             
             //execute check listen ,return true if has change keys.
-            boolean hasChangedKeys = checkListenCache(listenCachesMap);
+            final boolean hasChangedKeys = checkListenCache(listenCachesMap);
             
             //execute check remove listen.
             checkRemoveListenCache(removeListenCachesMap);
             
+            // caches failed to sync are checked again in next cycle.
+            for (Map.Entry<String, CacheData> entry : caches.entrySet()) {
+                CacheData cache = entry.getValue();
+                if (!cache.isConsistentWithServer() && !cache.isUseLocalConfigInfo()
+                        && cacheMap.get(entry.getKey()) == cache) {
+                    markDirty(entry.getKey());
+                }
+            }
+            
             if (needAllSync) {
                 lastAllSyncTime = now;
             }
+            MetricsMonitor.getListenConfigCycleMonitor(needAllSync ? "all" : "dirty")
+                    .observe((System.currentTimeMillis() - now) / 1000D);
+            MetricsMonitor.getListenConfigCycleCountMonitor().set(caches.size());
             //If has changed keys,notify re sync md5.
             if (hasChangedKeys) {
                 notifyListenConfig();
@@ -860,6 +963,38 @@ public class ClientWorker implements Closeable {
             
         }
         
+        private Map<String, CacheData> pollDirtyCaches() {
+            Map<String, CacheData> caches = new HashMap<>(16);
+            Iterator<String> iterator = dirtyGroupKeys.iterator();
+            while (iterator.hasNext()) {
+                String groupKey = iterator.next();
+                iterator.remove();
+                CacheData cache = cacheMap.get(groupKey);
+                if (cache != null) {
+                    caches.put(groupKey, cache);
+                }
+            }
+            return caches;
+        }
+        
+        /**
+         * Check failover files of all caches, and mark caches of which failover file created, changed or deleted.
+         */
+        private void checkAllLocalConfig() {
+            for (Map.Entry<String, CacheData> entry : cacheMap.entrySet()) {
+                CacheData cache = entry.getValue();
+                synchronized (cache) {
+                    boolean useLocalConfigInfo = cache.isUseLocalConfigInfo();
+                    long localConfigInfoVersion = cache.getLocalConfigInfoVersion();
+                    checkLocalConfig(cache);
+                    if (useLocalConfigInfo != cache.isUseLocalConfigInfo()
+                            || localConfigInfoVersion != cache.getLocalConfigInfoVersion()) {
+                        markDirty(entry.getKey());
+                    }
+                }
+            }
+        }
+        
         /**
          * Checks and handles local configuration for a given CacheData object. This method evaluates the use of
          * failover files for local configuration storage and updates the CacheData accordingly.
@@ -921,8 +1056,8 @@ public class ClientWorker implements Closeable {
         }
         
         private void refreshContentAndCheck(RpcClient rpcClient, String groupKey, boolean notify) {
-            if (cacheMap.get() != null && cacheMap.get().containsKey(groupKey)) {
-                CacheData cache = cacheMap.get().get(groupKey);
+            CacheData cache = cacheMap.get(groupKey);
+            if (cache != null) {
                 refreshContentAndCheck(rpcClient, cache, notify);
             }
         }
@@ -1031,7 +1166,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(changeConfig.getDataId(),
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
-                                        boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                        boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                         refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                     }
                                     
@@ -1042,7 +1177,7 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group,
                                                 cacheData.getTenant());
                                         if (!changeKeys.contains(changeKey)) {
-                                            boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
+                                            boolean isInitializing = cacheMap.get(changeKey).isInitializing();
                                             refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                         }
                                     }
@@ -1148,7 +1283,7 @@ public class ClientWorker implements Closeable {
                 throws NacosException {
             RpcClient rpcClient = getOneRunningClient();
             if (notify) {
-                CacheData cacheData = cacheMap.get().get(GroupKey.getKeyTenant(dataId, group, tenant));
+                CacheData cacheData = cacheMap.get(GroupKey.getKeyTenant(dataId, group, tenant));
                 if (cacheData != null) {
                     rpcClient = ensureRpcClient(String.valueOf(cacheData.getTaskId()));
                 }
@@ -1167,20 +1302,8 @@ public class ClientWorker implements Closeable {
             
             ConfigResponse configResponse = new ConfigResponse();
             if (response.isSuccess()) {
-                LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, response.getContent());
-                configResponse.setContent(response.getContent());
-                String configType;
-                if (StringUtils.isNotBlank(response.getContentType())) {
-                    configType = response.getContentType();
-                } else {
-                    configType = ConfigType.TEXT.getType();
-                }
-                configResponse.setConfigType(configType);
-                String encryptedDataKey = response.getEncryptedDataKey();
-                LocalEncryptedDataKeyProcessor.saveEncryptDataKeySnapshot(agent.getName(), dataId, group, tenant,
-                        encryptedDataKey);
-                configResponse.setEncryptedDataKey(encryptedDataKey);
-                return configResponse;
+                return saveSnapshotAndBuild(dataId, group, tenant, response.getContent(), response.getContentType(),
+                        response.getEncryptedDataKey());
             } else if (response.getErrorCode() == ConfigQueryResponse.CONFIG_NOT_FOUND) {
                 LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, null);
                 LocalEncryptedDataKeyProcessor.saveEncryptDataKeySnapshot(agent.getName(), dataId, group, tenant, null);
@@ -1201,6 +1324,70 @@ public class ClientWorker implements Closeable {
             }
         }
         
+        /**
+         * Query a batch of configs by {@link ConfigBatchQueryRequest}, return empty if server not support.
+         *
+         * @param dataIds      dataIds
+         * @param group        group
+         * @param tenant       tenant
+         * @param readTimeouts read timeout of each batch request
+         * @return dataId to config response of configs queried successfully or not found
+         * @throws NacosException exception when no running rpc client
+         */
+        Map<String, ConfigResponse> queryConfigs(List<String> dataIds, String group, String tenant,
+                long readTimeouts) throws NacosException {
+            RpcClient rpcClient = getOneRunningClient();
+            if (rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY)
+                    != AbilityStatus.SUPPORTED) {
+                return new HashMap<>(0);
+            }
+            Map<String, ConfigResponse> result = new HashMap<>(dataIds.size());
+            for (int from = 0; from < dataIds.size(); from += BATCH_QUERY_SIZE) {
+                ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+                request.setGroup(group);
+                request.setTenant(tenant);
+                for (String dataId : dataIds.subList(from, Math.min(from + BATCH_QUERY_SIZE, dataIds.size()))) {
+                    request.addConfigQueryContext(dataId, group, tenant, null);
+                }
+                ConfigBatchQueryResponse response = (ConfigBatchQueryResponse) requestProxy(rpcClient, request,
+                        readTimeouts);
+                if (!response.isSuccess()) {
+                    LOGGER.warn("[{}] [batch-query] fail, group={}, tenant={}, code={}, msg={}", this.getName(),
+                            group, tenant, response.getErrorCode(), response.getMessage());
+                    continue;
+                }
+                for (ConfigBatchQueryResponse.ConfigQueryResult each : response.getConfigQueryResults()) {
+                    String dataId = each.getDataId();
+                    if (each.isSuccess()) {
+                        result.put(dataId, saveSnapshotAndBuild(dataId, group, tenant, each.getContent(),
+                                each.getContentType(), each.getEncryptedDataKey()));
+                    } else if (each.getErrorCode() == ConfigQueryResponse.CONFIG_NOT_FOUND) {
+                        LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, null);
+                        LocalEncryptedDataKeyProcessor.saveEncryptDataKeySnapshot(agent.getName(), dataId, group,
+                                tenant, null);
+                        result.put(dataId, new ConfigResponse());
+                    } else {
+                        LOGGER.warn("[{}] [batch-query] query config fail, dataId={}, group={}, tenant={}, code={}",
+                                this.getName(), dataId, group, tenant, each.getErrorCode());
+                    }
+                }
+            }
+            return result;
+        }
+        
+        private ConfigResponse saveSnapshotAndBuild(String dataId, String group, String tenant, String content,
+                String contentType, String encryptedDataKey) {
+            LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, content);
+            LocalEncryptedDataKeyProcessor.saveEncryptDataKeySnapshot(agent.getName(), dataId, group, tenant,
+                    encryptedDataKey);
+            ConfigResponse configResponse = new ConfigResponse();
+            configResponse.setContent(content);
+            configResponse.setConfigType(
+                    StringUtils.isNotBlank(contentType) ? contentType : ConfigType.TEXT.getType());
+            configResponse.setEncryptedDataKey(encryptedDataKey);
+            return configResponse;
+        }
+        
         private Response requestProxy(RpcClient rpcClientInner, Request request) throws NacosException {
             return requestProxy(rpcClientInner, request, requestTimeout);
         }
@@ -1241,6 +1428,11 @@ public class ClientWorker implements Closeable {
                 String dataId = ((ConfigQueryRequest) request).getDataId();
                 return buildResource(tenant, group, dataId);
             }
+            if (request instanceof ConfigBatchQueryRequest) {
+                String tenant = ((ConfigBatchQueryRequest) request).getTenant();
+                String group = ((ConfigBatchQueryRequest) request).getGroup();
+                return buildResource(tenant, group, null);
+            }
             if (request instanceof ConfigPublishRequest) {
                 String tenant = ((ConfigPublishRequest) request).getTenant();
                 String group = ((ConfigPublishRequest) request).getGroup();
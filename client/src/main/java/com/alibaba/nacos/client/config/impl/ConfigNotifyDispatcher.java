@@ -0,0 +1,212 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.client.env.NacosClientProperties;
+import com.alibaba.nacos.client.monitor.MetricsMonitor;
+import com.alibaba.nacos.client.utils.LogUtils;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispatcher which notifies config listeners without executor in a shared thread pool, instead of the listen thread.
+ *
+ * <p>Each listener has one slot which holds at most one pending notification, a newer content replaces the pending
+ * one, so that a lagging listener only receives the newest content. Listeners with less last notify cost are
+ * dispatched first, so that slow listeners do not delay the others. Virtual threads are used on JDK 21+ if enabled.
+ *
+ * <p>Each {@link ClientWorker} creates its own dispatcher from its client properties.
+ *
+ * @author Nacos
+ */
+public class ConfigNotifyDispatcher {
+    
+    private static final Logger LOGGER = LogUtils.logger(ConfigNotifyDispatcher.class);
+    
+    static final String ENABLED_KEY = "nacos.config.notify.dispatcher.enabled";
+    
+    static final String THREADS_KEY = "nacos.config.notify.dispatcher.threads";
+    
+    static final String VIRTUAL_THREAD_KEY = "nacos.config.notify.dispatcher.virtualThread";
+    
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+    
+    private final ExecutorService executor;
+    
+    private final AtomicLong sequence = new AtomicLong();
+    
+    private final AtomicLong pendingCount = new AtomicLong();
+    
+    ConfigNotifyDispatcher(int threads, boolean virtualThread) {
+        ExecutorService virtualExecutor = virtualThread ? createVirtualThreadExecutor() : null;
+        if (virtualExecutor != null) {
+            executor = virtualExecutor;
+        } else {
+            executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new PriorityBlockingQueue<>(), new NameThreadFactory("com.alibaba.nacos.client.config.notifier"));
+        }
+    }
+    
+    /**
+     * Create dispatcher by client properties.
+     *
+     * @param properties client properties
+     * @return dispatcher, {@code null} if listeners without executor are not notified by dispatcher
+     */
+    public static ConfigNotifyDispatcher create(NacosClientProperties properties) {
+        if (!properties.getBoolean(ENABLED_KEY, false)) {
+            return null;
+        }
+        int threads = properties.getInteger(THREADS_KEY, ThreadUtils.getSuitableThreadCount(1));
+        boolean virtualThread = properties.getBoolean(VIRTUAL_THREAD_KEY, false);
+        LOGGER.info("config notify dispatcher threads = {}, virtualThread = {}", threads, virtualThread);
+        return new ConfigNotifyDispatcher(threads, virtualThread);
+    }
+    
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Exception e) {
+            LOGGER.warn("virtual thread is not supported by current jdk, use platform threads instead.");
+            return null;
+        }
+    }
+    
+    /**
+     * Dispatch notification of listener, the pending notification of the slot is replaced.
+     *
+     * @param slot notify slot of listener
+     * @param md5  md5 of content to notify
+     * @param job  notify job
+     */
+    public void dispatch(NotifySlot slot, String md5, Runnable job) {
+        synchronized (slot) {
+            // same content is pending or in notifying.
+            if (md5.equals(slot.latestMd5)) {
+                return;
+            }
+            slot.latestMd5 = md5;
+            if (slot.pending == null) {
+                MetricsMonitor.getConfigNotifyQueueDepthMonitor().set(pendingCount.incrementAndGet());
+            } else {
+                MetricsMonitor.getConfigNotifyCoalescedMonitor().inc();
+            }
+            slot.pending = new PendingNotify(md5, job);
+            if (slot.running) {
+                return;
+            }
+            slot.running = true;
+        }
+        executor.execute(new SlotRunner(slot, sequence.incrementAndGet()));
+    }
+    
+    /**
+     * Shutdown dispatcher, pending notifications are dropped.
+     */
+    public void shutdown() {
+        ThreadUtils.shutdownThreadPool(executor, LOGGER);
+    }
+    
+    long getPendingCount() {
+        return pendingCount.get();
+    }
+    
+    /**
+     * Notify slot of one listener.
+     */
+    public static class NotifySlot {
+        
+        private PendingNotify pending;
+        
+        private boolean running;
+        
+        private String latestMd5;
+        
+        private volatile long lastCostNanos;
+    }
+    
+    private static class PendingNotify {
+        
+        private final String md5;
+        
+        private final Runnable job;
+        
+        private final long enqueueNanos = System.nanoTime();
+        
+        private PendingNotify(String md5, Runnable job) {
+            this.md5 = md5;
+            this.job = job;
+        }
+    }
+    
+    private class SlotRunner implements Runnable, Comparable<SlotRunner> {
+        
+        private final NotifySlot slot;
+        
+        private final long priority;
+        
+        private final long sequence;
+        
+        private SlotRunner(NotifySlot slot, long sequence) {
+            this.slot = slot;
+            this.priority = slot.lastCostNanos;
+            this.sequence = sequence;
+        }
+        
+        @Override
+        public void run() {
+            PendingNotify notify;
+            synchronized (slot) {
+                notify = slot.pending;
+                slot.pending = null;
+            }
+            MetricsMonitor.getConfigNotifyQueueDepthMonitor().set(pendingCount.decrementAndGet());
+            long start = System.nanoTime();
+            MetricsMonitor.getConfigNotifyLatencyMonitor("wait").observe((start - notify.enqueueNanos) / NANOS_PER_SECOND);
+            try {
+                notify.job.run();
+            } catch (Throwable t) {
+                LOGGER.error("[notify-dispatcher] notify error, md5={}", notify.md5, t);
+            }
+            slot.lastCostNanos = System.nanoTime() - start;
+            MetricsMonitor.getConfigNotifyLatencyMonitor("execute").observe(slot.lastCostNanos / NANOS_PER_SECOND);
+            synchronized (slot) {
+                if (slot.pending == null) {
+                    // notify again if the job failed, listen cycle checks md5 of listener.
+                    slot.latestMd5 = null;
+                    slot.running = false;
+                    return;
+                }
+            }
+            executor.execute(new SlotRunner(slot, ConfigNotifyDispatcher.this.sequence.incrementAndGet()));
+        }
+        
+        @Override
+        public int compareTo(SlotRunner other) {
+            int result = Long.compare(priority, other.priority);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
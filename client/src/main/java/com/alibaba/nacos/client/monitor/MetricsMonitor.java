@@ -16,10 +16,14 @@
 
 package com.alibaba.nacos.client.monitor;
 
+import com.alibaba.nacos.common.remote.codec.PayloadCompressionStats;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Metrics Monitor.
  *
@@ -38,6 +42,26 @@ public class MetricsMonitor {
             .name("nacos_client_naming_request_failed_total").help("nacos_client_naming_request_failed_total")
             .labelNames("module", "req_class", "res_status", "res_code", "err_class").register();
     
+    private static final Histogram NACOS_CLIENT_CONFIG_LISTEN_CYCLE = Histogram.build()
+            .name("nacos_client_config_listen_cycle_seconds").help("nacos_client_config_listen_cycle_seconds")
+            .labelNames("sync_type").register();
+    
+    private static final Histogram NACOS_CLIENT_CONFIG_NOTIFY = Histogram.build()
+            .name("nacos_client_config_notify_seconds").help("nacos_client_config_notify_seconds")
+            .labelNames("phase").register();
+    
+    static {
+        bindPayloadCompressionStats("outbound", PayloadCompressor.getOutboundStats());
+        bindPayloadCompressionStats("inbound", PayloadCompressor.getInboundStats());
+    }
+    
+    private static void bindPayloadCompressionStats(String direction, PayloadCompressionStats stats) {
+        NACOS_MONITOR.setChild(new LongAdderChild(stats.getUncompressedBytes()), "remote",
+                direction + "UncompressedBytes");
+        NACOS_MONITOR.setChild(new LongAdderChild(stats.getCompressedBytes()), "remote",
+                direction + "CompressedBytes");
+    }
+    
     public static Gauge.Child getServiceInfoMapSizeMonitor() {
         return NACOS_MONITOR.labels("naming", "serviceInfoMapSize");
     }
@@ -46,6 +70,26 @@ public class MetricsMonitor {
         return NACOS_MONITOR.labels("config", "listenConfigCount");
     }
     
+    public static Histogram.Child getListenConfigCycleMonitor(String syncType) {
+        return NACOS_CLIENT_CONFIG_LISTEN_CYCLE.labels(syncType);
+    }
+    
+    public static Gauge.Child getListenConfigCycleCountMonitor() {
+        return NACOS_MONITOR.labels("config", "listenCycleConfigCount");
+    }
+    
+    public static Histogram.Child getConfigNotifyLatencyMonitor(String phase) {
+        return NACOS_CLIENT_CONFIG_NOTIFY.labels(phase);
+    }
+    
+    public static Gauge.Child getConfigNotifyQueueDepthMonitor() {
+        return NACOS_MONITOR.labels("config", "notifyQueueDepth");
+    }
+    
+    public static Gauge.Child getConfigNotifyCoalescedMonitor() {
+        return NACOS_MONITOR.labels("config", "notifyCoalescedCount");
+    }
+    
     public static Histogram.Child getConfigRequestMonitor(String method, String url, String code) {
         return NACOS_CLIENT_REQUEST_HISTOGRAM.labels("config", method, url, code);
     }
@@ -58,5 +102,21 @@ public class MetricsMonitor {
             String errClass) {
         return NACOS_CLIENT_NAMING_REQUEST_FAILED_TOTAL.labels("naming", reqClass, resStatus, resCode, errClass);
     }
+    
+    /**
+     * Gauge child reading value from counter in common module.
+     */
+    private static class LongAdderChild extends Gauge.Child {
+        
+        private final LongAdder adder;
+        
+        LongAdderChild(LongAdder adder) {
+            this.adder = adder;
+        }
+        
+        @Override
+        public double get() {
+            return adder.sum();
+        }
+    }
 }
-
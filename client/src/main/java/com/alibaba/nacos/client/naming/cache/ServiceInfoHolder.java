@@ -18,7 +18,9 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
@@ -32,6 +34,8 @@ import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -47,6 +51,8 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    private final ConcurrentMap<String, Long> serviceInfoRevisionMap = new ConcurrentHashMap<>(16);
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
@@ -119,6 +125,67 @@ public class ServiceInfoHolder implements Closeable {
      * @return service info
      */
     public ServiceInfo processServiceInfo(ServiceInfo serviceInfo) {
+        return processServiceInfo(serviceInfo, 0L);
+    }
+    
+    /**
+     * Process service info pushed by server with revision, the revision is the base of following delta push.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of service info, {@code 0} means not tracked by server
+     * @return service info
+     */
+    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = doProcessServiceInfo(serviceInfo);
+        if (revision > 0 && null != result && result == serviceInfo) {
+            serviceInfoRevisionMap.put(serviceInfo.getKey(), revision);
+        }
+        return result;
+    }
+    
+    /**
+     * Process delta of service info pushed by server, apply changed instances to cached service info.
+     *
+     * @param delta delta of service info
+     * @return patched service info, {@code null} if cached service info is not the base revision of delta
+     */
+    public ServiceInfo processServiceInfoDelta(NotifySubscriberDeltaRequest delta) {
+        String groupedServiceName = NamingUtils.getGroupedName(delta.getServiceName(), delta.getGroupName());
+        String serviceKey = ServiceInfo.getKey(groupedServiceName, delta.getClusters());
+        ServiceInfo oldService = serviceInfoMap.get(serviceKey);
+        Long revision = serviceInfoRevisionMap.get(serviceKey);
+        if (null == oldService || null == revision || revision != delta.getBaseRevision()) {
+            NAMING_LOGGER.warn("process service info delta but base revision mismatch, serviceKey: {}, "
+                    + "current revision: {}, base revision: {}", serviceKey, revision, delta.getBaseRevision());
+            return null;
+        }
+        Map<String, Instance> hosts = new LinkedHashMap<>(oldService.getHosts().size());
+        for (Instance each : oldService.getHosts()) {
+            hosts.put(each.toInetAddr(), each);
+        }
+        for (Instance each : delta.getRemovedInstances()) {
+            hosts.remove(each.toInetAddr());
+        }
+        for (Instance each : delta.getAddedInstances()) {
+            hosts.put(each.toInetAddr(), each);
+        }
+        for (Instance each : delta.getModifiedInstances()) {
+            hosts.put(each.toInetAddr(), each);
+        }
+        ServiceInfo patched = new ServiceInfo();
+        patched.setName(delta.getServiceName());
+        patched.setGroupName(delta.getGroupName());
+        patched.setClusters(delta.getClusters());
+        patched.setCacheMillis(delta.getCacheMillis());
+        patched.setLastRefTime(delta.getLastRefTime());
+        patched.setChecksum(delta.getChecksum());
+        patched.setAllIPs(delta.isAllIPs());
+        patched.setReachProtectionThreshold(delta.isReachProtectionThreshold());
+        patched.setHosts(new ArrayList<>(hosts.values()));
+        return processServiceInfo(patched, delta.getRevision());
+    }
+    
+    private ServiceInfo doProcessServiceInfo(ServiceInfo serviceInfo) {
         String serviceKey = serviceInfo.getKey();
         if (serviceKey == null) {
             NAMING_LOGGER.warn("process service info but serviceKey is null, service host: {}",
@@ -139,6 +206,8 @@ public class ServiceInfoHolder implements Closeable {
         }
         MetricsMonitor.getServiceInfoMapSizeMonitor().set(serviceInfoMap.size());
         if (diff.hasDifferent()) {
+            // instances changed without revision, following delta push can't be applied to it.
+            serviceInfoRevisionMap.remove(serviceKey);
             NAMING_LOGGER.info("current ips:({}) service: {} -> {}", serviceInfo.ipCount(), serviceInfo.getKey(),
                     JacksonUtils.toJson(serviceInfo.getHosts()));
             
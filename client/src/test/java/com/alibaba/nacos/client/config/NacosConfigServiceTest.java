@@ -39,10 +39,15 @@ import org.mockito.quality.Strictness;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -92,6 +97,47 @@ class NacosConfigServiceTest {
         
     }
     
+    @Test
+    void testGetConfigsFromServerInBatch() throws NacosException {
+        final String group = "2";
+        final int timeout = 3000;
+        final List<String> dataIds = Arrays.asList("batch1", "batch2", "batch3");
+        Map<String, ConfigResponse> responses = new HashMap<>(4);
+        ConfigResponse found = new ConfigResponse();
+        found.setContent("aa");
+        responses.put("batch1", found);
+        responses.put("batch2", new ConfigResponse());
+        Mockito.when(mockWoker.getServerConfigs(dataIds, group, "", timeout)).thenReturn(responses);
+        ConfigResponse fallback = new ConfigResponse();
+        fallback.setContent("cc");
+        Mockito.when(mockWoker.getServerConfig("batch3", group, "", timeout, false)).thenReturn(fallback);
+        
+        Map<String, String> configs = nacosConfigService.getConfigs(dataIds, group, timeout);
+        
+        assertEquals(dataIds, Arrays.asList(configs.keySet().toArray(new String[0])));
+        assertEquals("aa", configs.get("batch1"));
+        assertNull(configs.get("batch2"));
+        assertEquals("cc", configs.get("batch3"));
+        Mockito.verify(mockWoker, Mockito.never()).getServerConfig(eq("batch1"), any(), any(), Mockito.anyLong(),
+                Mockito.anyBoolean());
+    }
+    
+    @Test
+    void testGetConfigsFallbackWhenBatchQueryFail() throws NacosException {
+        final String group = "2";
+        final int timeout = 3000;
+        Mockito.when(mockWoker.getServerConfigs(Collections.singletonList("batch1"), group, "", timeout))
+                .thenThrow(new NacosException());
+        ConfigResponse response = new ConfigResponse();
+        response.setContent("aa");
+        Mockito.when(mockWoker.getServerConfig("batch1", group, "", timeout, false)).thenReturn(response);
+        
+        Map<String, String> configs = nacosConfigService.getConfigs(Collections.singletonList("batch1"), group,
+                timeout);
+        
+        assertEquals("aa", configs.get("batch1"));
+    }
+    
     @Test
     void testGetConfigFromFailOver() throws NacosException {
         final String dataId = "1failover";
@@ -17,16 +17,21 @@
 package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
@@ -47,6 +52,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -360,12 +366,10 @@ class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
-        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
         Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
@@ -380,7 +384,7 @@ class ClientWorkerTest {
     }
     
     @Test
-    void testHandleClientMetricsReqeust() throws Exception {
+    void testHandleConfigChangeBatchNotifyRequest() throws Exception {
         
         Properties prop = new Properties();
         String tenant = "c";
@@ -390,12 +394,38 @@ class ClientWorkerTest {
         final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
         ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
         
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
+        CacheData cacheDataMocked = Mockito.mock(CacheData.class);
+        AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
+        Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
+        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant("a", "b", tenant))).thenReturn(cacheDataMocked);
+        ConfigChangeBatchNotifyRequest batchNotifyRequest = new ConfigChangeBatchNotifyRequest();
+        batchNotifyRequest.addConfig("a", "b", tenant);
+        batchNotifyRequest.addConfig("notListened", "b", tenant);
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeBatchNotifyRequest(
+                batchNotifyRequest, "testname");
+        Mockito.verify(cacheDataMocked, times(1)).setConsistentWithServer(false);
+        Mockito.verify(atomicBoolean, times(1)).set(true);
+    }
+    
+    @Test
+    void testHandleClientMetricsReqeust() throws Exception {
+        
+        Properties prop = new Properties();
+        String tenant = "c";
+        
+        prop.put(NAMESPACE, tenant);
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
         Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         CacheData cacheDataMocked = Mockito.mock(CacheData.class);
         String content = "content1324567";
         String md5 = MD5Utils.md5Hex(content, "UTF-8");
@@ -474,6 +504,58 @@ class ClientWorkerTest {
         }
     }
     
+    @Test
+    void testGetServerConfigsInBatch() throws NacosException {
+        Properties prop = new Properties();
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        final ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
+        String group = "b";
+        String tenant = "c";
+        String content = "content" + System.currentTimeMillis();
+        ConfigBatchQueryResponse batchQueryResponse = new ConfigBatchQueryResponse();
+        batchQueryResponse.addConfigQueryResult("found", group, tenant,
+                ConfigQueryResponse.buildSuccessResponse(content));
+        batchQueryResponse.addConfigQueryResult("notFound", group, tenant,
+                ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND, "config not found"));
+        batchQueryResponse.addConfigQueryResult("conflict", group, tenant,
+                ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_QUERY_CONFLICT, "modifying"));
+        Mockito.when(rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY))
+                .thenReturn(AbilityStatus.SUPPORTED);
+        Mockito.when(rpcClient.request(any(ConfigBatchQueryRequest.class), anyLong())).thenReturn(batchQueryResponse);
+        
+        Map<String, ConfigResponse> responses = clientWorker.getServerConfigs(
+                Arrays.asList("found", "notFound", "conflict"), group, tenant, 100);
+        
+        assertEquals(2, responses.size());
+        assertEquals(content, responses.get("found").getContent());
+        assertNull(responses.get("notFound").getContent());
+        assertFalse(responses.containsKey("conflict"));
+        localConfigInfoProcessorMockedStatic.verify(
+                () -> LocalConfigInfoProcessor.saveSnapshot(eq(clientWorker.getAgentName()), eq("found"), eq(group),
+                        eq(tenant), eq(content)), times(1));
+        localConfigInfoProcessorMockedStatic.verify(
+                () -> LocalConfigInfoProcessor.saveSnapshot(eq(clientWorker.getAgentName()), eq("notFound"),
+                        eq(group), eq(tenant), eq(null)), times(1));
+    }
+    
+    @Test
+    void testGetServerConfigsNotSupportedByServer() throws NacosException {
+        Properties prop = new Properties();
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        Mockito.when(rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_BATCH_CONFIG_QUERY))
+                .thenReturn(AbilityStatus.NOT_SUPPORTED);
+        
+        Map<String, ConfigResponse> responses = clientWorker.getServerConfigs(Collections.singletonList("a"), "b",
+                "c", 100);
+        
+        assertTrue(responses.isEmpty());
+        Mockito.verify(rpcClient, Mockito.never()).request(any(ConfigBatchQueryRequest.class), anyLong());
+    }
+    
     @Test
     void testShutdown() throws NacosException, NoSuchFieldException, IllegalAccessException {
         Properties prop = new Properties();
@@ -539,15 +621,11 @@ class ClientWorkerTest {
         Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
         Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
                 .thenReturn(cacheNormal);
-        Mockito.when(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataIdNormal, group, tenant)))
-                .thenReturn(true);
         
         Mockito.when(cacheDataMapMocked.values()).thenReturn(cacheDatas);
-        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
-        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
         Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMap.setAccessible(true);
-        cacheMap.set(clientWorker, cacheMapMocked);
+        cacheMap.set(clientWorker, cacheDataMapMocked);
         
         //mock request
         ConfigChangeBatchListenResponse.ConfigContext configContext = new ConfigChangeBatchListenResponse.ConfigContext();
@@ -575,12 +653,53 @@ class ClientWorkerTest {
         //use local cache.
         assertTrue(cacheUseLocalCache.isUseLocalConfigInfo());
         //discard cache to be deleted.
-        assertFalse(cacheMapMocked.get().containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
+        assertFalse(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataIdDiscard, group, tenant)));
         //normal cache listener be notified.
         assertEquals(configQueryResponse.getContent(), normalContent.get());
         
     }
     
+    @Test
+    void testExecuteConfigListenOnlyDirtyCaches() throws Exception {
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        Mockito.when(agent.getName()).thenReturn("mocktest");
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(new Properties());
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        clientWorker.shutdown();
+        String group = "group";
+        String tenant = "tenant";
+        for (int i = 0; i < 3; i++) {
+            normalNotConsistentCache(filter, agent.getName(), "dataId" + i, group, tenant);
+            clientWorker.addCacheDataIfAbsent("dataId" + i, group, tenant);
+        }
+        
+        RpcClient rpcClientInner = Mockito.mock(RpcClient.class);
+        rpcClientFactoryMockedStatic.when(
+                () -> RpcClientFactory.createClient(anyString(), any(ConnectionType.class), any(Map.class),
+                        any(RpcClientTlsConfig.class))).thenReturn(rpcClientInner);
+        Mockito.when(rpcClientInner.request(any(ConfigBatchListenRequest.class)))
+                .thenReturn(new ConfigChangeBatchListenResponse());
+        // first cycle syncs all caches.
+        clientWorker.getAgent().executeConfigListen();
+        ArgumentCaptor<ConfigBatchListenRequest> captor = ArgumentCaptor.forClass(ConfigBatchListenRequest.class);
+        Mockito.verify(rpcClientInner, times(1)).request(captor.capture());
+        assertEquals(3, captor.getValue().getConfigListenContexts().size());
+        assertTrue(clientWorker.getCache("dataId0", group, tenant).isConsistentWithServer());
+        
+        // no cache changed, no request.
+        clientWorker.getAgent().executeConfigListen();
+        Mockito.verify(rpcClientInner, times(1)).request(any(ConfigBatchListenRequest.class));
+        
+        // only the notified cache is checked.
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeNotifyRequest(
+                ConfigChangeNotifyRequest.build("dataId1", group, tenant), "testname");
+        clientWorker.getAgent().executeConfigListen();
+        Mockito.verify(rpcClientInner, times(2)).request(captor.capture());
+        assertEquals(1, captor.getValue().getConfigListenContexts().size());
+        assertEquals("dataId1", captor.getValue().getConfigListenContexts().get(0).getDataId());
+    }
+    
     private CacheData discardCache(ConfigFilterChainManager filter, String envName, String dataId, String group,
             String tenant) {
         CacheData cacheData = new CacheData(filter, envName, dataId, group, tenant);
@@ -654,16 +773,15 @@ class ClientWorkerTest {
         putCacheMethod.invoke(clientWorker, key, cacheData);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         // 检查cacheMap是否包含特定的key
-        assertNotNull(cacheMapRef.get().get(key));
-        assertEquals(cacheData, cacheMapRef.get().get(key));
+        assertNotNull(cacheMapRef.get(key));
+        assertEquals(cacheData, cacheMapRef.get(key));
         // 测试再次插入相同的key将覆盖原始的值
         CacheData newCacheData = new CacheData(filter, "newEnv", "newDataId", "newGroup");
         putCacheMethod.invoke(clientWorker, key, newCacheData);
         // 检查key对应的value是否改变为newCacheData
-        assertEquals(newCacheData, cacheMapRef.get().get(key));
+        assertEquals(newCacheData, cacheMapRef.get(key));
     }
     
     @Test
@@ -674,10 +792,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKey(dataId, group);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy).addCacheDataIfAbsent(anyString(), anyString());
@@ -706,10 +823,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -739,10 +855,9 @@ class ClientWorkerTest {
         CacheData cacheData = new CacheData(null, "env", dataId, group);
         Field cacheMapField = ClientWorker.class.getDeclaredField("cacheMap");
         cacheMapField.setAccessible(true);
-        AtomicReference<Map<String, CacheData>> cacheMapRef = (AtomicReference<Map<String, CacheData>>) cacheMapField.get(
-                clientWorker);
+        Map<String, CacheData> cacheMapRef = (Map<String, CacheData>) cacheMapField.get(clientWorker);
         String key = GroupKey.getKeyTenant(dataId, group, TEST_NAMESPACE);
-        cacheMapRef.get().put(key, cacheData);
+        cacheMapRef.put(key, cacheData);
         // 当addCacheDataIfAbsent得到的differentCacheData，同cacheMap中该key对应的cacheData不一致
         CacheData differentCacheData = new CacheData(null, "env", dataId, group);
         doReturn(differentCacheData).when(clientWorkerSpy)
@@ -0,0 +1,112 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.client.env.NacosClientProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigNotifyDispatcherTest {
+    
+    @Test
+    void testCoalesceLaggingListener() throws Exception {
+        ConfigNotifyDispatcher dispatcher = new ConfigNotifyDispatcher(2, false);
+        ConfigNotifyDispatcher.NotifySlot slot = new ConfigNotifyDispatcher.NotifySlot();
+        List<String> notified = new CopyOnWriteArrayList<>();
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        dispatcher.dispatch(slot, "md5-1", () -> {
+            started.countDown();
+            await(blocking);
+            notified.add("md5-1");
+            finished.countDown();
+        });
+        assertTrue(started.await(5L, TimeUnit.SECONDS));
+        // the listener lags, only the newest content is notified.
+        dispatcher.dispatch(slot, "md5-2", () -> notified.add("md5-2"));
+        dispatcher.dispatch(slot, "md5-3", () -> {
+            notified.add("md5-3");
+            finished.countDown();
+        });
+        dispatcher.dispatch(slot, "md5-3", () -> notified.add("md5-3-duplicated"));
+        assertEquals(1, dispatcher.getPendingCount());
+        blocking.countDown();
+        assertTrue(finished.await(5L, TimeUnit.SECONDS));
+        assertEquals(2, notified.size());
+        assertEquals("md5-1", notified.get(0));
+        assertEquals("md5-3", notified.get(1));
+    }
+    
+    @Test
+    void testSlowListenerNotBlockOthers() throws Exception {
+        ConfigNotifyDispatcher dispatcher = new ConfigNotifyDispatcher(2, false);
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch fastNotified = new CountDownLatch(1);
+        dispatcher.dispatch(new ConfigNotifyDispatcher.NotifySlot(), "md5", () -> await(blocking));
+        dispatcher.dispatch(new ConfigNotifyDispatcher.NotifySlot(), "md5", fastNotified::countDown);
+        assertTrue(fastNotified.await(5L, TimeUnit.SECONDS));
+        blocking.countDown();
+    }
+    
+    @Test
+    void testNotifyAgainAfterFinished() throws Exception {
+        ConfigNotifyDispatcher dispatcher = new ConfigNotifyDispatcher(1, true);
+        ConfigNotifyDispatcher.NotifySlot slot = new ConfigNotifyDispatcher.NotifySlot();
+        CountDownLatch first = new CountDownLatch(1);
+        dispatcher.dispatch(slot, "md5", first::countDown);
+        assertTrue(first.await(5L, TimeUnit.SECONDS));
+        TimeUnit.MILLISECONDS.sleep(100L);
+        // same md5 is notified again after finished, such as listener failed.
+        CountDownLatch notified = new CountDownLatch(1);
+        dispatcher.dispatch(slot, "md5", notified::countDown);
+        assertTrue(notified.await(5L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testCreateByClientProperties() throws Exception {
+        assertNull(ConfigNotifyDispatcher.create(NacosClientProperties.PROTOTYPE.derive()));
+        Properties properties = new Properties();
+        properties.setProperty(ConfigNotifyDispatcher.ENABLED_KEY, "true");
+        properties.setProperty(ConfigNotifyDispatcher.THREADS_KEY, "1");
+        ConfigNotifyDispatcher dispatcher = ConfigNotifyDispatcher.create(
+                NacosClientProperties.PROTOTYPE.derive(properties));
+        assertNotNull(dispatcher);
+        CountDownLatch notified = new CountDownLatch(1);
+        dispatcher.dispatch(new ConfigNotifyDispatcher.NotifySlot(), "md5", notified::countDown);
+        assertTrue(notified.await(5L, TimeUnit.SECONDS));
+        dispatcher.shutdown();
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
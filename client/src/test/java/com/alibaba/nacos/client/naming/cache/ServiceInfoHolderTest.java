@@ -22,8 +22,10 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
+import com.alibaba.nacos.common.utils.JacksonUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -153,6 +155,96 @@ class ServiceInfoHolderTest {
         assertEquals(olderInfo, actual);
     }
     
+    @Test
+    void testProcessServiceInfoDelta() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info, 10L);
+        NotifySubscriberDeltaRequest delta = buildDelta(10L, 12L);
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0D);
+        delta.getModifiedInstances().add(modified);
+        delta.getRemovedInstances().add(createInstance("1.1.1.2", 2));
+        delta.getAddedInstances().add(createInstance("1.1.1.3", 3));
+        final ServiceInfo actual = holder.processServiceInfoDelta(delta);
+        assertEquals(info.getKey(), actual.getKey());
+        assertEquals(2, actual.getHosts().size());
+        assertEquals(2.0D, actual.getHosts().get(0).getWeight());
+        assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        assertEquals(actual, holder.getServiceInfo("b", "a", "c"));
+        // following delta based on new revision
+        NotifySubscriberDeltaRequest next = buildDelta(12L, 13L);
+        next.getRemovedInstances().add(createInstance("1.1.1.3", 3));
+        assertEquals(1, holder.processServiceInfoDelta(next).getHosts().size());
+    }
+    
+    @Test
+    void testProcessServiceInfoDeltaSameAsFullServiceInfo() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        info.setChecksum("base");
+        holder.processServiceInfo(info, 10L);
+        NotifySubscriberDeltaRequest delta = buildDelta(10L, 12L);
+        delta.setCacheMillis(2000L);
+        delta.setLastRefTime(100L);
+        delta.setChecksum("checksum");
+        delta.setAllIPs(true);
+        delta.setReachProtectionThreshold(true);
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0D);
+        delta.getModifiedInstances().add(modified);
+        delta.getRemovedInstances().add(createInstance("1.1.1.2", 2));
+        delta.getAddedInstances().add(createInstance("1.1.1.3", 3));
+        final ServiceInfo actual = holder.processServiceInfoDelta(delta);
+        
+        ServiceInfo expected = new ServiceInfo("a@@b@@c");
+        expected.setCacheMillis(2000L);
+        expected.setLastRefTime(100L);
+        expected.setChecksum("checksum");
+        expected.setAllIPs(true);
+        expected.setReachProtectionThreshold(true);
+        List<Instance> expectedHosts = new ArrayList<>();
+        expectedHosts.add(modified);
+        expectedHosts.add(createInstance("1.1.1.3", 3));
+        expected.setHosts(expectedHosts);
+        actual.setJsonFromServer("");
+        assertEquals(JacksonUtils.toJson(expected), JacksonUtils.toJson(actual));
+    }
+    
+    @Test
+    void testProcessServiceInfoDeltaWithBaseMismatch() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        info.setHosts(hosts);
+        assertNull(holder.processServiceInfoDelta(buildDelta(10L, 12L)));
+        holder.processServiceInfo(info, 11L);
+        assertNull(holder.processServiceInfoDelta(buildDelta(10L, 12L)));
+        // instances changed by query without revision
+        ServiceInfo queried = new ServiceInfo("a@@b@@c");
+        List<Instance> queriedHosts = new ArrayList<>();
+        queriedHosts.add(createInstance("1.1.1.2", 2));
+        queried.setHosts(queriedHosts);
+        holder.processServiceInfo(queried);
+        assertNull(holder.processServiceInfoDelta(buildDelta(11L, 12L)));
+    }
+    
+    private NotifySubscriberDeltaRequest buildDelta(long baseRevision, long revision) {
+        NotifySubscriberDeltaRequest result = new NotifySubscriberDeltaRequest();
+        result.setServiceName("b");
+        result.setGroupName("a");
+        result.setClusters("c");
+        result.setBaseRevision(baseRevision);
+        result.setRevision(revision);
+        return result;
+    }
+    
     @Test
     void testGetServiceInfo() {
         ServiceInfo info = new ServiceInfo("a@@b@@c");
@@ -52,6 +52,15 @@ public abstract class Event implements Serializable {
         return null;
     }
     
+    /**
+     * Shard key of event. {@link ShardingEventPublisher} handles events with the same shard key in publishing order.
+     *
+     * @return shard key, return null if the event should be handled in order with all other events without key
+     */
+    public Object shardKey() {
+        return null;
+    }
+    
     /**
      * Whether is plugin event. If so, the event can be dropped when no publish and subscriber without any hint. Default
      * false
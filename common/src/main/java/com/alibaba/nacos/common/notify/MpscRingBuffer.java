@@ -0,0 +1,133 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for multiple producers and single consumer.
+ *
+ * <p>Each slot carries a sequence, producers claim a slot by CAS on the tail and publish the element by advancing
+ * the sequence of the slot, so the consumer never observes a claimed but unpublished slot.
+ *
+ * @param <E> element type
+ * @author Nacos
+ */
+final class MpscRingBuffer<E> {
+    
+    private static final int MAX_CAPACITY = 1 << 30;
+    
+    private final int capacity;
+    
+    private final int mask;
+    
+    private final AtomicReferenceArray<E> buffer;
+    
+    private final AtomicLongArray sequences;
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    /**
+     * Only written by consumer, volatile for {@link #size()} reading from other threads.
+     */
+    private volatile long head;
+    
+    MpscRingBuffer(int expectedCapacity) {
+        this.capacity = roundToPowerOfTwo(expectedCapacity);
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    private static int roundToPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        if (value >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+    
+    /**
+     * Add element to tail, can be called by multiple threads.
+     *
+     * @param element element
+     * @return {@code false} if ring buffer is full
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+    }
+    
+    /**
+     * Remove element from head, must be called by single consumer thread.
+     *
+     * @return element, {@code null} if ring buffer is empty
+     */
+    E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        final E result = buffer.get(index);
+        buffer.lazySet(index, null);
+        sequences.set(index, position + capacity);
+        head = position + 1;
+        return result;
+    }
+    
+    /**
+     * Remove all elements, must be called by consumer thread or after consumer stopped.
+     */
+    void clear() {
+        while (null != poll()) {
+            // drain all elements.
+        }
+    }
+    
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0L, Math.min(size, capacity));
+    }
+    
+    boolean isEmpty() {
+        return 0 == size();
+    }
+    
+    int capacity() {
+        return capacity;
+    }
+}
@@ -23,6 +23,7 @@ import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.spi.NacosServiceLoader;
 import com.alibaba.nacos.common.utils.ClassUtils;
 import com.alibaba.nacos.common.utils.MapUtil;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,14 +76,10 @@ public class NotifyCenter {
         String shareBufferSizeProperty = "nacos.core.notify.share-buffer-size";
         shareBufferSize = Integer.getInteger(shareBufferSizeProperty, 1024);
         
-        final Collection<EventPublisher> publishers = NacosServiceLoader.load(EventPublisher.class);
-        Iterator<EventPublisher> iterator = publishers.iterator();
-        
-        if (iterator.hasNext()) {
-            clazz = iterator.next().getClass();
-        } else {
-            clazz = DefaultPublisher.class;
-        }
+        // The class name of publisher, such as com.alibaba.nacos.common.notify.ShardingEventPublisher.
+        // If not specified, the first publisher loaded by SPI is used, or DefaultPublisher if none.
+        String publisherProperty = "nacos.core.notify.publisher";
+        clazz = selectPublisherClass(System.getProperty(publisherProperty));
         
         DEFAULT_PUBLISHER_FACTORY = (cls, buffer) -> {
             try {
@@ -108,6 +105,33 @@ public class NotifyCenter {
         ThreadUtils.addShutdownHook(NotifyCenter::shutdown);
     }
     
+    private static Class<? extends EventPublisher> selectPublisherClass(String publisherClassName) {
+        final Collection<EventPublisher> publishers = NacosServiceLoader.load(EventPublisher.class);
+        if (StringUtils.isNotBlank(publisherClassName)) {
+            for (EventPublisher each : publishers) {
+                if (each.getClass().getName().equals(publisherClassName)) {
+                    return each.getClass();
+                }
+            }
+            try {
+                return Class.forName(publisherClassName).asSubclass(EventPublisher.class);
+            } catch (Throwable ex) {
+                LOGGER.error("Load publisher class {} failed, use default publisher : ", publisherClassName, ex);
+            }
+        }
+        Iterator<EventPublisher> iterator = publishers.iterator();
+        return iterator.hasNext() ? iterator.next().getClass() : DefaultPublisher.class;
+    }
+    
+    /**
+     * Get class of publisher created by default publisher factory.
+     *
+     * @return publisher class
+     */
+    public static Class<? extends EventPublisher> getPublisherClass() {
+        return clazz;
+    }
+    
     @JustForTest
     public static Map<String, EventPublisher> getPublisherMap() {
         return INSTANCE.publisherMap;
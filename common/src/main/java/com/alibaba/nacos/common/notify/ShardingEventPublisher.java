@@ -0,0 +1,331 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferSize;
+
+/**
+ * Event publisher which shards events by {@link Event#shardKey()} across several worker threads.
+ *
+ * <p>Each shard has one worker thread and one bounded {@link MpscRingBuffer}, events with the same shard key are
+ * always staged in the same shard, so they are handled in publishing order. Events without shard key are all handled
+ * by the first shard. If the ring buffer of a shard is full, the publishing thread waits a short time for the worker
+ * to make room. If it is still full, the event is handled by the publishing thread like {@link DefaultPublisher} and
+ * counted as overflow of that shard, only in which case the order of events may be broken.
+ *
+ * <p>Select it by setting {@code -Dnacos.core.notify.publisher=com.alibaba.nacos.common.notify.ShardingEventPublisher}.
+ * The shard count is set by {@code nacos.core.notify.shard-count}, default is the count of processors.
+ *
+ * @author Nacos
+ */
+public class ShardingEventPublisher implements ShardedEventPublisher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final String SHARD_COUNT_PROPERTY = "nacos.core.notify.shard-count";
+    
+    private static final int DEFAULT_WAIT_TIME = 60;
+    
+    private static final int SPIN_TIMES = 64;
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private static final long BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    private static final long MAX_BLOCK_NANOS = TimeUnit.MILLISECONDS.toNanos(200L);
+    
+    private final Map<Class<? extends Event>, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    
+    private final int shardCount;
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    private String publisherName;
+    
+    private Shard[] shards;
+    
+    public ShardingEventPublisher() {
+        this(Integer.getInteger(SHARD_COUNT_PROPERTY, ThreadUtils.getSuitableThreadCount(1)));
+    }
+    
+    public ShardingEventPublisher(int shardCount) {
+        this.shardCount = Math.max(1, shardCount);
+    }
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        int queueMaxSize = -1 == bufferSize ? ringBufferSize : bufferSize;
+        int shardBufferSize = Math.max(1, queueMaxSize / shardCount);
+        this.publisherName = type.getSimpleName();
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, shardBufferSize);
+        }
+        for (Shard each : shards) {
+            each.start();
+        }
+        initialized = true;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        long result = 0;
+        for (Shard each : shards) {
+            result += each.ringBuffer.size();
+        }
+        return result;
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        addSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribers.computeIfAbsent(subscribeType, inputType -> new ConcurrentHashSet<>()).add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        removeSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribers.computeIfPresent(subscribeType, (inputType, subscriberSet) -> {
+            subscriberSet.remove(subscriber);
+            return subscriberSet.isEmpty() ? null : subscriberSet;
+        });
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        Shard shard = shards[shardIndex(event)];
+        if (!shard.ringBuffer.offer(event) && !offerWithBackoff(shard, event)) {
+            shard.overflowCount.incrementAndGet();
+            LOGGER.warn("Unable to plug in due to shard {} is full, synchronize sending time, event : {}", shard.index,
+                    event);
+            shard.handleEvent(event);
+            return true;
+        }
+        shard.wakeUp();
+        return true;
+    }
+    
+    private boolean offerWithBackoff(Shard shard, Event event) {
+        long deadline = System.nanoTime() + MAX_BLOCK_NANOS;
+        // worker doesn't consume events before subscriber registered, no need to wait.
+        while (!shutdown && !subscribers.isEmpty() && System.nanoTime() < deadline) {
+            shard.wakeUp();
+            LockSupport.parkNanos(BACKOFF_NANOS);
+            if (shard.ringBuffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private int shardIndex(Event event) {
+        Object shardKey = event.shardKey();
+        if (null == shardKey) {
+            return 0;
+        }
+        int hash = shardKey.hashCode();
+        // spread high bits, same as HashMap.
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+    
+    @Override
+    public void notifySubscriber(Subscriber subscriber, Event event) {
+        LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        if (null == shards) {
+            return;
+        }
+        for (Shard each : shards) {
+            LockSupport.unpark(each);
+        }
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    public int getShardCount() {
+        return shardCount;
+    }
+    
+    /**
+     * Get count of staged events in shard.
+     *
+     * @param shardIndex index of shard
+     * @return queue depth of shard
+     */
+    public int getQueueDepth(int shardIndex) {
+        return shards[shardIndex].ringBuffer.size();
+    }
+    
+    /**
+     * Get count of events which can't be staged because the shard is full, these events are handled by publishing
+     * thread.
+     *
+     * @param shardIndex index of shard
+     * @return overflow count of shard
+     */
+    public long getOverflowCount(int shardIndex) {
+        return shards[shardIndex].overflowCount.get();
+    }
+    
+    public String getStatus() {
+        StringBuilder result = new StringBuilder(
+                String.format("Publisher %-30s: shutdown=%5s, queue=%7d, shards=", publisherName, shutdown,
+                        currentEventSize()));
+        for (Shard each : shards) {
+            result.append('[').append(each.ringBuffer.size()).append('/').append(each.ringBuffer.capacity())
+                    .append(", overflow=").append(each.overflowCount.get()).append(']');
+        }
+        return result.toString();
+    }
+    
+    private class Shard extends Thread {
+        
+        private final int index;
+        
+        private final MpscRingBuffer<Event> ringBuffer;
+        
+        private final AtomicLong overflowCount = new AtomicLong();
+        
+        private volatile boolean waiting = false;
+        
+        private volatile long lastEventSequence = -1L;
+        
+        private Shard(int index, int bufferSize) {
+            this.index = index;
+            this.ringBuffer = new MpscRingBuffer<>(bufferSize);
+            setName("nacos.publisher-" + publisherName + "-" + index);
+            setDaemon(true);
+        }
+        
+        private void wakeUp() {
+            if (waiting) {
+                LockSupport.unpark(this);
+            }
+        }
+        
+        @Override
+        public void run() {
+            try {
+                waitSubscriberForInit();
+                handleEvents();
+            } catch (Throwable ex) {
+                LOGGER.error("Event listener exception : ", ex);
+            } finally {
+                ringBuffer.clear();
+            }
+        }
+        
+        private void waitSubscriberForInit() {
+            // To ensure that messages are not lost, enable EventHandler when
+            // waiting for the first Subscriber to register
+            for (int waitTimes = DEFAULT_WAIT_TIME; waitTimes > 0; waitTimes--) {
+                if (shutdown || !subscribers.isEmpty()) {
+                    break;
+                }
+                ThreadUtils.sleep(1000L);
+            }
+        }
+        
+        private void handleEvents() {
+            int idleTimes = 0;
+            while (!shutdown) {
+                Event event = ringBuffer.poll();
+                if (null != event) {
+                    idleTimes = 0;
+                    handleEvent(event);
+                    continue;
+                }
+                if (++idleTimes < SPIN_TIMES) {
+                    Thread.yield();
+                    continue;
+                }
+                // publisher reads waiting flag after offering, so re-check ring buffer to avoid missing wake up.
+                waiting = true;
+                if (ringBuffer.isEmpty() && !shutdown) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                waiting = false;
+            }
+        }
+        
+        private void handleEvent(Event event) {
+            final long currentEventSequence = event.sequence();
+            Set<Subscriber> eventSubscribers = subscribers.get(event.getClass());
+            if (null == eventSubscribers) {
+                LOGGER.debug("[NotifyCenter] No subscribers for event {}", event.getClass().getName());
+                return;
+            }
+            for (Subscriber subscriber : eventSubscribers) {
+                if (!subscriber.scopeMatches(event)) {
+                    continue;
+                }
+                // Events with same shard key are in order, so expiration is checked by sequence of this shard.
+                if (subscriber.ignoreExpireEvent() && lastEventSequence > currentEventSequence) {
+                    LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                            event.getClass());
+                    continue;
+                }
+                notifySubscriber(subscriber, event);
+            }
+            lastEventSequence = Math.max(lastEventSequence, currentEventSequence);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote;
+
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+
+/**
+ * Request whose payload body is serialized ahead of time, so that one body can be shared by many connections.
+ *
+ * <p>Only the request id differs between connections, implementations should splice it into the shared bytes
+ * instead of serializing the whole request again.
+ *
+ * @author Nacos
+ */
+public interface PreSerializedRequest {
+    
+    /**
+     * Get payload type of this request, which is the simple class name the body should be parsed to by receiver.
+     *
+     * @return payload type
+     */
+    String getPayloadType();
+    
+    /**
+     * Get serialized body of this request with current request id.
+     *
+     * @param codec codec of body, which supports the payload type
+     * @return serialized body bytes
+     */
+    byte[] serializeBody(PayloadCodec codec);
+}
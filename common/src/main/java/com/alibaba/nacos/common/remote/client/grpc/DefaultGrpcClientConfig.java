@@ -19,6 +19,8 @@ package com.alibaba.nacos.common.remote.client.grpc;
 import com.alibaba.nacos.common.remote.TlsConfig;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfig;
 import com.alibaba.nacos.common.remote.client.RpcClientTlsConfigFactory;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.impl.JsonPayloadCodec;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 
 import java.util.HashMap;
@@ -64,6 +66,10 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
     
     private final long capabilityNegotiationTimeout;
     
+    private final String payloadCodec;
+    
+    private final int compressionThreshold;
+    
     private final Map<String, String> labels;
     
     private RpcClientTlsConfig tlsConfig = new RpcClientTlsConfig();
@@ -96,6 +102,9 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
                 builder.channelKeepAliveTimeout);
         this.capabilityNegotiationTimeout = loadLongConfig(GrpcConstants.GRPC_CHANNEL_CAPABILITY_NEGOTIATION_TIMEOUT,
                 builder.capabilityNegotiationTimeout);
+        this.payloadCodec = System.getProperty(GrpcConstants.GRPC_PAYLOAD_CODEC, builder.payloadCodec);
+        this.compressionThreshold = loadIntegerConfig(GrpcConstants.GRPC_COMPRESSION_THRESHOLD,
+                builder.compressionThreshold);
         this.labels = builder.labels;
         this.labels.put("tls.enable", "false");
         if (Objects.nonNull(builder.tlsConfig)) {
@@ -188,6 +197,16 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         return this.capabilityNegotiationTimeout;
     }
     
+    @Override
+    public String payloadCodec() {
+        return this.payloadCodec;
+    }
+    
+    @Override
+    public int compressionThreshold() {
+        return this.compressionThreshold;
+    }
+    
     @Override
     public int healthCheckRetryTimes() {
         return healthCheckRetryTimes;
@@ -239,6 +258,10 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         
         private long capabilityNegotiationTimeout = 5000L;
         
+        private String payloadCodec = JsonPayloadCodec.NAME;
+        
+        private int compressionThreshold = PayloadCompressor.DISABLED;
+        
         private final Map<String, String> labels = new HashMap<>();
         
         private RpcClientTlsConfig tlsConfig = new RpcClientTlsConfig();
@@ -319,6 +342,13 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
                 this.channelKeepAliveTimeout = Integer.parseInt(
                         properties.getProperty(GrpcConstants.GRPC_CHANNEL_KEEP_ALIVE_TIMEOUT));
             }
+            if (properties.containsKey(GrpcConstants.GRPC_PAYLOAD_CODEC)) {
+                this.payloadCodec = properties.getProperty(GrpcConstants.GRPC_PAYLOAD_CODEC);
+            }
+            if (properties.containsKey(GrpcConstants.GRPC_COMPRESSION_THRESHOLD)) {
+                this.compressionThreshold = Integer.parseInt(
+                        properties.getProperty(GrpcConstants.GRPC_COMPRESSION_THRESHOLD));
+            }
             this.tlsConfig = tlsConfig;
             return this;
         }
@@ -431,6 +461,22 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
             return this;
         }
         
+        /**
+         * set name of preferred payload codec.
+         */
+        public Builder setPayloadCodec(String payloadCodec) {
+            this.payloadCodec = payloadCodec;
+            return this;
+        }
+        
+        /**
+         * set threshold of payload body size above which payloads are compressed.
+         */
+        public Builder setCompressionThreshold(int compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+        
         /**
          * set healthCheckRetryTimes.
          */
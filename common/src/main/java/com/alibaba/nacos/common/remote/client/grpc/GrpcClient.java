@@ -384,6 +384,8 @@ public abstract class GrpcClient extends RpcClient {
             grpcConn.setPayloadStreamObserver(payloadStreamObserver);
             grpcConn.setGrpcFutureServiceStub(newChannelStubTemp);
             grpcConn.setChannel(managedChannel);
+            grpcConn.setPayloadCodec(clientConfig.payloadCodec());
+            grpcConn.setCompressionThreshold(clientConfig.compressionThreshold());
             //send a  setup request.
             ConnectionSetupRequest conSetupRequest = new ConnectionSetupRequest();
             conSetupRequest.setClientVersion(VersionUtils.getFullClientVersion());
@@ -104,4 +104,19 @@ public interface GrpcClientConfig extends RpcClientConfig {
      */
     long capabilityNegotiationTimeout();
     
+    /**
+     * get name of preferred payload codec, json is used if server doesn't support it.
+     *
+     * @return payload codec name
+     */
+    String payloadCodec();
+    
+    /**
+     * get threshold of payload body size in bytes above which payloads sent to server are compressed, negative to
+     * disable.
+     *
+     * @return compression threshold
+     */
+    int compressionThreshold();
+    
 }
@@ -28,6 +28,10 @@ import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.impl.JsonPayloadCodec;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -62,6 +66,16 @@ public class GrpcConnection extends Connection {
     
     protected StreamObserver<Payload> payloadStreamObserver;
     
+    /**
+     * name of preferred payload codec, used only if server declares the ability of it.
+     */
+    private String payloadCodec = JsonPayloadCodec.NAME;
+    
+    /**
+     * payload bodies larger than threshold are compressed if server declares the ability, negative to disable.
+     */
+    private int compressionThreshold = PayloadCompressor.DISABLED;
+    
     public GrpcConnection(RpcClient.ServerInfo serverInfo, Executor executor) {
         super(serverInfo);
         this.executor = executor;
@@ -69,7 +83,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public Response request(Request request, long timeouts) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = convert(request);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         Payload grpcResponse;
         try {
@@ -87,7 +101,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = convert(request);
         
         final ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         return new RequestFuture() {
@@ -119,19 +133,31 @@ public class GrpcConnection extends Connection {
         };
     }
     
+    private PayloadCodec negotiatePayloadCodec() {
+        return PayloadCodecManager.getInstance().negotiate(payloadCodec, abilityTable);
+    }
+    
+    private Payload convert(Request request) {
+        return compress(GrpcUtils.convert(request, negotiatePayloadCodec()));
+    }
+    
+    private Payload compress(Payload payload) {
+        return PayloadCompressor.compress(payload, PayloadCompressor.negotiate(compressionThreshold, abilityTable));
+    }
+    
     public void sendResponse(Response response) {
-        Payload convert = GrpcUtils.convert(response);
+        Payload convert = compress(GrpcUtils.convert(response));
         payloadStreamObserver.onNext(convert);
     }
     
     public void sendRequest(Request request) {
-        Payload convert = GrpcUtils.convert(request);
+        Payload convert = convert(request);
         payloadStreamObserver.onNext(convert);
     }
     
     @Override
     public void asyncRequest(Request request, final RequestCallBack requestCallBack) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = convert(request);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         
         //set callback .
@@ -237,4 +263,40 @@ public class GrpcConnection extends Connection {
     public void setPayloadStreamObserver(StreamObserver<Payload> payloadStreamObserver) {
         this.payloadStreamObserver = payloadStreamObserver;
     }
+    
+    /**
+     * Getter method for property <tt>payloadCodec</tt>.
+     *
+     * @return property value of payloadCodec
+     */
+    public String getPayloadCodec() {
+        return payloadCodec;
+    }
+    
+    /**
+     * Setter method for property <tt>payloadCodec</tt>.
+     *
+     * @param payloadCodec value to be assigned to property payloadCodec
+     */
+    public void setPayloadCodec(String payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+    
+    /**
+     * Getter method for property <tt>compressionThreshold</tt>.
+     *
+     * @return property value of compressionThreshold
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+    
+    /**
+     * Setter method for property <tt>compressionThreshold</tt>.
+     *
+     * @param compressionThreshold value to be assigned to property compressionThreshold
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
 }
@@ -24,11 +24,13 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.PreSerializedRequest;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
-import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.protobuf.Any;
-import com.google.protobuf.ByteString;
 import com.google.protobuf.UnsafeByteOperations;
 
 import java.nio.ByteBuffer;
@@ -55,7 +57,7 @@ public class GrpcUtils {
         Payload.Builder payloadBuilder = Payload.newBuilder();
         Metadata.Builder metaBuilder = Metadata.newBuilder();
         if (meta != null) {
-            metaBuilder.putAllHeaders(request.getHeaders()).setType(request.getClass().getSimpleName());
+            metaBuilder.putAllHeaders(request.getHeaders()).setType(getRequestType(request));
         }
         metaBuilder.setClientIp(NetUtils.localIP());
         payloadBuilder.setMetadata(metaBuilder.build());
@@ -73,16 +75,26 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, PayloadCodecManager.getInstance().getDefaultCodec());
+    }
+    
+    /**
+     * convert request to payload with codec, the body is encoded by json if codec doesn't support the request type.
+     *
+     * @param request request.
+     * @param codec   payload codec negotiated with peer.
+     * @return payload.
+     */
+    public static Payload convert(Request request, PayloadCodec codec) {
         
-        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+        Metadata newMeta = Metadata.newBuilder().setType(getRequestType(request))
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
+        Any body = convertRequestToBody(request, codec);
         
         Payload.Builder builder = Payload.newBuilder();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
+        return builder.setBody(body).setMetadata(newMeta).build();
         
     }
     
@@ -100,7 +112,32 @@ public class GrpcUtils {
                 .setMetadata(metaBuilder.build()).build();
     }
     
+    private static String getRequestType(Request request) {
+        if (request instanceof PreSerializedRequest) {
+            return ((PreSerializedRequest) request).getPayloadType();
+        }
+        return request.getClass().getSimpleName();
+    }
+    
+    private static Any convertRequestToBody(Request request, PayloadCodec codec) {
+        PayloadCodec defaultCodec = PayloadCodecManager.getInstance().getDefaultCodec();
+        if (null != codec && codec != defaultCodec) {
+            Class<?> payloadClass = PayloadRegistry.getClassByType(getRequestType(request));
+            if (null != payloadClass && codec.isSupport(payloadClass)) {
+                // headers are transferred by metadata, codec other than json never encodes them.
+                byte[] bytes = request instanceof PreSerializedRequest
+                        ? ((PreSerializedRequest) request).serializeBody(codec) : codec.encode(request, payloadClass);
+                return Any.newBuilder().setTypeUrl(codec.getName()).setValue(UnsafeByteOperations.unsafeWrap(bytes))
+                        .build();
+            }
+        }
+        return Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(convertRequestToByte(request))).build();
+    }
+    
     private static byte[] convertRequestToByte(Request request) {
+        if (request instanceof PreSerializedRequest) {
+            return ((PreSerializedRequest) request).serializeBody(PayloadCodecManager.getInstance().getDefaultCodec());
+        }
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
         byte[] jsonBytes = JacksonUtils.toJsonBytes(request);
@@ -117,9 +154,14 @@ public class GrpcUtils {
     public static Object parse(Payload payload) {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
-            ByteString byteString = payload.getBody().getValue();
-            ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            // codec name is written into type url of body, empty for json.
+            String codecName = PayloadCompressor.getCodecName(payload.getBody().getTypeUrl());
+            PayloadCodec codec = PayloadCodecManager.getInstance().getCodec(codecName);
+            if (null == codec) {
+                throw new RemoteException(NacosException.SERVER_ERROR, "Unknown payload codec:" + codecName);
+            }
+            ByteBuffer byteBuffer = PayloadCompressor.decompress(payload.getBody());
+            Object obj = codec.decode(byteBuffer, classType);
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codec of gRPC payload body, load by SPI.
+ *
+ * <p>The name of codec is written into the body of payload, so receivers can decode payloads from any registered codec.
+ * Senders only use a codec other than json when the peer declares the ability of it.
+ *
+ * @author Nacos
+ */
+public interface PayloadCodec {
+    
+    /**
+     * Get name of codec, which identifies the codec of a payload body.
+     *
+     * @return codec name
+     */
+    String getName();
+    
+    /**
+     * Get name of the ability which peer declares when it is able to decode payloads of this codec.
+     *
+     * @return ability name, {@code null} if every peer is able to decode
+     */
+    String getAbilityName();
+    
+    /**
+     * Whether the payload type can be encoded by this codec.
+     *
+     * @param payloadClass payload class registered in {@link com.alibaba.nacos.common.remote.PayloadRegistry}
+     * @return {@code true} if supported
+     */
+    boolean isSupport(Class<?> payloadClass);
+    
+    /**
+     * Encode payload to bytes.
+     *
+     * @param payload      payload object, headers of request are transferred by metadata and should not be encoded
+     * @param payloadClass payload class the receiver decodes to
+     * @return encoded bytes
+     */
+    byte[] encode(Object payload, Class<?> payloadClass);
+    
+    /**
+     * Encode a single string value as it is embedded in payloads encoded by this codec, so that the value can be
+     * spliced into a payload encoded ahead of time.
+     *
+     * @param value string value
+     * @return encoded bytes
+     */
+    byte[] encodeString(String value);
+    
+    /**
+     * Decode payload from bytes.
+     *
+     * @param body         encoded body
+     * @param payloadClass payload class
+     * @param <T>          payload type
+     * @return payload object
+     */
+    <T> T decode(ByteBuffer body, Class<T> payloadClass);
+}
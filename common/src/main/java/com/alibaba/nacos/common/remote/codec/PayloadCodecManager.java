@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.common.remote.codec.impl.JsonPayloadCodec;
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manager of {@link PayloadCodec}s, json codec is always registered as default.
+ *
+ * @author Nacos
+ */
+public class PayloadCodecManager {
+    
+    private static final PayloadCodecManager INSTANCE = new PayloadCodecManager();
+    
+    private final PayloadCodec defaultCodec = new JsonPayloadCodec();
+    
+    private final Map<String, PayloadCodec> codecMap = new ConcurrentHashMap<>();
+    
+    private PayloadCodecManager() {
+        codecMap.put(defaultCodec.getName(), defaultCodec);
+        Collection<PayloadCodec> codecs = NacosServiceLoader.load(PayloadCodec.class);
+        for (PayloadCodec codec : codecs) {
+            codecMap.putIfAbsent(codec.getName(), codec);
+        }
+    }
+    
+    public static PayloadCodecManager getInstance() {
+        return INSTANCE;
+    }
+    
+    public PayloadCodec getDefaultCodec() {
+        return defaultCodec;
+    }
+    
+    /**
+     * Get codec by name.
+     *
+     * @param name codec name
+     * @return codec, {@code null} if not registered
+     */
+    public PayloadCodec getCodec(String name) {
+        if (StringUtils.isBlank(name)) {
+            return defaultCodec;
+        }
+        return codecMap.get(name);
+    }
+    
+    /**
+     * Negotiate codec with peer, preferred codec is used only if the peer declares the ability of it.
+     *
+     * @param preferred     name of preferred codec
+     * @param peerAbilities ability table of peer, {@code null} if unknown
+     * @return negotiated codec, json codec if preferred codec is unknown or not supported by peer
+     */
+    public PayloadCodec negotiate(String preferred, Map<String, Boolean> peerAbilities) {
+        PayloadCodec codec = getCodec(preferred);
+        if (null == codec) {
+            return defaultCodec;
+        }
+        if (null == codec.getAbilityName()) {
+            return codec;
+        }
+        boolean supported = null != peerAbilities && Boolean.TRUE.equals(peerAbilities.get(codec.getAbilityName()));
+        return supported ? codec : defaultCodec;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Byte counters of compressed payloads in one direction.
+ *
+ * @author Nacos
+ */
+public class PayloadCompressionStats {
+    
+    private final LongAdder uncompressedBytes = new LongAdder();
+    
+    private final LongAdder compressedBytes = new LongAdder();
+    
+    void record(long uncompressedSize, long compressedSize) {
+        uncompressedBytes.add(uncompressedSize);
+        compressedBytes.add(compressedSize);
+    }
+    
+    /**
+     * Get total bytes of payload bodies before compression.
+     *
+     * @return counter of uncompressed bytes
+     */
+    public LongAdder getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+    
+    /**
+     * Get total bytes of payload bodies after compression.
+     *
+     * @return counter of compressed bytes
+     */
+    public LongAdder getCompressedBytes() {
+        return compressedBytes;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip compression of gRPC payload body.
+ *
+ * <p>Compression is marked by appending {@code +gzip} to the codec name in type url of body, so receivers decompress
+ * before decoding. Senders only compress bodies larger than threshold, and only when the peer declares
+ * {@code supportPayloadCompression}.
+ *
+ * @author Nacos
+ */
+public final class PayloadCompressor {
+    
+    public static final String GZIP = "gzip";
+    
+    /**
+     * Threshold which disables compression.
+     */
+    public static final int DISABLED = -1;
+    
+    /**
+     * Server and sdk client declare the compression ability by the same name.
+     */
+    private static final String ABILITY_NAME = AbilityKey.SDK_CLIENT_SUPPORT_PAYLOAD_COMPRESSION.getName();
+    
+    private static final char SEPARATOR = '+';
+    
+    private static final PayloadCompressionStats OUTBOUND = new PayloadCompressionStats();
+    
+    private static final PayloadCompressionStats INBOUND = new PayloadCompressionStats();
+    
+    private PayloadCompressor() {
+    }
+    
+    /**
+     * Negotiate compression threshold with peer.
+     *
+     * @param threshold     configured threshold
+     * @param peerAbilities ability table of peer, {@code null} if unknown
+     * @return threshold if peer supports compression, otherwise {@link #DISABLED}
+     */
+    public static int negotiate(int threshold, Map<String, Boolean> peerAbilities) {
+        if (threshold < 0 || null == peerAbilities) {
+            return DISABLED;
+        }
+        return Boolean.TRUE.equals(peerAbilities.get(ABILITY_NAME)) ? threshold : DISABLED;
+    }
+    
+    /**
+     * Compress body of payload if it is larger than threshold. The payload is returned as is if compression doesn't
+     * make it smaller.
+     *
+     * @param payload   payload to send
+     * @param threshold threshold in bytes, negative to disable compression
+     * @return payload with compressed body or the origin payload
+     */
+    public static Payload compress(Payload payload, int threshold) {
+        if (threshold < 0) {
+            return payload;
+        }
+        Any body = payload.getBody();
+        ByteString value = body.getValue();
+        if (value.size() <= threshold) {
+            return payload;
+        }
+        byte[] compressed = gzip(value);
+        if (compressed.length >= value.size()) {
+            return payload;
+        }
+        OUTBOUND.record(value.size(), compressed.length);
+        Any compressedBody = body.toBuilder().setTypeUrl(body.getTypeUrl() + SEPARATOR + GZIP)
+                .setValue(UnsafeByteOperations.unsafeWrap(compressed)).build();
+        return payload.toBuilder().setBody(compressedBody).build();
+    }
+    
+    /**
+     * Get name of codec from type url of body.
+     *
+     * @param typeUrl type url of body
+     * @return codec name, empty for json
+     */
+    public static String getCodecName(String typeUrl) {
+        int index = typeUrl.lastIndexOf(SEPARATOR);
+        return index < 0 ? typeUrl : typeUrl.substring(0, index);
+    }
+    
+    /**
+     * Get bytes of body for decoding, decompress it if it's compressed.
+     *
+     * @param body body of received payload
+     * @return bytes of encoded body
+     */
+    public static ByteBuffer decompress(Any body) {
+        String typeUrl = body.getTypeUrl();
+        int index = typeUrl.lastIndexOf(SEPARATOR);
+        if (index < 0) {
+            return body.getValue().asReadOnlyByteBuffer();
+        }
+        String compression = typeUrl.substring(index + 1);
+        if (!GZIP.equals(compression)) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Unknown payload compression:" + compression);
+        }
+        try {
+            byte[] bytes = IoUtils.tryDecompress(body.getValue().newInput());
+            INBOUND.record(bytes.length, body.getValue().size());
+            return ByteBuffer.wrap(bytes);
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
+    private static byte[] gzip(ByteString value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(value.size() / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            value.writeTo(gzip);
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * Get counters of payloads compressed before sending.
+     *
+     * @return outbound stats
+     */
+    public static PayloadCompressionStats getOutboundStats() {
+        return OUTBOUND;
+    }
+    
+    /**
+     * Get counters of payloads decompressed after receiving.
+     *
+     * @return inbound stats
+     */
+    public static PayloadCompressionStats getInboundStats() {
+        return INBOUND;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec.impl;
+
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact binary payload codec for the most frequent requests, other payloads are still encoded by json.
+ *
+ * <p>Every body starts with a format version byte, and request id is written at last.
+ *
+ * @author Nacos
+ */
+public class CompactPayloadCodec implements PayloadCodec {
+    
+    public static final String NAME = "compact";
+    
+    private static final int VERSION = 1;
+    
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+    
+    private final Map<Class<?>, Serializer<?>> serializers = new HashMap<>(8);
+    
+    public CompactPayloadCodec() {
+        serializers.put(ConfigQueryRequest.class, new ConfigQueryRequestSerializer());
+        serializers.put(ConfigBatchListenRequest.class, new ConfigBatchListenRequestSerializer());
+        serializers.put(NotifySubscriberRequest.class, new NotifySubscriberRequestSerializer());
+        serializers.put(InstanceRequest.class, new InstanceRequestSerializer());
+        serializers.put(ServiceQueryRequest.class, new ServiceQueryRequestSerializer());
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public String getAbilityName() {
+        return AbilityKey.SDK_CLIENT_SUPPORT_COMPACT_PAYLOAD_CODEC.getName();
+    }
+    
+    @Override
+    public boolean isSupport(Class<?> payloadClass) {
+        return serializers.containsKey(payloadClass);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object payload, Class<?> payloadClass) {
+        Serializer<Object> serializer = (Serializer<Object>) getSerializer(payloadClass);
+        CompactWriter writer = new CompactWriter(DEFAULT_BUFFER_SIZE);
+        writer.writeByte(VERSION);
+        serializer.write(writer, payload);
+        return writer.toByteArray();
+    }
+    
+    @Override
+    public byte[] encodeString(String value) {
+        CompactWriter writer = new CompactWriter(DEFAULT_BUFFER_SIZE);
+        writer.writeString(value);
+        return writer.toByteArray();
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T decode(ByteBuffer body, Class<T> payloadClass) {
+        Serializer<T> serializer = (Serializer<T>) getSerializer(payloadClass);
+        CompactReader reader = new CompactReader(body);
+        int version = reader.readByte();
+        if (VERSION != version) {
+            throw new IllegalArgumentException("Unsupported compact payload version " + version);
+        }
+        return serializer.read(reader);
+    }
+    
+    private Serializer<?> getSerializer(Class<?> payloadClass) {
+        Serializer<?> result = serializers.get(payloadClass);
+        if (null == result) {
+            throw new IllegalArgumentException("Compact codec doesn't support payload " + payloadClass.getName());
+        }
+        return result;
+    }
+    
+    private interface Serializer<T> {
+        
+        /**
+         * Write fields of payload.
+         *
+         * @param writer  writer
+         * @param payload payload
+         */
+        void write(CompactWriter writer, T payload);
+        
+        /**
+         * Read fields to a new payload.
+         *
+         * @param reader reader
+         * @return payload
+         */
+        T read(CompactReader reader);
+    }
+    
+    private static class ConfigQueryRequestSerializer implements Serializer<ConfigQueryRequest> {
+        
+        @Override
+        public void write(CompactWriter writer, ConfigQueryRequest payload) {
+            writer.writeString(payload.getDataId());
+            writer.writeString(payload.getGroup());
+            writer.writeString(payload.getTenant());
+            writer.writeString(payload.getTag());
+            writer.writeString(payload.getRequestId());
+        }
+        
+        @Override
+        public ConfigQueryRequest read(CompactReader reader) {
+            ConfigQueryRequest result = new ConfigQueryRequest();
+            result.setDataId(reader.readString());
+            result.setGroup(reader.readString());
+            result.setTenant(reader.readString());
+            result.setTag(reader.readString());
+            result.setRequestId(reader.readString());
+            return result;
+        }
+    }
+    
+    private static class ConfigBatchListenRequestSerializer implements Serializer<ConfigBatchListenRequest> {
+        
+        @Override
+        public void write(CompactWriter writer, ConfigBatchListenRequest payload) {
+            writer.writeString(payload.getDataId());
+            writer.writeString(payload.getGroup());
+            writer.writeString(payload.getTenant());
+            writer.writeBoolean(payload.isListen());
+            writer.writeCollection(payload.getConfigListenContexts(), (w, each) -> {
+                w.writeString(each.getDataId());
+                w.writeString(each.getGroup());
+                w.writeString(each.getTenant());
+                w.writeString(each.getMd5());
+            });
+            writer.writeString(payload.getRequestId());
+        }
+        
+        @Override
+        public ConfigBatchListenRequest read(CompactReader reader) {
+            ConfigBatchListenRequest result = new ConfigBatchListenRequest();
+            result.setDataId(reader.readString());
+            result.setGroup(reader.readString());
+            result.setTenant(reader.readString());
+            result.setListen(reader.readBoolean());
+            result.setConfigListenContexts(reader.readList(r -> {
+                ConfigBatchListenRequest.ConfigListenContext each = new ConfigBatchListenRequest.ConfigListenContext();
+                each.setDataId(r.readString());
+                each.setGroup(r.readString());
+                each.setTenant(r.readString());
+                each.setMd5(r.readString());
+                return each;
+            }));
+            result.setRequestId(reader.readString());
+            return result;
+        }
+    }
+    
+    private static class NotifySubscriberRequestSerializer implements Serializer<NotifySubscriberRequest> {
+        
+        @Override
+        public void write(CompactWriter writer, NotifySubscriberRequest payload) {
+            writer.writeString(payload.getNamespace());
+            writer.writeString(payload.getServiceName());
+            writer.writeString(payload.getGroupName());
+            writer.writeLong(payload.getRevision());
+            ServiceInfo serviceInfo = payload.getServiceInfo();
+            writer.writeBoolean(null != serviceInfo);
+            if (null != serviceInfo) {
+                writeServiceInfo(writer, serviceInfo);
+            }
+            writer.writeString(payload.getRequestId());
+        }
+        
+        @Override
+        public NotifySubscriberRequest read(CompactReader reader) {
+            NotifySubscriberRequest result = new NotifySubscriberRequest();
+            result.setNamespace(reader.readString());
+            result.setServiceName(reader.readString());
+            result.setGroupName(reader.readString());
+            result.setRevision(reader.readLong());
+            if (reader.readBoolean()) {
+                result.setServiceInfo(readServiceInfo(reader));
+            }
+            result.setRequestId(reader.readString());
+            return result;
+        }
+        
+        private void writeServiceInfo(CompactWriter writer, ServiceInfo serviceInfo) {
+            writer.writeString(serviceInfo.getName());
+            writer.writeString(serviceInfo.getGroupName());
+            writer.writeString(serviceInfo.getClusters());
+            writer.writeLong(serviceInfo.getCacheMillis());
+            writer.writeLong(serviceInfo.getLastRefTime());
+            writer.writeString(serviceInfo.getChecksum());
+            writer.writeBoolean(serviceInfo.isAllIPs());
+            writer.writeBoolean(serviceInfo.isReachProtectionThreshold());
+            writer.writeCollection(serviceInfo.getHosts(), CompactPayloadCodec::writeInstance);
+        }
+        
+        private ServiceInfo readServiceInfo(CompactReader reader) {
+            ServiceInfo result = new ServiceInfo();
+            result.setName(reader.readString());
+            result.setGroupName(reader.readString());
+            result.setClusters(reader.readString());
+            result.setCacheMillis(reader.readLong());
+            result.setLastRefTime(reader.readLong());
+            result.setChecksum(reader.readString());
+            result.setAllIPs(reader.readBoolean());
+            result.setReachProtectionThreshold(reader.readBoolean());
+            result.setHosts(reader.readList(CompactPayloadCodec::readInstance));
+            return result;
+        }
+    }
+    
+    private static class InstanceRequestSerializer implements Serializer<InstanceRequest> {
+        
+        @Override
+        public void write(CompactWriter writer, InstanceRequest payload) {
+            writer.writeString(payload.getNamespace());
+            writer.writeString(payload.getServiceName());
+            writer.writeString(payload.getGroupName());
+            writer.writeString(payload.getType());
+            Instance instance = payload.getInstance();
+            writer.writeBoolean(null != instance);
+            if (null != instance) {
+                writeInstance(writer, instance);
+            }
+            writer.writeString(payload.getRequestId());
+        }
+        
+        @Override
+        public InstanceRequest read(CompactReader reader) {
+            InstanceRequest result = new InstanceRequest();
+            result.setNamespace(reader.readString());
+            result.setServiceName(reader.readString());
+            result.setGroupName(reader.readString());
+            result.setType(reader.readString());
+            if (reader.readBoolean()) {
+                result.setInstance(readInstance(reader));
+            }
+            result.setRequestId(reader.readString());
+            return result;
+        }
+    }
+    
+    private static class ServiceQueryRequestSerializer implements Serializer<ServiceQueryRequest> {
+        
+        @Override
+        public void write(CompactWriter writer, ServiceQueryRequest payload) {
+            writer.writeString(payload.getNamespace());
+            writer.writeString(payload.getServiceName());
+            writer.writeString(payload.getGroupName());
+            writer.writeString(payload.getCluster());
+            writer.writeBoolean(payload.isHealthyOnly());
+            writer.writeInt(payload.getUdpPort());
+            writer.writeString(payload.getRequestId());
+        }
+        
+        @Override
+        public ServiceQueryRequest read(CompactReader reader) {
+            ServiceQueryRequest result = new ServiceQueryRequest();
+            result.setNamespace(reader.readString());
+            result.setServiceName(reader.readString());
+            result.setGroupName(reader.readString());
+            result.setCluster(reader.readString());
+            result.setHealthyOnly(reader.readBoolean());
+            result.setUdpPort(reader.readInt());
+            result.setRequestId(reader.readString());
+            return result;
+        }
+    }
+    
+    private static void writeInstance(CompactWriter writer, Instance instance) {
+        writer.writeString(instance.getInstanceId());
+        writer.writeString(instance.getIp());
+        writer.writeInt(instance.getPort());
+        writer.writeDouble(instance.getWeight());
+        writer.writeBoolean(instance.isHealthy());
+        writer.writeBoolean(instance.isEnabled());
+        writer.writeBoolean(instance.isEphemeral());
+        writer.writeString(instance.getClusterName());
+        writer.writeString(instance.getServiceName());
+        writer.writeStringMap(instance.getMetadata());
+    }
+    
+    private static Instance readInstance(CompactReader reader) {
+        Instance result = new Instance();
+        result.setInstanceId(reader.readString());
+        result.setIp(reader.readString());
+        result.setPort(reader.readInt());
+        result.setWeight(reader.readDouble());
+        result.setHealthy(reader.readBoolean());
+        result.setEnabled(reader.readBoolean());
+        result.setEphemeral(reader.readBoolean());
+        result.setClusterName(reader.readString());
+        result.setServiceName(reader.readString());
+        result.setMetadata(reader.readStringMap());
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reader of compact binary format written by {@link CompactWriter}.
+ *
+ * @author Nacos
+ */
+class CompactReader {
+    
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+    
+    private final ByteBuffer buffer;
+    
+    CompactReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+    
+    int readByte() {
+        return buffer.get() & 0xFF;
+    }
+    
+    boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+    
+    long readLong() {
+        long value = readUnsignedVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+    
+    int readInt() {
+        return (int) readLong();
+    }
+    
+    double readDouble() {
+        long bits = 0;
+        for (int i = 0; i < Double.BYTES; i++) {
+            bits |= (buffer.get() & 0xFFL) << (i * Byte.SIZE);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+    
+    String readString() {
+        int length = readSize();
+        if (length < 0) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.position() + length);
+            return new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    <T> List<T> readList(Function<CompactReader, T> elementReader) {
+        int size = readSize();
+        if (size < 0) {
+            return null;
+        }
+        List<T> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(elementReader.apply(this));
+        }
+        return result;
+    }
+    
+    Map<String, String> readStringMap() {
+        int size = readSize();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, String> result = new HashMap<>(Math.max(16, size * 4 / 3 + 1));
+        for (int i = 0; i < size; i++) {
+            result.put(readString(), readString());
+        }
+        return result;
+    }
+    
+    private int readSize() {
+        long value = readUnsignedVarLong();
+        if (value > buffer.remaining() + 1L) {
+            throw new IllegalArgumentException("Illegal compact payload, size " + (value - 1) + " exceeds remaining "
+                    + buffer.remaining() + " bytes");
+        }
+        return (int) value - 1;
+    }
+    
+    private long readUnsignedVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += VARINT_PAYLOAD_BITS) {
+            byte each = buffer.get();
+            result |= (long) (each & VARINT_PAYLOAD_MASK) << shift;
+            if ((each & VARINT_CONTINUATION_BIT) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Illegal compact payload, malformed varint");
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Writer of compact binary format.
+ *
+ * <p>Integers are written as zigzag varint. Strings, collections and maps are prefixed by {@code size + 1} so that
+ * {@code 0} stands for {@code null}.
+ *
+ * @author Nacos
+ */
+class CompactWriter {
+    
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    
+    private static final long VARINT_PAYLOAD_MASK = 0x7FL;
+    
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+    
+    private static final int MAX_VARINT_BYTES = 10;
+    
+    private byte[] buffer;
+    
+    private int position;
+    
+    CompactWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+    
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+    
+    void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+    
+    void writeLong(long value) {
+        writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+    
+    void writeInt(int value) {
+        writeLong(value);
+    }
+    
+    void writeDouble(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        ensureCapacity(Double.BYTES);
+        for (int i = 0; i < Double.BYTES; i++) {
+            buffer[position++] = (byte) (bits >>> (i * Byte.SIZE));
+        }
+    }
+    
+    void writeString(String value) {
+        if (null == value) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+    
+    <T> void writeCollection(Collection<T> values, BiConsumer<CompactWriter, T> elementWriter) {
+        if (null == values) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        writeUnsignedVarLong(values.size() + 1L);
+        for (T each : values) {
+            elementWriter.accept(this, each);
+        }
+    }
+    
+    void writeStringMap(Map<String, String> values) {
+        if (null == values) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        writeUnsignedVarLong(values.size() + 1L);
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            writeString(entry.getKey());
+            writeString(entry.getValue());
+        }
+    }
+    
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+    
+    private void writeUnsignedVarLong(long value) {
+        ensureCapacity(MAX_VARINT_BYTES);
+        while ((value & ~VARINT_PAYLOAD_MASK) != 0) {
+            buffer[position++] = (byte) ((value & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_BIT);
+            value >>>= VARINT_PAYLOAD_BITS;
+        }
+        buffer[position++] = (byte) value;
+    }
+    
+    private void ensureCapacity(int required) {
+        if (position + required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + required));
+        }
+    }
+}
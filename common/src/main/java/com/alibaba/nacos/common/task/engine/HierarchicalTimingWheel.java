@@ -0,0 +1,193 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel used to index delay tasks by deadline.
+ *
+ * <p>Every level has {@code wheelSize} buckets, a bucket of level 0 covers {@code tickMs} and a bucket of level n
+ * covers the whole range of level n - 1. Entries are placed in the lowest level whose range contains the deadline
+ * and are moved down when the lower level reaches their bucket, so advancing the wheel only touches the buckets
+ * which are passed and the entries which are expired.
+ *
+ * <p>This class is not thread safe, callers should guard it by their own lock.
+ *
+ * @author Nacos
+ */
+final class HierarchicalTimingWheel {
+    
+    private final long tickMs;
+    
+    private final int wheelSize;
+    
+    private final long interval;
+    
+    private final List<TimerEntry>[] buckets;
+    
+    private final HierarchicalTimingWheel root;
+    
+    /**
+     * Start time of the earliest bucket which has not been flushed, always a multiple of {@link #tickMs}.
+     */
+    private long currentTime;
+    
+    private HierarchicalTimingWheel overflowWheel;
+    
+    private int size;
+    
+    HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this(tickMs, wheelSize, startMs - startMs % tickMs, null);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private HierarchicalTimingWheel(long tickMs, int wheelSize, long currentTime, HierarchicalTimingWheel root) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.buckets = new List[wheelSize];
+        this.currentTime = currentTime;
+        this.root = null == root ? this : root;
+    }
+    
+    /**
+     * Add an entry, the entry whose deadline is passed will be expired at next tick.
+     *
+     * @param key      key of entry
+     * @param deadline deadline of entry in milliseconds
+     */
+    void add(Object key, long deadline) {
+        place(new TimerEntry(key, deadline));
+        size++;
+    }
+    
+    /**
+     * Advance the wheel to {@code nowMs} and return the expired entries, whose deadline is before {@code nowMs}.
+     *
+     * @param nowMs current time in milliseconds
+     * @return expired entries
+     */
+    List<TimerEntry> advance(long nowMs) {
+        if (0 == size) {
+            // nothing to expire or cascade, jump to current time directly rather than walking the idle buckets.
+            if (currentTime + tickMs <= nowMs) {
+                currentTime = nowMs - nowMs % tickMs;
+                overflowWheel = null;
+            }
+            return Collections.emptyList();
+        }
+        List<TimerEntry> result = null;
+        while (currentTime + tickMs <= nowMs) {
+            List<TimerEntry> bucket = buckets[indexOf(currentTime)];
+            if (null != bucket && !bucket.isEmpty()) {
+                if (null == result) {
+                    result = new ArrayList<>(bucket.size());
+                }
+                result.addAll(bucket);
+                size -= bucket.size();
+                bucket.clear();
+            }
+            currentTime += tickMs;
+            if (null != overflowWheel) {
+                overflowWheel.cascade(currentTime);
+            }
+        }
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    void clear() {
+        for (List<TimerEntry> each : buckets) {
+            if (null != each) {
+                each.clear();
+            }
+        }
+        overflowWheel = null;
+        size = 0;
+    }
+    
+    private void place(TimerEntry entry) {
+        if (entry.deadline < currentTime + interval) {
+            // only level 0 can receive passed deadline, put it into the earliest bucket.
+            List<TimerEntry> bucket = bucketOf(Math.max(entry.deadline, currentTime));
+            bucket.add(entry);
+        } else {
+            overflowWheel().place(entry);
+        }
+    }
+    
+    /**
+     * Flush the buckets reached by lower level and re-place their entries from root.
+     *
+     * @param lowerCurrentTime current time of lower level
+     */
+    private void cascade(long lowerCurrentTime) {
+        while (currentTime <= lowerCurrentTime) {
+            List<TimerEntry> bucket = buckets[indexOf(currentTime)];
+            if (null != bucket && !bucket.isEmpty()) {
+                List<TimerEntry> entries = new ArrayList<>(bucket);
+                bucket.clear();
+                for (TimerEntry each : entries) {
+                    root.place(each);
+                }
+            }
+            currentTime += tickMs;
+            if (null != overflowWheel) {
+                overflowWheel.cascade(currentTime);
+            }
+        }
+    }
+    
+    private HierarchicalTimingWheel overflowWheel() {
+        if (null == overflowWheel) {
+            // the first bucket of overflow wheel starts right after the bucket containing current time.
+            long overflowCurrentTime = currentTime - currentTime % interval + interval;
+            overflowWheel = new HierarchicalTimingWheel(interval, wheelSize, overflowCurrentTime, root);
+        }
+        return overflowWheel;
+    }
+    
+    private List<TimerEntry> bucketOf(long time) {
+        int index = indexOf(time);
+        if (null == buckets[index]) {
+            buckets[index] = new ArrayList<>();
+        }
+        return buckets[index];
+    }
+    
+    private int indexOf(long time) {
+        return (int) ((time / tickMs) % wheelSize);
+    }
+    
+    static final class TimerEntry {
+        
+        final Object key;
+        
+        final long deadline;
+        
+        TimerEntry(Object key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -23,8 +23,12 @@ import com.alibaba.nacos.common.task.AbstractDelayTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -33,16 +37,35 @@ import java.util.concurrent.locks.ReentrantLock;
 /**
  * Nacos delay task execute engine.
  *
+ * <p>By default all tasks are scanned at every process interval to find the tasks which should be processed. When
+ * timing wheel is enabled, by {@code -Dnacos.core.task.timing-wheel.enabled=true} or the constructor, the deadline of
+ * tasks are indexed by a {@link HierarchicalTimingWheel}, so that only the expired tasks are touched at every interval.
+ *
  * @author xiweng.yy
  */
 public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractDelayTask> {
     
+    private static final String TIMING_WHEEL_ENABLED_PROPERTY = "nacos.core.task.timing-wheel.enabled";
+    
+    private static final int TIMING_WHEEL_SIZE = 64;
+    
     private final ScheduledExecutorService processingExecutor;
     
     protected final ConcurrentHashMap<Object, AbstractDelayTask> tasks;
     
     protected final ReentrantLock lock = new ReentrantLock();
     
+    /**
+     * Index of task deadline, null if timing wheel disabled. Guarded by {@link #lock}.
+     */
+    private final HierarchicalTimingWheel timingWheel;
+    
+    /**
+     * The earliest deadline in {@link #timingWheel} of each task key, entries with other deadline are stale. Guarded
+     * by {@link #lock}.
+     */
+    private final Map<Object, Long> scheduledDeadlines;
+    
     public NacosDelayTaskExecuteEngine(String name) {
         this(name, null);
     }
@@ -52,8 +75,20 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     }
     
     public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval) {
+        this(name, initCapacity, logger, processInterval, Boolean.getBoolean(TIMING_WHEEL_ENABLED_PROPERTY));
+    }
+    
+    public NacosDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long processInterval,
+            boolean timingWheelEnabled) {
         super(logger);
         tasks = new ConcurrentHashMap<>(initCapacity);
+        if (timingWheelEnabled) {
+            timingWheel = new HierarchicalTimingWheel(processInterval, TIMING_WHEEL_SIZE, System.currentTimeMillis());
+            scheduledDeadlines = new HashMap<>(initCapacity);
+        } else {
+            timingWheel = null;
+            scheduledDeadlines = null;
+        }
         processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
         processingExecutor
                 .scheduleWithFixedDelay(new ProcessRunnable(), processInterval, processInterval, TimeUnit.MILLISECONDS);
@@ -109,6 +144,15 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
     @Override
     public void shutdown() throws NacosException {
         tasks.clear();
+        if (null != timingWheel) {
+            lock.lock();
+            try {
+                timingWheel.clear();
+                scheduledDeadlines.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
         processingExecutor.shutdown();
     }
     
@@ -121,21 +165,74 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
                 newTask.merge(existTask);
             }
             tasks.put(key, newTask);
+            if (null != timingWheel) {
+                scheduleTask(key, newTask);
+            }
         } finally {
             lock.unlock();
         }
     }
     
+    /**
+     * Index the deadline of task into timing wheel, skip if an earlier deadline of the key is indexed, because the
+     * task will be checked again when the earlier deadline expired.
+     */
+    private void scheduleTask(Object key, AbstractDelayTask task) {
+        long deadline = task.getLastProcessTime() + task.getTaskInterval();
+        Long scheduled = scheduledDeadlines.get(key);
+        if (null != scheduled && scheduled <= deadline) {
+            return;
+        }
+        scheduledDeadlines.put(key, deadline);
+        timingWheel.add(key, deadline);
+    }
+    
+    /**
+     * Advance timing wheel and get the keys of tasks which should be processed.
+     *
+     * @return task keys
+     */
+    private Collection<Object> pollExpiredTaskKeys() {
+        List<Object> keys = new ArrayList<>();
+        lock.lock();
+        try {
+            for (HierarchicalTimingWheel.TimerEntry each : timingWheel.advance(System.currentTimeMillis())) {
+                Long scheduled = scheduledDeadlines.get(each.key);
+                if (null == scheduled || scheduled != each.deadline) {
+                    continue;
+                }
+                scheduledDeadlines.remove(each.key);
+                AbstractDelayTask task = tasks.get(each.key);
+                if (null == task) {
+                    continue;
+                }
+                if (task.shouldProcess()) {
+                    keys.add(each.key);
+                } else {
+                    // task is changed after indexed, such as interval enlarged, index it again.
+                    scheduleTask(each.key, task);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return keys;
+    }
+    
     /**
      * process tasks in execute engine.
      */
     protected void processTasks() {
-        Collection<Object> keys = getAllTaskKeys();
+        final long scanStart = System.nanoTime();
+        Collection<Object> keys = null == timingWheel ? getAllTaskKeys() : pollExpiredTaskKeys();
+        final long dispatchStart = System.nanoTime();
+        int dispatchCount = 0;
         for (Object taskKey : keys) {
             AbstractDelayTask task = removeTask(taskKey);
             if (null == task) {
                 continue;
             }
+            dispatchCount++;
             NacosTaskProcessor processor = getProcessor(taskKey);
             try {
                 // ReAdd task if process failed
@@ -147,6 +244,18 @@ public class NacosDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<
                 retryFailedTask(taskKey, task);
             }
         }
+        final long dispatchEnd = System.nanoTime();
+        recordProcessCost(dispatchStart - scanStart, dispatchEnd - dispatchStart, dispatchCount);
+    }
+    
+    /**
+     * Record the cost of one process round, sub class can override it to report metrics.
+     *
+     * @param scanCostNanos     cost of finding task keys to process, in nanoseconds
+     * @param dispatchCostNanos cost of processing tasks, in nanoseconds
+     * @param dispatchCount     count of tasks processed
+     */
+    protected void recordProcessCost(long scanCostNanos, long dispatchCostNanos, int dispatchCount) {
     }
     
     private void retryFailedTask(Object key, AbstractDelayTask task) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpscRingBufferTest {
+    
+    @Test
+    void testCapacity() {
+        assertEquals(1, new MpscRingBuffer<>(0).capacity());
+        assertEquals(8, new MpscRingBuffer<>(8).capacity());
+        assertEquals(16, new MpscRingBuffer<>(9).capacity());
+    }
+    
+    @Test
+    void testOfferAndPoll() {
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(4);
+        assertTrue(ringBuffer.isEmpty());
+        assertNull(ringBuffer.poll());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.offer(i));
+        }
+        assertFalse(ringBuffer.offer(4));
+        assertEquals(4, ringBuffer.size());
+        assertEquals(0, ringBuffer.poll());
+        assertTrue(ringBuffer.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, ringBuffer.poll());
+        }
+        assertNull(ringBuffer.poll());
+        assertTrue(ringBuffer.isEmpty());
+    }
+    
+    @Test
+    void testClear() {
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(4);
+        ringBuffer.offer(1);
+        ringBuffer.offer(2);
+        ringBuffer.clear();
+        assertTrue(ringBuffer.isEmpty());
+        assertTrue(ringBuffer.offer(3));
+        assertEquals(3, ringBuffer.poll());
+    }
+    
+    @Test
+    void testMultipleProducers() throws InterruptedException {
+        final int producerCount = 4;
+        final int countPerProducer = 10000;
+        MpscRingBuffer<long[]> ringBuffer = new MpscRingBuffer<>(128);
+        CountDownLatch latch = new CountDownLatch(producerCount);
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < producerCount; i++) {
+            final int producer = i;
+            producers.add(new Thread(() -> {
+                for (int j = 0; j < countPerProducer; j++) {
+                    while (!ringBuffer.offer(new long[] {producer, j})) {
+                        Thread.yield();
+                    }
+                }
+                latch.countDown();
+            }));
+        }
+        producers.forEach(Thread::start);
+        long[] lastSequences = new long[producerCount];
+        Arrays.fill(lastSequences, -1L);
+        int received = 0;
+        while (received < producerCount * countPerProducer) {
+            long[] element = ringBuffer.poll();
+            if (null == element) {
+                Thread.yield();
+                continue;
+            }
+            // elements of one producer are in order.
+            assertEquals(lastSequences[(int) element[0]] + 1, element[1]);
+            lastSequences[(int) element[0]] = element[1];
+            received++;
+        }
+        latch.await();
+        assertTrue(ringBuffer.isEmpty());
+    }
+}
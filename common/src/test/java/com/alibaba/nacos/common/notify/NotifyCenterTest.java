@@ -82,6 +82,11 @@ class NotifyCenterTest {
         NotifyCenter.deregisterPublisher(ExpireEvent.class);
     }
     
+    @Test
+    void testGetPublisherClass() {
+        assertEquals(DefaultPublisher.class, NotifyCenter.getPublisherClass());
+    }
+    
     @Test
     void testRegisterNullPublisher() {
         int originalSize = NotifyCenter.getPublisherMap().size();
@@ -0,0 +1,154 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardingEventPublisherTest {
+    
+    private static final int KEY_COUNT = 16;
+    
+    private static final int EVENT_COUNT_PER_KEY = 500;
+    
+    private ShardingEventPublisher publisher;
+    
+    @BeforeEach
+    void setUp() {
+        publisher = new ShardingEventPublisher(4);
+        publisher.init(KeyedEvent.class, 1024);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+    
+    @Test
+    void testCheckIsStart() {
+        assertThrows(IllegalStateException.class, () -> new ShardingEventPublisher(2).checkIsStart());
+    }
+    
+    @Test
+    void testPublishInOrderPerKey() throws InterruptedException {
+        // register subscriber before starting workers, and use small buffer to make publishing thread wait.
+        publisher.shutdown();
+        publisher = new ShardingEventPublisher(4);
+        Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(KEY_COUNT * EVENT_COUNT_PER_KEY);
+        publisher.addSubscriber(new Subscriber<KeyedEvent>() {
+            @Override
+            public void onEvent(KeyedEvent event) {
+                received.computeIfAbsent(event.key, key -> new CopyOnWriteArrayList<>()).add(event.index);
+                latch.countDown();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return KeyedEvent.class;
+            }
+        });
+        publisher.init(KeyedEvent.class, 64);
+        for (int i = 0; i < EVENT_COUNT_PER_KEY; i++) {
+            for (int key = 0; key < KEY_COUNT; key++) {
+                publisher.publish(new KeyedEvent(key, i));
+            }
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int key = 0; key < KEY_COUNT; key++) {
+            List<Integer> indexes = received.get(key);
+            assertEquals(EVENT_COUNT_PER_KEY, indexes.size());
+            for (int i = 0; i < EVENT_COUNT_PER_KEY; i++) {
+                assertEquals(i, indexes.get(i));
+            }
+        }
+        assertEquals(0, publisher.currentEventSize());
+        for (int i = 0; i < publisher.getShardCount(); i++) {
+            assertEquals(0, publisher.getOverflowCount(i));
+        }
+    }
+    
+    @Test
+    void testOverflowHandledByPublishingThread() {
+        ShardingEventPublisher smallPublisher = new ShardingEventPublisher(1);
+        smallPublisher.init(KeyedEvent.class, 2);
+        try {
+            // no subscriber, worker is waiting for subscriber and doesn't consume events.
+            for (int i = 0; i < 5; i++) {
+                smallPublisher.publish(new KeyedEvent(0, i));
+            }
+            assertEquals(2, smallPublisher.getQueueDepth(0));
+            assertEquals(3, smallPublisher.getOverflowCount(0));
+            assertTrue(smallPublisher.getStatus().contains("overflow=3"));
+        } finally {
+            smallPublisher.shutdown();
+        }
+    }
+    
+    @Test
+    void testRemoveSubscriber() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Subscriber<KeyedEvent> subscriber = new Subscriber<KeyedEvent>() {
+            @Override
+            public void onEvent(KeyedEvent event) {
+                latch.countDown();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return KeyedEvent.class;
+            }
+        };
+        publisher.addSubscriber(subscriber);
+        publisher.removeSubscriber(subscriber);
+        publisher.publish(new KeyedEvent(1, 1));
+        assertFalse(latch.await(200, TimeUnit.MILLISECONDS));
+    }
+    
+    private static class KeyedEvent extends Event {
+        
+        private static final long serialVersionUID = 5996264475062318489L;
+        
+        private final int key;
+        
+        private final int index;
+        
+        private KeyedEvent(int key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+        
+        @Override
+        public Object shardKey() {
+            return key;
+        }
+    }
+}
@@ -60,6 +60,8 @@ class DefaultGrpcClientConfigTest {
         assertEquals(3, config.healthCheckRetryTimes());
         assertEquals(3000L, config.healthCheckTimeOut());
         assertEquals(5000L, config.capabilityNegotiationTimeout());
+        assertEquals("json", config.payloadCodec());
+        assertEquals(-1, config.compressionThreshold());
         assertEquals(1, config.labels().size());
         assertNotNull(config.tlsConfig());
     }
@@ -82,6 +84,8 @@ class DefaultGrpcClientConfigTest {
         properties.setProperty(GrpcConstants.GRPC_HEALTHCHECK_RETRY_TIMES, "3");
         properties.setProperty(GrpcConstants.GRPC_HEALTHCHECK_TIMEOUT, "3000");
         properties.setProperty(GrpcConstants.GRPC_CHANNEL_CAPABILITY_NEGOTIATION_TIMEOUT, "5000");
+        properties.setProperty(GrpcConstants.GRPC_PAYLOAD_CODEC, "compact");
+        properties.setProperty(GrpcConstants.GRPC_COMPRESSION_THRESHOLD, "4096");
         
         DefaultGrpcClientConfig config = (DefaultGrpcClientConfig) DefaultGrpcClientConfig.newBuilder()
                 .fromProperties(properties, null).build();
@@ -101,6 +105,8 @@ class DefaultGrpcClientConfigTest {
         assertEquals(3, config.healthCheckRetryTimes());
         assertEquals(3000, config.healthCheckTimeOut());
         assertEquals(5000, config.capabilityNegotiationTimeout());
+        assertEquals("compact", config.payloadCodec());
+        assertEquals(4096, config.compressionThreshold());
         assertEquals(1, config.labels().size());
         assertNotNull(config.tlsConfig());
     }
@@ -222,6 +228,22 @@ class DefaultGrpcClientConfigTest {
         assertEquals(capabilityNegotiationTimeout, config.capabilityNegotiationTimeout());
     }
     
+    @Test
+    void testSetPayloadCodec() {
+        DefaultGrpcClientConfig.Builder builder = DefaultGrpcClientConfig.newBuilder();
+        builder.setPayloadCodec("compact");
+        DefaultGrpcClientConfig config = (DefaultGrpcClientConfig) builder.build();
+        assertEquals("compact", config.payloadCodec());
+    }
+    
+    @Test
+    void testSetCompressionThreshold() {
+        DefaultGrpcClientConfig.Builder builder = DefaultGrpcClientConfig.newBuilder();
+        builder.setCompressionThreshold(1024);
+        DefaultGrpcClientConfig config = (DefaultGrpcClientConfig) builder.build();
+        assertEquals(1024, config.compressionThreshold());
+    }
+    
     @Test
     void testSetHealthCheckRetryTimes() {
         int healthCheckRetryTimes = 3;
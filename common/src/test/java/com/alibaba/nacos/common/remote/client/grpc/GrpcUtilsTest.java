@@ -23,15 +23,23 @@ import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.request.ServerCheckRequest;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.impl.CompactPayloadCodec;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import org.junit.jupiter.api.BeforeEach;
+import com.google.protobuf.Any;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -114,6 +122,49 @@ class GrpcUtilsTest {
         
     }
     
+    @Test
+    void testParseWithCompactCodec() {
+        PayloadCodec codec = PayloadCodecManager.getInstance().getCodec(CompactPayloadCodec.NAME);
+        request.setRequestId("1");
+        Payload requestPayload = GrpcUtils.convert(request, codec);
+        assertEquals(CompactPayloadCodec.NAME, requestPayload.getBody().getTypeUrl());
+        assertEquals("v1", requestPayload.getMetadata().getHeadersMap().get("h1"));
+        ServiceQueryRequest request = (ServiceQueryRequest) GrpcUtils.parse(requestPayload);
+        assertEquals(this.request.getHeaders(), request.getHeaders());
+        assertEquals(this.request.getCluster(), request.getCluster());
+        assertEquals(this.request.isHealthyOnly(), request.isHealthyOnly());
+        assertEquals(this.request.getNamespace(), request.getNamespace());
+        assertEquals("1", request.getRequestId());
+    }
+    
+    @Test
+    void testConvertUnsupportedRequestWithCompactCodec() {
+        PayloadCodec codec = PayloadCodecManager.getInstance().getCodec(CompactPayloadCodec.NAME);
+        Payload requestPayload = GrpcUtils.convert(new ServerCheckRequest(), codec);
+        assertTrue(requestPayload.getBody().getTypeUrl().isEmpty());
+        assertTrue(GrpcUtils.parse(requestPayload) instanceof ServerCheckRequest);
+    }
+    
+    @Test
+    void testParseCompressedPayload() {
+        request.setRequestId("1");
+        request.setCluster(String.join(",", Collections.nCopies(100, "cluster")));
+        Payload requestPayload = PayloadCompressor.compress(GrpcUtils.convert(request), 0);
+        assertEquals("+" + PayloadCompressor.GZIP, requestPayload.getBody().getTypeUrl());
+        ServiceQueryRequest request = (ServiceQueryRequest) GrpcUtils.parse(requestPayload);
+        assertEquals(this.request.getCluster(), request.getCluster());
+        assertEquals(this.request.getNamespace(), request.getNamespace());
+        assertEquals("1", request.getRequestId());
+    }
+    
+    @Test
+    void testParseUnknownCodec() {
+        Payload requestPayload = GrpcUtils.convert(request);
+        Payload unknownCodecPayload = requestPayload.toBuilder()
+                .setBody(Any.newBuilder(requestPayload.getBody()).setTypeUrl("unknown")).build();
+        assertThrows(RemoteException.class, () -> GrpcUtils.parse(unknownCodecPayload));
+    }
+    
     @Test
     void testParseNullType() {
         assertThrows(RemoteException.class, () -> {
@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.common.remote.codec.impl.CompactPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.impl.JsonPayloadCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PayloadCodecManagerTest {
+    
+    private final PayloadCodecManager manager = PayloadCodecManager.getInstance();
+    
+    @Test
+    void testGetCodec() {
+        assertEquals(JsonPayloadCodec.NAME, manager.getDefaultCodec().getName());
+        assertSame(manager.getDefaultCodec(), manager.getCodec(""));
+        assertSame(manager.getDefaultCodec(), manager.getCodec(JsonPayloadCodec.NAME));
+        assertEquals(CompactPayloadCodec.NAME, manager.getCodec(CompactPayloadCodec.NAME).getName());
+        assertNull(manager.getCodec("unknown"));
+    }
+    
+    @Test
+    void testNegotiate() {
+        Map<String, Boolean> supported = Collections.singletonMap(
+                AbilityKey.SDK_CLIENT_SUPPORT_COMPACT_PAYLOAD_CODEC.getName(), true);
+        Map<String, Boolean> unsupported = Collections.singletonMap(
+                AbilityKey.SDK_CLIENT_SUPPORT_COMPACT_PAYLOAD_CODEC.getName(), false);
+        assertEquals(CompactPayloadCodec.NAME, manager.negotiate(CompactPayloadCodec.NAME, supported).getName());
+        assertSame(manager.getDefaultCodec(), manager.negotiate(CompactPayloadCodec.NAME, unsupported));
+        assertSame(manager.getDefaultCodec(), manager.negotiate(CompactPayloadCodec.NAME, null));
+        assertSame(manager.getDefaultCodec(), manager.negotiate(JsonPayloadCodec.NAME, supported));
+        assertSame(manager.getDefaultCodec(), manager.negotiate("unknown", supported));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.grpc.auto.Metadata;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayloadCompressorTest {
+    
+    private static final String CONTENT = String.join("", Collections.nCopies(200, "nacos.config.content="));
+    
+    private Payload buildPayload(String typeUrl, String content) {
+        Any body = Any.newBuilder().setTypeUrl(typeUrl).setValue(ByteString.copyFromUtf8(content)).build();
+        return Payload.newBuilder().setMetadata(Metadata.newBuilder().setType("ConfigQueryResponse")).setBody(body)
+                .build();
+    }
+    
+    @Test
+    void testNegotiate() {
+        Map<String, Boolean> supported = Collections.singletonMap(
+                AbilityKey.SDK_CLIENT_SUPPORT_PAYLOAD_COMPRESSION.getName(), true);
+        assertEquals(1024, PayloadCompressor.negotiate(1024, supported));
+        assertEquals(PayloadCompressor.DISABLED, PayloadCompressor.negotiate(PayloadCompressor.DISABLED, supported));
+        assertEquals(PayloadCompressor.DISABLED, PayloadCompressor.negotiate(1024, Collections.emptyMap()));
+        assertEquals(PayloadCompressor.DISABLED, PayloadCompressor.negotiate(1024, null));
+    }
+    
+    @Test
+    void testCompressAndDecompress() {
+        final long uncompressedBefore = PayloadCompressor.getOutboundStats().getUncompressedBytes().sum();
+        final long inboundBefore = PayloadCompressor.getInboundStats().getUncompressedBytes().sum();
+        Payload payload = buildPayload("", CONTENT);
+        Payload compressed = PayloadCompressor.compress(payload, 1024);
+        assertEquals("+" + PayloadCompressor.GZIP, compressed.getBody().getTypeUrl());
+        assertTrue(compressed.getBody().getValue().size() < CONTENT.length());
+        assertEquals(payload.getMetadata(), compressed.getMetadata());
+        assertEquals(CONTENT.length(),
+                PayloadCompressor.getOutboundStats().getUncompressedBytes().sum() - uncompressedBefore);
+        
+        assertEquals("", PayloadCompressor.getCodecName(compressed.getBody().getTypeUrl()));
+        ByteBuffer decompressed = PayloadCompressor.decompress(compressed.getBody());
+        assertEquals(CONTENT, StandardCharsets.UTF_8.decode(decompressed).toString());
+        assertEquals(CONTENT.length(),
+                PayloadCompressor.getInboundStats().getUncompressedBytes().sum() - inboundBefore);
+    }
+    
+    @Test
+    void testCompressBelowThreshold() {
+        Payload payload = buildPayload("compact", CONTENT);
+        assertSame(payload, PayloadCompressor.compress(payload, CONTENT.length()));
+        assertSame(payload, PayloadCompressor.compress(payload, PayloadCompressor.DISABLED));
+        assertEquals("compact", PayloadCompressor.getCodecName(payload.getBody().getTypeUrl()));
+        assertEquals(CONTENT, StandardCharsets.UTF_8.decode(PayloadCompressor.decompress(payload.getBody())).toString());
+    }
+    
+    @Test
+    void testCompressIncompressible() {
+        Payload payload = buildPayload("", "a");
+        assertSame(payload, PayloadCompressor.compress(payload, 0));
+    }
+    
+    @Test
+    void testDecompressUnknownCompression() {
+        Payload payload = buildPayload("compact+zstd", CONTENT);
+        assertThrows(RemoteException.class, () -> PayloadCompressor.decompress(payload.getBody()));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec.impl;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.api.remote.request.ServerCheckRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactPayloadCodecTest {
+    
+    private final CompactPayloadCodec codec = new CompactPayloadCodec();
+    
+    @Test
+    void testIsSupport() {
+        assertTrue(codec.isSupport(ConfigQueryRequest.class));
+        assertTrue(codec.isSupport(ConfigBatchListenRequest.class));
+        assertTrue(codec.isSupport(NotifySubscriberRequest.class));
+        assertTrue(codec.isSupport(InstanceRequest.class));
+        assertTrue(codec.isSupport(ServiceQueryRequest.class));
+        assertFalse(codec.isSupport(ServerCheckRequest.class));
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(new ServerCheckRequest(),
+                ServerCheckRequest.class));
+    }
+    
+    @Test
+    void testEncodeString() {
+        ConfigQueryRequest request = ConfigQueryRequest.build("dataId", "group", null);
+        request.setRequestId("12345");
+        byte[] body = codec.encode(request, ConfigQueryRequest.class);
+        byte[] requestId = codec.encodeString("12345");
+        assertArrayEquals(requestId, Arrays.copyOfRange(body, body.length - requestId.length, body.length));
+        assertArrayEquals(new byte[] {0}, codec.encodeString(null));
+    }
+    
+    @Test
+    void testConfigQueryRequest() {
+        ConfigQueryRequest request = ConfigQueryRequest.build("dataId", "group", null);
+        request.setTag("tag");
+        request.setRequestId("1");
+        ConfigQueryRequest actual = roundTrip(request, ConfigQueryRequest.class);
+        assertEquals("dataId", actual.getDataId());
+        assertEquals("group", actual.getGroup());
+        assertNull(actual.getTenant());
+        assertEquals("tag", actual.getTag());
+        assertEquals("1", actual.getRequestId());
+    }
+    
+    @Test
+    void testConfigBatchListenRequest() {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setListen(false);
+        request.addConfigListenContext("group", "dataId", "", "md5");
+        request.addConfigListenContext("group", "数据", "tenant", "md5");
+        ConfigBatchListenRequest actual = roundTrip(request, ConfigBatchListenRequest.class);
+        assertFalse(actual.isListen());
+        assertEquals(JacksonUtils.toJson(request.getConfigListenContexts()),
+                JacksonUtils.toJson(actual.getConfigListenContexts()));
+    }
+    
+    @Test
+    void testNotifySubscriberRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S@@C");
+        serviceInfo.setCacheMillis(10000L);
+        serviceInfo.setLastRefTime(System.currentTimeMillis());
+        serviceInfo.setReachProtectionThreshold(true);
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(buildInstance("1.1.1.1"));
+        hosts.add(buildInstance("1.1.1.2"));
+        serviceInfo.setHosts(hosts);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRevision(-2L);
+        request.setRequestId("100");
+        NotifySubscriberRequest actual = roundTrip(request, NotifySubscriberRequest.class);
+        assertEquals(-2L, actual.getRevision());
+        assertEquals("100", actual.getRequestId());
+        assertEquals(JacksonUtils.toJson(serviceInfo), JacksonUtils.toJson(actual.getServiceInfo()));
+    }
+    
+    @Test
+    void testInstanceRequest() {
+        InstanceRequest request = new InstanceRequest("ns", "S", "G", "registerInstance", buildInstance("1.1.1.1"));
+        InstanceRequest actual = roundTrip(request, InstanceRequest.class);
+        assertEquals("ns", actual.getNamespace());
+        assertEquals("S", actual.getServiceName());
+        assertEquals("G", actual.getGroupName());
+        assertEquals("registerInstance", actual.getType());
+        assertEquals(JacksonUtils.toJson(request.getInstance()), JacksonUtils.toJson(actual.getInstance()));
+        request.setInstance(null);
+        assertNull(roundTrip(request, InstanceRequest.class).getInstance());
+    }
+    
+    @Test
+    void testServiceQueryRequest() {
+        ServiceQueryRequest request = new ServiceQueryRequest("ns", "S", "G");
+        request.setCluster("C");
+        request.setHealthyOnly(true);
+        request.setUdpPort(-1);
+        ServiceQueryRequest actual = roundTrip(request, ServiceQueryRequest.class);
+        assertEquals(JacksonUtils.toJson(request), JacksonUtils.toJson(actual));
+    }
+    
+    @Test
+    void testDecodeIllegalPayload() {
+        byte[] bytes = codec.encode(new ServiceQueryRequest("ns", "S", "G"), ServiceQueryRequest.class);
+        bytes[0] = 2;
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(ByteBuffer.wrap(bytes), ServiceQueryRequest.class));
+        // string length exceeds body
+        byte[] truncated = {1, 100};
+        assertThrows(IllegalArgumentException.class,
+                () -> codec.decode(ByteBuffer.wrap(truncated), ServiceQueryRequest.class));
+    }
+    
+    private <T> T roundTrip(Object payload, Class<T> payloadClass) {
+        byte[] bytes = codec.encode(payload, payloadClass);
+        return codec.decode(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), payloadClass);
+    }
+    
+    private Instance buildInstance(String ip) {
+        Instance result = new Instance();
+        result.setInstanceId(ip + "#8848#C#G@@S");
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setWeight(0.5D);
+        result.setHealthy(false);
+        result.setClusterName("C");
+        result.setServiceName("G@@S");
+        result.getMetadata().put("key", "值");
+        return result;
+    }
+}
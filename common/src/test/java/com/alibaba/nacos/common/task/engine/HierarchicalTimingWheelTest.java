@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+    
+    @Test
+    void testExpireAfterDeadline() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10L, 8, 1000L);
+        wheel.add("a", 1035L);
+        assertEquals(1, wheel.size());
+        assertTrue(wheel.advance(1035L).isEmpty());
+        List<HierarchicalTimingWheel.TimerEntry> expired = wheel.advance(1040L);
+        assertEquals(1, expired.size());
+        assertEquals("a", expired.get(0).key);
+        assertEquals(1035L, expired.get(0).deadline);
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void testPassedDeadlineExpireAtNextTick() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10L, 8, 1000L);
+        wheel.advance(1100L);
+        wheel.add("a", 900L);
+        assertTrue(wheel.advance(1105L).isEmpty());
+        assertEquals(1, wheel.advance(1110L).size());
+    }
+    
+    @Test
+    void testCascadeFromOverflowWheel() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10L, 8, 1000L);
+        // level 0 covers 80ms, level 1 covers 640ms and level 2 covers 5120ms.
+        wheel.add("a", 1200L);
+        wheel.add("b", 3005L);
+        wheel.add("c", 1050L);
+        assertEquals(3, wheel.size());
+        assertEquals("c", wheel.advance(1060L).get(0).key);
+        assertTrue(wheel.advance(1200L).isEmpty());
+        assertEquals("a", wheel.advance(1210L).get(0).key);
+        assertTrue(wheel.advance(3000L).isEmpty());
+        assertEquals(1, wheel.size());
+        List<HierarchicalTimingWheel.TimerEntry> expired = wheel.advance(3010L);
+        assertEquals(1, expired.size());
+        assertEquals("b", expired.get(0).key);
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void testAdvanceLongTimeOnce() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10L, 8, 1000L);
+        wheel.add("a", 1030L);
+        wheel.add("b", 2000L);
+        wheel.add("c", 100000L);
+        assertEquals(2, wheel.advance(50000L).size());
+        assertEquals(1, wheel.size());
+        assertEquals(1, wheel.advance(100010L).size());
+    }
+    
+    @Test
+    void testAdvanceIdleWheel() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10L, 8, 1000L);
+        assertTrue(wheel.advance(Long.MAX_VALUE / 2).isEmpty());
+        wheel.add("a", Long.MAX_VALUE / 2 + 100L);
+        assertTrue(wheel.advance(Long.MAX_VALUE / 2 + 100L).isEmpty());
+        assertEquals(1, wheel.advance(Long.MAX_VALUE / 2 + 110L).size());
+    }
+    
+    @Test
+    void testClear() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10L, 8, 1000L);
+        wheel.add("a", 1030L);
+        wheel.add("b", 5000L);
+        wheel.clear();
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.advance(6000L).isEmpty());
+    }
+}
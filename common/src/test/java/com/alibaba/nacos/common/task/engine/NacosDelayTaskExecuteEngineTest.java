@@ -146,4 +146,81 @@ class NacosDelayTaskExecuteEngineTest {
         });
         assertEquals(1, nacosDelayTaskExecuteEngine.size());
     }
+    
+    @Test
+    void testProcessWithTimingWheel() throws Exception {
+        NacosDelayTaskExecuteEngine engine = new NacosDelayTaskExecuteEngine("test", 32, null, 20L, true);
+        try {
+            engine.setDefaultTaskProcessor(taskProcessor);
+            when(taskProcessor.process(abstractTask)).thenReturn(true);
+            abstractTask.setTaskInterval(100L);
+            abstractTask.setLastProcessTime(System.currentTimeMillis());
+            engine.addTask("test", abstractTask);
+            TimeUnit.MILLISECONDS.sleep(50);
+            verify(taskProcessor, never()).process(abstractTask);
+            TimeUnit.MILLISECONDS.sleep(200);
+            verify(taskProcessor).process(abstractTask);
+            assertTrue(engine.isEmpty());
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    @Test
+    void testRetryTaskAfterFailWithTimingWheel() throws Exception {
+        NacosDelayTaskExecuteEngine engine = new NacosDelayTaskExecuteEngine("test", 32, null, 20L, true);
+        try {
+            engine.setDefaultTaskProcessor(taskProcessor);
+            when(taskProcessor.process(abstractTask)).thenReturn(false, true);
+            abstractTask.setTaskInterval(50L);
+            engine.addTask("test", abstractTask);
+            TimeUnit.MILLISECONDS.sleep(300);
+            verify(taskProcessor, new Times(2)).process(abstractTask);
+            assertTrue(engine.isEmpty());
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    @Test
+    void testTaskIntervalEnlargedWithTimingWheel() throws Exception {
+        NacosDelayTaskExecuteEngine engine = new NacosDelayTaskExecuteEngine("test", 32, null, 20L, true);
+        try {
+            engine.setDefaultTaskProcessor(taskProcessor);
+            abstractTask.setTaskInterval(0L);
+            engine.addTask("test", abstractTask);
+            abstractTask.setTaskInterval(10000L);
+            abstractTask.setLastProcessTime(System.currentTimeMillis());
+            TimeUnit.MILLISECONDS.sleep(200);
+            verify(taskProcessor, never()).process(abstractTask);
+            assertEquals(1, engine.size());
+        } finally {
+            engine.shutdown();
+        }
+    }
+    
+    @Test
+    void testTaskMergeWithTimingWheel() throws Exception {
+        NacosDelayTaskExecuteEngine engine = new NacosDelayTaskExecuteEngine("test", 32, null, 20L, true);
+        try {
+            engine.setDefaultTaskProcessor(taskProcessor);
+            abstractTask.setTaskInterval(10000L);
+            abstractTask.setLastProcessTime(System.currentTimeMillis());
+            engine.addTask("test", abstractTask);
+            AbstractDelayTask mergedTask = new AbstractDelayTask() {
+                @Override
+                public void merge(AbstractDelayTask task) {
+                }
+            };
+            mergedTask.setTaskInterval(50L);
+            when(taskProcessor.process(mergedTask)).thenReturn(true);
+            engine.addTask("test", mergedTask);
+            assertEquals(1, engine.size());
+            TimeUnit.MILLISECONDS.sleep(300);
+            verify(taskProcessor).process(mergedTask);
+            assertTrue(engine.isEmpty());
+        } finally {
+            engine.shutdown();
+        }
+    }
 }
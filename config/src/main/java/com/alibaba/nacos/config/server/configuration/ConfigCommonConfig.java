@@ -35,6 +35,12 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     
     private boolean derbyOpsEnabled = false;
     
+    private long pushBatchWindowMs = 0L;
+    
+    private int pushBatchMaxSize = 1000;
+    
+    private int batchQueryMaxSize = 50;
+    
     private ConfigCommonConfig() {
         super(CONFIG_COMMON);
         resetConfig();
@@ -60,10 +66,37 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         this.derbyOpsEnabled = derbyOpsEnabled;
     }
     
+    public long getPushBatchWindowMs() {
+        return pushBatchWindowMs;
+    }
+    
+    public void setPushBatchWindowMs(long pushBatchWindowMs) {
+        this.pushBatchWindowMs = pushBatchWindowMs;
+    }
+    
+    public int getPushBatchMaxSize() {
+        return pushBatchMaxSize;
+    }
+    
+    public void setPushBatchMaxSize(int pushBatchMaxSize) {
+        this.pushBatchMaxSize = pushBatchMaxSize;
+    }
+    
+    public int getBatchQueryMaxSize() {
+        return batchQueryMaxSize;
+    }
+    
+    public void setBatchQueryMaxSize(int batchQueryMaxSize) {
+        this.batchQueryMaxSize = batchQueryMaxSize;
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         maxPushRetryTimes = EnvUtil.getProperty("nacos.config.push.maxRetryTime", Integer.class, 50);
         derbyOpsEnabled = EnvUtil.getProperty("nacos.config.derby.ops.enabled", Boolean.class, false);
+        pushBatchWindowMs = EnvUtil.getProperty("nacos.config.push.batch.windowMs", Long.class, 0L);
+        pushBatchMaxSize = EnvUtil.getProperty("nacos.config.push.batch.maxSize", Integer.class, 1000);
+        batchQueryMaxSize = EnvUtil.getProperty("nacos.config.batch.query.maxSize", Integer.class, 50);
     }
     
     @Override
@@ -74,6 +107,7 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     @Override
     public String toString() {
         return "ConfigCommonConfig{" + "maxPushRetryTimes=" + maxPushRetryTimes + ", derbyOpsEnabled=" + derbyOpsEnabled
-                + '}';
+                + ", pushBatchWindowMs=" + pushBatchWindowMs + ", pushBatchMaxSize=" + pushBatchMaxSize
+                + ", batchQueryMaxSize=" + batchQueryMaxSize + '}';
     }
 }
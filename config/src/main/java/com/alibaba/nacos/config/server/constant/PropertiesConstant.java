@@ -67,4 +67,30 @@ public class PropertiesConstant {
     
     public static final String GRAY_CAPATIBEL_MODEL = "nacos.config.gray.compatible.model";
     
+    public static final String CONTENT_CACHE_ENABLED = "nacos.config.cache.content.enabled";
+    
+    public static final String CONTENT_CACHE_MAX_BYTES = "nacos.config.cache.content.maxBytes";
+    
+    public static final String CLUSTER_SYNC_BATCH_WINDOW = "nacos.config.cluster.sync.batch.window";
+    
+    public static final String CLUSTER_SYNC_BATCH_MAX_SIZE = "nacos.config.cluster.sync.batch.maxSize";
+    
+    public static final String CLUSTER_SYNC_CONTENT_MAX_SIZE = "nacos.config.cluster.sync.content.maxSize";
+    
+    public static final String ALL_DUMP_FETCH_PARALLELISM = "nacos.config.dump.all.fetchParallelism";
+    
+    public static final String ALL_DUMP_DISK_BATCH_SIZE = "nacos.config.dump.all.diskBatchSize";
+    
+    public static final String ROCKSDB_WRITE_BUFFER_MB = "nacos.config.rocksdb.writeBufferMB";
+    
+    public static final String ROCKSDB_GRAY_WRITE_BUFFER_MB = "nacos.config.rocksdb.grayWriteBufferMB";
+    
+    public static final String ROCKSDB_BLOCK_CACHE_MB = "nacos.config.rocksdb.blockCacheMB";
+    
+    public static final String ROCKSDB_BLOOM_BITS_PER_KEY = "nacos.config.rocksdb.bloomBitsPerKey";
+    
+    public static final String ROCKSDB_STATISTICS_ENABLED = "nacos.config.rocksdb.statistics.enabled";
+    
+    public static final String MMAP_SEGMENT_SIZE_MB = "nacos.config.mmap.segmentSizeMB";
+    
 }
@@ -30,8 +30,8 @@ import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.LongPollingService;
-import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
@@ -190,8 +190,7 @@ public class ConfigServletInner {
                     md5 = matchedGray.getMd5(acceptCharset);
                     lastModified = matchedGray.getLastModifiedTs();
                     encryptedDataKey = matchedGray.getEncryptedDataKey();
-                    content = ConfigDiskServiceFactory.getInstance()
-                            .getGrayContent(dataId, group, tenant, matchedGray.getGrayName());
+                    content = ConfigContentCache.getGrayContent(dataId, group, tenant, matchedGray);
                     pullEvent = ConfigTraceService.PULL_EVENT + "-" + matchedGray.getGrayName();
                     if (BetaGrayRule.TYPE_BETA.equals(matchedGray.getGrayName())) {
                         response.setHeader("isBeta", "true");
@@ -214,7 +213,7 @@ public class ConfigServletInner {
                     md5 = cacheItem.getConfigCache().getMd5(acceptCharset);
                     lastModified = cacheItem.getConfigCache().getLastModifiedTs();
                     encryptedDataKey = cacheItem.getConfigCache().getEncryptedDataKey();
-                    content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+                    content = ConfigContentCache.getContent(dataId, group, tenant, cacheItem.getConfigCache());
                     pullEvent = ConfigTraceService.PULL_EVENT;
                 }
                 
@@ -123,6 +123,12 @@ public final class TaskManager extends NacosDelayTaskExecuteEngine implements Ta
         }
     }
     
+    @Override
+    protected void recordProcessCost(long scanCostNanos, long dispatchCostNanos, int dispatchCount) {
+        com.alibaba.nacos.core.monitor.MetricsMonitor
+                .recordDelayTaskEngineCost(name, scanCostNanos, dispatchCostNanos, dispatchCount);
+    }
+    
     @Override
     public String getTaskInfos() {
         StringBuilder sb = new StringBuilder();
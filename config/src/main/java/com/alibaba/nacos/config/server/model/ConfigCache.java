@@ -38,6 +38,21 @@ public class ConfigCache implements Serializable {
     
     volatile long lastModifiedTs;
     
+    /**
+     * Content held in heap by {@link com.alibaba.nacos.config.server.service.ConfigContentCache}, null if not cached.
+     */
+    transient volatile String cachedContent;
+    
+    /**
+     * Reference bit for clock eviction, set on every cache hit.
+     */
+    transient volatile boolean contentReferenced;
+    
+    /**
+     * Whether this cache is present in the eviction queue of content cache.
+     */
+    transient boolean contentQueued;
+    
     /**
      * clear cache.
      */
@@ -96,4 +111,28 @@ public class ConfigCache implements Serializable {
     public void setLastModifiedTs(long lastModifiedTs) {
         this.lastModifiedTs = lastModifiedTs;
     }
+    
+    public String getCachedContent() {
+        return cachedContent;
+    }
+    
+    public void setCachedContent(String cachedContent) {
+        this.cachedContent = cachedContent;
+    }
+    
+    public boolean isContentReferenced() {
+        return contentReferenced;
+    }
+    
+    public void setContentReferenced(boolean contentReferenced) {
+        this.contentReferenced = contentReferenced;
+    }
+    
+    public boolean isContentQueued() {
+        return contentQueued;
+    }
+    
+    public void setContentQueued(boolean contentQueued) {
+        this.contentQueued = contentQueued;
+    }
 }
\ No newline at end of file
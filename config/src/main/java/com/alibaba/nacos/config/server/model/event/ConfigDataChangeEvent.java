@@ -35,6 +35,16 @@ public class ConfigDataChangeEvent extends Event {
     
     public final long lastModifiedTs;
     
+    /**
+     * content of the changed config, only set when the content is exactly what persisted, so that it can be synced
+     * to other nodes without reading db again.
+     */
+    public String content;
+    
+    public String type;
+    
+    public String encryptedDataKey;
+    
     public ConfigDataChangeEvent(String dataId, String group, String tenant, long gmtModified) {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException("dataId is null or group is null");
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.monitor;
 import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
 import com.alibaba.nacos.core.monitor.topn.StringTopNCounter;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
@@ -27,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics Monitor.
@@ -65,6 +67,16 @@ public class MetricsMonitor {
      */
     private static AtomicInteger fuzzySearch = new AtomicInteger();
     
+    /**
+     * bytes of config content held by content cache.
+     */
+    private static AtomicLong contentCacheBytes = new AtomicLong();
+    
+    /**
+     * rocksdb statistics name -> value, refreshed by rocksdb disk service.
+     */
+    private static ConcurrentHashMap<String, AtomicLong> rocksDbStatistics = new ConcurrentHashMap<>();
+    
     /**
      * version -> client config subscriber count.
      */
@@ -118,6 +130,11 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "fuzzySearch"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, fuzzySearch);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheBytes"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheBytes);
+        
         configSubscriber.put("v1", new AtomicInteger(0));
         configSubscriber.put("v2", new AtomicInteger(0));
         
@@ -162,6 +179,27 @@ public class MetricsMonitor {
         return fuzzySearch;
     }
     
+    public static AtomicLong getContentCacheBytesMonitor() {
+        return contentCacheBytes;
+    }
+    
+    /**
+     * Get gauge of rocksdb statistics, register it if absent.
+     *
+     * @param name statistics name, such as ticker type or property name.
+     * @return gauge value
+     */
+    public static AtomicLong getRocksDbStatisticsMonitor(String name) {
+        return rocksDbStatistics.computeIfAbsent(name, key -> {
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new ImmutableTag("module", "config"));
+            tags.add(new ImmutableTag("name", key));
+            AtomicLong value = new AtomicLong();
+            NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_config_rocksdb", tags, value);
+            return value;
+        });
+    }
+    
     public static AtomicInteger getConfigSubscriberMonitor(String version) {
         return configSubscriber.get(version);
     }
@@ -194,6 +232,16 @@ public class MetricsMonitor {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "notifyRt");
     }
     
+    public static Timer getClusterSyncRtTimer() {
+        return NacosMeterRegistryCenter
+                .timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "clusterSyncRt");
+    }
+    
+    public static DistributionSummary getClusterSyncBatchSize() {
+        return NacosMeterRegistryCenter
+                .summary(METER_REGISTRY, "nacos_monitor", "module", "config", "name", "clusterSyncBatchSize");
+    }
+    
     public static Timer getDumpRtTimer() {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "dumpRt");
     }
@@ -217,6 +265,31 @@ public class MetricsMonitor {
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "unhealth");
     }
     
+    public static Counter getContentCacheHitCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "hit");
+    }
+    
+    public static Counter getContentCacheMissCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "miss");
+    }
+    
+    public static Counter getContentCacheEvictionCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "eviction");
+    }
+    
+    public static Counter getClusterSyncContentHitCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_cluster_sync_content", "module", "config", "name", "hit");
+    }
+    
+    public static Counter getClusterSyncContentMissCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_cluster_sync_content", "module", "config", "name", "miss");
+    }
+    
     public static void incrementConfigChangeCount(String tenant, String group, String dataId) {
         configChangeCount.increment(tenant + "@" + group + "@" + dataId);
     }
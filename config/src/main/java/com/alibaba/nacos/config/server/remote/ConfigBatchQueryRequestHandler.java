@@ -0,0 +1,200 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.auth.GrpcProtocolAuthService;
+import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.auth.config.AuthConfigs;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.core.context.RequestContextHolder;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.ConfigBatchQueryRequestParamExtractor;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.plugin.auth.api.IdentityContext;
+import com.alibaba.nacos.plugin.auth.api.Permission;
+import com.alibaba.nacos.plugin.auth.api.Resource;
+import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
+import com.alibaba.nacos.plugin.auth.constant.SignType;
+import com.alibaba.nacos.plugin.auth.exception.AccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Config batch query request handler, queries every config of the batch the same way as
+ * {@link ConfigQueryRequestHandler} so that gray matching and encrypted data key are handled per config.
+ *
+ * <p>Read locks of the whole batch are taken once before querying and released after, formal contents missed by the
+ * content cache are loaded from local disk cache by one {@link ConfigDiskService#batchGetContent(List)}.
+ *
+ * <p>The auth filter only validates the namespace of the first config, so the read permission of every config is
+ * validated again here and configs without permission are returned with {@link ConfigQueryResponse#NO_RIGHT}.
+ *
+ * @author Nacos
+ */
+@Component
+public class ConfigBatchQueryRequestHandler extends RequestHandler<ConfigBatchQueryRequest, ConfigBatchQueryResponse> {
+    
+    private final ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    private final AuthConfigs authConfigs;
+    
+    private final GrpcProtocolAuthService protocolAuthService;
+    
+    private final Secured secured;
+    
+    public ConfigBatchQueryRequestHandler(ConfigQueryRequestHandler configQueryRequestHandler,
+            AuthConfigs authConfigs) throws NoSuchMethodException {
+        this.configQueryRequestHandler = configQueryRequestHandler;
+        this.authConfigs = authConfigs;
+        this.protocolAuthService = new GrpcProtocolAuthService(authConfigs);
+        this.protocolAuthService.initialize();
+        this.secured = ConfigBatchQueryRequestHandler.class
+                .getMethod("handle", ConfigBatchQueryRequest.class, RequestMeta.class).getAnnotation(Secured.class);
+    }
+    
+    @Override
+    @TpsControl(pointName = "ConfigBatchQuery")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    @ExtractorManager.Extractor(rpcExtractor = ConfigBatchQueryRequestParamExtractor.class)
+    public ConfigBatchQueryResponse handle(ConfigBatchQueryRequest request, RequestMeta meta) throws NacosException {
+        boolean checkPermission = authConfigs.isAuthEnabled() && protocolAuthService.enableAuth(secured);
+        IdentityContext identityContext = RequestContextHolder.getContext().getAuthContext().getIdentityContext();
+        List<ConfigBatchQueryRequest.ConfigQueryContext> contexts = request.getConfigQueryContexts();
+        int maxSize = ConfigCommonConfig.getInstance().getBatchQueryMaxSize();
+        if (contexts.size() > maxSize) {
+            throw new NacosException(NacosException.INVALID_PARAM,
+                    String.format("Too many configs in one batch query, %d exceeds max size %d", contexts.size(),
+                            maxSize));
+        }
+        List<ConfigQueryRequest> queryRequests = new ArrayList<>(contexts.size());
+        for (ConfigBatchQueryRequest.ConfigQueryContext each : contexts) {
+            ConfigQueryRequest queryRequest = ConfigQueryRequest.build(each.getDataId(), each.getGroup(),
+                    each.getTenant());
+            queryRequest.setTag(each.getTag());
+            // configs without permission are left null and never read.
+            queryRequests.add(checkPermission && !hasReadPermission(identityContext, queryRequest) ? null
+                    : queryRequest);
+        }
+        Map<String, Integer> lockResults = new HashMap<>(contexts.size());
+        try {
+            for (ConfigQueryRequest each : queryRequests) {
+                if (null != each) {
+                    lockResults.computeIfAbsent(groupKey(each), ConfigCacheService::tryConfigReadLock);
+                }
+            }
+            Map<String, String> contents = loadFormalContents(queryRequests, lockResults, meta);
+            ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+            for (int i = 0; i < contexts.size(); i++) {
+                ConfigBatchQueryRequest.ConfigQueryContext each = contexts.get(i);
+                ConfigQueryRequest queryRequest = queryRequests.get(i);
+                ConfigQueryResponse queryResponse = null == queryRequest ? ConfigQueryResponse.buildFailResponse(
+                        ConfigQueryResponse.NO_RIGHT, "Validate Authority failed.")
+                        : query(queryRequest, meta, lockResults.get(groupKey(queryRequest)), contents);
+                response.addConfigQueryResult(each.getDataId(), each.getGroup(), each.getTenant(), queryResponse);
+            }
+            return response;
+        } finally {
+            for (Map.Entry<String, Integer> entry : lockResults.entrySet()) {
+                if (entry.getValue() > 0) {
+                    ConfigCacheService.releaseReadLock(entry.getKey());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Load formal contents of the batch from local disk cache by one batch read, configs of gray or specific tag are
+     * loaded one by one when queried.
+     */
+    private Map<String, String> loadFormalContents(List<ConfigQueryRequest> queryRequests,
+            Map<String, Integer> lockResults, RequestMeta meta) {
+        Map<String, ConfigCache> configCaches = new HashMap<>(lockResults.size());
+        for (ConfigQueryRequest each : queryRequests) {
+            if (null == each || StringUtils.isNotBlank(each.getTag())) {
+                continue;
+            }
+            String groupKey = groupKey(each);
+            if (lockResults.get(groupKey) <= 0) {
+                continue;
+            }
+            CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
+            if (null != cacheItem && null == ConfigQueryRequestHandler.matchGray(cacheItem, null, meta)) {
+                configCaches.put(groupKey, cacheItem.getConfigCache());
+            }
+        }
+        if (configCaches.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return ConfigContentCache.getContents(configCaches);
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("[batch-query] batch load contents failed, load one by one, reason: {}",
+                    e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+    
+    private ConfigQueryResponse query(ConfigQueryRequest queryRequest, RequestMeta meta, int lockResult,
+            Map<String, String> contents) {
+        try {
+            return configQueryRequestHandler.query(queryRequest, meta, false, lockResult, contents);
+        } catch (Exception e) {
+            return ConfigQueryResponse.buildFailResponse(ResponseCode.FAIL.getCode(), e.getMessage());
+        }
+    }
+    
+    private static String groupKey(ConfigQueryRequest queryRequest) {
+        return GroupKey2.getKey(queryRequest.getDataId(), queryRequest.getGroup(), queryRequest.getTenant());
+    }
+    
+    private boolean hasReadPermission(IdentityContext identityContext, ConfigQueryRequest queryRequest) {
+        if (identityContext == null) {
+            return false;
+        }
+        Resource resource = protocolAuthService.parseResource(queryRequest, secured);
+        try {
+            return protocolAuthService.validateAuthority(identityContext,
+                    new Permission(resource, secured.action().toString()));
+        } catch (AccessException e) {
+            LogUtil.DEFAULT_LOG.debug("[batch-query] access denied, resource: {}, reason: {}", resource,
+                    e.getErrMsg());
+            return false;
+        }
+    }
+}
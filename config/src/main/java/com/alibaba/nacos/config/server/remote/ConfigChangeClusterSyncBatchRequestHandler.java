@@ -0,0 +1,78 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest.ConfigChangeItem;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncBatchResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.config.server.service.dump.DumpRequest;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.InvokeSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * handler to handle a batch of config changes from other servers.
+ *
+ * <p>Config changes in batch are dumped one by one, the ones failed to dump are returned by their indexes so that
+ * the sender can retry them only.
+ *
+ * @author Nacos
+ */
+@Component
+@InvokeSource(source = {RemoteConstants.LABEL_SOURCE_CLUSTER})
+public class ConfigChangeClusterSyncBatchRequestHandler
+        extends RequestHandler<ConfigChangeClusterSyncBatchRequest, ConfigChangeClusterSyncBatchResponse> {
+    
+    private final DumpService dumpService;
+    
+    public ConfigChangeClusterSyncBatchRequestHandler(DumpService dumpService) {
+        this.dumpService = dumpService;
+    }
+    
+    @TpsControl(pointName = "ClusterConfigChangeBatchNotify")
+    @Override
+    public ConfigChangeClusterSyncBatchResponse handle(ConfigChangeClusterSyncBatchRequest request, RequestMeta meta)
+            throws NacosException {
+        ConfigChangeClusterSyncBatchResponse response = new ConfigChangeClusterSyncBatchResponse();
+        List<ConfigChangeItem> configChanges = request.getConfigChanges();
+        for (int i = 0; i < configChanges.size(); i++) {
+            ConfigChangeItem each = configChanges.get(i);
+            try {
+                DumpRequest dumpRequest = DumpRequest.create(each.getDataId(), each.getGroup(), each.getTenant(),
+                        each.getLastModified(), meta.getClientIp());
+                dumpRequest.setGrayName(each.getGrayName());
+                dumpRequest.setContent(each.getContent());
+                dumpRequest.setMd5(each.getMd5());
+                dumpRequest.setType(each.getType());
+                dumpRequest.setEncryptedDataKey(each.getEncryptedDataKey());
+                dumpService.dump(dumpRequest);
+            } catch (Exception e) {
+                LogUtil.NOTIFY_LOG.error("[cluster-sync-batch] dump config change {} failed", each, e);
+                response.addFailedIndex(i);
+            }
+        }
+        return response;
+    }
+}
@@ -71,6 +71,10 @@ public class ConfigChangeClusterSyncRequestHandler
                 configChangeSyncRequest.getLastModified(), meta.getClientIp());
         
         dumpRequest.setGrayName(configChangeSyncRequest.getGrayName());
+        dumpRequest.setContent(configChangeSyncRequest.getContent());
+        dumpRequest.setMd5(configChangeSyncRequest.getMd5());
+        dumpRequest.setType(configChangeSyncRequest.getType());
+        dumpRequest.setEncryptedDataKey(configChangeSyncRequest.getEncryptedDataKey());
         dumpService.dump(dumpRequest);
         return new ConfigChangeClusterSyncResponse();
     }
@@ -19,10 +19,8 @@ package com.alibaba.nacos.config.server.remote;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,6 +28,12 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>There is no global lock, batch listen requests of different connections and config change notifications should
+ * not block each other. The connection set of a group key is updated atomically by {@link ConcurrentHashMap#compute},
+ * and the group keys of a connection is guarded by the monitor of its own map. Both indexes of a connection are only
+ * updated while holding that monitor, so a listen racing with the clear of its connection never leaves the connection
+ * behind in the group key index.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
@@ -39,12 +43,12 @@ public class ConfigChangeListenContext {
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, HashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -52,11 +56,28 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId) {
-        // 1.add groupKeyContext
-        groupKeyContext.computeIfAbsent(groupKey, k -> new HashSet<>()).add(connectionId);
-        // 2.add connectionIdContext
-        connectionIdContext.computeIfAbsent(connectionId, k -> new HashMap<>(16)).put(groupKey, md5);
+    public void addListen(String groupKey, String md5, String connectionId) {
+        while (true) {
+            HashMap<String, String> groupKeys = connectionIdContext.computeIfAbsent(connectionId,
+                    k -> new HashMap<>(16));
+            synchronized (groupKeys) {
+                // the map was removed by clearContextForConnectionId, retry with the current one.
+                if (connectionIdContext.get(connectionId) != groupKeys) {
+                    continue;
+                }
+                // 1.add groupKeyContext
+                groupKeyContext.compute(groupKey, (key, connectionIds) -> {
+                    if (connectionIds == null) {
+                        connectionIds = ConcurrentHashMap.newKeySet();
+                    }
+                    connectionIds.add(connectionId);
+                    return connectionIds;
+                });
+                // 2.add connectionIdContext
+                groupKeys.put(groupKey, md5);
+                return;
+            }
+        }
     }
     
     /**
@@ -65,81 +86,62 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
-        
-        //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
-        }
+    public void removeListen(String groupKey, String connectionId) {
         
-        //2.remove connectionIdContext
         HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
-        if (groupKeys != null) {
+        if (groupKeys == null) {
+            removeConnectionOfGroupKey(groupKey, connectionId);
+            return;
+        }
+        synchronized (groupKeys) {
+            //1. remove groupKeyContext
+            removeConnectionOfGroupKey(groupKey, connectionId);
+            //2.remove connectionIdContext
             groupKeys.remove(groupKey);
         }
     }
     
+    private void removeConnectionOfGroupKey(String groupKey, String connectionId) {
+        groupKeyContext.computeIfPresent(groupKey, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
+    }
+    
     /**
      * get listeners of the group key.
      *
      * @param groupKey groupKey.
      * @return the copy of listeners, may be return null.
      */
-    public synchronized Set<String> getListeners(String groupKey) {
+    public Set<String> getListeners(String groupKey) {
         
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
+        Set<String> connectionIds = groupKeyContext.get(groupKey);
+        if (CollectionUtils.isNotEmpty(connectionIds)) {
+            // iterating a concurrent set is safe even it is modified concurrently.
+            Set<String> listenConnections = new HashSet<>(connectionIds);
+            return listenConnections.isEmpty() ? null : listenConnections;
         }
         return null;
     }
     
-    /**
-     * copy collections.
-     *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
-     */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
-        }
-    }
-    
     /**
      * remove the context related to the connection id.
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
+    public void clearContextForConnectionId(final String connectionId) {
         
-        if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
+        HashMap<String, String> groupKeys = connectionIdContext.remove(connectionId);
+        if (groupKeys == null) {
             return;
         }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-                if (connectionIds.isEmpty()) {
-                    groupKeyContext.remove(groupKey.getKey());
-                }
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
+        // listens holding the monitor finish before, later ones see the map removed and never touch it.
+        synchronized (groupKeys) {
+            for (String groupKey : groupKeys.keySet()) {
+                removeConnectionOfGroupKey(groupKey, connectionId);
             }
-
         }
-        connectionIdContext.remove(connectionId);
     }
     
     /**
@@ -148,9 +150,14 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, String> stringStringHashMap = connectionIdContext.get(connectionId);
-        return stringStringHashMap == null ? null : new HashMap<>(stringStringHashMap);
+    public Map<String, String> getListenKeys(String connectionId) {
+        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
+        if (groupKeys == null) {
+            return null;
+        }
+        synchronized (groupKeys) {
+            return new HashMap<>(groupKeys);
+        }
     }
     
     /**
@@ -160,8 +167,13 @@ public class ConfigChangeListenContext {
      * @return md5 of the listen group key.
      */
     public String getListenKeyMd5(String connectionId, String groupKey) {
-        Map<String, String> groupKeyContexts = connectionIdContext.get(connectionId);
-        return groupKeyContexts == null ? null : groupKeyContexts.get(groupKey);
+        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
+        if (groupKeys == null) {
+            return null;
+        }
+        synchronized (groupKeys) {
+            return groupKeys.get(groupKey);
+        }
     }
     
     /**
@@ -28,7 +28,7 @@ import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
-import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
@@ -79,6 +79,32 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
     
     private ConfigQueryResponse getContext(ConfigQueryRequest configQueryRequest, RequestMeta meta, boolean notify)
             throws Exception {
+        String groupKey = GroupKey2.getKey(configQueryRequest.getDataId(), configQueryRequest.getGroup(),
+                configQueryRequest.getTenant());
+        int lockResult = ConfigCacheService.tryConfigReadLock(groupKey);
+        try {
+            return query(configQueryRequest, meta, notify, lockResult, null);
+        } finally {
+            if (lockResult > 0) {
+                ConfigCacheService.releaseReadLock(groupKey);
+            }
+        }
+    }
+    
+    /**
+     * Query config, the read lock of config must be tried by caller and released after query.
+     *
+     * @param configQueryRequest query request.
+     * @param meta               request meta.
+     * @param notify             whether the query is caused by a change notify.
+     * @param lockResult         result of {@link ConfigCacheService#tryConfigReadLock(String)}.
+     * @param loadedContents     formal contents loaded by caller, group key -> content, content is loaded here if the
+     *                           group key is absent.
+     * @return query response.
+     * @throws Exception exception.
+     */
+    ConfigQueryResponse query(ConfigQueryRequest configQueryRequest, RequestMeta meta, boolean notify, int lockResult,
+            Map<String, String> loadedContents) throws Exception {
         String dataId = configQueryRequest.getDataId();
         String group = configQueryRequest.getGroup();
         String tenant = configQueryRequest.getTenant();
@@ -90,7 +116,6 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         String requestIpApp = meta.getLabels().get(CLIENT_APPNAME_HEADER);
         String acceptCharset = ENCODE_UTF8;
         ParamUtils.checkParam(tag);
-        int lockResult = ConfigCacheService.tryConfigReadLock(groupKey);
         String pullEvent = ConfigTraceService.PULL_EVENT;
         String pullType = ConfigTraceService.PULL_TYPE_OK;
         
@@ -98,83 +123,59 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
         
         if (lockResult > 0 && cacheItem != null) {
-            try {
-                long lastModified = 0L;
-                String configType = cacheItem.getType();
-                response.setContentType((null != configType) ? configType : "text");
-                
-                String content;
-                String md5;
-                String encryptedDataKey;
-                ConfigCacheGray matchedGray = null;
-                Map<String, String> appLabels = null;
-                boolean specificTag = StringUtils.isNotBlank(tag);
-                if (specificTag) {
-                    appLabels = new HashMap<>(4);
-                    appLabels.put(TagGrayRule.VIP_SERVER_TAG_LABEL, tag);
-                    appLabels.put(CLIENT_IP, clientIp);
-                } else {
-                    appLabels = new HashMap(meta.getAppLabels());
-                    if (!appLabels.containsKey(CLIENT_IP)) {
-                        appLabels.put(CLIENT_IP, clientIp);
-                    }
-                }
-                
-                if (cacheItem.getSortConfigGrays() != null && !cacheItem.getSortConfigGrays().isEmpty()) {
-                    for (ConfigCacheGray configCacheGray : cacheItem.getSortConfigGrays()) {
-                        if (configCacheGray.match(appLabels)) {
-                            matchedGray = configCacheGray;
-                            break;
-                        }
-                    }
-                }
-                if (matchedGray != null) {
-                    md5 = matchedGray.getMd5(acceptCharset);
-                    lastModified = matchedGray.getLastModifiedTs();
-                    encryptedDataKey = matchedGray.getEncryptedDataKey();
-                    content = ConfigDiskServiceFactory.getInstance()
-                            .getGrayContent(dataId, group, tenant, matchedGray.getGrayName());
-                    pullEvent = ConfigTraceService.PULL_EVENT + "-" + matchedGray.getGrayName();
-                    if (BetaGrayRule.TYPE_BETA.equals(matchedGray.getGrayName())) {
-                        response.setBeta(true);
-                    }
-                    if (TagGrayRule.TYPE_TAG.equals(matchedGray.getGrayRule().getType())) {
-                        response.setTag(URLEncoder.encode(matchedGray.getRawGrayRule(), ENCODE_UTF8));
-                    }
-                } else if (specificTag) {
-                    //specific tag is not found
-                    md5 = null;
-                    lastModified = 0L;
-                    encryptedDataKey = null;
-                    content = null;
-                    pullEvent = ConfigTraceService.PULL_EVENT + "-" + TagGrayRule.TYPE_TAG + "-" + tag;
-                    response.setTag(tag);
-                } else {
-                    md5 = cacheItem.getConfigCache().getMd5(acceptCharset);
-                    lastModified = cacheItem.getConfigCache().getLastModifiedTs();
-                    encryptedDataKey = cacheItem.getConfigCache().getEncryptedDataKey();
-                    content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
-                    pullEvent = ConfigTraceService.PULL_EVENT;
+            long lastModified = 0L;
+            String configType = cacheItem.getType();
+            response.setContentType((null != configType) ? configType : "text");
+            
+            String content;
+            String md5;
+            String encryptedDataKey;
+            boolean specificTag = StringUtils.isNotBlank(tag);
+            ConfigCacheGray matchedGray = matchGray(cacheItem, tag, meta);
+            if (matchedGray != null) {
+                md5 = matchedGray.getMd5(acceptCharset);
+                lastModified = matchedGray.getLastModifiedTs();
+                encryptedDataKey = matchedGray.getEncryptedDataKey();
+                content = ConfigContentCache.getGrayContent(dataId, group, tenant, matchedGray);
+                pullEvent = ConfigTraceService.PULL_EVENT + "-" + matchedGray.getGrayName();
+                if (BetaGrayRule.TYPE_BETA.equals(matchedGray.getGrayName())) {
+                    response.setBeta(true);
                 }
-                
-                response.setMd5(md5);
-                response.setEncryptedDataKey(encryptedDataKey);
-                response.setContent(content);
-                response.setLastModified(lastModified);
-                if (content == null) {
-                    pullType = ConfigTraceService.PULL_TYPE_NOTFOUND;
-                    response.setErrorInfo(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist");
-                } else {
-                    response.setResultCode(ResponseCode.SUCCESS.getCode());
+                if (TagGrayRule.TYPE_TAG.equals(matchedGray.getGrayRule().getType())) {
+                    response.setTag(URLEncoder.encode(matchedGray.getRawGrayRule(), ENCODE_UTF8));
                 }
-                LogUtil.PULL_CHECK_LOG.warn("{}|{}|{}|{}", groupKey, clientIp, md5, TimeUtils.getCurrentTimeStr());
-                
-                final long delayed = notify ? -1 : System.currentTimeMillis() - lastModified;
-                ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, lastModified, pullEvent, pullType,
-                        delayed, clientIp, notify, "grpc");
-            } finally {
-                ConfigCacheService.releaseReadLock(groupKey);
+            } else if (specificTag) {
+                //specific tag is not found
+                md5 = null;
+                lastModified = 0L;
+                encryptedDataKey = null;
+                content = null;
+                pullEvent = ConfigTraceService.PULL_EVENT + "-" + TagGrayRule.TYPE_TAG + "-" + tag;
+                response.setTag(tag);
+            } else {
+                md5 = cacheItem.getConfigCache().getMd5(acceptCharset);
+                lastModified = cacheItem.getConfigCache().getLastModifiedTs();
+                encryptedDataKey = cacheItem.getConfigCache().getEncryptedDataKey();
+                content = null != loadedContents && loadedContents.containsKey(groupKey) ? loadedContents.get(groupKey)
+                        : ConfigContentCache.getContent(dataId, group, tenant, cacheItem.getConfigCache());
+                pullEvent = ConfigTraceService.PULL_EVENT;
+            }
+            
+            response.setMd5(md5);
+            response.setEncryptedDataKey(encryptedDataKey);
+            response.setContent(content);
+            response.setLastModified(lastModified);
+            if (content == null) {
+                pullType = ConfigTraceService.PULL_TYPE_NOTFOUND;
+                response.setErrorInfo(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist");
+            } else {
+                response.setResultCode(ResponseCode.SUCCESS.getCode());
             }
+            LogUtil.PULL_CHECK_LOG.warn("{}|{}|{}|{}", groupKey, clientIp, md5, TimeUtils.getCurrentTimeStr());
+            
+            final long delayed = notify ? -1 : System.currentTimeMillis() - lastModified;
+            ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, lastModified, pullEvent, pullType,
+                    delayed, clientIp, notify, "grpc");
         } else if (lockResult == 0 || cacheItem == null) {
             
             //CacheItem No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
@@ -190,4 +191,35 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         return response;
     }
     
+    /**
+     * Match the gray config of cache item for request, the read lock of config must be held by caller.
+     *
+     * @param cacheItem cache item of config.
+     * @param tag       specific tag of request.
+     * @param meta      request meta.
+     * @return matched gray config, null if no gray config matched.
+     */
+    static ConfigCacheGray matchGray(CacheItem cacheItem, String tag, RequestMeta meta) {
+        if (cacheItem.getSortConfigGrays() == null || cacheItem.getSortConfigGrays().isEmpty()) {
+            return null;
+        }
+        Map<String, String> appLabels;
+        if (StringUtils.isNotBlank(tag)) {
+            appLabels = new HashMap<>(4);
+            appLabels.put(TagGrayRule.VIP_SERVER_TAG_LABEL, tag);
+            appLabels.put(CLIENT_IP, meta.getClientIp());
+        } else {
+            appLabels = new HashMap(meta.getAppLabels());
+            if (!appLabels.containsKey(CLIENT_IP)) {
+                appLabels.put(CLIENT_IP, meta.getClientIp());
+            }
+        }
+        for (ConfigCacheGray configCacheGray : cacheItem.getSortConfigGrays()) {
+            if (configCacheGray.match(appLabels)) {
+                return configCacheGray;
+            }
+        }
+        return null;
+    }
+    
 }
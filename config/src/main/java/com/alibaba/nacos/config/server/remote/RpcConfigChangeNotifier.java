@@ -16,8 +16,11 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
@@ -38,12 +41,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * ConfigChangeNotifier.
  *
+ * <p>When {@link ConfigCommonConfig#getPushBatchWindowMs()} is positive, changes are coalesced during the window and
+ * each connection receives one {@link ConfigChangeBatchNotifyRequest} carrying all its changed configs. Clients
+ * without {@link AbilityKey#SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY} still receive one
+ * {@link ConfigChangeNotifyRequest} per config.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeNotifier.java, v 0.1 2020年07月20日 3:00 PM liuzunfei Exp $
  */
@@ -58,6 +73,10 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     
     TpsControlManager tpsControlManager = ControlManagerCenter.getInstance().getTpsControlManager();
     
+    private final Set<String> pendingGroupKeys = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    
     public RpcConfigChangeNotifier() {
         NotifyCenter.registerSubscriber(this);
     }
@@ -110,16 +129,83 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         Loggers.REMOTE_PUSH.info("push [{}] clients, groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    /**
+     * Push all changes coalesced during the batch window, grouped by connection.
+     */
+    void flushPendingChanges() {
+        flushScheduled.set(false);
+        Map<String, List<String>> changedGroupKeysOfConnections = new HashMap<>(16);
+        Iterator<String> iterator = pendingGroupKeys.iterator();
+        while (iterator.hasNext()) {
+            String groupKey = iterator.next();
+            iterator.remove();
+            Set<String> listeners = configChangeListenContext.getListeners(groupKey);
+            if (CollectionUtils.isEmpty(listeners)) {
+                continue;
+            }
+            for (String each : listeners) {
+                changedGroupKeysOfConnections.computeIfAbsent(each, k -> new ArrayList<>()).add(groupKey);
+            }
+        }
+        int batchMaxSize = Math.max(1, ConfigCommonConfig.getInstance().getPushBatchMaxSize());
+        int notifyClientCount = 0;
+        for (Map.Entry<String, List<String>> entry : changedGroupKeysOfConnections.entrySet()) {
+            String client = entry.getKey();
+            Connection connection = connectionManager.getConnection(client);
+            if (connection == null) {
+                continue;
+            }
+            ConnectionMeta metaInfo = connection.getMetaInfo();
+            List<String> groupKeys = entry.getValue();
+            if (isSupportBatchNotify(connection)) {
+                for (int from = 0; from < groupKeys.size(); from += batchMaxSize) {
+                    ConfigChangeBatchNotifyRequest notifyRequest = new ConfigChangeBatchNotifyRequest();
+                    for (String groupKey : groupKeys.subList(from, Math.min(from + batchMaxSize, groupKeys.size()))) {
+                        String[] keys = parseGroupKey(groupKey);
+                        notifyRequest.addConfig(keys[0], keys[1], keys[2]);
+                    }
+                    push(new RpcPushTask(notifyRequest, ConfigCommonConfig.getInstance().getMaxPushRetryTimes(),
+                            client, metaInfo.getClientIp(), metaInfo.getAppName()), connectionManager);
+                }
+            } else {
+                for (String groupKey : groupKeys) {
+                    String[] keys = parseGroupKey(groupKey);
+                    push(new RpcPushTask(ConfigChangeNotifyRequest.build(keys[0], keys[1], keys[2]),
+                            ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), client, metaInfo.getClientIp(),
+                            metaInfo.getAppName()), connectionManager);
+                }
+            }
+            notifyClientCount++;
+        }
+        Loggers.REMOTE_PUSH.info("batch push [{}] clients for coalesced config changes", notifyClientCount);
+    }
+    
+    private boolean isSupportBatchNotify(Connection connection) {
+        Map<String, Boolean> abilityTable = connection.getAbilityTable();
+        return abilityTable != null && Boolean.TRUE.equals(
+                abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY.getName()));
+    }
+    
+    private static String[] parseGroupKey(String groupKey) {
+        String[] strings = GroupKey.parseKey(groupKey);
+        return new String[] {strings[0], strings[1], strings.length > 2 ? strings[2] : ""};
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
+        long batchWindowMs = ConfigCommonConfig.getInstance().getPushBatchWindowMs();
+        if (batchWindowMs > 0) {
+            pendingGroupKeys.add(groupKey);
+            if (flushScheduled.compareAndSet(false, true)) {
+                ConfigExecutor.scheduleClientConfigNotifier(this::flushPendingChanges, batchWindowMs,
+                        TimeUnit.MILLISECONDS);
+            }
+            return;
+        }
         
-        String[] strings = GroupKey.parseKey(groupKey);
-        String dataId = strings[0];
-        String group = strings[1];
-        String tenant = strings.length > 2 ? strings[2] : "";
-        
-        configDataChanged(groupKey, dataId, group, tenant);
+        String[] keys = parseGroupKey(groupKey);
+        configDataChanged(groupKey, keys[0], keys[1], keys[2]);
         
     }
     
@@ -130,7 +216,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     
     class RpcPushTask implements Runnable {
         
-        ConfigChangeNotifyRequest notifyRequest;
+        ServerRequest notifyRequest;
         
         int maxRetryTimes = -1;
         
@@ -142,7 +228,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         String appName;
         
-        public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, int maxRetryTimes, String connectionId,
+        public RpcPushTask(ServerRequest notifyRequest, int maxRetryTimes, String connectionId,
                 String clientIp, String appName) {
             this.notifyRequest = notifyRequest;
             this.maxRetryTimes = maxRetryTimes;
@@ -159,7 +245,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return tryTimes;
         }
         
-        public ConfigChangeNotifyRequest getNotifyRequest() {
+        public ServerRequest getNotifyRequest() {
             return notifyRequest;
         }
         
@@ -223,20 +309,16 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
             tpsCheckRequest.setPointName(POINT_CONFIG_PUSH_FAIL);
             tpsControlManager.check(tpsCheckRequest);
-            Loggers.REMOTE_PUSH.warn("Push fail, dataId={}, group={}, tenant={}, clientId={}",
-                    rpcPushTask.getNotifyRequest().getDataId(), rpcPushTask.getNotifyRequest().getGroup(),
-                    rpcPushTask.getNotifyRequest().getTenant(), rpcPushTask.getConnectionId(), e);
+            Loggers.REMOTE_PUSH.warn("Push fail, {}, clientId={}", describe(rpcPushTask.getNotifyRequest()),
+                    rpcPushTask.getConnectionId(), e);
             push(rpcPushTask, connectionManager);
         }
     }
     
     private static void push(RpcPushTask retryTask, ConnectionManager connectionManager) {
-        ConfigChangeNotifyRequest notifyRequest = retryTask.getNotifyRequest();
         if (retryTask.isOverTimes()) {
-            Loggers.REMOTE_PUSH.warn(
-                    "push callback retry fail over times. dataId={},group={},tenant={},clientId={}, will unregister client.",
-                    notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
-                    retryTask.getConnectionId());
+            Loggers.REMOTE_PUSH.warn("push callback retry fail over times. {},clientId={}, will unregister client.",
+                    describe(retryTask.getNotifyRequest()), retryTask.getConnectionId());
             connectionManager.unregister(retryTask.getConnectionId());
         } else if (connectionManager.getConnection(retryTask.getConnectionId()) != null) {
             // first time:delay 0s; second time:delay 2s; third time:delay 4s
@@ -246,5 +328,16 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         }
     }
     
+    private static String describe(ServerRequest notifyRequest) {
+        if (notifyRequest instanceof ConfigChangeBatchNotifyRequest) {
+            return "batch size=" + ((ConfigChangeBatchNotifyRequest) notifyRequest).getConfigs().size();
+        }
+        if (notifyRequest instanceof ConfigChangeNotifyRequest) {
+            ConfigChangeNotifyRequest request = (ConfigChangeNotifyRequest) notifyRequest;
+            return "dataId=" + request.getDataId() + ",group=" + request.getGroup() + ",tenant=" + request.getTenant();
+        }
+        return String.valueOf(notifyRequest);
+    }
+    
 }
 
@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCache;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.model.gray.GrayRule;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
@@ -31,7 +32,9 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -114,6 +117,7 @@ public class ConfigCacheService {
                 DUMP_LOG.info("[dump] md5 changed, save to disk cache ,groupKey={}, newMd5={},oldMd5={}", groupKey, md5,
                         localContentMd5);
                 ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
+                ConfigContentCache.invalidate(ci.getConfigCache());
             } else {
                 DUMP_LOG.warn("[dump-ignore] ignore to save to disk cache. md5 consistent,groupKey={}, md5={}",
                         groupKey, md5);
@@ -139,15 +143,7 @@ public class ConfigCacheService {
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-exception] save disk error. " + groupKey + ", " + ioe);
-            if (ioe.getMessage() != null) {
-                String errMsg = ioe.getMessage();
-                if (errMsg.contains(NO_SPACE_CN) || errMsg.contains(NO_SPACE_EN) || errMsg.contains(DISK_QUOTA_CN)
-                        || errMsg.contains(DISK_QUOTA_EN)) {
-                    // Protect from disk full.
-                    FATAL_LOG.error("Local Disk Full,Exit", ioe);
-                    EnvUtil.systemExit();
-                }
-            }
+            exitIfDiskFull(ioe);
             return false;
         } finally {
             releaseWriteLock(groupKey);
@@ -155,6 +151,18 @@ public class ConfigCacheService {
         
     }
     
+    private static void exitIfDiskFull(IOException ioe) {
+        if (ioe.getMessage() != null) {
+            String errMsg = ioe.getMessage();
+            if (errMsg.contains(NO_SPACE_CN) || errMsg.contains(NO_SPACE_EN) || errMsg.contains(DISK_QUOTA_CN)
+                    || errMsg.contains(DISK_QUOTA_EN)) {
+                // Protect from disk full.
+                FATAL_LOG.error("Local Disk Full,Exit", ioe);
+                EnvUtil.systemExit();
+            }
+        }
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -172,6 +180,65 @@ public class ConfigCacheService {
         return dumpWithMd5(dataId, group, tenant, content, null, lastModifiedTs, type, encryptedDataKey);
     }
     
+    /**
+     * Save a batch of config files to disk in one write and update md5 value in cache. The md5 of each config info
+     * should be calculated with utf-8 before, configs can't be locked now are dumped one by one after the batch.
+     *
+     * @param configInfos config infos with content and md5.
+     * @return count of configs dumped successfully.
+     */
+    public static int batchDumpWithMd5(List<ConfigInfoWrapper> configInfos) {
+        List<String> lockedGroupKeys = new ArrayList<>(configInfos.size());
+        List<ConfigInfoWrapper> lockFailed = new ArrayList<>();
+        List<ConfigInfoWrapper> changed = new ArrayList<>(configInfos.size());
+        int successCount = 0;
+        try {
+            for (ConfigInfoWrapper each : configInfos) {
+                String groupKey = GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant());
+                CacheItem ci = makeSure(groupKey, each.getEncryptedDataKey());
+                ci.setType(each.getType());
+                if (tryWriteLock(groupKey) < 0) {
+                    lockFailed.add(each);
+                    continue;
+                }
+                lockedGroupKeys.add(groupKey);
+                long localLastModifiedTs = ConfigCacheService.getLastModifiedTs(groupKey);
+                if (each.getLastModified() < localLastModifiedTs) {
+                    DUMP_LOG.warn("[dump-ignore] timestamp is outdated,groupKey={}", groupKey);
+                    successCount++;
+                } else if (!each.getMd5().equals(ConfigCacheService.getContentMd5(groupKey))) {
+                    changed.add(each);
+                } else {
+                    if (each.getLastModified() > localLastModifiedTs) {
+                        updateTimeStamp(groupKey, each.getLastModified(), each.getEncryptedDataKey());
+                    }
+                    successCount++;
+                }
+            }
+            ConfigDiskServiceFactory.getInstance().batchSaveToDisk(changed);
+            for (ConfigInfoWrapper each : changed) {
+                String groupKey = GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant());
+                ConfigContentCache.invalidate(CACHE.get(groupKey).getConfigCache());
+                updateMd5(groupKey, each.getMd5(), each.getLastModified(), each.getEncryptedDataKey());
+                successCount++;
+            }
+        } catch (IOException ioe) {
+            DUMP_LOG.error("[dump-exception] batch save disk error. size=" + changed.size() + ", " + ioe);
+            exitIfDiskFull(ioe);
+        } finally {
+            for (String each : lockedGroupKeys) {
+                releaseWriteLock(each);
+            }
+        }
+        for (ConfigInfoWrapper each : lockFailed) {
+            if (dumpWithMd5(each.getDataId(), each.getGroup(), each.getTenant(), each.getContent(), each.getMd5(),
+                    each.getLastModified(), each.getType(), each.getEncryptedDataKey())) {
+                successCount++;
+            }
+        }
+        return successCount;
+    }
+    
     /**
      * Save gray config file and update md5 value in cache.
      *
@@ -231,6 +298,7 @@ public class ConfigCacheService {
                         grayName, md5, localContentGrayMd5, grayRule, localGrayRule, lastModifiedTs);
                 updateGrayMd5(groupKey, grayName, grayRule, md5, lastModifiedTs, encryptedDataKey);
                 ConfigDiskServiceFactory.getInstance().saveGrayToDisk(dataId, group, tenant, grayName, content);
+                ConfigContentCache.invalidate(CACHE.get(groupKey).getConfigCacheGray().get(grayName));
                 
             } else if (grayRuleChanged) {
                 DUMP_LOG.info("[dump-gray] gray rule changed, update local jvm cache, groupKey={},grayName={}, "
@@ -289,7 +357,7 @@ public class ConfigCacheService {
             
             CacheItem ci = CACHE.get(groupKey);
             if (ci.getConfigCacheGray() != null) {
-                ci.getConfigCacheGray().remove(grayName);
+                ConfigContentCache.invalidate(ci.getConfigCacheGray().remove(grayName));
                 if (ci.getConfigCacheGray().isEmpty()) {
                     ci.clearConfigGrays();
                 } else {
@@ -335,7 +403,7 @@ public class ConfigCacheService {
             DUMP_LOG.info("[dump] remove  local disk cache,groupKey={} ", groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
             
-            CACHE.remove(groupKey);
+            ConfigContentCache.invalidate(CACHE.remove(groupKey));
             DUMP_LOG.info("[dump] remove  local jvm cache,groupKey={} ", groupKey);
             
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey));
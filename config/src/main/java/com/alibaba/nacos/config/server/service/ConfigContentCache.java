@@ -0,0 +1,282 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size bounded in-heap content cache on top of local disk cache.
+ *
+ * <p>The content is hung off {@link ConfigCache} itself, so a hit costs one volatile read without any map lookup. The
+ * total weight is bounded by {@link PropertyUtil#getContentCacheMaxBytes()} and entries are evicted by a clock
+ * (second chance LRU) algorithm, hits only flip a reference bit and never take a lock.
+ *
+ * <p>Callers must hold the read lock of the config when loading content, and writers invalidate the content while
+ * holding the write lock, so a stale content can never be put back after an update.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCache {
+    
+    /**
+     * Estimated heap cost of a cached entry besides its characters.
+     */
+    private static final long ENTRY_OVERHEAD_BYTES = 64L;
+    
+    /**
+     * Content heavier than 1/MAX_ENTRY_DIVISOR of the budget is never cached, so a single huge config can not flush
+     * the whole cache.
+     */
+    private static final int MAX_ENTRY_DIVISOR = 8;
+    
+    private static final AtomicLong USED_BYTES = new AtomicLong();
+    
+    private static final AtomicInteger QUEUED_COUNT = new AtomicInteger();
+    
+    private static final ConcurrentLinkedQueue<ConfigCache> CLOCK = new ConcurrentLinkedQueue<>();
+    
+    private static final ReentrantLock EVICTION_LOCK = new ReentrantLock();
+    
+    /**
+     * Get formal content of config, load from local disk cache if not cached.
+     *
+     * @param dataId      dataId.
+     * @param group       group.
+     * @param tenant      tenant.
+     * @param configCache formal config cache.
+     * @return content, null if not exist.
+     * @throws IOException io exception.
+     */
+    public static String getContent(String dataId, String group, String tenant, ConfigCache configCache)
+            throws IOException {
+        String content = getCached(configCache);
+        if (content == null) {
+            content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+            put(configCache, content);
+        }
+        return content;
+    }
+    
+    /**
+     * Get formal contents of a batch of configs, contents not cached are loaded from local disk cache by one batch
+     * read.
+     *
+     * @param configCaches group key -> formal config cache.
+     * @return group key -> content, content is null if not exist.
+     * @throws IOException io exception.
+     */
+    public static Map<String, String> getContents(Map<String, ConfigCache> configCaches) throws IOException {
+        Map<String, String> result = new HashMap<>(configCaches.size());
+        List<String> missed = new ArrayList<>();
+        for (Map.Entry<String, ConfigCache> entry : configCaches.entrySet()) {
+            String content = getCached(entry.getValue());
+            if (content == null) {
+                missed.add(entry.getKey());
+            } else {
+                result.put(entry.getKey(), content);
+            }
+        }
+        if (missed.isEmpty()) {
+            return result;
+        }
+        Map<String, String> loaded = ConfigDiskServiceFactory.getInstance().batchGetContent(missed);
+        for (String each : missed) {
+            String content = loaded.get(each);
+            put(configCaches.get(each), content);
+            result.put(each, content);
+        }
+        return result;
+    }
+    
+    /**
+     * Get gray content of config, load from local disk cache if not cached.
+     *
+     * @param dataId      dataId.
+     * @param group       group.
+     * @param tenant      tenant.
+     * @param configCache gray config cache.
+     * @return gray content, null if not exist.
+     * @throws IOException io exception.
+     */
+    public static String getGrayContent(String dataId, String group, String tenant, ConfigCacheGray configCache)
+            throws IOException {
+        String content = getCached(configCache);
+        if (content == null) {
+            content = ConfigDiskServiceFactory.getInstance()
+                    .getGrayContent(dataId, group, tenant, configCache.getGrayName());
+            put(configCache, content);
+        }
+        return content;
+    }
+    
+    private static String getCached(ConfigCache configCache) {
+        if (!PropertyUtil.isContentCacheEnabled()) {
+            return null;
+        }
+        String content = configCache.getCachedContent();
+        if (content != null) {
+            if (!configCache.isContentReferenced()) {
+                configCache.setContentReferenced(true);
+            }
+            MetricsMonitor.getContentCacheHitCounter().increment();
+        } else {
+            MetricsMonitor.getContentCacheMissCounter().increment();
+        }
+        return content;
+    }
+    
+    /**
+     * Put content into cache, ignored if cache is disabled or content is too heavy.
+     *
+     * @param configCache config cache the content belongs to.
+     * @param content     content.
+     */
+    static void put(ConfigCache configCache, String content) {
+        if (content == null || !PropertyUtil.isContentCacheEnabled()) {
+            return;
+        }
+        long weight = weigh(content);
+        if (weight > PropertyUtil.getContentCacheMaxBytes() / MAX_ENTRY_DIVISOR) {
+            return;
+        }
+        synchronized (configCache) {
+            String old = configCache.getCachedContent();
+            if (old != null) {
+                addUsedBytes(-weigh(old));
+            }
+            configCache.setCachedContent(content);
+            addUsedBytes(weight);
+            if (!configCache.isContentQueued()) {
+                configCache.setContentQueued(true);
+                QUEUED_COUNT.incrementAndGet();
+                CLOCK.offer(configCache);
+            }
+        }
+        evictIfNecessary();
+    }
+    
+    /**
+     * Drop cached content of config cache, and take it out of the clock so a removed config is not kept reachable
+     * nor counted in the sweep budget.
+     *
+     * @param configCache config cache.
+     */
+    public static void invalidate(ConfigCache configCache) {
+        if (configCache == null) {
+            return;
+        }
+        synchronized (configCache) {
+            String old = configCache.getCachedContent();
+            if (old != null) {
+                configCache.setCachedContent(null);
+                addUsedBytes(-weigh(old));
+            }
+            if (configCache.isContentQueued()) {
+                configCache.setContentQueued(false);
+                QUEUED_COUNT.decrementAndGet();
+                CLOCK.remove(configCache);
+            }
+        }
+    }
+    
+    /**
+     * Drop cached content of formal and all gray config caches of cache item.
+     *
+     * @param cacheItem cache item.
+     */
+    public static void invalidate(CacheItem cacheItem) {
+        if (cacheItem == null) {
+            return;
+        }
+        invalidate(cacheItem.getConfigCache());
+        if (cacheItem.getConfigCacheGray() != null) {
+            for (ConfigCacheGray each : cacheItem.getConfigCacheGray().values()) {
+                invalidate(each);
+            }
+        }
+    }
+    
+    public static long usedBytes() {
+        return USED_BYTES.get();
+    }
+    
+    static int queuedCount() {
+        return QUEUED_COUNT.get();
+    }
+    
+    private static void evictIfNecessary() {
+        long maxBytes = PropertyUtil.getContentCacheMaxBytes();
+        if (USED_BYTES.get() <= maxBytes || !EVICTION_LOCK.tryLock()) {
+            return;
+        }
+        try {
+            // every entry gets at most one second chance in a sweep.
+            int budget = QUEUED_COUNT.get() * 2;
+            while (USED_BYTES.get() > maxBytes && budget-- > 0) {
+                ConfigCache candidate = CLOCK.poll();
+                if (candidate == null) {
+                    return;
+                }
+                synchronized (candidate) {
+                    if (!candidate.isContentQueued()) {
+                        // invalidated after being polled, already taken out of the clock.
+                        continue;
+                    }
+                    String content = candidate.getCachedContent();
+                    if (content == null) {
+                        candidate.setContentQueued(false);
+                        QUEUED_COUNT.decrementAndGet();
+                    } else if (candidate.isContentReferenced()) {
+                        candidate.setContentReferenced(false);
+                        CLOCK.offer(candidate);
+                    } else {
+                        candidate.setCachedContent(null);
+                        candidate.setContentQueued(false);
+                        QUEUED_COUNT.decrementAndGet();
+                        addUsedBytes(-weigh(content));
+                        MetricsMonitor.getContentCacheEvictionCounter().increment();
+                    }
+                }
+            }
+        } finally {
+            EVICTION_LOCK.unlock();
+        }
+    }
+    
+    private static void addUsedBytes(long delta) {
+        MetricsMonitor.getContentCacheBytesMonitor().set(USED_BYTES.addAndGet(delta));
+    }
+    
+    private static long weigh(String content) {
+        return ENTRY_OVERHEAD_BYTES + 2L * content.length();
+    }
+}
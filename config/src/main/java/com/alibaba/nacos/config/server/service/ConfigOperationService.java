@@ -140,9 +140,12 @@ public class ConfigOperationService {
             configOperateResult = configInfoPersistService.insertOrUpdate(configRequestInfo.getSrcIp(),
                     configForm.getSrcUser(), configInfo, configAdvanceInfo);
         }
-        ConfigChangePublisher.notifyConfigChange(
-                new ConfigDataChangeEvent(configForm.getDataId(), configForm.getGroup(), configForm.getNamespaceId(),
-                        configOperateResult.getLastModified()));
+        ConfigDataChangeEvent configDataChangeEvent = new ConfigDataChangeEvent(configForm.getDataId(),
+                configForm.getGroup(), configForm.getNamespaceId(), configOperateResult.getLastModified());
+        configDataChangeEvent.content = configInfo.getContent();
+        configDataChangeEvent.type = configInfo.getType();
+        configDataChangeEvent.encryptedDataKey = configInfo.getEncryptedDataKey();
+        ConfigChangePublisher.notifyConfigChange(configDataChangeEvent);
         ConfigTraceService.logPersistenceEvent(configForm.getDataId(), configForm.getGroup(),
                 configForm.getNamespaceId(), configRequestInfo.getRequestIpApp(), configOperateResult.getLastModified(),
                 InetUtils.getSelfIP(), ConfigTraceService.PERSISTENCE_EVENT, ConfigTraceService.PERSISTENCE_TYPE_PUB,
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.service;
 
 import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.config.server.service.dump.processor.StartupDumpProgress;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.core.cluster.health.AbstractModuleHealthChecker;
 import com.alibaba.nacos.core.utils.Loggers;
@@ -38,6 +39,12 @@ public class ConfigReadinessCheckService extends AbstractModuleHealthChecker {
     
     @Override
     public boolean readiness() {
+        // check dump all on startup
+        StartupDumpProgress dumpProgress = StartupDumpProgress.getInstance();
+        if (dumpProgress.isRunning()) {
+            Loggers.CLUSTER.warn("Config health check fail, dumping all config on startup, {}", dumpProgress);
+            return false;
+        }
         // check db
         try {
             configInfoPersistService.configInfoCount("");
@@ -52,4 +59,13 @@ public class ConfigReadinessCheckService extends AbstractModuleHealthChecker {
     public String getModuleName() {
         return Constants.Config.CONFIG_MODULE;
     }
+    
+    /**
+     * Get progress and throughput of dumping all config on startup.
+     *
+     * @return startup dump progress
+     */
+    public StartupDumpProgress getStartupDumpProgress() {
+        return StartupDumpProgress.getInstance();
+    }
 }
@@ -29,6 +29,7 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -109,6 +110,7 @@ public class DumpChangeConfigWorker implements Runnable {
                 LogUtil.DEFAULT_LOG.info("Check changed configs from  time {},lastMaxId={}", startTime, changeCursorId);
                 List<ConfigInfoStateWrapper> changeConfigs = configInfoPersistService.findChangeConfig(startTime,
                         changeCursorId, pageSize);
+                List<ConfigInfoWrapper> changedConfigInfos = new ArrayList<>(changeConfigs.size());
                 for (ConfigInfoStateWrapper cf : changeConfigs) {
                     final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
                     //check md5 & localtimestamp update local disk cache.
@@ -120,21 +122,29 @@ public class DumpChangeConfigWorker implements Runnable {
                                 new Object[] {groupKey, cf.getLastModified(), cf.getMd5()});
                         ConfigInfoWrapper configInfoWrapper = configInfoPersistService.findConfigInfo(cf.getDataId(),
                                 cf.getGroup(), cf.getTenant());
+                        if (configInfoWrapper == null) {
+                            continue;
+                        }
                         LogUtil.DUMP_LOG.info("[dump-change] find change config  {}, {}, md5={}",
                                 new Object[] {groupKey, cf.getLastModified(), cf.getMd5()});
-                        ConfigCacheService.dump(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(),
-                                configInfoWrapper.getTenant(), configInfoWrapper.getContent(),
-                                configInfoWrapper.getLastModified(), configInfoWrapper.getType(),
-                                configInfoWrapper.getEncryptedDataKey());
-                        final String content = configInfoWrapper.getContent();
-                        final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE_GBK);
-                        final String md5Utf8 = MD5Utils.md5Hex(content, Constants.ENCODE_UTF8);
-                        
-                        LogUtil.DEFAULT_LOG.info("[dump-change-ok] {}, {}, length={}, md5={},md5UTF8={}",
-                                new Object[] {groupKey, configInfoWrapper.getLastModified(), content.length(), md5,
-                                        md5Utf8});
+                        configInfoWrapper.setMd5(MD5Utils.md5Hex(configInfoWrapper.getContent(), Constants.ENCODE_UTF8));
+                        changedConfigInfos.add(configInfoWrapper);
                     }
                 }
+                // save changed configs of one page to disk in batch.
+                int successCount = ConfigCacheService.batchDumpWithMd5(changedConfigInfos);
+                for (ConfigInfoWrapper configInfoWrapper : changedConfigInfos) {
+                    final String content = configInfoWrapper.getContent();
+                    final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE_GBK);
+                    LogUtil.DEFAULT_LOG.info("[dump-change-ok] {}, {}, length={}, md5={},md5UTF8={}",
+                            new Object[] {GroupKey2.getKey(configInfoWrapper.getDataId(), configInfoWrapper.getGroup(),
+                                    configInfoWrapper.getTenant()), configInfoWrapper.getLastModified(),
+                                    content.length(), md5, configInfoWrapper.getMd5()});
+                }
+                if (successCount < changedConfigInfos.size()) {
+                    LogUtil.DEFAULT_LOG.warn("[dump-change-error] {} of {} changed configs failed to dump",
+                            changedConfigInfos.size() - successCount, changedConfigInfos.size());
+                }
                 if (changeConfigs.size() < pageSize) {
                     break;
                 }
@@ -36,6 +36,17 @@ public class DumpRequest {
     
     private String sourceIp;
     
+    /**
+     * content of the changed config, optional, the config is dumped without reading db if set.
+     */
+    private String content;
+    
+    private String md5;
+    
+    private String type;
+    
+    private String encryptedDataKey;
+    
     public String getDataId() {
         return dataId;
     }
@@ -84,6 +95,38 @@ public class DumpRequest {
         this.sourceIp = sourceIp;
     }
     
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public void setMd5(String md5) {
+        this.md5 = md5;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    public void setEncryptedDataKey(String encryptedDataKey) {
+        this.encryptedDataKey = encryptedDataKey;
+    }
+    
     /**
      * create dump request.
      *
@@ -280,24 +280,23 @@ public abstract class DumpService {
             dumpGray(dumpRequest.getDataId(), dumpRequest.getGroup(), dumpRequest.getTenant(),
                     dumpRequest.getGrayName(), dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp());
         } else {
-            dumpFormal(dumpRequest.getDataId(), dumpRequest.getGroup(), dumpRequest.getTenant(),
-                    dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp());
+            dumpFormal(dumpRequest);
         }
     }
     
     /**
      * dump formal config.
      *
-     * @param dataId       dataId.
-     * @param group        group.
-     * @param tenant       tenant.
-     * @param lastModified lastModified.
-     * @param handleIp     handleIp.
+     * @param dumpRequest dumpRequest.
      */
-    private void dumpFormal(String dataId, String group, String tenant, long lastModified, String handleIp) {
-        String groupKey = GroupKey2.getKey(dataId, group, tenant);
-        String taskKey = groupKey;
-        dumpTaskMgr.addTask(taskKey, new DumpTask(groupKey, null, lastModified, handleIp));
+    private void dumpFormal(DumpRequest dumpRequest) {
+        String groupKey = GroupKey2.getKey(dumpRequest.getDataId(), dumpRequest.getGroup(), dumpRequest.getTenant());
+        DumpTask dumpTask = new DumpTask(groupKey, null, dumpRequest.getLastModifiedTs(), dumpRequest.getSourceIp());
+        dumpTask.setContent(dumpRequest.getContent());
+        dumpTask.setMd5(dumpRequest.getMd5());
+        dumpTask.setType(dumpRequest.getType());
+        dumpTask.setEncryptedDataKey(dumpRequest.getEncryptedDataKey());
+        dumpTaskMgr.addTask(groupKey, dumpTask);
         DUMP_LOG.info("[dump] add formal task. groupKey={}", groupKey);
         
     }
@@ -16,7 +16,13 @@
 
 package com.alibaba.nacos.config.server.service.dump.disk;
 
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * config disk service.
@@ -35,6 +41,18 @@ public interface ConfigDiskService {
      * @throws IOException io exception.
      */
     void saveToDisk(String dataId, String group, String tenant, String content) throws IOException;
+    
+    /**
+     * Save a batch of configuration information to disk.
+     *
+     * @param configInfos config infos with content.
+     * @throws IOException io exception.
+     */
+    default void batchSaveToDisk(List<ConfigInfoWrapper> configInfos) throws IOException {
+        for (ConfigInfoWrapper each : configInfos) {
+            saveToDisk(each.getDataId(), each.getGroup(), each.getTenant(), each.getContent());
+        }
+    }
 
     /**
      * Save gray information to disk.
@@ -90,6 +108,25 @@ public interface ConfigDiskService {
      */
     String getContent(String dataId, String group, String tenant) throws IOException;
     
+    /**
+     * Returns the contents of a batch of cache files in server.
+     *
+     * @param groupKeys group keys of configs.
+     * @return group key -> content, config not exist is absent.
+     * @throws IOException io exception.
+     */
+    default Map<String, String> batchGetContent(List<String> groupKeys) throws IOException {
+        Map<String, String> result = new HashMap<>(groupKeys.size());
+        for (String each : groupKeys) {
+            String[] keys = GroupKey2.parseKey(each);
+            String content = getContent(keys[0], keys[1], keys[2]);
+            if (content != null) {
+                result.put(each, content);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Clear all config file.
      */
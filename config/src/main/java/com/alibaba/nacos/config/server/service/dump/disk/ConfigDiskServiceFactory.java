@@ -29,6 +29,8 @@ public class ConfigDiskServiceFactory {
     
     private static final String TYPE_ROCKSDB = "rocksdb";
     
+    private static final String TYPE_MMAP = "mmap";
+    
     /**
      * get disk service.
      *
@@ -41,6 +43,8 @@ public class ConfigDiskServiceFactory {
                     String type = System.getProperty("config_disk_type", TYPE_RAW_DISK);
                     if (type.equalsIgnoreCase(TYPE_ROCKSDB)) {
                         configDiskService = new ConfigRocksDbDiskService();
+                    } else if (type.equalsIgnoreCase(TYPE_MMAP)) {
+                        configDiskService = new ConfigMmapDiskService();
                     } else {
                         configDiskService = new ConfigRawDiskService();
                     }
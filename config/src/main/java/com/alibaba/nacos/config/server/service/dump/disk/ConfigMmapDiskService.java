@@ -0,0 +1,233 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * config disk service which appends configs into memory mapped segment files.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigMmapDiskService implements ConfigDiskService {
+    
+    private static final String BASE_DIR = File.separator + "data" + File.separator + "mmap-config-data";
+    
+    private static final String GRAY_DIR = File.separator + "data" + File.separator + "mmap-gray-data";
+    
+    private static final long MAINTAIN_INTERVAL_SECONDS = 60L;
+    
+    private static final int MB = 1024 * 1024;
+    
+    private static final int DEFAULT_SEGMENT_SIZE_MB = 64;
+    
+    /**
+     * A {@link java.nio.MappedByteBuffer} is indexed by int, so a segment can not exceed 2 GiB.
+     */
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+    
+    private static volatile MmapSegmentStore formalStore;
+    
+    private static volatile MmapSegmentStore grayStore;
+    
+    private static boolean maintainScheduled;
+    
+    /**
+     * Save configuration information to disk.
+     */
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        getFormalStore().put(GroupKey2.getKey(dataId, group, tenant), content);
+    }
+    
+    /**
+     * Save a batch of configuration information to disk with one lock of store.
+     */
+    @Override
+    public void batchSaveToDisk(List<ConfigInfoWrapper> configInfos) throws IOException {
+        if (configInfos.isEmpty()) {
+            return;
+        }
+        Map<String, String> values = new LinkedHashMap<>(configInfos.size() * 2);
+        for (ConfigInfoWrapper each : configInfos) {
+            values.put(GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()), each.getContent());
+        }
+        getFormalStore().putAll(values);
+    }
+    
+    /**
+     * Save gray information to disk.
+     */
+    public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
+            throws IOException {
+        getGrayStore().put(GroupKey2.getGrayKey(dataId, group, tenant, grayName), content);
+    }
+    
+    /**
+     * Deletes configuration files on disk.
+     */
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        try {
+            getFormalStore().remove(GroupKey2.getKey(dataId, group, tenant));
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("remove config from mmap store failed, dataId={}, group={}, tenant={}", dataId,
+                    group, tenant, e);
+        }
+    }
+    
+    /**
+     * Deletes gray configuration files on disk.
+     */
+    public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
+        try {
+            getGrayStore().remove(GroupKey2.getGrayKey(dataId, group, tenant, grayName));
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("remove gray config from mmap store failed, dataId={}, group={}, tenant={}, "
+                    + "grayName={}", dataId, group, tenant, grayName, e);
+        }
+    }
+    
+    /**
+     * Returns the content of the gray cache file in server.
+     */
+    public String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException {
+        return getGrayStore().get(GroupKey2.getGrayKey(dataId, group, tenant, grayName));
+    }
+    
+    /**
+     * Returns the content of the cache file in server.
+     */
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        return getFormalStore().get(GroupKey2.getKey(dataId, group, tenant));
+    }
+    
+    /**
+     * Clear all config file.
+     */
+    public void clearAll() {
+        clearStore(BASE_DIR);
+    }
+    
+    /**
+     * Clear all gray config file.
+     */
+    public void clearAllGray() {
+        clearStore(GRAY_DIR);
+    }
+    
+    private void clearStore(String dir) {
+        try {
+            MmapSegmentStore store = BASE_DIR.equals(dir) ? getFormalStore() : getGrayStore();
+            store.clear();
+            LogUtil.DEFAULT_LOG.info("clear all {} success.", dir);
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.warn("clear all {} failed.", dir, e);
+        }
+    }
+    
+    static MmapSegmentStore getFormalStore() throws IOException {
+        if (formalStore == null) {
+            initStores();
+        }
+        return formalStore;
+    }
+    
+    static MmapSegmentStore getGrayStore() throws IOException {
+        if (grayStore == null) {
+            initStores();
+        }
+        return grayStore;
+    }
+    
+    private static synchronized void initStores() throws IOException {
+        if (formalStore != null && grayStore != null) {
+            return;
+        }
+        int segmentSize = segmentSize(PropertyUtil.getMmapSegmentSizeMB());
+        MmapSegmentStore gray = new MmapSegmentStore(new File(EnvUtil.getNacosHome(), GRAY_DIR), segmentSize);
+        formalStore = new MmapSegmentStore(new File(EnvUtil.getNacosHome(), BASE_DIR), segmentSize);
+        grayStore = gray;
+        if (!maintainScheduled) {
+            ConfigExecutor.scheduleConfigTask(ConfigMmapDiskService::maintain, MAINTAIN_INTERVAL_SECONDS,
+                    MAINTAIN_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            maintainScheduled = true;
+        }
+    }
+    
+    /**
+     * Segment size in bytes of configured size in MB, computed in long and clamped to the limit of mapped buffer.
+     *
+     * @param segmentSizeMb configured segment size in MB.
+     * @return segment size in bytes.
+     */
+    static int segmentSize(int segmentSizeMb) {
+        if (segmentSizeMb <= 0) {
+            LogUtil.DEFAULT_LOG.warn("invalid mmap segment size {}MB, use default {}MB.", segmentSizeMb,
+                    DEFAULT_SEGMENT_SIZE_MB);
+            return DEFAULT_SEGMENT_SIZE_MB * MB;
+        }
+        long segmentSize = (long) segmentSizeMb * MB;
+        if (segmentSize > MAX_SEGMENT_SIZE) {
+            LogUtil.DEFAULT_LOG.warn("mmap segment size {}MB exceeds limit of mapped buffer, use {} bytes.",
+                    segmentSizeMb, MAX_SEGMENT_SIZE);
+            return (int) MAX_SEGMENT_SIZE;
+        }
+        return (int) segmentSize;
+    }
+    
+    /**
+     * Compact segments and checkpoint index of stores.
+     */
+    static void maintain() {
+        for (MmapSegmentStore each : new MmapSegmentStore[] {formalStore, grayStore}) {
+            if (each == null) {
+                continue;
+            }
+            try {
+                each.maintain();
+            } catch (Throwable e) {
+                LogUtil.DEFAULT_LOG.warn("maintain mmap store failed.", e);
+            }
+        }
+    }
+    
+    /**
+     * Close stores, for test only.
+     */
+    static synchronized void closeStores() {
+        if (formalStore != null) {
+            formalStore.close();
+            formalStore = null;
+        }
+        if (grayStore != null) {
+            grayStore.close();
+            grayStore = null;
+        }
+    }
+}
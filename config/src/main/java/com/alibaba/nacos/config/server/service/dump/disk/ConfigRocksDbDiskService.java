@@ -16,21 +16,41 @@
 
 package com.alibaba.nacos.config.server.service.dump.disk;
 
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
-import org.rocksdb.Options;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.StatsLevel;
+import org.rocksdb.TickerType;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.constant.Constants.NULL;
@@ -38,6 +58,9 @@ import static com.alibaba.nacos.config.server.constant.Constants.NULL;
 /**
  * config rocks db disk service.
  *
+ * <p>Formal and gray configs are saved in column families of one rocksdb, which share the block cache. As rocksdb
+ * can't be opened twice in one process, the db is shared by all instances.
+ *
  * @author shiyiyue
  */
 @SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
@@ -45,40 +68,40 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private static final String ROCKSDB_DATA = File.separator + "rocksdata" + File.separator;
     
-    private static final String BASE_DIR = ROCKSDB_DATA + "config-data";
+    private static final String DB_DIR = ROCKSDB_DATA + "config-db";
     
-    private static final String GRAY_DIR = ROCKSDB_DATA + "gray-data";
+    /**
+     * Dirs of formal and gray db used before column families.
+     */
+    private static final String[] LEGACY_DIRS = new String[] {ROCKSDB_DATA + "config-data", ROCKSDB_DATA + "gray-data"};
     
-    private static final long DEFAULT_WRITE_BUFFER_MB = 32;
+    static final String FORMAL_FAMILY = "config-data";
     
-    Map<String, RocksDB> rocksDbMap = new HashMap<>();
+    static final String GRAY_FAMILY = "gray-data";
     
-    private void createDirIfNotExist(String dir) {
-        File roskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
-        if (!roskDataDir.exists()) {
-            roskDataDir.mkdirs();
-        }
-        File baseDir = new File(EnvUtil.getNacosHome(), dir);
-        if (!baseDir.exists()) {
-            baseDir.mkdirs();
-        }
-    }
+    private static final long STATISTICS_REFRESH_INTERVAL_SECONDS = 15L;
     
-    private void deleteDirIfExist(String dir) {
-        File rockskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
-        if (!rockskDataDir.exists()) {
-            return;
-        }
-        File baseDir = new File(EnvUtil.getNacosHome(), dir);
-        if (baseDir.exists()) {
-            baseDir.delete();
-        }
-    }
+    /**
+     * Keys are encoded utf-8 strings which never contain byte 0xFF, so that it is the end of all keys.
+     */
+    private static final byte[] KEY_RANGE_END = new byte[] {(byte) 0xFF};
+    
+    private static final TickerType[] EXPORTED_TICKERS = new TickerType[] {TickerType.BLOCK_CACHE_HIT,
+            TickerType.BLOCK_CACHE_MISS, TickerType.BLOOM_FILTER_USEFUL, TickerType.MEMTABLE_HIT,
+            TickerType.MEMTABLE_MISS, TickerType.NUMBER_KEYS_WRITTEN, TickerType.NUMBER_KEYS_READ,
+            TickerType.BYTES_WRITTEN, TickerType.BYTES_READ, TickerType.COMPACT_READ_BYTES,
+            TickerType.COMPACT_WRITE_BYTES, TickerType.STALL_MICROS};
+    
+    private static final Map<String, ColumnFamilyHandle> COLUMN_FAMILIES = new ConcurrentHashMap<>();
+    
+    private static volatile RocksDB rocksDb;
+    
+    private static Cache blockCache;
+    
+    private static Statistics statistics;
     
     public ConfigRocksDbDiskService() {
-        createDirIfNotExist(BASE_DIR);
-        createDirIfNotExist(GRAY_DIR);
-        
+        createDirIfEmpty(EnvUtil.getNacosHome() + DB_DIR);
     }
     
     private byte[] getKeyByte(String dataId, String group, String tenant, String tag) throws IOException {
@@ -117,67 +140,63 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         }
     }
     
-    /**
-     * save config to disk.
-     */
-    public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
-            throws IOException {
+    private void putInner(String family, byte[] key, String content) throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+            RocksDB db = initAndGetDB();
+            db.put(COLUMN_FAMILIES.get(family), key, content.getBytes(ENCODE_UTF8));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
     }
     
     /**
-     * save config to disk.
+     * Save configuration information to disk.
      */
-    public void saveToDiskInner(String type, String dataId, String group, String tenant, String content)
-            throws IOException {
-        saveToDiskInner(type, dataId, group, tenant, null, content);
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        putInner(FORMAL_FAMILY, getKeyByte(dataId, group, tenant, null), content);
     }
     
     /**
-     * save config to disk.
+     * Save a batch of configuration information to disk in one write batch.
      */
-    public void saveGrayToDiskInner(String type, String dataId, String group, String tenant, String grayName,
-            String content) throws IOException {
-        try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
+    @Override
+    public void batchSaveToDisk(List<ConfigInfoWrapper> configInfos) throws IOException {
+        if (configInfos.isEmpty()) {
+            return;
+        }
+        try (WriteBatch writeBatch = new WriteBatch(); WriteOptions writeOptions = new WriteOptions()) {
+            RocksDB db = initAndGetDB();
+            ColumnFamilyHandle handle = COLUMN_FAMILIES.get(FORMAL_FAMILY);
+            for (ConfigInfoWrapper each : configInfos) {
+                writeBatch.put(handle, getKeyByte(each.getDataId(), each.getGroup(), each.getTenant(), null),
+                        each.getContent().getBytes(ENCODE_UTF8));
+            }
+            db.write(writeOptions, writeBatch);
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
     }
     
-    /**
-     * Save configuration information to disk.
-     */
-    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
-        saveToDiskInner(BASE_DIR, dataId, group, tenant, content);
-    }
-    
     /**
      * Save tag information to disk.
      */
     public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
             throws IOException {
-        saveGrayToDiskInner(GRAY_DIR, dataId, group, tenant, grayName, content);
-        
+        putInner(GRAY_FAMILY, getKeyByte(dataId, group, tenant, grayName), content);
     }
     
     /**
      * Deletes configuration files on disk.
      */
     public void removeConfigInfo(String dataId, String group, String tenant) {
-        removeContentInner(BASE_DIR, dataId, group, tenant, null);
+        removeInner(FORMAL_FAMILY, dataId, group, tenant, null);
     }
     
     /**
      * Deletes gray configuration files on disk.
      */
     public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
-        removeGrayInner(GRAY_DIR, dataId, group, tenant, grayName);
-        
+        removeInner(GRAY_FAMILY, dataId, group, tenant, grayName);
     }
     
     private String byte2String(byte[] bytes) throws IOException {
@@ -187,19 +206,35 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         return new String(bytes, ENCODE_UTF8);
     }
     
-    RocksDB initAndGetDB(String dir) throws IOException, RocksDBException {
-        if (rocksDbMap.containsKey(dir)) {
-            return rocksDbMap.get(dir);
-        } else {
-            synchronized (this) {
-                if (rocksDbMap.containsKey(dir)) {
-                    return rocksDbMap.get(dir);
-                }
-                createDirIfEmpty(EnvUtil.getNacosHome() + dir);
-                rocksDbMap.put(dir, RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir));
-                return rocksDbMap.get(dir);
+    RocksDB initAndGetDB() throws RocksDBException {
+        if (rocksDb != null) {
+            return rocksDb;
+        }
+        synchronized (ConfigRocksDbDiskService.class) {
+            if (rocksDb != null) {
+                return rocksDb;
             }
-            
+            String dbPath = EnvUtil.getNacosHome() + DB_DIR;
+            createDirIfEmpty(dbPath);
+            deleteLegacyDirs();
+            RocksDB.loadLibrary();
+            blockCache = new LRUCache(PropertyUtil.getRocksDbBlockCacheMB() * 1024 * 1024);
+            List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+            descriptors.add(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY));
+            descriptors.add(new ColumnFamilyDescriptor(FORMAL_FAMILY.getBytes(StandardCharsets.UTF_8),
+                    createColumnFamilyOptions(FORMAL_FAMILY)));
+            descriptors.add(new ColumnFamilyDescriptor(GRAY_FAMILY.getBytes(StandardCharsets.UTF_8),
+                    createColumnFamilyOptions(GRAY_FAMILY)));
+            List<ColumnFamilyHandle> handles = new ArrayList<>(descriptors.size());
+            final RocksDB db = RocksDB.open(createDbOptions(), dbPath, descriptors, handles);
+            COLUMN_FAMILIES.put(FORMAL_FAMILY, handles.get(1));
+            COLUMN_FAMILIES.put(GRAY_FAMILY, handles.get(2));
+            if (statistics != null) {
+                ConfigExecutor.scheduleConfigTask(ConfigRocksDbDiskService::refreshStatistics,
+                        STATISTICS_REFRESH_INTERVAL_SECONDS, STATISTICS_REFRESH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            }
+            rocksDb = db;
+            return rocksDb;
         }
     }
     
@@ -210,43 +245,38 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         }
     }
     
-    private String getContentInner(String type, String dataId, String group, String tenant) throws IOException {
-        byte[] bytes = null;
-        try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, null));
-            String string = byte2String(bytes);
-            return string;
-        } catch (RocksDBException e) {
-            throw new IOException(e);
+    private void deleteLegacyDirs() {
+        for (String each : LEGACY_DIRS) {
+            File legacyDir = new File(EnvUtil.getNacosHome(), each);
+            if (!legacyDir.exists()) {
+                continue;
+            }
+            try {
+                IoUtils.delete(legacyDir);
+                LogUtil.DEFAULT_LOG.info("delete legacy rocksdb dir {} success.", legacyDir);
+            } catch (IOException e) {
+                LogUtil.DEFAULT_LOG.warn("delete legacy rocksdb dir {} failed.", legacyDir, e);
+            }
         }
     }
     
-    private String getGrayInner(String type, String dataId, String group, String tenant, String grayName)
+    private String getInner(String family, String dataId, String group, String tenant, String grayName)
             throws IOException {
-        byte[] bytes = null;
         try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, grayName));
-            return byte2String(bytes);
+            RocksDB db = initAndGetDB();
+            return byte2String(db.get(COLUMN_FAMILIES.get(family), getKeyByte(dataId, group, tenant, grayName)));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
     }
     
-    private void removeContentInner(String type, String dataId, String group, String tenant, String tag) {
+    private void removeInner(String family, String dataId, String group, String tenant, String grayName) {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, tag));
+            RocksDB db = initAndGetDB();
+            db.delete(COLUMN_FAMILIES.get(family), getKeyByte(dataId, group, tenant, grayName));
         } catch (Exception e) {
-            LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
-                    group, tenant, e.getCause());
-        }
-    }
-    
-    private void removeGrayInner(String type, String dataId, String group, String tenant, String grayName) {
-        try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, grayName));
-        } catch (Exception e) {
-            LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
-                    group, tenant, e.getCause());
+            LogUtil.DEFAULT_LOG.warn("Remove family=[{}] config fail,dataId={},group={},tenant={},error={}", family,
+                    dataId, group, tenant, e.getCause());
         }
     }
     
@@ -254,99 +284,181 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      * Returns the path of the gray content cache file in server.
      */
     public String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException {
-        return getGrayInner(GRAY_DIR, dataId, group, tenant, grayName);
+        return getInner(GRAY_FAMILY, dataId, group, tenant, grayName);
     }
     
     public String getContent(String dataId, String group, String tenant) throws IOException {
-        return getContentInner(BASE_DIR, dataId, group, tenant);
+        return getInner(FORMAL_FAMILY, dataId, group, tenant, null);
+    }
+    
+    /**
+     * Returns the contents of a batch of configs with one multi get.
+     */
+    @Override
+    public Map<String, String> batchGetContent(List<String> groupKeys) throws IOException {
+        Map<String, String> result = new HashMap<>(groupKeys.size());
+        if (groupKeys.isEmpty()) {
+            return result;
+        }
+        try {
+            RocksDB db = initAndGetDB();
+            List<ColumnFamilyHandle> handles = new ArrayList<>(groupKeys.size());
+            List<byte[]> keys = new ArrayList<>(groupKeys.size());
+            for (String each : groupKeys) {
+                String[] groupKey = GroupKey2.parseKey(each);
+                handles.add(COLUMN_FAMILIES.get(FORMAL_FAMILY));
+                keys.add(getKeyByte(groupKey[0], groupKey[1], groupKey[2], null));
+            }
+            List<byte[]> values = db.multiGetAsList(handles, keys);
+            for (int i = 0; i < groupKeys.size(); i++) {
+                if (values.get(i) != null) {
+                    result.put(groupKeys.get(i), byte2String(values.get(i)));
+                }
+            }
+            return result;
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
     }
     
     public String getLocalConfigMd5(String dataId, String group, String tenant, String encode) throws IOException {
-        return MD5Utils.md5Hex(getContentInner(BASE_DIR, dataId, group, tenant), encode);
+        return MD5Utils.md5Hex(getContent(dataId, group, tenant), encode);
     }
     
-    Options createOptions(String dir) {
+    DBOptions createDbOptions() {
         DBOptions dbOptions = new DBOptions();
+        dbOptions.setCreateIfMissing(true);
+        dbOptions.setCreateMissingColumnFamilies(true);
         dbOptions.setMaxBackgroundJobs(Runtime.getRuntime().availableProcessors());
-        Options options = new Options(dbOptions, createColumnFamilyOptions(dir));
-        options.setCreateIfMissing(true);
-        return options;
+        if (PropertyUtil.isRocksDbStatisticsEnabled()) {
+            statistics = new Statistics();
+            statistics.setStatsLevel(StatsLevel.EXCEPT_DETAILED_TIMERS);
+            dbOptions.setStatistics(statistics);
+        }
+        return dbOptions;
     }
     
-    ColumnFamilyOptions createColumnFamilyOptions(String dir) {
-        ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions();
+    ColumnFamilyOptions createColumnFamilyOptions(String family) {
+        final ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions();
         BlockBasedTableConfig tableFormatConfig = new BlockBasedTableConfig();
+        // share block cache between formal and gray, and keep index and filter blocks in it.
+        tableFormatConfig.setBlockCache(blockCache);
+        tableFormatConfig.setCacheIndexAndFilterBlocks(true);
+        tableFormatConfig.setPinL0FilterAndIndexBlocksInCache(true);
+        // most reads are point lookups, bloom filter avoids reading blocks of sst files without the key.
+        int bloomBitsPerKey = PropertyUtil.getRocksDbBloomBitsPerKey();
+        if (bloomBitsPerKey > 0) {
+            tableFormatConfig.setFilterPolicy(new BloomFilter(bloomBitsPerKey, false));
+        }
         columnFamilyOptions.setTableFormatConfig(tableFormatConfig);
         //set more write buffer size to formal config-data, reduce flush to sst file frequency.
-        columnFamilyOptions.setWriteBufferSize(getSuitFormalCacheSizeMB(dir) * 1024 * 1024);
+        columnFamilyOptions.setWriteBufferSize(getSuitWriteBufferSizeMB(family) * 1024 * 1024);
         //once a stt file is flushed, compact it immediately to avoid too many sst file which will result in read latency.
         columnFamilyOptions.setLevel0FileNumCompactionTrigger(1);
         return columnFamilyOptions;
     }
     
     /**
-     * get suit formal buffer size.
+     * get suit write buffer size of column family.
      *
-     * @return
+     * @return write buffer size in MB
      */
     @SuppressWarnings("PMD.UndefineMagicConstantRule")
-    private long getSuitFormalCacheSizeMB(String dir) {
+    private long getSuitWriteBufferSizeMB(String family) {
         
-        boolean formal = BASE_DIR.equals(dir);
         long maxHeapSizeMB = Runtime.getRuntime().maxMemory() / 1024 / 1024;
         
-        if (formal) {
-            long formalWriteBufferSizeMB = 0;
+        if (FORMAL_FAMILY.equals(family)) {
+            long formalWriteBufferSizeMB = PropertyUtil.getRocksDbWriteBufferMB();
             
-            if (maxHeapSizeMB < 8 * 1024) {
-                formalWriteBufferSizeMB = 32;
-            } else if (maxHeapSizeMB < 16 * 1024) {
-                formalWriteBufferSizeMB = 64;
-            } else {
-                formalWriteBufferSizeMB = 256;
+            if (formalWriteBufferSizeMB <= 0) {
+                if (maxHeapSizeMB < 8 * 1024) {
+                    formalWriteBufferSizeMB = 32;
+                } else if (maxHeapSizeMB < 16 * 1024) {
+                    formalWriteBufferSizeMB = 64;
+                } else {
+                    formalWriteBufferSizeMB = 256;
+                }
             }
-            LogUtil.DEFAULT_LOG.info("init formal rocksdb write buffer size {}M for dir {}, maxHeapSize={}M",
-                    formalWriteBufferSizeMB, dir, maxHeapSizeMB);
+            LogUtil.DEFAULT_LOG.info("init formal rocksdb write buffer size {}M for family {}, maxHeapSize={}M",
+                    formalWriteBufferSizeMB, family, maxHeapSizeMB);
             return formalWriteBufferSizeMB;
         } else {
-            LogUtil.DEFAULT_LOG.info("init default rocksdb write buffer size {}M for dir {}, maxHeapSize={}M",
-                    DEFAULT_WRITE_BUFFER_MB, dir, maxHeapSizeMB);
-            return DEFAULT_WRITE_BUFFER_MB;
+            long grayWriteBufferSizeMB = PropertyUtil.getRocksDbGrayWriteBufferMB();
+            LogUtil.DEFAULT_LOG.info("init default rocksdb write buffer size {}M for family {}, maxHeapSize={}M",
+                    grayWriteBufferSizeMB, family, maxHeapSizeMB);
+            return grayWriteBufferSizeMB;
         }
         
     }
     
     /**
-     * Clear all config file.
+     * Close rocksdb and release its native resources, it is opened again on next access.
      */
-    public void clearAll() {
-        try {
-            if (rocksDbMap.containsKey(BASE_DIR)) {
-                rocksDbMap.get(BASE_DIR).close();
-                RocksDB.destroyDB(EnvUtil.getNacosHome() + BASE_DIR, new Options());
+    static void closeDB() {
+        synchronized (ConfigRocksDbDiskService.class) {
+            if (rocksDb == null) {
+                return;
+            }
+            COLUMN_FAMILIES.values().forEach(ColumnFamilyHandle::close);
+            COLUMN_FAMILIES.clear();
+            rocksDb.close();
+            rocksDb = null;
+            blockCache.close();
+            blockCache = null;
+            if (statistics != null) {
+                statistics.close();
+                statistics = null;
             }
-            deleteDirIfExist(BASE_DIR);
-            LogUtil.DEFAULT_LOG.info("clear all config-info success.");
-        } catch (RocksDBException e) {
-            LogUtil.DEFAULT_LOG.warn("clear all config-info failed.", e);
         }
     }
     
     /**
-     * Clear all gray config file.
+     * Refresh rocksdb statistics to metrics.
      */
-    public void clearAllGray() {
-        
+    static void refreshStatistics() {
+        if (rocksDb == null || statistics == null) {
+            return;
+        }
         try {
-            if (rocksDbMap.containsKey(GRAY_DIR)) {
-                rocksDbMap.get(GRAY_DIR).close();
-                RocksDB.destroyDB(EnvUtil.getNacosHome() + GRAY_DIR, new Options());
+            for (TickerType each : EXPORTED_TICKERS) {
+                MetricsMonitor.getRocksDbStatisticsMonitor(each.name().toLowerCase())
+                        .set(statistics.getTickerCount(each));
+            }
+            MetricsMonitor.getRocksDbStatisticsMonitor("block_cache_usage").set(blockCache.getUsage());
+            for (Map.Entry<String, ColumnFamilyHandle> entry : COLUMN_FAMILIES.entrySet()) {
+                MetricsMonitor.getRocksDbStatisticsMonitor(entry.getKey() + "_estimate_num_keys")
+                        .set(rocksDb.getLongProperty(entry.getValue(), "rocksdb.estimate-num-keys"));
             }
-            deleteDirIfExist(GRAY_DIR);
-            LogUtil.DEFAULT_LOG.info("clear all config-info-gray success.");
+        } catch (Exception e) {
+            LogUtil.DEFAULT_LOG.warn("refresh rocksdb statistics failed.", e);
+        }
+    }
+    
+    private void clearFamily(String family) {
+        try {
+            RocksDB db = initAndGetDB();
+            ColumnFamilyHandle handle = COLUMN_FAMILIES.get(family);
+            db.deleteRange(handle, new byte[0], KEY_RANGE_END);
+            db.compactRange(handle);
+            LogUtil.DEFAULT_LOG.info("clear all {} success.", family);
         } catch (RocksDBException e) {
-            LogUtil.DEFAULT_LOG.warn("clear all config-info-gray failed.", e);
+            LogUtil.DEFAULT_LOG.warn("clear all {} failed.", family, e);
         }
     }
     
+    /**
+     * Clear all config file.
+     */
+    public void clearAll() {
+        clearFamily(FORMAL_FAMILY);
+    }
+    
+    /**
+     * Clear all gray config file.
+     */
+    public void clearAllGray() {
+        clearFamily(GRAY_FAMILY);
+    }
+    
 }
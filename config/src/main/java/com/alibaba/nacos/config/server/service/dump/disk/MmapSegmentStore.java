@@ -0,0 +1,633 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Key value store which appends records into memory mapped segment files and keeps the location of values in an in
+ * memory index.
+ *
+ * <p>Record layout is {@code magic | crc | keyLength | valueLength | key | value}, a removal is a record with value
+ * length -1. The index is checkpointed with the write positions of segments, and records after the positions are
+ * replayed on recovery. Sealed segments with few live records are compacted by copying live records to the active
+ * segment, tombstones which may shadow records of older segments are copied too, so that replaying all segments
+ * without checkpoint never resurrects removed keys. Compacted segments are deleted only after a checkpoint covering
+ * the copies is written.
+ *
+ * <p>Values are decoded from mapped buffers without the store lock, segments are unmapped explicitly while holding
+ * the write lock of {@link #mappingLock}, so that a reader never touches an unmapped buffer.
+ *
+ * @author Nacos
+ */
+class MmapSegmentStore {
+    
+    private static final int RECORD_MAGIC = 0x4E41434F;
+    
+    private static final int CHECKPOINT_MAGIC = 0x4E434B50;
+    
+    private static final int HEADER_SIZE = 16;
+    
+    private static final int TOMBSTONE = -1;
+    
+    private static final String SEGMENT_SUFFIX = ".segment";
+    
+    private static final String CHECKPOINT_FILE = "index.checkpoint";
+    
+    private static final String CHECKPOINT_TMP_FILE = "index.checkpoint.tmp";
+    
+    private static final double COMPACT_LIVE_RATIO = 0.5D;
+    
+    private static final int MAX_READ_RETRY = 3;
+    
+    private final File dir;
+    
+    private final int segmentSize;
+    
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    
+    private final ReadWriteLock mappingLock = new ReentrantReadWriteLock();
+    
+    private Segment activeSegment;
+    
+    private int nextSegmentId;
+    
+    /**
+     * Changed since last checkpoint, guarded by this.
+     */
+    private boolean dirty;
+    
+    /**
+     * Increased by clear, a checkpoint taken before clear is discarded, guarded by this.
+     */
+    private long generation;
+    
+    MmapSegmentStore(File dir, int segmentSize) throws IOException {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        recover();
+    }
+    
+    /**
+     * Get value of key.
+     *
+     * @param key key
+     * @return value, null if not exist
+     */
+    String get(String key) {
+        mappingLock.readLock().lock();
+        try {
+            for (int i = 0; i < MAX_READ_RETRY; i++) {
+                Location location = index.get(key);
+                if (location == null) {
+                    return null;
+                }
+                Segment segment = segments.get(location.segmentId);
+                if (segment != null) {
+                    // decode from the mapped page directly, without read syscall.
+                    ByteBuffer buffer = segment.buffer.duplicate();
+                    buffer.position(location.valueOffset());
+                    buffer.limit(location.valueOffset() + location.valueLength);
+                    return StandardCharsets.UTF_8.decode(buffer).toString();
+                }
+                // segment is compacted, read the relocated value again.
+            }
+            return null;
+        } finally {
+            mappingLock.readLock().unlock();
+        }
+    }
+    
+    synchronized void put(String key, String value) throws IOException {
+        append(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    synchronized void putAll(Map<String, String> values) throws IOException {
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            append(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+    
+    synchronized void remove(String key) throws IOException {
+        if (index.containsKey(key)) {
+            append(key, null);
+        }
+    }
+    
+    int size() {
+        return index.size();
+    }
+    
+    int segmentCount() {
+        return segments.size();
+    }
+    
+    /**
+     * Remove all records by deleting all segments.
+     */
+    synchronized void clear() throws IOException {
+        generation++;
+        index.clear();
+        releaseSegments(new ArrayList<>(segments.values()), true);
+        segments.clear();
+        Files.deleteIfExists(new File(dir, CHECKPOINT_FILE).toPath());
+        activeSegment = null;
+        dirty = false;
+    }
+    
+    /**
+     * Compact sealed segments of which live records are less than half, and checkpoint index.
+     */
+    void maintain() throws IOException {
+        List<Segment> compacted = compact();
+        // compacted segments are still needed by recovery until a checkpoint covering the copies is written.
+        if (!checkpoint() || compacted.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            List<Segment> removed = new ArrayList<>(compacted.size());
+            for (Segment each : compacted) {
+                // segments are deleted already if store is cleared meanwhile.
+                if (segments.remove(each.id, each)) {
+                    removed.add(each);
+                }
+            }
+            releaseSegments(removed, true);
+        }
+        LogUtil.DEFAULT_LOG.info("[mmap-store] compact {} segments of {}", compacted.size(), dir);
+    }
+    
+    private synchronized List<Segment> compact() throws IOException {
+        List<Segment> candidates = new ArrayList<>();
+        for (Segment each : segments.values()) {
+            if (each != activeSegment && each.liveBytes < each.writePosition * COMPACT_LIVE_RATIO) {
+                candidates.add(each);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Map<Integer, Segment> candidateIds = new HashMap<>(candidates.size());
+        for (Segment each : candidates) {
+            candidateIds.put(each.id, each);
+        }
+        List<Map.Entry<String, Location>> relocated = new ArrayList<>();
+        for (Map.Entry<String, Location> entry : index.entrySet()) {
+            if (candidateIds.containsKey(entry.getValue().segmentId)) {
+                relocated.add(entry);
+            }
+        }
+        for (Map.Entry<String, Location> entry : relocated) {
+            Location location = entry.getValue();
+            ByteBuffer buffer = candidateIds.get(location.segmentId).buffer.duplicate();
+            buffer.position(location.valueOffset());
+            byte[] value = new byte[location.valueLength];
+            buffer.get(value);
+            append(entry.getKey(), value);
+        }
+        // a tombstone may shadow a record of an older segment which is kept, carry it forward to the active segment.
+        int oldestKept = Integer.MAX_VALUE;
+        for (Segment each : segments.values()) {
+            if (!candidateIds.containsKey(each.id)) {
+                oldestKept = Math.min(oldestKept, each.id);
+            }
+        }
+        Set<String> tombstones = new LinkedHashSet<>();
+        for (Segment each : candidates) {
+            if (each.id > oldestKept) {
+                collectTombstones(each, tombstones);
+            }
+        }
+        for (String each : tombstones) {
+            // a key put again after its removal is live in index, and its latest record is already kept.
+            if (!index.containsKey(each)) {
+                append(each, null);
+            }
+        }
+        // segments are deleted after checkpoint which records them as fully replayed.
+        dirty = true;
+        return candidates;
+    }
+    
+    /**
+     * Save index and write positions of segments into checkpoint file atomically.
+     *
+     * @return true if checkpoint file covers all records appended before, false if store is cleared meanwhile.
+     * @throws IOException write checkpoint failed
+     */
+    boolean checkpoint() throws IOException {
+        Map<Integer, Integer> positions = new HashMap<>(segments.size());
+        long checkpointGeneration;
+        synchronized (this) {
+            if (!dirty) {
+                return true;
+            }
+            for (Segment each : segments.values()) {
+                each.buffer.force();
+                positions.put(each.id, each.writePosition);
+            }
+            checkpointGeneration = generation;
+            dirty = false;
+        }
+        // records after the positions are replayed on recovery, so index can be iterated without lock.
+        File tmpFile = new File(dir, CHECKPOINT_TMP_FILE);
+        FileOutputStream fileOutputStream = new FileOutputStream(tmpFile);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOutputStream))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(positions.size());
+            for (Map.Entry<Integer, Integer> entry : positions.entrySet()) {
+                out.writeInt(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                if (!positions.containsKey(location.segmentId)) {
+                    continue;
+                }
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(key.length);
+                out.write(key);
+                out.writeInt(location.segmentId);
+                out.writeInt(location.offset);
+                out.writeInt(location.keyLength);
+                out.writeInt(location.valueLength);
+            }
+            out.writeInt(-1);
+            out.flush();
+            fileOutputStream.getFD().sync();
+        }
+        synchronized (this) {
+            if (checkpointGeneration != generation) {
+                Files.deleteIfExists(tmpFile.toPath());
+                return false;
+            }
+            Files.move(tmpFile.toPath(), new File(dir, CHECKPOINT_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        }
+    }
+    
+    /**
+     * Force and unmap all segments.
+     */
+    synchronized void close() {
+        for (Segment each : segments.values()) {
+            each.buffer.force();
+        }
+        releaseSegments(new ArrayList<>(segments.values()), false);
+        segments.clear();
+        index.clear();
+        activeSegment = null;
+    }
+    
+    /**
+     * Close and unmap segments, blocks until readers of mapped buffers finish.
+     */
+    private void releaseSegments(List<Segment> released, boolean delete) {
+        if (released.isEmpty()) {
+            return;
+        }
+        mappingLock.writeLock().lock();
+        try {
+            for (Segment each : released) {
+                each.close();
+                if (delete && !each.file.delete()) {
+                    LogUtil.DEFAULT_LOG.warn("[mmap-store] delete segment file {} failed", each.file);
+                }
+            }
+        } finally {
+            mappingLock.writeLock().unlock();
+        }
+    }
+    
+    private void append(String key, byte[] value) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int valueLength = value == null ? TOMBSTONE : value.length;
+        int recordSize = HEADER_SIZE + keyBytes.length + Math.max(valueLength, 0);
+        Segment segment = segmentFor(recordSize);
+        int offset = segment.writePosition;
+        ByteBuffer buffer = segment.buffer.duplicate();
+        buffer.position(offset + Integer.BYTES);
+        buffer.putInt(crc(keyBytes, value, valueLength));
+        buffer.putInt(keyBytes.length);
+        buffer.putInt(valueLength);
+        buffer.put(keyBytes);
+        if (value != null) {
+            buffer.put(value);
+        }
+        // end marker, so that stale bytes after it are never replayed.
+        if (buffer.remaining() >= Integer.BYTES) {
+            buffer.putInt(0);
+        }
+        // magic is written last, so that a half written record is never valid.
+        buffer.putInt(offset, RECORD_MAGIC);
+        segment.writePosition = offset + recordSize;
+        
+        Location old;
+        if (value == null) {
+            old = index.remove(key);
+        } else {
+            segment.liveBytes += recordSize;
+            old = index.put(key, new Location(segment.id, offset, keyBytes.length, valueLength));
+        }
+        if (old != null) {
+            Segment oldSegment = segments.get(old.segmentId);
+            if (oldSegment != null) {
+                oldSegment.liveBytes -= old.recordSize();
+            }
+        }
+        dirty = true;
+    }
+    
+    private Segment segmentFor(int recordSize) throws IOException {
+        if (activeSegment != null && activeSegment.capacity - activeSegment.writePosition >= recordSize) {
+            return activeSegment;
+        }
+        int capacity = Math.max(segmentSize, recordSize);
+        activeSegment = Segment.create(new File(dir, segmentFileName(nextSegmentId)), nextSegmentId, capacity);
+        segments.put(activeSegment.id, activeSegment);
+        nextSegmentId++;
+        return activeSegment;
+    }
+    
+    private void recover() throws IOException {
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("create dir " + dir + " failed");
+        }
+        File[] files = dir.listFiles((parent, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (files != null) {
+            for (File each : files) {
+                int id = Integer.parseInt(each.getName().substring(0, each.getName().length() - SEGMENT_SUFFIX.length()));
+                segments.put(id, Segment.open(each, id));
+            }
+        }
+        Map<Integer, Integer> positions = loadCheckpoint();
+        for (Segment each : segments.values()) {
+            replay(each, positions.getOrDefault(each.id, 0));
+        }
+        index.values().removeIf(location -> !segments.containsKey(location.segmentId));
+        for (Location each : index.values()) {
+            segments.get(each.segmentId).liveBytes += each.recordSize();
+        }
+        if (!segments.isEmpty()) {
+            activeSegment = segments.lastEntry().getValue();
+            nextSegmentId = segments.lastKey() + 1;
+        }
+        LogUtil.DEFAULT_LOG.info("[mmap-store] recover {} keys in {} segments from {}", index.size(),
+                segments.size(), dir);
+    }
+    
+    private Map<Integer, Integer> loadCheckpoint() {
+        Map<Integer, Integer> positions = new HashMap<>(segments.size());
+        File checkpointFile = new File(dir, CHECKPOINT_FILE);
+        if (!checkpointFile.exists()) {
+            return positions;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(checkpointFile)))) {
+            if (in.readInt() != CHECKPOINT_MAGIC) {
+                throw new IOException("invalid checkpoint magic");
+            }
+            int segmentCount = in.readInt();
+            for (int i = 0; i < segmentCount; i++) {
+                positions.put(in.readInt(), in.readInt());
+            }
+            int keyLength;
+            while ((keyLength = in.readInt()) >= 0) {
+                byte[] key = new byte[keyLength];
+                in.readFully(key);
+                index.put(new String(key, StandardCharsets.UTF_8),
+                        new Location(in.readInt(), in.readInt(), in.readInt(), in.readInt()));
+            }
+            return positions;
+        } catch (IOException e) {
+            // replay all segments from beginning without checkpoint.
+            LogUtil.DEFAULT_LOG.warn("[mmap-store] load checkpoint of {} failed, replay all segments", dir, e);
+            index.clear();
+            positions.clear();
+            return positions;
+        }
+    }
+    
+    private void replay(Segment segment, int from) {
+        ByteBuffer buffer = segment.buffer.duplicate();
+        int position = from;
+        while (position + HEADER_SIZE <= segment.capacity) {
+            buffer.position(position);
+            if (buffer.getInt() != RECORD_MAGIC) {
+                break;
+            }
+            final int crc = buffer.getInt();
+            int keyLength = buffer.getInt();
+            int valueLength = buffer.getInt();
+            int recordSize = HEADER_SIZE + keyLength + Math.max(valueLength, 0);
+            if (keyLength <= 0 || valueLength < TOMBSTONE || recordSize > segment.capacity - position) {
+                break;
+            }
+            byte[] key = new byte[keyLength];
+            buffer.get(key);
+            byte[] value = null;
+            if (valueLength != TOMBSTONE) {
+                value = new byte[valueLength];
+                buffer.get(value);
+            }
+            if (crc(key, value, valueLength) != crc) {
+                break;
+            }
+            String keyString = new String(key, StandardCharsets.UTF_8);
+            if (value == null) {
+                index.remove(keyString);
+            } else {
+                index.put(keyString, new Location(segment.id, position, keyLength, valueLength));
+            }
+            position += recordSize;
+        }
+        segment.writePosition = position;
+    }
+    
+    private void collectTombstones(Segment segment, Set<String> tombstones) {
+        ByteBuffer buffer = segment.buffer.duplicate();
+        int position = 0;
+        while (position < segment.writePosition) {
+            buffer.position(position + Integer.BYTES * 2);
+            int keyLength = buffer.getInt();
+            int valueLength = buffer.getInt();
+            if (valueLength == TOMBSTONE) {
+                byte[] key = new byte[keyLength];
+                buffer.get(key);
+                tombstones.add(new String(key, StandardCharsets.UTF_8));
+            }
+            position += HEADER_SIZE + keyLength + Math.max(valueLength, 0);
+        }
+    }
+    
+    private static int crc(byte[] key, byte[] value, int valueLength) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(key);
+        if (value != null) {
+            crc32.update(value);
+        }
+        crc32.update(valueLength);
+        return (int) crc32.getValue();
+    }
+    
+    private static String segmentFileName(int id) {
+        return String.format("%010d%s", id, SEGMENT_SUFFIX);
+    }
+    
+    private static class Location {
+        
+        private final int segmentId;
+        
+        private final int offset;
+        
+        private final int keyLength;
+        
+        private final int valueLength;
+        
+        private Location(int segmentId, int offset, int keyLength, int valueLength) {
+            this.segmentId = segmentId;
+            this.offset = offset;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+        }
+        
+        private int valueOffset() {
+            return offset + HEADER_SIZE + keyLength;
+        }
+        
+        private int recordSize() {
+            return HEADER_SIZE + keyLength + valueLength;
+        }
+    }
+    
+    private static class Segment {
+        
+        private static final Object UNSAFE;
+        
+        private static final Method INVOKE_CLEANER;
+        
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                unsafe = field.get(null);
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (Exception ignored) {
+                // before java 9, buffers are unmapped by their cleaners.
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+        
+        private final int id;
+        
+        private final File file;
+        
+        private final FileChannel channel;
+        
+        private final MappedByteBuffer buffer;
+        
+        private final int capacity;
+        
+        private int writePosition;
+        
+        private long liveBytes;
+        
+        private Segment(int id, File file, FileChannel channel, int capacity) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.channel = channel;
+            this.capacity = capacity;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        
+        private static Segment create(File file, int id, int capacity) throws IOException {
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+                randomAccessFile.setLength(capacity);
+            }
+            return open(file, id);
+        }
+        
+        private static Segment open(File file, int id) throws IOException {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(id, file, channel, (int) channel.size());
+        }
+        
+        private void close() {
+            IoUtils.closeQuietly(channel);
+            unmap(buffer);
+        }
+        
+        /**
+         * Unmap buffer now instead of waiting for it to be collected, which keeps file and address space of deleted
+         * segments. Unsafe#invokeCleaner is used since java 9, and the cleaner of direct buffer before.
+         */
+        private static void unmap(MappedByteBuffer buffer) {
+            try {
+                if (INVOKE_CLEANER != null) {
+                    INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                    return;
+                }
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            } catch (Exception e) {
+                LogUtil.DEFAULT_LOG.warn("[mmap-store] unmap segment failed, it is released when collected", e);
+            }
+        }
+    }
+}
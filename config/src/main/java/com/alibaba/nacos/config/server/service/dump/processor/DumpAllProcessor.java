@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.config.server.service.dump.processor;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
@@ -30,6 +32,13 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -46,6 +55,8 @@ import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
  */
 public class DumpAllProcessor implements NacosTaskProcessor {
     
+    private static final List<ConfigInfoWrapper> END_OF_PAGES = new ArrayList<>(0);
+    
     public DumpAllProcessor(ConfigInfoPersistService configInfoPersistService) {
         this.configInfoPersistService = configInfoPersistService;
     }
@@ -61,17 +72,13 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         DumpAllTask dumpAllTask = (DumpAllTask) task;
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
-        ThreadPoolExecutor executorService = null;
         if (dumpAllTask.isStartUp()) {
-            executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
-                    Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
-        } else {
-            executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
+            return dumpAllOnStartUp(currentMaxId);
         }
+        long lastMaxId = 0;
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), r -> new Thread(r, "dump all executor"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
         
         DEFAULT_LOG.info("start dump all config-info...");
         
@@ -80,7 +87,7 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             long start = System.currentTimeMillis();
             
             Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
+                    PropertyUtil.getAllDumpPageSize(), false);
             long dbTimeStamp = System.currentTimeMillis();
             if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
                 break;
@@ -88,33 +95,25 @@ public class DumpAllProcessor implements NacosTaskProcessor {
             
             for (ConfigInfoWrapper cf : page.getPageItems()) {
                 lastMaxId = Math.max(cf.getId(), lastMaxId);
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
+                //page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
+                final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+                boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+                //check md5 & update local disk cache.
+                String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+                boolean md5Update = !localContentMd5.equals(cf.getMd5());
+                if (newLastModified || md5Update) {
+                    LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
+                            cf.getLastModified(), cf.getMd5());
+                    cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
+                } else {
+                    continue;
                 }
                 
                 if (cf == null) {
                     continue;
                 }
                 
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
-                }
-                
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
-                }
+                loadSpecialConfig(cf);
                 
                 final String content = cf.getContent();
                 final String dataId = cf.getDataId();
@@ -146,12 +145,11 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         
         //wait all task are finished and then shutdown executor.
         try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
-            }
             executorService.shutdown();
+            while (!executorService.awaitTermination(1L, TimeUnit.SECONDS)) {
+                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished",
+                        executorService.getQueue().size() + executorService.getActiveCount());
+            }
             
         } catch (Exception e) {
             DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
@@ -160,5 +158,158 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         return true;
     }
     
+    /**
+     * Dump all config info on startup in a pipeline. Fetchers query config info with content from db concurrently by
+     * id range partitions and hand off pages to a bounded queue, dump workers calculate md5 and save them to local disk
+     * and jvm cache in batches, so that db query and disk write don't stall each other.
+     *
+     * @param currentMaxId current max id of config info.
+     * @return dump result.
+     */
+    private boolean dumpAllOnStartUp(long currentMaxId) {
+        final int pageSize = PropertyUtil.getAllDumpPageSize();
+        final int workerCount = Runtime.getRuntime().availableProcessors();
+        // no need to split partitions smaller than one page.
+        long pageCount = (currentMaxId + pageSize - 1) / pageSize;
+        final int fetcherCount = (int) Math.max(1,
+                Math.min(Math.max(1, PropertyUtil.getAllDumpFetchParallelism()), pageCount));
+        final long partitionSize = (currentMaxId + fetcherCount - 1) / fetcherCount;
+        StartupDumpProgress progress = StartupDumpProgress.getInstance();
+        progress.start(currentMaxId);
+        DEFAULT_LOG.info("start dump all config-info on startup, maxId={}, fetchers={}, workers={}, pageSize={}",
+                currentMaxId, fetcherCount, workerCount, pageSize);
+        
+        BlockingQueue<List<ConfigInfoWrapper>> pageQueue = new ArrayBlockingQueue<>(workerCount * 2);
+        ExecutorService fetchExecutor = new ThreadPoolExecutor(fetcherCount, fetcherCount, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> new Thread(r, "dump all fetcher"));
+        ExecutorService dumpExecutor = new ThreadPoolExecutor(workerCount, workerCount, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> new Thread(r, "dump all executor"));
+        try {
+            List<Future<?>> dumpFutures = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                dumpFutures.add(dumpExecutor.submit(() -> {
+                    dumpPages(pageQueue, progress);
+                    return null;
+                }));
+            }
+            List<Future<?>> fetchFutures = new ArrayList<>(fetcherCount);
+            for (int i = 0; i < fetcherCount; i++) {
+                long partitionStart = i * partitionSize;
+                // the last partition is only bounded by currentMaxId, configs added after it are dumped only when
+                // they fall into the final page, the rest are left to their own change events.
+                long partitionEnd = i == fetcherCount - 1 ? Long.MAX_VALUE : partitionStart + partitionSize;
+                fetchFutures.add(fetchExecutor.submit(() -> {
+                    fetchPartition(partitionStart, partitionEnd, currentMaxId, pageSize, pageQueue, progress);
+                    return null;
+                }));
+            }
+            try {
+                waitAll(fetchFutures);
+            } finally {
+                for (int i = 0; i < workerCount; i++) {
+                    pageQueue.put(END_OF_PAGES);
+                }
+            }
+            waitAll(dumpFutures);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
+        } finally {
+            fetchExecutor.shutdownNow();
+            dumpExecutor.shutdownNow();
+            progress.finish();
+        }
+        DEFAULT_LOG.info("success to dump all config-info on startup, {}", progress);
+        return true;
+    }
+    
+    private void fetchPartition(long partitionStart, long partitionEnd, long currentMaxId, int pageSize,
+            BlockingQueue<List<ConfigInfoWrapper>> pageQueue, StartupDumpProgress progress)
+            throws InterruptedException {
+        long lastId = partitionStart;
+        long stopId = Math.min(partitionEnd, currentMaxId);
+        while (lastId < stopId) {
+            final long start = System.currentTimeMillis();
+            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastId, pageSize, true);
+            if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                break;
+            }
+            List<ConfigInfoWrapper> configs = new ArrayList<>(page.getPageItems().size());
+            for (ConfigInfoWrapper cf : page.getPageItems()) {
+                if (cf.getId() > partitionEnd) {
+                    break;
+                }
+                lastId = Math.max(cf.getId(), lastId);
+                loadSpecialConfig(cf);
+                configs.add(cf);
+            }
+            if (configs.isEmpty()) {
+                break;
+            }
+            progress.onFetched(configs.size());
+            long dbTimeStamp = System.currentTimeMillis();
+            pageQueue.put(configs);
+            DEFAULT_LOG.info("[all-dump] fetch config-info to {} / {}, dbTime={}, handOffTime={}", lastId,
+                    currentMaxId, (dbTimeStamp - start), (System.currentTimeMillis() - dbTimeStamp));
+            if (configs.size() < page.getPageItems().size()) {
+                break;
+            }
+        }
+    }
+    
+    private void dumpPages(BlockingQueue<List<ConfigInfoWrapper>> pageQueue, StartupDumpProgress progress)
+            throws InterruptedException {
+        int batchSize = Math.max(1, PropertyUtil.getAllDumpDiskBatchSize());
+        List<ConfigInfoWrapper> configs;
+        while ((configs = pageQueue.take()) != END_OF_PAGES) {
+            for (int from = 0; from < configs.size(); from += batchSize) {
+                List<ConfigInfoWrapper> batch = configs.subList(from, Math.min(from + batchSize, configs.size()));
+                dumpBatch(batch, progress);
+            }
+        }
+    }
+    
+    private static void dumpBatch(List<ConfigInfoWrapper> batch, StartupDumpProgress progress) {
+        int successCount = 0;
+        try {
+            for (ConfigInfoWrapper cf : batch) {
+                cf.setMd5(MD5Utils.md5Hex(cf.getContent(), ENCODE_UTF8));
+            }
+            successCount = ConfigCacheService.batchDumpWithMd5(batch);
+        } catch (Exception e) {
+            LogUtil.DUMP_LOG.error("[dump-all-error] batch dump error", e);
+        }
+        progress.onDumped(successCount, batch.size() - successCount);
+        if (successCount < batch.size()) {
+            LogUtil.DUMP_LOG.info("[dump-all-error] batch size={}, success={}", batch.size(), successCount);
+        } else {
+            LogUtil.DUMP_LOG.info("[dump-all-ok] batch size={}, lastId={}", batch.size(),
+                    batch.get(batch.size() - 1).getId());
+        }
+    }
+    
+    private static void waitAll(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new NacosRuntimeException(NacosException.SERVER_ERROR, e.getCause());
+            }
+        }
+    }
+    
+    private static void loadSpecialConfig(ConfigInfoWrapper cf) {
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(cf.getContent());
+        }
+    }
+    
     final ConfigInfoPersistService configInfoPersistService;
 }
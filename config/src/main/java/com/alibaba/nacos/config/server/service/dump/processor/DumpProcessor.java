@@ -18,10 +18,14 @@ package com.alibaba.nacos.config.server.service.dump.processor;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.ConfigInfoGrayWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.dump.DumpConfigHandler;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
@@ -81,6 +85,15 @@ public class DumpProcessor implements NacosTaskProcessor {
             return DumpConfigHandler.configDump(build.build());
         }
         
+        if (canDumpWithContent(dumpTask)) {
+            build.remove(false);
+            build.content(dumpTask.getContent());
+            build.type(dumpTask.getType());
+            build.encryptedDataKey(dumpTask.getEncryptedDataKey());
+            build.lastModifiedTs(lastModifiedOut);
+            return DumpConfigHandler.configDump(build.build());
+        }
+        
         ConfigInfoWrapper cf = configInfoPersistService.findConfigInfo(dataId, group, tenant);
         build.remove(Objects.isNull(cf));
         build.content(Objects.isNull(cf) ? null : cf.getContent());
@@ -90,4 +103,25 @@ public class DumpProcessor implements NacosTaskProcessor {
         return DumpConfigHandler.configDump(build.build());
         
     }
+    
+    /**
+     * The content carried by config change can be dumped directly only if it is intact and the config exists in this
+     * node. A config not existed may be removed by a newer change, so it should be read from db.
+     *
+     * @param dumpTask dump task
+     * @return true if the content carried can be dumped directly
+     */
+    private boolean canDumpWithContent(DumpTask dumpTask) {
+        if (null == dumpTask.getContent()) {
+            return false;
+        }
+        boolean canDump = ConfigCacheService.getLastModifiedTs(dumpTask.getGroupKey()) > 0 && MD5Utils.md5Hex(
+                dumpTask.getContent(), Constants.ENCODE).equals(dumpTask.getMd5());
+        if (canDump) {
+            MetricsMonitor.getClusterSyncContentHitCounter().increment();
+        } else {
+            MetricsMonitor.getClusterSyncContentMissCounter().increment();
+        }
+        return canDump;
+    }
 }
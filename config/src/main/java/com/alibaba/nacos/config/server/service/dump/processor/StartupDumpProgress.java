@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of dumping all config info on startup, the server is not ready until it is finished.
+ *
+ * @author Nacos
+ */
+public final class StartupDumpProgress {
+    
+    private static final StartupDumpProgress INSTANCE = new StartupDumpProgress();
+    
+    private final AtomicLong fetchedCount = new AtomicLong();
+    
+    private final AtomicLong dumpedCount = new AtomicLong();
+    
+    private final AtomicLong failedCount = new AtomicLong();
+    
+    private volatile boolean running;
+    
+    private volatile long maxId;
+    
+    private volatile long startTime;
+    
+    private volatile long endTime;
+    
+    private StartupDumpProgress() {
+    }
+    
+    public static StartupDumpProgress getInstance() {
+        return INSTANCE;
+    }
+    
+    void start(long maxId) {
+        this.maxId = maxId;
+        fetchedCount.set(0);
+        dumpedCount.set(0);
+        failedCount.set(0);
+        startTime = System.currentTimeMillis();
+        endTime = 0;
+        running = true;
+    }
+    
+    void finish() {
+        endTime = System.currentTimeMillis();
+        running = false;
+    }
+    
+    void onFetched(int count) {
+        fetchedCount.addAndGet(count);
+    }
+    
+    void onDumped(int successCount, int failCount) {
+        dumpedCount.addAndGet(successCount);
+        failedCount.addAndGet(failCount);
+    }
+    
+    public boolean isRunning() {
+        return running;
+    }
+    
+    public long getMaxId() {
+        return maxId;
+    }
+    
+    public long getFetchedCount() {
+        return fetchedCount.get();
+    }
+    
+    public long getDumpedCount() {
+        return dumpedCount.get();
+    }
+    
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+    
+    public long getCostMillis() {
+        if (startTime == 0) {
+            return 0;
+        }
+        return (running ? System.currentTimeMillis() : endTime) - startTime;
+    }
+    
+    /**
+     * Get dumped config count per second.
+     *
+     * @return throughput of dumping.
+     */
+    public long getThroughput() {
+        long cost = getCostMillis();
+        return cost <= 0 ? 0 : dumpedCount.get() * 1000 / cost;
+    }
+    
+    @Override
+    public String toString() {
+        return "StartupDumpProgress{" + "running=" + running + ", maxId=" + maxId + ", fetchedCount="
+                + fetchedCount.get() + ", dumpedCount=" + dumpedCount.get() + ", failedCount=" + failedCount.get()
+                + ", costMillis=" + getCostMillis() + ", throughput=" + getThroughput() + "/s}";
+    }
+}
@@ -36,6 +36,11 @@ public class DumpTask extends AbstractDelayTask {
     
     @Override
     public void merge(AbstractDelayTask task) {
+        // the replaced task is newer, read config from db rather than dumping the stale content carried.
+        if (task instanceof DumpTask && ((DumpTask) task).lastModified > lastModified) {
+            content = null;
+            md5 = null;
+        }
     }
     
     final String groupKey;
@@ -46,6 +51,17 @@ public class DumpTask extends AbstractDelayTask {
     
     final String grayName;
     
+    /**
+     * content carried by the config change, the config is dumped without reading db if content is set.
+     */
+    String content;
+    
+    String md5;
+    
+    String type;
+    
+    String encryptedDataKey;
+    
     public String getGroupKey() {
         return groupKey;
     }
@@ -61,5 +77,37 @@ public class DumpTask extends AbstractDelayTask {
     public String getGrayName() {
         return grayName;
     }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public void setMd5(String md5) {
+        this.md5 = md5;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    public void setEncryptedDataKey(String encryptedDataKey) {
+        this.encryptedDataKey = encryptedDataKey;
+    }
 }
 
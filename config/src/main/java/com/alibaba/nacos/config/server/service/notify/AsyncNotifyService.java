@@ -16,14 +16,19 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest.ConfigChangeItem;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncBatchResponse;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
@@ -34,6 +39,8 @@ import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberChangeListener;
+import com.alibaba.nacos.core.cluster.MembersChangeEvent;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.sys.utils.InetUtils;
@@ -42,14 +49,24 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_CLUSTER_SYNC;
+import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_CONFIG_CLUSTER_SYNC_CONTENT;
 import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_GRAY_MODEL;
 
 /**
@@ -73,6 +90,11 @@ public class AsyncNotifyService {
     
     private ServerMemberManager memberManager;
     
+    /**
+     * member address -> config changes waiting to be synced to the member in batch.
+     */
+    private final Map<String, MemberNotifyBatch> memberNotifyBatches = new ConcurrentHashMap<>();
+    
     static final List<NodeState> HEALTHY_CHECK_STATUS = new ArrayList<>();
     
     static {
@@ -101,6 +123,20 @@ public class AsyncNotifyService {
                 return ConfigDataChangeEvent.class;
             }
         });
+        
+        // Drop pending batches of members which leave the cluster.
+        NotifyCenter.registerSubscriber(new MemberChangeListener() {
+            
+            @Override
+            public void onEvent(MembersChangeEvent event) {
+                pruneMemberNotifyBatches();
+            }
+        });
+    }
+    
+    void pruneMemberNotifyBatches() {
+        // pending tasks of a removed batch are dropped when it is flushed, since the member is offline.
+        memberNotifyBatches.keySet().removeIf(address -> !memberManager.hasMember(address));
     }
     
     void handleConfigDataChangeEvent(Event event) {
@@ -114,9 +150,10 @@ public class AsyncNotifyService {
             // In fact, any type of queue here can be
             Queue<NotifySingleRpcTask> rpcQueue = new LinkedList<>();
             
+            String contentMd5 = getSyncContentMd5(evt);
             for (Member member : ipList) {
                 // grpc report data change only
-                NotifySingleRpcTask notifySingleRpcTask = generateTask(evt, member);
+                NotifySingleRpcTask notifySingleRpcTask = generateTask(evt, member, contentMd5);
                 if (notifySingleRpcTask != null) {
                     rpcQueue.add(notifySingleRpcTask);
                 }
@@ -128,12 +165,38 @@ public class AsyncNotifyService {
         }
     }
     
-    private NotifySingleRpcTask generateTask(ConfigDataChangeEvent configDataChangeEvent, Member member) {
+    /**
+     * Get md5 of the config content if it should be carried by cluster sync request.
+     *
+     * @param evt config data change event
+     * @return md5 of the content, or null if the content should not be carried
+     */
+    private static String getSyncContentMd5(ConfigDataChangeEvent evt) {
+        int maxSize = PropertyUtil.getClusterSyncContentMaxSize();
+        if (maxSize <= 0 || null == evt.content || StringUtils.isNotBlank(evt.grayName)) {
+            return null;
+        }
+        if (evt.content.getBytes(StandardCharsets.UTF_8).length > maxSize) {
+            return null;
+        }
+        return MD5Utils.md5Hex(evt.content, Constants.ENCODE);
+    }
+    
+    private NotifySingleRpcTask generateTask(ConfigDataChangeEvent configDataChangeEvent, Member member,
+            String contentMd5) {
         
         NotifySingleRpcTask task = new NotifySingleRpcTask(configDataChangeEvent.dataId, configDataChangeEvent.group,
                 configDataChangeEvent.tenant, configDataChangeEvent.grayName, configDataChangeEvent.lastModifiedTs,
                 member);
         
+        if (null != contentMd5 && (Boolean) member.getExtendInfo()
+                .getOrDefault(SUPPORT_CONFIG_CLUSTER_SYNC_CONTENT, Boolean.FALSE)) {
+            task.setContent(configDataChangeEvent.content);
+            task.setMd5(contentMd5);
+            task.setType(configDataChangeEvent.type);
+            task.setEncryptedDataKey(configDataChangeEvent.encryptedDataKey);
+        }
+        
         if (PropertyUtil.isGrayCompatibleModel() && StringUtils.isNotBlank(configDataChangeEvent.grayName)) {
             
             // old server should set beta or tag flag
@@ -168,6 +231,10 @@ public class AsyncNotifyService {
             syncRequest.setGrayName(task.getGrayName());
             syncRequest.setBeta(task.isBeta());
             syncRequest.setTag(task.getTag());
+            syncRequest.setContent(task.getContent());
+            syncRequest.setMd5(task.getMd5());
+            syncRequest.setType(task.getType());
+            syncRequest.setEncryptedDataKey(task.getEncryptedDataKey());
             Member member = task.member;
             
             String event = getNotifyEvent(task);
@@ -181,6 +248,9 @@ public class AsyncNotifyService {
                             ConfigTraceService.NOTIFY_TYPE_UNHEALTH, 0, member.getAddress());
                     // get delay time and set fail count to the task
                     asyncTaskExecute(task);
+                } else if (isBatchSyncSupported(member)) {
+                    memberNotifyBatches.computeIfAbsent(member.getAddress(), key -> new MemberNotifyBatch())
+                            .add(task);
                 } else {
                     
                     // grpc report data change only
@@ -200,6 +270,94 @@ public class AsyncNotifyService {
         }
     }
     
+    private boolean isBatchSyncSupported(Member member) {
+        return PropertyUtil.getClusterSyncBatchWindow() > 0 && (Boolean) member.getExtendInfo()
+                .getOrDefault(SUPPORT_BATCH_CONFIG_CLUSTER_SYNC, Boolean.FALSE);
+    }
+    
+    void executeBatchRpcTask(List<NotifySingleRpcTask> tasks) {
+        Member member = tasks.get(0).member;
+        if (!memberManager.hasMember(member.getAddress())) {
+            //No nothing if  member has offline.
+            return;
+        }
+        ConfigChangeClusterSyncBatchRequest batchRequest = new ConfigChangeClusterSyncBatchRequest();
+        for (NotifySingleRpcTask task : tasks) {
+            ConfigChangeItem item = new ConfigChangeItem();
+            item.setDataId(task.getDataId());
+            item.setGroup(task.getGroup());
+            item.setTenant(task.getTenant());
+            item.setGrayName(task.getGrayName());
+            item.setLastModified(task.getLastModified());
+            item.setContent(task.getContent());
+            item.setMd5(task.getMd5());
+            item.setType(task.getType());
+            item.setEncryptedDataKey(task.getEncryptedDataKey());
+            batchRequest.getConfigChanges().add(item);
+        }
+        MetricsMonitor.getClusterSyncBatchSize().record(tasks.size());
+        try {
+            configClusterRpcClientProxy.syncConfigChangeBatch(member, batchRequest,
+                    new AsyncRpcBatchNotifyCallBack(AsyncNotifyService.this, tasks));
+        } catch (Exception e) {
+            MetricsMonitor.getConfigNotifyException().increment();
+            tasks.forEach(this::asyncTaskExecute);
+        }
+    }
+    
+    /**
+     * Config changes waiting to be synced to one member, they are sent in one batch request when the batch window
+     * elapses or the max batch size is reached.
+     */
+    class MemberNotifyBatch implements Runnable {
+        
+        private final Queue<NotifySingleRpcTask> pendingTasks = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        
+        private final AtomicBoolean flushing = new AtomicBoolean();
+        
+        void add(NotifySingleRpcTask task) {
+            pendingTasks.add(task);
+            if (pendingCount.incrementAndGet() >= PropertyUtil.getClusterSyncBatchMaxSize()) {
+                if (flushing.compareAndSet(false, true)) {
+                    ConfigExecutor.executeAsyncNotify(this);
+                }
+            } else if (scheduled.compareAndSet(false, true)) {
+                ConfigExecutor.scheduleAsyncNotify(this, PropertyUtil.getClusterSyncBatchWindow(),
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+        
+        @Override
+        public void run() {
+            // reset flags before draining, so that tasks added during draining will trigger another flush.
+            scheduled.set(false);
+            flushing.set(false);
+            List<NotifySingleRpcTask> batch = drain();
+            while (!batch.isEmpty()) {
+                executeBatchRpcTask(batch);
+                batch = drain();
+            }
+        }
+        
+        private List<NotifySingleRpcTask> drain() {
+            int maxSize = PropertyUtil.getClusterSyncBatchMaxSize();
+            List<NotifySingleRpcTask> batch = new ArrayList<>();
+            while (batch.size() < maxSize) {
+                NotifySingleRpcTask task = pendingTasks.poll();
+                if (task == null) {
+                    break;
+                }
+                pendingCount.decrementAndGet();
+                batch.add(task);
+            }
+            return batch;
+        }
+    }
+    
     public class AsyncRpcTask implements Runnable {
         
         private Queue<NotifySingleRpcTask> queue;
@@ -236,6 +394,14 @@ public class AsyncNotifyService {
         @Deprecated
         private String tag;
         
+        private String content;
+        
+        private String md5;
+        
+        private String type;
+        
+        private String encryptedDataKey;
+        
         public NotifySingleRpcTask(String dataId, String group, String tenant, String grayName, long lastModified,
                 Member member) {
             this.dataId = dataId;
@@ -268,6 +434,38 @@ public class AsyncNotifyService {
             return grayName;
         }
         
+        public String getContent() {
+            return content;
+        }
+        
+        public void setContent(String content) {
+            this.content = content;
+        }
+        
+        public String getMd5() {
+            return md5;
+        }
+        
+        public void setMd5(String md5) {
+            this.md5 = md5;
+        }
+        
+        public String getType() {
+            return type;
+        }
+        
+        public void setType(String type) {
+            this.type = type;
+        }
+        
+        public String getEncryptedDataKey() {
+            return encryptedDataKey;
+        }
+        
+        public void setEncryptedDataKey(String encryptedDataKey) {
+            this.encryptedDataKey = encryptedDataKey;
+        }
+        
         public void setGrayName(String grayName) {
             this.grayName = grayName;
         }
@@ -347,50 +545,99 @@ public class AsyncNotifyService {
         
         @Override
         public void onResponse(ConfigChangeClusterSyncResponse response) {
-            String event = getNotifyEvent(task);
-            
-            long delayed = System.currentTimeMillis() - task.getLastModified();
             if (response.isSuccess()) {
-                ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
-                        task.getLastModified(), InetUtils.getSelfIP(), event, ConfigTraceService.NOTIFY_TYPE_OK,
-                        delayed, task.member.getAddress());
+                logNotifySuccess(task);
             } else {
                 LOGGER.error("[notify-error] target:{} dataId:{} group:{} ts:{} code:{}", task.member.getAddress(),
                         task.getDataId(), task.getGroup(), task.getLastModified(), response.getErrorCode());
-                ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
-                        task.getLastModified(), InetUtils.getSelfIP(), event, ConfigTraceService.NOTIFY_TYPE_ERROR,
-                        delayed, task.member.getAddress());
-                
-                //get delay time and set fail count to the task
-                asyncNotifyService.asyncTaskExecute(task);
-                
-                LogUtil.NOTIFY_LOG.error("[notify-retry] target:{} dataId:{} group:{} ts:{}", task.member.getAddress(),
-                        task.getDataId(), task.getGroup(), task.getLastModified());
-                
-                MetricsMonitor.getConfigNotifyException().increment();
+                asyncNotifyService.retryNotifyTask(task, ConfigTraceService.NOTIFY_TYPE_ERROR);
             }
         }
         
         @Override
         public void onException(Throwable ex) {
-            String event = getNotifyEvent(task);
-            
-            long delayed = System.currentTimeMillis() - task.getLastModified();
             LOGGER.error("[notify-exception] target:{} dataId:{} group:{} ts:{} ex:{}", task.member.getAddress(),
                     task.getDataId(), task.getGroup(), task.getLastModified(), ex);
-            ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
-                    task.getLastModified(), InetUtils.getSelfIP(), event, ConfigTraceService.NOTIFY_TYPE_EXCEPTION,
-                    delayed, task.member.getAddress());
-            
-            //get delay time and set fail count to the task
-            asyncNotifyService.asyncTaskExecute(task);
-            LogUtil.NOTIFY_LOG.error("[notify-retry] target:{} dataId:{} group:{} ts:{}", task.member.getAddress(),
-                    task.getDataId(), task.getGroup(), task.getLastModified());
-            
-            MetricsMonitor.getConfigNotifyException().increment();
+            asyncNotifyService.retryNotifyTask(task, ConfigTraceService.NOTIFY_TYPE_EXCEPTION);
+        }
+    }
+    
+    public static class AsyncRpcBatchNotifyCallBack implements RequestCallBack<ConfigChangeClusterSyncBatchResponse> {
+        
+        private final List<NotifySingleRpcTask> tasks;
+        
+        AsyncNotifyService asyncNotifyService;
+        
+        public AsyncRpcBatchNotifyCallBack(AsyncNotifyService asyncNotifyService, List<NotifySingleRpcTask> tasks) {
+            this.tasks = tasks;
+            this.asyncNotifyService = asyncNotifyService;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return ConfigExecutor.getConfigSubServiceExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return 3000L;
+        }
+        
+        @Override
+        public void onResponse(ConfigChangeClusterSyncBatchResponse response) {
+            if (!response.isSuccess()) {
+                LOGGER.error("[notify-error] target:{} batch size:{} code:{}", tasks.get(0).member.getAddress(),
+                        tasks.size(), response.getErrorCode());
+                for (NotifySingleRpcTask task : tasks) {
+                    asyncNotifyService.retryNotifyTask(task, ConfigTraceService.NOTIFY_TYPE_ERROR);
+                }
+                return;
+            }
+            Set<Integer> failedIndexes = new HashSet<>(response.getFailedIndexes());
+            for (int i = 0; i < tasks.size(); i++) {
+                NotifySingleRpcTask task = tasks.get(i);
+                if (failedIndexes.contains(i)) {
+                    LOGGER.error("[notify-error] target:{} dataId:{} group:{} ts:{}", task.member.getAddress(),
+                            task.getDataId(), task.getGroup(), task.getLastModified());
+                    asyncNotifyService.retryNotifyTask(task, ConfigTraceService.NOTIFY_TYPE_ERROR);
+                } else {
+                    logNotifySuccess(task);
+                }
+            }
+        }
+        
+        @Override
+        public void onException(Throwable ex) {
+            LOGGER.error("[notify-exception] target:{} batch size:{} ex:{}", tasks.get(0).member.getAddress(),
+                    tasks.size(), ex);
+            for (NotifySingleRpcTask task : tasks) {
+                asyncNotifyService.retryNotifyTask(task, ConfigTraceService.NOTIFY_TYPE_EXCEPTION);
+            }
         }
     }
     
+    private static void logNotifySuccess(NotifySingleRpcTask task) {
+        long delayed = System.currentTimeMillis() - task.getLastModified();
+        ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
+                task.getLastModified(), InetUtils.getSelfIP(), getNotifyEvent(task), ConfigTraceService.NOTIFY_TYPE_OK,
+                delayed, task.member.getAddress());
+        MetricsMonitor.getClusterSyncRtTimer().record(delayed, TimeUnit.MILLISECONDS);
+    }
+    
+    private void retryNotifyTask(NotifySingleRpcTask task, String notifyType) {
+        long delayed = System.currentTimeMillis() - task.getLastModified();
+        ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
+                task.getLastModified(), InetUtils.getSelfIP(), getNotifyEvent(task), notifyType, delayed,
+                task.member.getAddress());
+        
+        //get delay time and set fail count to the task
+        asyncTaskExecute(task);
+        LogUtil.NOTIFY_LOG.error("[notify-retry] target:{} dataId:{} group:{} ts:{}", task.member.getAddress(),
+                task.getDataId(), task.getGroup(), task.getLastModified());
+        
+        MetricsMonitor.getConfigNotifyException().increment();
+    }
+    
     /**
      * get delayTime and also set failCount to task; The failure time index increases, so as not to retry invalid tasks
      * in the offline scene, which affects the normal synchronization.
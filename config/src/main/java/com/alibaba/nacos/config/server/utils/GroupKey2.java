@@ -45,6 +45,16 @@ public class GroupKey2 {
         return sb.toString();
     }
     
+    /**
+     * Get key of gray config, gray name is encoded as well so that it never makes the key ambiguous.
+     */
+    public static String getGrayKey(String dataId, String group, String tenant, String grayName) {
+        StringBuilder sb = new StringBuilder(getKey(dataId, group, tenant));
+        sb.append('+');
+        urlEncode(grayName, sb);
+        return sb.toString();
+    }
+    
     /**
      * Parse the group key.
      */
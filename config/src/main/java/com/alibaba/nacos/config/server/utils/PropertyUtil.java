@@ -118,6 +118,73 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * Whether to keep hot config content in heap to avoid reading local disk cache for every query.
+     */
+    private static boolean contentCacheEnabled = true;
+    
+    /**
+     * The max bytes of config content kept in heap, default 64MB.
+     */
+    private static long contentCacheMaxBytes = 64 * 1024 * 1024L;
+    
+    /**
+     * The max time in milliseconds to wait for more config changes before syncing them to a member in one batch,
+     * batch sync is disabled if not positive.
+     */
+    private static long clusterSyncBatchWindow = 50L;
+    
+    /**
+     * The max count of config changes synced to a member in one batch.
+     */
+    private static int clusterSyncBatchMaxSize = 200;
+    
+    /**
+     * The max bytes of config content carried by cluster sync request, so that other nodes can dump it without
+     * reading db, disabled if not positive.
+     */
+    private static int clusterSyncContentMaxSize = 0;
+    
+    /**
+     * The count of threads fetching config info from db concurrently by id range when dumping all on startup.
+     */
+    private static int allDumpFetchParallelism = 4;
+    
+    /**
+     * The max count of configs saved to local disk in one batch when dumping all on startup.
+     */
+    private static int allDumpDiskBatchSize = 100;
+    
+    /**
+     * The write buffer size in MB of formal configs in rocksdb, calculated by max heap size if not positive.
+     */
+    private static long rocksDbWriteBufferMB = 0L;
+    
+    /**
+     * The write buffer size in MB of gray configs in rocksdb.
+     */
+    private static long rocksDbGrayWriteBufferMB = 32L;
+    
+    /**
+     * The size in MB of block cache shared by formal and gray configs in rocksdb.
+     */
+    private static long rocksDbBlockCacheMB = 64L;
+    
+    /**
+     * The bits per key of rocksdb bloom filter, bloom filter is disabled if not positive.
+     */
+    private static int rocksDbBloomBitsPerKey = 10;
+    
+    /**
+     * Whether to collect rocksdb statistics and export them to metrics.
+     */
+    private static boolean rocksDbStatisticsEnabled = false;
+    
+    /**
+     * The size in MB of segment files of mmap disk service.
+     */
+    private static int mmapSegmentSizeMB = 64;
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -134,6 +201,110 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.dumpChangeWorkerInterval = dumpChangeWorkerInterval;
     }
     
+    public static boolean isContentCacheEnabled() {
+        return contentCacheEnabled;
+    }
+    
+    public static void setContentCacheEnabled(boolean contentCacheEnabled) {
+        PropertyUtil.contentCacheEnabled = contentCacheEnabled;
+    }
+    
+    public static long getContentCacheMaxBytes() {
+        return contentCacheMaxBytes;
+    }
+    
+    public static void setContentCacheMaxBytes(long contentCacheMaxBytes) {
+        PropertyUtil.contentCacheMaxBytes = contentCacheMaxBytes;
+    }
+    
+    public static long getClusterSyncBatchWindow() {
+        return clusterSyncBatchWindow;
+    }
+    
+    public static void setClusterSyncBatchWindow(long clusterSyncBatchWindow) {
+        PropertyUtil.clusterSyncBatchWindow = clusterSyncBatchWindow;
+    }
+    
+    public static int getClusterSyncBatchMaxSize() {
+        return clusterSyncBatchMaxSize;
+    }
+    
+    public static void setClusterSyncBatchMaxSize(int clusterSyncBatchMaxSize) {
+        PropertyUtil.clusterSyncBatchMaxSize = clusterSyncBatchMaxSize;
+    }
+    
+    public static int getClusterSyncContentMaxSize() {
+        return clusterSyncContentMaxSize;
+    }
+    
+    public static void setClusterSyncContentMaxSize(int clusterSyncContentMaxSize) {
+        PropertyUtil.clusterSyncContentMaxSize = clusterSyncContentMaxSize;
+    }
+    
+    public static int getAllDumpFetchParallelism() {
+        return allDumpFetchParallelism;
+    }
+    
+    public static void setAllDumpFetchParallelism(int allDumpFetchParallelism) {
+        PropertyUtil.allDumpFetchParallelism = allDumpFetchParallelism;
+    }
+    
+    public static int getAllDumpDiskBatchSize() {
+        return allDumpDiskBatchSize;
+    }
+    
+    public static void setAllDumpDiskBatchSize(int allDumpDiskBatchSize) {
+        PropertyUtil.allDumpDiskBatchSize = allDumpDiskBatchSize;
+    }
+    
+    public static long getRocksDbWriteBufferMB() {
+        return rocksDbWriteBufferMB;
+    }
+    
+    public static void setRocksDbWriteBufferMB(long rocksDbWriteBufferMB) {
+        PropertyUtil.rocksDbWriteBufferMB = rocksDbWriteBufferMB;
+    }
+    
+    public static long getRocksDbGrayWriteBufferMB() {
+        return rocksDbGrayWriteBufferMB;
+    }
+    
+    public static void setRocksDbGrayWriteBufferMB(long rocksDbGrayWriteBufferMB) {
+        PropertyUtil.rocksDbGrayWriteBufferMB = rocksDbGrayWriteBufferMB;
+    }
+    
+    public static long getRocksDbBlockCacheMB() {
+        return rocksDbBlockCacheMB;
+    }
+    
+    public static void setRocksDbBlockCacheMB(long rocksDbBlockCacheMB) {
+        PropertyUtil.rocksDbBlockCacheMB = rocksDbBlockCacheMB;
+    }
+    
+    public static int getRocksDbBloomBitsPerKey() {
+        return rocksDbBloomBitsPerKey;
+    }
+    
+    public static void setRocksDbBloomBitsPerKey(int rocksDbBloomBitsPerKey) {
+        PropertyUtil.rocksDbBloomBitsPerKey = rocksDbBloomBitsPerKey;
+    }
+    
+    public static boolean isRocksDbStatisticsEnabled() {
+        return rocksDbStatisticsEnabled;
+    }
+    
+    public static void setRocksDbStatisticsEnabled(boolean rocksDbStatisticsEnabled) {
+        PropertyUtil.rocksDbStatisticsEnabled = rocksDbStatisticsEnabled;
+    }
+    
+    public static int getMmapSegmentSizeMB() {
+        return mmapSegmentSizeMB;
+    }
+    
+    public static void setMmapSegmentSizeMB(int mmapSegmentSizeMB) {
+        PropertyUtil.mmapSegmentSizeMB = mmapSegmentSizeMB;
+    }
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -323,6 +494,23 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
             setGrayCompatibleModel(getBoolean(PropertiesConstant.GRAY_CAPATIBEL_MODEL, grayCompatibleModel));
+            setContentCacheEnabled(getBoolean(PropertiesConstant.CONTENT_CACHE_ENABLED, contentCacheEnabled));
+            setContentCacheMaxBytes(getLong(PropertiesConstant.CONTENT_CACHE_MAX_BYTES, contentCacheMaxBytes));
+            setClusterSyncBatchWindow(getLong(PropertiesConstant.CLUSTER_SYNC_BATCH_WINDOW, clusterSyncBatchWindow));
+            setClusterSyncBatchMaxSize(getInt(PropertiesConstant.CLUSTER_SYNC_BATCH_MAX_SIZE, clusterSyncBatchMaxSize));
+            setClusterSyncContentMaxSize(
+                    getInt(PropertiesConstant.CLUSTER_SYNC_CONTENT_MAX_SIZE, clusterSyncContentMaxSize));
+            setAllDumpFetchParallelism(
+                    getInt(PropertiesConstant.ALL_DUMP_FETCH_PARALLELISM, allDumpFetchParallelism));
+            setAllDumpDiskBatchSize(getInt(PropertiesConstant.ALL_DUMP_DISK_BATCH_SIZE, allDumpDiskBatchSize));
+            setRocksDbWriteBufferMB(getLong(PropertiesConstant.ROCKSDB_WRITE_BUFFER_MB, rocksDbWriteBufferMB));
+            setRocksDbGrayWriteBufferMB(
+                    getLong(PropertiesConstant.ROCKSDB_GRAY_WRITE_BUFFER_MB, rocksDbGrayWriteBufferMB));
+            setRocksDbBlockCacheMB(getLong(PropertiesConstant.ROCKSDB_BLOCK_CACHE_MB, rocksDbBlockCacheMB));
+            setRocksDbBloomBitsPerKey(getInt(PropertiesConstant.ROCKSDB_BLOOM_BITS_PER_KEY, rocksDbBloomBitsPerKey));
+            setRocksDbStatisticsEnabled(
+                    getBoolean(PropertiesConstant.ROCKSDB_STATISTICS_ENABLED, rocksDbStatisticsEnabled));
+            setMmapSegmentSizeMB(getInt(PropertiesConstant.MMAP_SEGMENT_SIZE_MB, mmapSegmentSizeMB));
             
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
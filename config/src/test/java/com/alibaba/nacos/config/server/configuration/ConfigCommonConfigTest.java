@@ -73,9 +73,15 @@ class ConfigCommonConfigTest {
     void testUpgradeFromEvent() {
         environment.setProperty("nacos.config.push.maxRetryTime", "100");
         environment.setProperty("nacos.config.derby.ops.enabled", "true");
+        environment.setProperty("nacos.config.push.batch.windowMs", "20");
+        environment.setProperty("nacos.config.push.batch.maxSize", "10");
+        environment.setProperty("nacos.config.batch.query.maxSize", "100");
         commonConfig.onEvent(ServerConfigChangeEvent.newEvent());
         assertEquals(100, commonConfig.getMaxPushRetryTimes());
         assertTrue(commonConfig.isDerbyOpsEnabled());
+        assertEquals(20L, commonConfig.getPushBatchWindowMs());
+        assertEquals(10, commonConfig.getPushBatchMaxSize());
+        assertEquals(100, commonConfig.getBatchQueryMaxSize());
     }
     
     @Test
@@ -87,5 +93,6 @@ class ConfigCommonConfigTest {
         declaredConstructor.setAccessible(true);
         ConfigCommonConfig configCommonConfig = declaredConstructor.newInstance();
         assertEquals(6, configCommonConfig.getMaxPushRetryTimes());
+        assertEquals(0L, configCommonConfig.getPushBatchWindowMs());
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.auth.config.AuthConfigs;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.core.context.RequestContextHolder;
+import com.alibaba.nacos.plugin.auth.api.IdentityContext;
+import com.alibaba.nacos.plugin.auth.api.Permission;
+import com.alibaba.nacos.plugin.auth.spi.server.AuthPluginManager;
+import com.alibaba.nacos.plugin.auth.spi.server.AuthPluginService;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigBatchQueryRequestHandlerTest {
+    
+    @Mock
+    private ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    @Mock
+    private AuthConfigs authConfigs;
+    
+    @Mock
+    private AuthPluginManager authPluginManager;
+    
+    @Mock
+    private AuthPluginService authPluginService;
+    
+    private MockedStatic<AuthPluginManager> authPluginManagerMockedStatic;
+    
+    private ConfigBatchQueryRequestHandler configBatchQueryRequestHandler;
+    
+    private RequestMeta meta;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        authPluginManagerMockedStatic = Mockito.mockStatic(AuthPluginManager.class);
+        authPluginManagerMockedStatic.when(AuthPluginManager::getInstance).thenReturn(authPluginManager);
+        configBatchQueryRequestHandler = new ConfigBatchQueryRequestHandler(configQueryRequestHandler, authConfigs);
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        meta = new RequestMeta();
+        meta.setClientIp("127.0.0.1");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        authPluginManagerMockedStatic.close();
+        RequestContextHolder.removeContext();
+        EnvUtil.setEnvironment(null);
+    }
+    
+    @Test
+    void testHandleQueryEveryConfig() throws Exception {
+        ConfigQueryResponse found = ConfigQueryResponse.buildSuccessResponse("content");
+        found.setEncryptedDataKey("key");
+        final ConfigQueryResponse notFound = ConfigQueryResponse.buildFailResponse(
+                ConfigQueryResponse.CONFIG_NOT_FOUND, "not exist");
+        when(configQueryRequestHandler.query(any(ConfigQueryRequest.class), eq(meta), eq(false), anyInt(),
+                anyMap())).thenAnswer(invocation -> "dataId1".equals(
+                        ((ConfigQueryRequest) invocation.getArgument(0)).getDataId()) ? found : notFound);
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        request.addConfigQueryContext("dataId1", "group", "tenant", null);
+        request.addConfigQueryContext("dataId2", "group", "tenant", "tag");
+        
+        ConfigBatchQueryResponse response = configBatchQueryRequestHandler.handle(request, meta);
+        
+        assertTrue(response.isSuccess());
+        List<ConfigBatchQueryResponse.ConfigQueryResult> results = response.getConfigQueryResults();
+        assertEquals(2, results.size());
+        assertEquals("dataId1", results.get(0).getDataId());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("content", results.get(0).getContent());
+        assertEquals("key", results.get(0).getEncryptedDataKey());
+        assertEquals("dataId2", results.get(1).getDataId());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, results.get(1).getErrorCode());
+        verify(configQueryRequestHandler).query(argThat(
+                (ConfigQueryRequest each) -> "dataId2".equals(each.getDataId()) && "tag".equals(each.getTag())),
+                eq(meta), eq(false), anyInt(), anyMap());
+    }
+    
+    @Test
+    void testHandleTooManyConfigs() {
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        int maxSize = ConfigCommonConfig.getInstance().getBatchQueryMaxSize();
+        for (int i = 0; i <= maxSize; i++) {
+            request.addConfigQueryContext("dataId" + i, "group", "tenant", null);
+        }
+        
+        try (MockedStatic<ConfigCacheService> configCacheService = Mockito.mockStatic(ConfigCacheService.class)) {
+            NacosException exception = assertThrows(NacosException.class,
+                    () -> configBatchQueryRequestHandler.handle(request, meta));
+            
+            assertEquals(NacosException.INVALID_PARAM, exception.getErrCode());
+            configCacheService.verify(() -> ConfigCacheService.tryConfigReadLock(any()), never());
+        }
+    }
+    
+    @Test
+    void testHandleValidatePermissionOfEveryConfig() throws Exception {
+        when(authConfigs.isAuthEnabled()).thenReturn(true);
+        when(authConfigs.getNacosAuthSystemType()).thenReturn("mock");
+        when(authPluginManager.findAuthServiceSpiImpl("mock")).thenReturn(Optional.of(authPluginService));
+        when(authPluginService.enableAuth(any(), any())).thenReturn(true);
+        when(authPluginService.validateAuthority(any(IdentityContext.class), any(Permission.class))).thenAnswer(
+                invocation -> !"denied".equals(((Permission) invocation.getArgument(1)).getResource().getName()));
+        RequestContextHolder.getContext().getAuthContext().setIdentityContext(new IdentityContext());
+        when(configQueryRequestHandler.query(argThat(request -> "allowed".equals(request.getDataId())), eq(meta),
+                eq(false), anyInt(), anyMap())).thenReturn(ConfigQueryResponse.buildSuccessResponse("content"));
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        request.addConfigQueryContext("allowed", "group", "tenant", null);
+        request.addConfigQueryContext("denied", "group", "tenant", null);
+        
+        ConfigBatchQueryResponse response = configBatchQueryRequestHandler.handle(request, meta);
+        
+        List<ConfigBatchQueryResponse.ConfigQueryResult> results = response.getConfigQueryResults();
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("content", results.get(0).getContent());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(ConfigQueryResponse.NO_RIGHT, results.get(1).getErrorCode());
+        verify(configQueryRequestHandler, never()).query(
+                argThat((ConfigQueryRequest each) -> "denied".equals(each.getDataId())), any(), eq(false), anyInt(),
+                anyMap());
+    }
+    
+    @Test
+    void testHandleLoadContentsByOneBatchRead() throws Exception {
+        configBatchQueryRequestHandler = new ConfigBatchQueryRequestHandler(new ConfigQueryRequestHandler(),
+                authConfigs);
+        String groupKey1 = GroupKey2.getKey("dataId1", "group", "tenant");
+        String groupKey2 = GroupKey2.getKey("dataId2", "group", "tenant");
+        ConfigDiskService configDiskService = Mockito.mock(ConfigDiskService.class);
+        try (MockedStatic<ConfigCacheService> configCacheService = Mockito.mockStatic(ConfigCacheService.class);
+                MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactory = Mockito.mockStatic(
+                        ConfigDiskServiceFactory.class)) {
+            configDiskServiceFactory.when(ConfigDiskServiceFactory::getInstance).thenReturn(configDiskService);
+            configCacheService.when(() -> ConfigCacheService.tryConfigReadLock(any())).thenReturn(1);
+            configCacheService.when(() -> ConfigCacheService.getContentCache(groupKey1))
+                    .thenReturn(new CacheItem(groupKey1));
+            configCacheService.when(() -> ConfigCacheService.getContentCache(groupKey2))
+                    .thenReturn(new CacheItem(groupKey2));
+            when(configDiskService.batchGetContent(any())).thenReturn(Collections.singletonMap(groupKey1, "content1"));
+            ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+            request.addConfigQueryContext("dataId1", "group", "tenant", null);
+            request.addConfigQueryContext("dataId2", "group", "tenant", null);
+            request.addConfigQueryContext("dataId1", "group", "tenant", null);
+            
+            ConfigBatchQueryResponse response = configBatchQueryRequestHandler.handle(request, meta);
+            
+            List<ConfigBatchQueryResponse.ConfigQueryResult> results = response.getConfigQueryResults();
+            assertEquals(3, results.size());
+            assertEquals("content1", results.get(0).getContent());
+            assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, results.get(1).getErrorCode());
+            assertEquals("content1", results.get(2).getContent());
+            verify(configDiskService).batchGetContent(
+                    argThat(groupKeys -> new HashSet<>(groupKeys).equals(new HashSet<>(Arrays.asList(groupKey1,
+                            groupKey2)))));
+            verify(configDiskService, never()).getContent(any(), any(), any());
+            // read lock of every config is taken and released once for the whole batch.
+            configCacheService.verify(() -> ConfigCacheService.tryConfigReadLock(groupKey1));
+            configCacheService.verify(() -> ConfigCacheService.releaseReadLock(groupKey1));
+            configCacheService.verify(() -> ConfigCacheService.releaseReadLock(groupKey2));
+        }
+    }
+}
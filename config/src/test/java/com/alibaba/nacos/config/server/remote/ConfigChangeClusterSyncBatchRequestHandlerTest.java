@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncBatchResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.config.server.service.dump.DumpRequest;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigChangeClusterSyncBatchRequestHandlerTest {
+    
+    private ConfigChangeClusterSyncBatchRequestHandler configChangeClusterSyncBatchRequestHandler;
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @BeforeEach
+    void setUp() {
+        configChangeClusterSyncBatchRequestHandler = new ConfigChangeClusterSyncBatchRequestHandler(dumpService);
+    }
+    
+    @Test
+    void testHandle() throws NacosException {
+        ConfigChangeClusterSyncBatchRequest request = new ConfigChangeClusterSyncBatchRequest();
+        request.addConfigChange("dataId1", "group", "tenant", null, 1L);
+        request.addConfigChange("dataId2", "group", "tenant", "beta", 2L);
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        ConfigChangeClusterSyncBatchResponse response = configChangeClusterSyncBatchRequestHandler.handle(request,
+                meta);
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        assertEquals(0, response.getFailedIndexes().size());
+        ArgumentCaptor<DumpRequest> captor = ArgumentCaptor.forClass(DumpRequest.class);
+        verify(dumpService, times(2)).dump(captor.capture());
+        DumpRequest second = captor.getAllValues().get(1);
+        assertEquals("dataId2", second.getDataId());
+        assertEquals("beta", second.getGrayName());
+        assertEquals(2L, second.getLastModifiedTs());
+        assertEquals("1.1.1.1", second.getSourceIp());
+    }
+    
+    @Test
+    void testHandlePartialFailed() throws NacosException {
+        doAnswer(invocation -> {
+            DumpRequest dumpRequest = invocation.getArgument(0);
+            if ("dataId2".equals(dumpRequest.getDataId())) {
+                throw new IllegalStateException("dump failed");
+            }
+            return null;
+        }).when(dumpService).dump(any(DumpRequest.class));
+        ConfigChangeClusterSyncBatchRequest request = new ConfigChangeClusterSyncBatchRequest();
+        request.addConfigChange("dataId1", "group", "tenant", null, 1L);
+        request.addConfigChange("dataId2", "group", "tenant", null, 2L);
+        request.addConfigChange("dataId3", "group", "tenant", null, 3L);
+        ConfigChangeClusterSyncBatchResponse response = configChangeClusterSyncBatchRequestHandler.handle(request,
+                new RequestMeta());
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+        assertEquals(Collections.singletonList(1), response.getFailedIndexes());
+        verify(dumpService, times(3)).dump(any(DumpRequest.class));
+    }
+}
@@ -23,10 +23,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -70,6 +72,49 @@ class ConfigChangeListenContextTest {
         assertNull(connectionIdAfter);
     }
     
+    @Test
+    void testAddListenRacingWithClear() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            final String connectionId = "connection_" + round;
+            CountDownLatch start = new CountDownLatch(1);
+            Thread listener = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < 50; i++) {
+                    configChangeListenContext.addListen("groupKey" + i, "md5", connectionId);
+                }
+            });
+            Thread cleaner = new Thread(() -> {
+                awaitQuietly(start);
+                configChangeListenContext.clearContextForConnectionId(connectionId);
+            });
+            listener.start();
+            cleaner.start();
+            start.countDown();
+            listener.join();
+            cleaner.join();
+            // every group key index entry of the connection must be known by the connection index.
+            Map<String, String> listenKeys = configChangeListenContext.getListenKeys(connectionId);
+            for (int i = 0; i < 50; i++) {
+                Set<String> listeners = configChangeListenContext.getListeners("groupKey" + i);
+                if (listeners != null && listeners.contains(connectionId)) {
+                    assertTrue(listenKeys != null && listenKeys.containsKey("groupKey" + i));
+                }
+            }
+            configChangeListenContext.clearContextForConnectionId(connectionId);
+        }
+        for (int i = 0; i < 50; i++) {
+            assertNull(configChangeListenContext.getListeners("groupKey" + i));
+        }
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     @Test
     void testGetListenKeys() {
         configChangeListenContext.addListen("groupKey", "md5", "connectionId");
@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -33,6 +36,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -40,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -47,6 +52,7 @@ import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -106,7 +112,7 @@ class RpcConfigChangeNotifierTest {
     
     @Test
     void testOnDataEvent() throws InterruptedException {
-        
+        ConfigCommonConfig.getInstance().setPushBatchWindowMs(0L);
         final String groupKey = GroupKey2.getKey("nacos.internal.tps.control_rule_1", "nacos", "tenant");
         
         List<String> betaIps = new ArrayList<>();
@@ -144,6 +150,53 @@ class RpcConfigChangeNotifierTest {
         
     }
     
+    @Test
+    void testOnDataEventCoalescedByConnection() {
+        ConfigCommonConfig.getInstance().setPushBatchWindowMs(20L);
+        final String groupKey1 = GroupKey2.getKey("dataId1", "group", "tenant");
+        final String groupKey2 = GroupKey2.getKey("dataId2", "group", "tenant");
+        Set<String> batchConnectionIds = new HashSet<>();
+        batchConnectionIds.add("batchCon");
+        Set<String> allConnectionIds = new HashSet<>(batchConnectionIds);
+        allConnectionIds.add("legacyCon");
+        Mockito.when(configChangeListenContext.getListeners(eq(groupKey1))).thenReturn(allConnectionIds);
+        Mockito.when(configChangeListenContext.getListeners(eq(groupKey2))).thenReturn(batchConnectionIds);
+        GrpcConnection batchConn = Mockito.mock(GrpcConnection.class);
+        Mockito.when(connectionManager.getConnection(eq("batchCon"))).thenReturn(batchConn);
+        Mockito.when(batchConn.getMetaInfo())
+                .thenReturn(new ConnectionMeta("batchCon", "192.168.0.1", "192.168.0.2", 34567, 9848, "GRPC", "3.0.0", null, new HashMap<>()));
+        Mockito.when(batchConn.getAbilityTable())
+                .thenReturn(Collections.singletonMap(AbilityKey.SDK_CLIENT_SUPPORT_BATCH_CONFIG_CHANGE_NOTIFY.getName(), true));
+        GrpcConnection legacyConn = Mockito.mock(GrpcConnection.class);
+        Mockito.when(connectionManager.getConnection(eq("legacyCon"))).thenReturn(legacyConn);
+        Mockito.when(legacyConn.getMetaInfo())
+                .thenReturn(new ConnectionMeta("legacyCon", "192.168.0.1", "192.168.0.2", 34567, 9848, "GRPC", "2.2.0", null, new HashMap<>()));
+        MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
+        try {
+            rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey1));
+            rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey2));
+            rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey1));
+            // only one flush scheduled for the window.
+            configExecutorMockedStatic.verify(
+                    () -> ConfigExecutor.scheduleClientConfigNotifier(any(Runnable.class), eq(20L), eq(TimeUnit.MILLISECONDS)),
+                    times(1));
+            rpcConfigChangeNotifier.flushPendingChanges();
+            ArgumentCaptor<RpcConfigChangeNotifier.RpcPushTask> captor = ArgumentCaptor.forClass(RpcConfigChangeNotifier.RpcPushTask.class);
+            configExecutorMockedStatic.verify(
+                    () -> ConfigExecutor.scheduleClientConfigNotifier(captor.capture(), eq(0L), eq(TimeUnit.SECONDS)), times(2));
+            for (RpcConfigChangeNotifier.RpcPushTask each : captor.getAllValues()) {
+                if ("batchCon".equals(each.getConnectionId())) {
+                    assertEquals(2, ((ConfigChangeBatchNotifyRequest) each.getNotifyRequest()).getConfigs().size());
+                } else {
+                    assertEquals("dataId1", ((ConfigChangeNotifyRequest) each.getNotifyRequest()).getDataId());
+                }
+            }
+        } finally {
+            configExecutorMockedStatic.close();
+            ConfigCommonConfig.getInstance().setPushBatchWindowMs(0L);
+        }
+    }
+    
     @Test
     void testRpcCallBack() {
         MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
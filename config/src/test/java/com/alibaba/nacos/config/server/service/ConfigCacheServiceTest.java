@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
@@ -38,6 +39,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -45,6 +48,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -150,6 +154,49 @@ class ConfigCacheServiceTest {
         
     }
     
+    @Test
+    void testBatchDumpFormal() throws Exception {
+        ConfigInfoWrapper config1 = new ConfigInfoWrapper();
+        config1.setDataId("dataIdtestBatchDump1");
+        config1.setGroup("group11");
+        config1.setTenant("tenant112");
+        config1.setContent("mockContent1");
+        config1.setMd5(MD5Utils.md5Hex(config1.getContent(), "UTF-8"));
+        config1.setLastModified(System.currentTimeMillis());
+        config1.setType("json");
+        ConfigInfoWrapper config2 = new ConfigInfoWrapper();
+        config2.setDataId("dataIdtestBatchDump2");
+        config2.setGroup("group11");
+        config2.setTenant("tenant112");
+        config2.setContent("mockContent2");
+        config2.setMd5(MD5Utils.md5Hex(config2.getContent(), "UTF-8"));
+        config2.setLastModified(System.currentTimeMillis());
+        // config2 is dumped with newer timestamp before, so that it should be ignored in batch.
+        long newerTs = config2.getLastModified() + 100L;
+        ConfigCacheService.dumpWithMd5(config2.getDataId(), config2.getGroup(), config2.getTenant(), "newerContent",
+                MD5Utils.md5Hex("newerContent", "UTF-8"), newerTs, "text", null);
+        
+        assertEquals(2, ConfigCacheService.batchDumpWithMd5(Arrays.asList(config1, config2)));
+        Mockito.verify(configDiskService, times(1)).batchSaveToDisk(eq(Collections.singletonList(config1)));
+        CacheItem cacheItem1 = ConfigCacheService.getContentCache(
+                GroupKey2.getKey(config1.getDataId(), config1.getGroup(), config1.getTenant()));
+        assertEquals(config1.getMd5(), cacheItem1.getConfigCache().getMd5Utf8());
+        assertEquals(config1.getLastModified(), cacheItem1.getConfigCache().getLastModifiedTs());
+        assertEquals("json", cacheItem1.getType());
+        CacheItem cacheItem2 = ConfigCacheService.getContentCache(
+                GroupKey2.getKey(config2.getDataId(), config2.getGroup(), config2.getTenant()));
+        assertEquals(MD5Utils.md5Hex("newerContent", "UTF-8"), cacheItem2.getConfigCache().getMd5Utf8());
+        assertEquals(newerTs, cacheItem2.getConfigCache().getLastModifiedTs());
+        
+        // save to disk error
+        config1.setContent("mockContent1New");
+        config1.setMd5(MD5Utils.md5Hex(config1.getContent(), "UTF-8"));
+        config1.setLastModified(config1.getLastModified() + 1L);
+        doThrow(new IOException("mock io exception")).when(configDiskService).batchSaveToDisk(anyList());
+        assertEquals(0, ConfigCacheService.batchDumpWithMd5(Collections.singletonList(config1)));
+        assertEquals(MD5Utils.md5Hex("mockContent1", "UTF-8"), cacheItem1.getConfigCache().getMd5Utf8());
+    }
+    
     @Test
     public void testDumpGray() throws Exception {
         String dataId = "dataIdtestDumpBetaNewCache123";
@@ -0,0 +1,153 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigContentCacheTest {
+    
+    MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactoryMockedStatic;
+    
+    @Mock
+    ConfigDiskService configDiskService;
+    
+    @BeforeEach
+    void setUp() {
+        configDiskServiceFactoryMockedStatic = Mockito.mockStatic(ConfigDiskServiceFactory.class);
+        configDiskServiceFactoryMockedStatic.when(ConfigDiskServiceFactory::getInstance).thenReturn(configDiskService);
+        PropertyUtil.setContentCacheEnabled(true);
+        PropertyUtil.setContentCacheMaxBytes(64 * 1024 * 1024L);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        configDiskServiceFactoryMockedStatic.close();
+        PropertyUtil.setContentCacheMaxBytes(64 * 1024 * 1024L);
+    }
+    
+    @Test
+    void testGetContentHitAfterLoad() throws IOException {
+        ConfigCache configCache = new ConfigCache();
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        assertEquals("content", ConfigContentCache.getContent("dataId", "group", "tenant", configCache));
+        assertEquals("content", ConfigContentCache.getContent("dataId", "group", "tenant", configCache));
+        verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+        ConfigContentCache.invalidate(configCache);
+    }
+    
+    @Test
+    void testGetGrayContentHitAfterLoad() throws IOException {
+        ConfigCacheGray configCacheGray = new ConfigCacheGray("gray1");
+        when(configDiskService.getGrayContent("dataId", "group", "tenant", "gray1")).thenReturn("grayContent");
+        assertEquals("grayContent", ConfigContentCache.getGrayContent("dataId", "group", "tenant", configCacheGray));
+        assertEquals("grayContent", ConfigContentCache.getGrayContent("dataId", "group", "tenant", configCacheGray));
+        verify(configDiskService, times(1)).getGrayContent("dataId", "group", "tenant", "gray1");
+        ConfigContentCache.invalidate(configCacheGray);
+    }
+    
+    @Test
+    void testInvalidateReloadFromDisk() throws IOException {
+        CacheItem cacheItem = new CacheItem("dataId+group+tenant");
+        ConfigCache configCache = cacheItem.getConfigCache();
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content1", "content2");
+        final long usedBefore = ConfigContentCache.usedBytes();
+        assertEquals("content1", ConfigContentCache.getContent("dataId", "group", "tenant", configCache));
+        ConfigContentCache.invalidate(cacheItem);
+        assertNull(configCache.getCachedContent());
+        assertEquals(usedBefore, ConfigContentCache.usedBytes());
+        assertEquals("content2", ConfigContentCache.getContent("dataId", "group", "tenant", configCache));
+        ConfigContentCache.invalidate(cacheItem);
+    }
+    
+    @Test
+    void testInvalidateDropFromClock() throws IOException {
+        ConfigCache configCache = new ConfigCache();
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        final int queuedBefore = ConfigContentCache.queuedCount();
+        ConfigContentCache.getContent("dataId", "group", "tenant", configCache);
+        assertTrue(configCache.isContentQueued());
+        assertEquals(queuedBefore + 1, ConfigContentCache.queuedCount());
+        ConfigContentCache.invalidate(configCache);
+        assertFalse(configCache.isContentQueued());
+        assertEquals(queuedBefore, ConfigContentCache.queuedCount());
+        ConfigContentCache.invalidate(configCache);
+        assertEquals(queuedBefore, ConfigContentCache.queuedCount());
+    }
+    
+    @Test
+    void testDisabledAlwaysReadDisk() throws IOException {
+        PropertyUtil.setContentCacheEnabled(false);
+        ConfigCache configCache = new ConfigCache();
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        ConfigContentCache.getContent("dataId", "group", "tenant", configCache);
+        ConfigContentCache.getContent("dataId", "group", "tenant", configCache);
+        verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+        assertNull(configCache.getCachedContent());
+        PropertyUtil.setContentCacheEnabled(true);
+    }
+    
+    @Test
+    void testEvictWhenExceedMaxBytes() throws IOException {
+        PropertyUtil.setContentCacheMaxBytes(1024L);
+        when(configDiskService.getContent(eq("dataId"), anyString(), eq("tenant"))).thenReturn(
+                new String(new char[60]));
+        ConfigCache[] caches = new ConfigCache[20];
+        for (int i = 0; i < caches.length; i++) {
+            caches[i] = new ConfigCache();
+            ConfigContentCache.getContent("dataId", "group" + i, "tenant", caches[i]);
+        }
+        assertTrue(ConfigContentCache.usedBytes() <= 1024L);
+        for (ConfigCache each : caches) {
+            ConfigContentCache.invalidate(each);
+        }
+    }
+    
+    @Test
+    void testTooHeavyContentNotCached() throws IOException {
+        PropertyUtil.setContentCacheMaxBytes(1024L);
+        ConfigCache configCache = new ConfigCache();
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn(new String(new char[512]));
+        ConfigContentCache.getContent("dataId", "group", "tenant", configCache);
+        assertNull(configCache.getCachedContent());
+    }
+}
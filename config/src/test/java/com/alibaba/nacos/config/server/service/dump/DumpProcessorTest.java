@@ -158,4 +158,65 @@ class DumpProcessorTest {
         assertNull(contentFromDiskAfterRemove);
         
     }
+    
+    @Test
+    void testDumpWithContentCarried() {
+        String dataId = "testDataIdWithContent";
+        String group = "testGroup";
+        String tenant = "testTenant";
+        final String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        long time = System.currentTimeMillis();
+        ConfigInfoWrapper configInfoWrapper = new ConfigInfoWrapper();
+        configInfoWrapper.setDataId(dataId);
+        configInfoWrapper.setGroup(group);
+        configInfoWrapper.setTenant(tenant);
+        configInfoWrapper.setContent("contentFromDb");
+        configInfoWrapper.setLastModified(time);
+        Mockito.when(configInfoPersistService.findConfigInfo(eq(dataId), eq(group), eq(tenant)))
+                .thenReturn(configInfoWrapper);
+        
+        // config not exist in this node, read from db even though content carried.
+        DumpTask dumpTask = new DumpTask(groupKey, null, time, "127.0.0.1");
+        dumpTask.setContent("contentCarried");
+        dumpTask.setMd5(MD5Utils.md5Hex("contentCarried", "UTF-8"));
+        assertTrue(dumpProcessor.process(dumpTask));
+        assertEquals(MD5Utils.md5Hex("contentFromDb", "UTF-8"),
+                ConfigCacheService.getContentCache(groupKey).getConfigCache().getMd5Utf8());
+        
+        // content carried is intact, dump without reading db.
+        dumpTask = new DumpTask(groupKey, null, time + 1, "127.0.0.1");
+        dumpTask.setContent("contentCarried");
+        dumpTask.setMd5(MD5Utils.md5Hex("contentCarried", "UTF-8"));
+        dumpTask.setType("text");
+        assertTrue(dumpProcessor.process(dumpTask));
+        assertEquals(MD5Utils.md5Hex("contentCarried", "UTF-8"),
+                ConfigCacheService.getContentCache(groupKey).getConfigCache().getMd5Utf8());
+        assertEquals(time + 1, ConfigCacheService.getLastModifiedTs(groupKey));
+        Mockito.verify(configInfoPersistService, Mockito.times(1)).findConfigInfo(dataId, group, tenant);
+        
+        // md5 mismatched, read from db.
+        configInfoWrapper.setLastModified(time + 2);
+        dumpTask = new DumpTask(groupKey, null, time + 2, "127.0.0.1");
+        dumpTask.setContent("contentBroken");
+        dumpTask.setMd5(MD5Utils.md5Hex("contentCarried", "UTF-8"));
+        assertTrue(dumpProcessor.process(dumpTask));
+        assertEquals(MD5Utils.md5Hex("contentFromDb", "UTF-8"),
+                ConfigCacheService.getContentCache(groupKey).getConfigCache().getMd5Utf8());
+        Mockito.verify(configInfoPersistService, Mockito.times(2)).findConfigInfo(dataId, group, tenant);
+        ConfigCacheService.remove(dataId, group, tenant);
+    }
+    
+    @Test
+    void testMergeDumpTaskWithNewerOne() {
+        DumpTask newer = new DumpTask("groupKey", null, 2L, "127.0.0.1");
+        DumpTask older = new DumpTask("groupKey", null, 1L, "127.0.0.1");
+        older.setContent("older");
+        older.setMd5(MD5Utils.md5Hex("older", "UTF-8"));
+        older.merge(newer);
+        assertNull(older.getContent());
+        
+        newer.setContent("newer");
+        newer.merge(older);
+        assertEquals("newer", newer.getContent());
+    }
 }
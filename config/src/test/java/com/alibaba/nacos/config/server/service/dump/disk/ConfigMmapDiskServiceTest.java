@@ -0,0 +1,102 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigMmapDiskServiceTest {
+    
+    private MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    private ConfigMmapDiskService configMmapDiskService;
+    
+    @BeforeEach
+    void setUp() {
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        envUtilMockedStatic.when(EnvUtil::getNacosHome).thenReturn(System.getProperty("user.home"));
+        configMmapDiskService = new ConfigMmapDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        configMmapDiskService.clearAll();
+        configMmapDiskService.clearAllGray();
+        ConfigMmapDiskService.closeStores();
+        envUtilMockedStatic.close();
+    }
+    
+    @Test
+    void testSaveAndRemove() throws Exception {
+        configMmapDiskService.saveToDisk("dataId+1", "group%1", "tenant1", "content1");
+        configMmapDiskService.saveGrayToDisk("dataId+1", "group%1", "tenant1", "gray1", "grayContent1");
+        assertEquals("content1", configMmapDiskService.getContent("dataId+1", "group%1", "tenant1"));
+        assertEquals("grayContent1", configMmapDiskService.getGrayContent("dataId+1", "group%1", "tenant1", "gray1"));
+        
+        configMmapDiskService.removeConfigInfo("dataId+1", "group%1", "tenant1");
+        assertNull(configMmapDiskService.getContent("dataId+1", "group%1", "tenant1"));
+        assertEquals("grayContent1", configMmapDiskService.getGrayContent("dataId+1", "group%1", "tenant1", "gray1"));
+        configMmapDiskService.removeConfigInfo4Gray("dataId+1", "group%1", "tenant1", "gray1");
+        assertNull(configMmapDiskService.getGrayContent("dataId+1", "group%1", "tenant1", "gray1"));
+    }
+    
+    @Test
+    void testBatchSaveAndGetAfterReopen() throws Exception {
+        List<ConfigInfoWrapper> configInfos = new ArrayList<>();
+        List<String> groupKeys = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ConfigInfoWrapper configInfo = new ConfigInfoWrapper();
+            configInfo.setDataId("dataId" + i);
+            configInfo.setGroup("group");
+            configInfo.setTenant("tenant");
+            configInfo.setContent("content" + i);
+            configInfos.add(configInfo);
+            groupKeys.add(GroupKey2.getKey("dataId" + i, "group", "tenant"));
+        }
+        configMmapDiskService.batchSaveToDisk(configInfos);
+        ConfigMmapDiskService.maintain();
+        ConfigMmapDiskService.closeStores();
+        
+        Map<String, String> contents = configMmapDiskService.batchGetContent(groupKeys);
+        assertEquals(3, contents.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("content" + i, contents.get(groupKeys.get(i)));
+        }
+    }
+    
+    @Test
+    void testSegmentSize() {
+        assertEquals(64 * 1024 * 1024, ConfigMmapDiskService.segmentSize(64));
+        assertEquals(64 * 1024 * 1024, ConfigMmapDiskService.segmentSize(0));
+        // 2048MB overflows int, it is clamped to the limit of mapped buffer.
+        assertEquals(Integer.MAX_VALUE, ConfigMmapDiskService.segmentSize(2048));
+        assertEquals(Integer.MAX_VALUE, ConfigMmapDiskService.segmentSize(Integer.MAX_VALUE));
+    }
+}
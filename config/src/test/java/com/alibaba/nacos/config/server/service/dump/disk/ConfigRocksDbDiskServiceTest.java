@@ -0,0 +1,140 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigRocksDbDiskServiceTest {
+    
+    @TempDir
+    static Path nacosHome;
+    
+    private MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    private ConfigRocksDbDiskService configRocksDbDiskService;
+    
+    @BeforeAll
+    static void setUpDb() {
+        // reopen rocksdb in temp nacos home with statistics, it may be opened by other tests.
+        ConfigRocksDbDiskService.closeDB();
+        PropertyUtil.setRocksDbStatisticsEnabled(true);
+    }
+    
+    @AfterAll
+    static void tearDownDb() {
+        ConfigRocksDbDiskService.closeDB();
+        PropertyUtil.setRocksDbStatisticsEnabled(false);
+    }
+    
+    @BeforeEach
+    void setUp() {
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        envUtilMockedStatic.when(EnvUtil::getNacosHome).thenReturn(nacosHome.toString());
+        configRocksDbDiskService = new ConfigRocksDbDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        configRocksDbDiskService.clearAll();
+        configRocksDbDiskService.clearAllGray();
+        envUtilMockedStatic.close();
+    }
+    
+    @Test
+    void testSaveAndRemove() throws Exception {
+        configRocksDbDiskService.saveToDisk("dataId+1", "group%1", "tenant1", "content1");
+        configRocksDbDiskService.saveGrayToDisk("dataId+1", "group%1", "tenant1", "gray1", "grayContent1");
+        assertEquals("content1", configRocksDbDiskService.getContent("dataId+1", "group%1", "tenant1"));
+        assertEquals("grayContent1",
+                configRocksDbDiskService.getGrayContent("dataId+1", "group%1", "tenant1", "gray1"));
+        
+        // formal and gray configs with same key are saved in different column families.
+        configRocksDbDiskService.removeConfigInfo("dataId+1", "group%1", "tenant1");
+        assertNull(configRocksDbDiskService.getContent("dataId+1", "group%1", "tenant1"));
+        assertEquals("grayContent1",
+                configRocksDbDiskService.getGrayContent("dataId+1", "group%1", "tenant1", "gray1"));
+        configRocksDbDiskService.removeConfigInfo4Gray("dataId+1", "group%1", "tenant1", "gray1");
+        assertNull(configRocksDbDiskService.getGrayContent("dataId+1", "group%1", "tenant1", "gray1"));
+    }
+    
+    @Test
+    void testBatchSaveAndGet() throws Exception {
+        List<ConfigInfoWrapper> configInfos = new ArrayList<>();
+        List<String> groupKeys = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ConfigInfoWrapper configInfo = new ConfigInfoWrapper();
+            configInfo.setDataId("batchDataId" + i);
+            configInfo.setGroup("group");
+            configInfo.setTenant(i == 0 ? "" : "tenant");
+            configInfo.setContent("batchContent" + i);
+            configInfos.add(configInfo);
+            groupKeys.add(GroupKey2.getKey(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant()));
+        }
+        configRocksDbDiskService.batchSaveToDisk(configInfos);
+        assertEquals("batchContent1", configRocksDbDiskService.getContent("batchDataId1", "group", "tenant"));
+        
+        groupKeys.add(GroupKey2.getKey("notExistDataId", "group", "tenant"));
+        Map<String, String> contents = configRocksDbDiskService.batchGetContent(groupKeys);
+        assertEquals(3, contents.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("batchContent" + i, contents.get(groupKeys.get(i)));
+        }
+        assertFalse(contents.containsKey(groupKeys.get(3)));
+    }
+    
+    @Test
+    void testClearAll() throws Exception {
+        configRocksDbDiskService.saveToDisk("clearDataId", "group", "tenant", "content");
+        configRocksDbDiskService.saveGrayToDisk("clearDataId", "group", "tenant", "gray", "grayContent");
+        configRocksDbDiskService.clearAll();
+        assertNull(configRocksDbDiskService.getContent("clearDataId", "group", "tenant"));
+        assertEquals("grayContent", configRocksDbDiskService.getGrayContent("clearDataId", "group", "tenant", "gray"));
+        configRocksDbDiskService.clearAllGray();
+        assertNull(configRocksDbDiskService.getGrayContent("clearDataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testRefreshStatistics() throws Exception {
+        configRocksDbDiskService.batchSaveToDisk(Collections.emptyList());
+        configRocksDbDiskService.saveToDisk("statDataId", "group", "tenant", "content");
+        ConfigRocksDbDiskService.refreshStatistics();
+        assertTrue(MetricsMonitor.getRocksDbStatisticsMonitor("number_keys_written").get() > 0);
+    }
+}
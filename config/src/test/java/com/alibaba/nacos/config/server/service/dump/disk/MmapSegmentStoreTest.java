@@ -0,0 +1,232 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MmapSegmentStoreTest {
+    
+    private static final int SEGMENT_SIZE = 1024;
+    
+    @TempDir
+    File dir;
+    
+    private MmapSegmentStore store;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+    
+    @Test
+    void testPutGetRemove() throws Exception {
+        store.put("key1", "content1");
+        store.put("key2", "内容2");
+        assertEquals("content1", store.get("key1"));
+        assertEquals("内容2", store.get("key2"));
+        
+        store.put("key1", "content1-new");
+        assertEquals("content1-new", store.get("key1"));
+        store.remove("key2");
+        assertNull(store.get("key2"));
+        assertEquals(1, store.size());
+    }
+    
+    @Test
+    void testRollSegmentAndLargeValue() throws Exception {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            values.put("key" + i, "content" + i);
+        }
+        store.putAll(values);
+        StringBuilder largeValue = new StringBuilder();
+        for (int i = 0; i < SEGMENT_SIZE; i++) {
+            largeValue.append('a');
+        }
+        store.put("large", largeValue.toString());
+        assertTrue(store.segmentCount() > 1);
+        assertEquals(largeValue.toString(), store.get("large"));
+        for (int i = 0; i < 50; i++) {
+            assertEquals("content" + i, store.get("key" + i));
+        }
+    }
+    
+    @Test
+    void testRecoverWithAndWithoutCheckpoint() throws Exception {
+        store.put("key1", "content1");
+        store.put("key2", "content2");
+        store.checkpoint();
+        // changes after checkpoint are replayed from segments.
+        store.put("key1", "content1-new");
+        store.remove("key2");
+        store.put("key3", "content3");
+        store.close();
+        
+        store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertEquals("content1-new", store.get("key1"));
+        assertNull(store.get("key2"));
+        assertEquals("content3", store.get("key3"));
+        assertEquals(2, store.size());
+        store.close();
+        
+        assertTrue(new File(dir, "index.checkpoint").delete());
+        store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertEquals("content1-new", store.get("key1"));
+        assertNull(store.get("key2"));
+        assertEquals("content3", store.get("key3"));
+    }
+    
+    @Test
+    void testRecoverIgnoreTornRecord() throws Exception {
+        store.put("key1", "content1");
+        store.put("key2", "content2");
+        store.close();
+        // corrupt the value of last record.
+        File segment = new File(dir, "0000000000.segment");
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.seek(16 + 4 + 8 + 16 + 4 + 2);
+            file.write('x');
+        }
+        
+        store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertEquals("content1", store.get("key1"));
+        assertNull(store.get("key2"));
+        // new record overwrites the torn one.
+        store.put("key3", "content3");
+        store.close();
+        store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertEquals("content1", store.get("key1"));
+        assertNull(store.get("key2"));
+        assertEquals("content3", store.get("key3"));
+    }
+    
+    @Test
+    void testCompact() throws Exception {
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 10; i++) {
+                store.put("key" + i, "content" + round + "-" + i + "-0123456789");
+            }
+        }
+        int segmentCount = store.segmentCount();
+        assertTrue(segmentCount > 2);
+        store.maintain();
+        assertTrue(store.segmentCount() < segmentCount);
+        for (int i = 0; i < 10; i++) {
+            assertEquals("content4-" + i + "-0123456789", store.get("key" + i));
+        }
+        
+        store.close();
+        store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertEquals(10, store.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("content4-" + i + "-0123456789", store.get("key" + i));
+        }
+    }
+    
+    @Test
+    void testCompactKeepRemovalWithoutCheckpoint() throws Exception {
+        final String value = "content-0123456789-0123456789-0123456789";
+        store.put("removed", value);
+        int keepCount = 0;
+        while (store.segmentCount() == 1) {
+            store.put("keep" + keepCount++, value);
+        }
+        // the removal lands in the second segment, which is compacted while the first one is kept.
+        store.remove("removed");
+        while (store.segmentCount() == 2) {
+            store.put("churn", value);
+        }
+        store.maintain();
+        assertEquals(2, store.segmentCount());
+        store.close();
+        
+        // a full replay without checkpoint must not resurrect the removed key from the first segment.
+        assertTrue(new File(dir, "index.checkpoint").delete());
+        store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertNull(store.get("removed"));
+        assertEquals(value, store.get("churn"));
+        for (int i = 0; i < keepCount; i++) {
+            assertEquals(value, store.get("keep" + i));
+        }
+        assertEquals(keepCount + 1, store.size());
+    }
+    
+    @Test
+    void testReadWhileCompactAndUnmap() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            store.put("key" + i, "content-" + i + "-0123456789");
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger misses = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                for (int i = 0; i < 10; i++) {
+                    if (!("content-" + i + "-0123456789").equals(store.get("key" + i))) {
+                        misses.incrementAndGet();
+                    }
+                }
+            }
+        });
+        reader.start();
+        try {
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < 10; i++) {
+                    store.put("key" + i, "content-" + i + "-0123456789");
+                }
+                store.maintain();
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+        assertEquals(0, misses.get());
+    }
+    
+    @Test
+    void testClear() throws Exception {
+        store.put("key1", "content1");
+        store.checkpoint();
+        store.clear();
+        assertNull(store.get("key1"));
+        assertEquals(0, store.segmentCount());
+        store.put("key2", "content2");
+        store.close();
+        
+        store = new MmapSegmentStore(dir, SEGMENT_SIZE);
+        assertNull(store.get("key1"));
+        assertEquals("content2", store.get("key2"));
+    }
+}
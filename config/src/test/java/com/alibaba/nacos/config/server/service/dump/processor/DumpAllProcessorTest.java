@@ -46,6 +46,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -81,6 +82,8 @@ class DumpAllProcessorTest {
     void init() throws Exception {
         dynamicDataSourceMockedStatic = Mockito.mockStatic(DynamicDataSource.class);
         envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        // static mock of EnvUtil doesn't work in dump threads, make them save to the same nacos home.
+        System.setProperty("nacos.home", System.getProperty("user.home"));
         dumpAllProcessor = new DumpAllProcessor(configInfoPersistService);
         when(EnvUtil.getNacosHome()).thenReturn(System.getProperty("user.home"));
         when(EnvUtil.getProperty(eq(CommonConstant.NACOS_PLUGIN_DATASOURCE_LOG), eq(Boolean.class), eq(false))).thenReturn(false);
@@ -88,17 +91,19 @@ class DumpAllProcessorTest {
         
         when(dynamicDataSource.getDataSource()).thenReturn(dataSourceService);
         
+        envUtilMockedStatic.when(() -> EnvUtil.getProperty(eq("memory_limit_file_path"), eq("/sys/fs/cgroup/memory/memory.limit_in_bytes")))
+                .thenReturn(mockMem);
+        
         dumpService = new ExternalDumpService(configInfoPersistService, null, null, configInfoGrayPersistService, null);
         
         dumpAllProcessor = new DumpAllProcessor(configInfoPersistService);
-        envUtilMockedStatic.when(() -> EnvUtil.getProperty(eq("memory_limit_file_path"), eq("/sys/fs/cgroup/memory/memory.limit_in_bytes")))
-                .thenReturn(mockMem);
     }
     
     @AfterEach
     void after() throws Exception {
         dynamicDataSourceMockedStatic.close();
         envUtilMockedStatic.close();
+        System.clearProperty("nacos.home");
     }
     
     private ConfigInfoWrapper createNewConfig(int id) {
@@ -173,6 +178,51 @@ class DumpAllProcessorTest {
         assertEquals(configInfoWrapper2.getContent(), contentFromDisk2);
     }
     
+    @Test
+    void testDumpAllOnStartUpWithPartitions() throws Exception {
+        int pageSize = PropertyUtil.getAllDumpPageSize();
+        int originalParallelism = PropertyUtil.getAllDumpFetchParallelism();
+        PropertyUtil.setAllDumpFetchParallelism(2);
+        try {
+            ConfigInfoWrapper configInfoWrapper1 = createNewConfig(1);
+            ConfigInfoWrapper configInfoWrapper2 = createNewConfig(pageSize + 5);
+            ConfigInfoWrapper configInfoWrapper3 = createNewConfig(pageSize * 2 + 1);
+            long timestamp = System.currentTimeMillis();
+            configInfoWrapper1.setLastModified(timestamp);
+            configInfoWrapper2.setLastModified(timestamp);
+            configInfoWrapper3.setLastModified(timestamp);
+            Page<ConfigInfoWrapper> page1 = new Page<>();
+            page1.setPageItems(Arrays.asList(configInfoWrapper1, configInfoWrapper2));
+            Page<ConfigInfoWrapper> page2 = new Page<>();
+            page2.setPageItems(Arrays.asList(configInfoWrapper2, configInfoWrapper3));
+            
+            Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(pageSize * 2L);
+            // config2 belongs to the second partition, so that it should be skipped by the first partition.
+            Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, pageSize, true)).thenReturn(page1);
+            Mockito.when(configInfoPersistService.findAllConfigInfoFragment(pageSize, pageSize, true))
+                    .thenReturn(page2);
+            
+            boolean process = dumpAllProcessor.process(new DumpAllTask(true));
+            assertTrue(process);
+            
+            for (ConfigInfoWrapper each : Arrays.asList(configInfoWrapper1, configInfoWrapper2, configInfoWrapper3)) {
+                CacheItem contentCache = ConfigCacheService.getContentCache(
+                        GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+                assertEquals(MD5Utils.md5Hex(each.getContent(), "UTF-8"), contentCache.getConfigCache().getMd5Utf8());
+                assertEquals(timestamp, contentCache.getConfigCache().getLastModifiedTs());
+                assertEquals(each.getContent(), ConfigDiskServiceFactory.getInstance()
+                        .getContent(each.getDataId(), each.getGroup(), each.getTenant()));
+            }
+            StartupDumpProgress progress = StartupDumpProgress.getInstance();
+            assertFalse(progress.isRunning());
+            assertEquals(3, progress.getFetchedCount());
+            assertEquals(3, progress.getDumpedCount());
+            assertEquals(0, progress.getFailedCount());
+        } finally {
+            PropertyUtil.setAllDumpFetchParallelism(originalParallelism);
+        }
+    }
+    
     /**
      * test dump all for all check task.
      */
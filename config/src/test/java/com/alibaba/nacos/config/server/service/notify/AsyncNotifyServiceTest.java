@@ -16,15 +16,20 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncBatchRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncBatchResponse;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
 import com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.AsyncRpcNotifyCallBack;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberMetaDataConstants;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -33,6 +38,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -42,10 +48,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.HEALTHY_CHECK_STATUS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -229,4 +239,170 @@ class AsyncNotifyServiceTest {
                         any(TimeUnit.class)), times(2));
         
     }
+    
+    @Test
+    void testExecuteAsyncRpcTaskInBatch() throws Exception {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        member1.setExtendVal(MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_CLUSTER_SYNC, true);
+        Queue<AsyncNotifyService.NotifySingleRpcTask> rpcQueue = new LinkedList<>();
+        rpcQueue.add(new AsyncNotifyService.NotifySingleRpcTask("testDataId1", "testGroup", null, null, timeStamp,
+                member1));
+        rpcQueue.add(new AsyncNotifyService.NotifySingleRpcTask("testDataId2", "testGroup", null, "beta", timeStamp,
+                member1));
+        
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+        Mockito.when(serverMemberManager.hasMember(eq(member1.getAddress()))).thenReturn(true);
+        Mockito.when(serverMemberManager.stateCheck(eq(member1.getAddress()), eq(HEALTHY_CHECK_STATUS)))
+                .thenReturn(true);
+        List<Runnable> scheduled = new ArrayList<>();
+        configExecutorMocked.when(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> scheduled.add(invocation.getArgument(0)));
+        
+        asyncNotifyService.executeAsyncRpcTask(rpcQueue);
+        
+        // config changes are waiting for batch window instead of being sent one by one.
+        Mockito.verify(configClusterRpcClientProxy, times(0))
+                .syncConfigChange(any(Member.class), any(ConfigChangeClusterSyncRequest.class),
+                        any(RequestCallBack.class));
+        assertEquals(1, scheduled.size());
+        assertTrue(scheduled.get(0) instanceof AsyncNotifyService.MemberNotifyBatch);
+        
+        scheduled.get(0).run();
+        ArgumentCaptor<ConfigChangeClusterSyncBatchRequest> captor = ArgumentCaptor.forClass(
+                ConfigChangeClusterSyncBatchRequest.class);
+        Mockito.verify(configClusterRpcClientProxy, times(1))
+                .syncConfigChangeBatch(eq(member1), captor.capture(), any(RequestCallBack.class));
+        assertEquals(2, captor.getValue().getConfigChanges().size());
+        assertEquals("testDataId1", captor.getValue().getConfigChanges().get(0).getDataId());
+        assertEquals("beta", captor.getValue().getConfigChanges().get(1).getGrayName());
+    }
+    
+    @Test
+    void testPruneMemberNotifyBatchOfLeftMember() throws Exception {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        member1.setExtendVal(MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_CLUSTER_SYNC, true);
+        Queue<AsyncNotifyService.NotifySingleRpcTask> rpcQueue = new LinkedList<>();
+        rpcQueue.add(new AsyncNotifyService.NotifySingleRpcTask("testDataId1", "testGroup", null, null, timeStamp,
+                member1));
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+        Mockito.when(serverMemberManager.hasMember(eq(member1.getAddress()))).thenReturn(true);
+        Mockito.when(serverMemberManager.stateCheck(eq(member1.getAddress()), eq(HEALTHY_CHECK_STATUS)))
+                .thenReturn(true);
+        List<Runnable> scheduled = new ArrayList<>();
+        configExecutorMocked.when(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> scheduled.add(invocation.getArgument(0)));
+        asyncNotifyService.executeAsyncRpcTask(rpcQueue);
+        Map<?, ?> memberNotifyBatches = (Map<?, ?>) ReflectionTestUtils.getField(asyncNotifyService,
+                "memberNotifyBatches");
+        assertEquals(1, memberNotifyBatches.size());
+        
+        // member leaves the cluster before the batch is flushed.
+        Mockito.when(serverMemberManager.hasMember(eq(member1.getAddress()))).thenReturn(false);
+        asyncNotifyService.pruneMemberNotifyBatches();
+        assertTrue(memberNotifyBatches.isEmpty());
+        scheduled.get(0).run();
+        Mockito.verify(configClusterRpcClientProxy, times(0))
+                .syncConfigChangeBatch(any(Member.class), any(ConfigChangeClusterSyncBatchRequest.class),
+                        any(RequestCallBack.class));
+    }
+    
+    @Test
+    void testSyncConfigChangeBatchCallback() {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        List<AsyncNotifyService.NotifySingleRpcTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(new AsyncNotifyService.NotifySingleRpcTask("testDataId" + i, "testGroup", null, null, timeStamp,
+                    member1));
+        }
+        configExecutorMocked.when(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> null);
+        AsyncNotifyService.AsyncRpcBatchNotifyCallBack callBack = new AsyncNotifyService.AsyncRpcBatchNotifyCallBack(
+                asyncNotifyService, tasks);
+        
+        //1. partial failed response, only the failed one should be retried.
+        ConfigChangeClusterSyncBatchResponse response = new ConfigChangeClusterSyncBatchResponse();
+        response.addFailedIndex(1);
+        callBack.onResponse(response);
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class), anyLong(),
+                        any(TimeUnit.class)), times(1));
+        assertEquals(1, tasks.get(1).getFailCount());
+        assertEquals(0, tasks.get(0).getFailCount());
+        
+        //2. fail response
+        response.setResultCode(500);
+        callBack.onResponse(response);
+        //3. exception
+        callBack.onException(new NacosException());
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class), anyLong(),
+                        any(TimeUnit.class)), times(7));
+    }
+    
+    @Test
+    void testSyncConfigChangeWithContent() throws Exception {
+        long timeStamp = System.currentTimeMillis();
+        // member1 supports content carried
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        member1.setExtendVal(MemberMetaDataConstants.SUPPORT_CONFIG_CLUSTER_SYNC_CONTENT, true);
+        // member2 old server
+        Member member2 = new Member();
+        member2.setIp("testip2" + timeStamp);
+        member2.setState(NodeState.UP);
+        List<Member> memberList = new ArrayList<>();
+        memberList.add(member1);
+        memberList.add(member2);
+        Mockito.when(serverMemberManager.allMembersWithoutSelf()).thenReturn(memberList);
+        Mockito.when(serverMemberManager.hasMember(any(String.class))).thenReturn(true);
+        Mockito.when(serverMemberManager.stateCheck(any(String.class), eq(HEALTHY_CHECK_STATUS))).thenReturn(true);
+        configExecutorMocked.when(() -> ConfigExecutor.executeAsyncNotify(any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    ((Runnable) invocation.getArgument(0)).run();
+                    return null;
+                });
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+        ConfigDataChangeEvent event = new ConfigDataChangeEvent("testDataId", "testGroup", null, timeStamp);
+        event.content = "testContent";
+        event.type = "text";
+        
+        int originMaxSize = PropertyUtil.getClusterSyncContentMaxSize();
+        PropertyUtil.setClusterSyncContentMaxSize(1024);
+        try {
+            asyncNotifyService.handleConfigDataChangeEvent(event);
+        } finally {
+            PropertyUtil.setClusterSyncContentMaxSize(originMaxSize);
+        }
+        
+        ArgumentCaptor<ConfigChangeClusterSyncRequest> captor1 = ArgumentCaptor.forClass(
+                ConfigChangeClusterSyncRequest.class);
+        Mockito.verify(configClusterRpcClientProxy)
+                .syncConfigChange(eq(member1), captor1.capture(), any(RequestCallBack.class));
+        assertEquals("testContent", captor1.getValue().getContent());
+        assertEquals(MD5Utils.md5Hex("testContent", "UTF-8"), captor1.getValue().getMd5());
+        assertEquals("text", captor1.getValue().getType());
+        ArgumentCaptor<ConfigChangeClusterSyncRequest> captor2 = ArgumentCaptor.forClass(
+                ConfigChangeClusterSyncRequest.class);
+        Mockito.verify(configClusterRpcClientProxy)
+                .syncConfigChange(eq(member2), captor2.capture(), any(RequestCallBack.class));
+        assertNull(captor2.getValue().getContent());
+        assertNull(captor2.getValue().getMd5());
+    }
 }
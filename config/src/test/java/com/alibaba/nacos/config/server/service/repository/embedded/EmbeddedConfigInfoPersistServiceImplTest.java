@@ -30,6 +30,7 @@ import com.alibaba.nacos.config.server.model.ConfigOperateResult;
 import com.alibaba.nacos.config.server.model.SameConfigPolicy;
 import com.alibaba.nacos.config.server.service.repository.HistoryConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.ConfigExtInfoUtil;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.core.distributed.id.IdGeneratorManager;
 import com.alibaba.nacos.persistence.datasource.DataSourceService;
 import com.alibaba.nacos.persistence.datasource.DynamicDataSource;
@@ -102,6 +103,9 @@ class EmbeddedConfigInfoPersistServiceImplTest {
     @BeforeEach
     void before() {
         embeddedStorageContextHolderMockedStatic = Mockito.mockStatic(EmbeddedStorageContextHolder.class);
+        embeddedStorageContextHolderMockedStatic.when(
+                () -> EmbeddedStorageContextHolder.readWithConsistency(any(ReadConsistency.class), any()))
+                .thenCallRealMethod();
         dynamicDataSourceMockedStatic = Mockito.mockStatic(DynamicDataSource.class);
         envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
         when(DynamicDataSource.getInstance()).thenReturn(dynamicDataSource);
@@ -657,6 +661,8 @@ class EmbeddedConfigInfoPersistServiceImplTest {
                 configAdvanceInfo);
         assertEquals(result.size(), configInfo4Page.getPageItems().size());
         assertEquals(9, configInfo4Page.getTotalCount());
+        embeddedStorageContextHolderMockedStatic.verify(
+                () -> EmbeddedStorageContextHolder.readWithConsistency(eq(ReadConsistency.LEASE), any()));
         
     }
     
@@ -749,6 +755,8 @@ class EmbeddedConfigInfoPersistServiceImplTest {
                 configAdvanceInfo);
         assertEquals(result.size(), configInfo4Page.getPageItems().size());
         assertEquals(9, configInfo4Page.getTotalCount());
+        embeddedStorageContextHolderMockedStatic.verify(
+                () -> EmbeddedStorageContextHolder.readWithConsistency(eq(ReadConsistency.LEASE), any()));
         
     }
     
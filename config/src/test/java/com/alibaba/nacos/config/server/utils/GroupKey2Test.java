@@ -23,6 +23,7 @@ import org.springframework.test.context.web.WebAppConfiguration;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -91,6 +92,13 @@ class GroupKey2Test {
         assertEquals("3+'", actual);
     }
     
+    @Test
+    void testGetGrayKey() {
+        assertEquals("d+g+t%2Bx", GroupKey2.getGrayKey("d", "g", "", "t+x"));
+        assertNotEquals(GroupKey2.getGrayKey("d", "g", "", "t+x"), GroupKey2.getGrayKey("d", "g", "t", "x"));
+        assertEquals("d+g+t+gray%25%2B1", GroupKey2.getGrayKey("d", "g", "t", "gray%+1"));
+    }
+    
     @Test
     void testParseKeyBySingleCharacter() {
         
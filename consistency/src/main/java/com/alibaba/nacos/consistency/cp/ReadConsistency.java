@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.cp;
+
+/**
+ * Consistency level of a read request of CP protocol, which is carried by the extend info of the read request.
+ *
+ * @author Nacos
+ */
+public enum ReadConsistency {
+    
+    /**
+     * Read after confirming the latest committed index with the leader, the read never observes stale data.
+     */
+    LINEARIZABLE,
+    
+    /**
+     * Read after getting the committed index from the leader within its lease, without a heartbeat round to the
+     * majority. The read is served by the local state machine, so followers can serve it as well.
+     */
+    LEASE,
+    
+    /**
+     * Read the local state machine directly if it lags behind the known committed index within a bound, otherwise
+     * read as {@link #LEASE}.
+     */
+    LOCAL;
+    
+    /**
+     * Key of the read consistency level in the extend info of the read request.
+     */
+    public static final String EXTEND_INFO_KEY = "readConsistency";
+    
+    /**
+     * Parse read consistency level by name, ignore case.
+     *
+     * @param name         name of level
+     * @param defaultValue level returned if the name is blank or unknown
+     * @return read consistency level
+     */
+    public static ReadConsistency parse(String name, ReadConsistency defaultValue) {
+        if (null == name) {
+            return defaultValue;
+        }
+        for (ReadConsistency each : values()) {
+            if (each.name().equalsIgnoreCase(name.trim())) {
+                return each;
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.cp;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadConsistencyTest {
+    
+    @Test
+    void testParse() {
+        assertEquals(ReadConsistency.LEASE, ReadConsistency.parse("lease", ReadConsistency.LINEARIZABLE));
+        assertEquals(ReadConsistency.LOCAL, ReadConsistency.parse(" LOCAL ", ReadConsistency.LINEARIZABLE));
+        assertEquals(ReadConsistency.LINEARIZABLE, ReadConsistency.parse("Linearizable", ReadConsistency.LOCAL));
+        assertEquals(ReadConsistency.LEASE, ReadConsistency.parse(null, ReadConsistency.LEASE));
+        assertEquals(ReadConsistency.LINEARIZABLE, ReadConsistency.parse("unknown", ReadConsistency.LINEARIZABLE));
+    }
+}
@@ -167,6 +167,8 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
         //works  for gray model upgrade,can delete after compatibility period.
         this.self
                 .setExtendVal(MemberMetaDataConstants.SUPPORT_GRAY_MODEL, true);
+        this.self.setExtendVal(MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_CLUSTER_SYNC, true);
+        this.self.setExtendVal(MemberMetaDataConstants.SUPPORT_CONFIG_CLUSTER_SYNC_CONTENT, true);
         this.self.setGrpcReportEnabled(true);
 
         // init abilities.
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.core.config;
 
 import com.alibaba.nacos.common.utils.ConvertUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.distributed.raft.RaftSysConstants;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.module.ModuleState;
@@ -94,6 +95,22 @@ public class RaftModuleStateBuilder implements ModuleStateBuilder {
         
         moduleState.newState(RaftSysConstants.ENABLE_LOG_ENTRY_CHECKSUM,
                 stringToBoolean(RaftSysConstants.ENABLE_LOG_ENTRY_CHECKSUM, RaftSysConstants.DEFAULT_ENABLE_LOG_ENTRY_CHECKSUM));
+        
+        moduleState.newState(RaftSysConstants.GROUP_COMMIT_ENABLED,
+                stringToBoolean(RaftSysConstants.GROUP_COMMIT_ENABLED, RaftSysConstants.DEFAULT_GROUP_COMMIT_ENABLED));
+        
+        moduleState.newState(RaftSysConstants.GROUP_COMMIT_WINDOW_MS,
+                stringToInt(RaftSysConstants.GROUP_COMMIT_WINDOW_MS, RaftSysConstants.DEFAULT_GROUP_COMMIT_WINDOW_MS));
+        
+        moduleState.newState(RaftSysConstants.GROUP_COMMIT_MAX_SIZE,
+                stringToInt(RaftSysConstants.GROUP_COMMIT_MAX_SIZE, RaftSysConstants.DEFAULT_GROUP_COMMIT_MAX_SIZE));
+        
+        moduleState.newState(RaftSysConstants.RAFT_READ_CONSISTENCY,
+                StringUtils.defaultIfBlank(getProperty(RaftSysConstants.RAFT_READ_CONSISTENCY),
+                        RaftSysConstants.DEFAULT_READ_CONSISTENCY));
+        
+        moduleState.newState(RaftSysConstants.LOCAL_READ_MAX_LAG,
+                stringToInt(RaftSysConstants.LOCAL_READ_MAX_LAG, RaftSysConstants.DEFAULT_LOCAL_READ_MAX_LAG));
         return moduleState;
     }
     
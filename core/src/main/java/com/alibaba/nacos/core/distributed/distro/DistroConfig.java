@@ -36,14 +36,28 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long syncRetryDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS;
     
+    private boolean syncBatchEnabled = DistroConstants.DEFAULT_DATA_SYNC_BATCH_ENABLED;
+    
+    private int syncBatchSize = DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE;
+    
     private long verifyIntervalMillis = DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS;
     
     private long verifyTimeoutMillis = DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS;
     
+    private boolean verifyDigestEnabled = DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED;
+    
+    private int verifyDigestBuckets = DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_BUCKETS;
+    
     private long loadDataRetryDelayMillis = DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS;
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private boolean loadDataChunkEnabled = DistroConstants.DEFAULT_DATA_LOAD_CHUNK_ENABLED;
+    
+    private int loadDataChunkCount = DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT;
+    
+    private int loadDataChunkParallelism = DistroConstants.DEFAULT_DATA_LOAD_CHUNK_PARALLELISM;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -57,14 +71,28 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_SYNC_TIMEOUT_MILLISECONDS);
         syncRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS);
+        syncBatchEnabled = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_ENABLED);
+        syncBatchSize = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE);
         verifyIntervalMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS);
         verifyTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS);
+        verifyDigestEnabled = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED);
+        verifyDigestBuckets = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_BUCKETS, Integer.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_BUCKETS);
         loadDataRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataChunkEnabled = EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_LOAD_CHUNK_ENABLED);
+        loadDataChunkCount = EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_COUNT, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT);
+        loadDataChunkParallelism = EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_PARALLELISM, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_CHUNK_PARALLELISM);
     }
     
     public static DistroConfig getInstance() {
@@ -95,6 +123,22 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.syncRetryDelayMillis = syncRetryDelayMillis;
     }
     
+    public boolean isSyncBatchEnabled() {
+        return syncBatchEnabled;
+    }
+    
+    public void setSyncBatchEnabled(boolean syncBatchEnabled) {
+        this.syncBatchEnabled = syncBatchEnabled;
+    }
+    
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+    
+    public void setSyncBatchSize(int syncBatchSize) {
+        this.syncBatchSize = syncBatchSize;
+    }
+    
     public long getVerifyIntervalMillis() {
         return verifyIntervalMillis;
     }
@@ -111,6 +155,22 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.verifyTimeoutMillis = verifyTimeoutMillis;
     }
     
+    public boolean isVerifyDigestEnabled() {
+        return verifyDigestEnabled;
+    }
+    
+    public void setVerifyDigestEnabled(boolean verifyDigestEnabled) {
+        this.verifyDigestEnabled = verifyDigestEnabled;
+    }
+    
+    public int getVerifyDigestBuckets() {
+        return verifyDigestBuckets;
+    }
+    
+    public void setVerifyDigestBuckets(int verifyDigestBuckets) {
+        this.verifyDigestBuckets = verifyDigestBuckets;
+    }
+    
     public long getLoadDataRetryDelayMillis() {
         return loadDataRetryDelayMillis;
     }
@@ -127,11 +187,39 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public boolean isLoadDataChunkEnabled() {
+        return loadDataChunkEnabled;
+    }
+    
+    public void setLoadDataChunkEnabled(boolean loadDataChunkEnabled) {
+        this.loadDataChunkEnabled = loadDataChunkEnabled;
+    }
+    
+    public int getLoadDataChunkCount() {
+        return loadDataChunkCount;
+    }
+    
+    public void setLoadDataChunkCount(int loadDataChunkCount) {
+        this.loadDataChunkCount = loadDataChunkCount;
+    }
+    
+    public int getLoadDataChunkParallelism() {
+        return loadDataChunkParallelism;
+    }
+    
+    public void setLoadDataChunkParallelism(int loadDataChunkParallelism) {
+        this.loadDataChunkParallelism = loadDataChunkParallelism;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
-                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", syncBatchEnabled=" + syncBatchEnabled
+                + ", syncBatchSize=" + syncBatchSize + ", verifyIntervalMillis=" + verifyIntervalMillis
+                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", verifyDigestEnabled=" + verifyDigestEnabled
+                + ", verifyDigestBuckets=" + verifyDigestBuckets + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
+                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + ", loadDataChunkEnabled=" + loadDataChunkEnabled
+                + ", loadDataChunkCount=" + loadDataChunkCount + ", loadDataChunkParallelism="
+                + loadDataChunkParallelism + '}';
     }
 }
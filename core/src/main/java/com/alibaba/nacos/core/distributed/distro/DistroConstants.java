@@ -43,6 +43,20 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS = 3000L;
     
+    public static final String DATA_SYNC_BATCH_ENABLED = "nacos.core.protocol.distro.data.sync.batch.enabled";
+    
+    public static final String DATA_SYNC_BATCH_ENABLED_STATE = "data_sync_batch_enabled";
+    
+    public static final boolean DEFAULT_DATA_SYNC_BATCH_ENABLED = false;
+    
+    public static final String DATA_SYNC_BATCH_SIZE = "nacos.core.protocol.distro.data.sync.batch.size";
+    
+    public static final String DATA_SYNC_BATCH_SIZE_STATE = "data_sync_batch_size";
+    
+    public static final int DEFAULT_DATA_SYNC_BATCH_SIZE = 100;
+    
+    public static final String BATCH_SYNC_KEY = "@@batchSync";
+    
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS = "nacos.core.protocol.distro.data.verify.intervalMs";
     
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS_STATE = "data_verify_intervalMs";
@@ -55,6 +69,18 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_DIGEST_ENABLED = "nacos.core.protocol.distro.data.verify.digest.enabled";
+    
+    public static final String DATA_VERIFY_DIGEST_ENABLED_STATE = "data_verify_digest_enabled";
+    
+    public static final boolean DEFAULT_DATA_VERIFY_DIGEST_ENABLED = false;
+    
+    public static final String DATA_VERIFY_DIGEST_BUCKETS = "nacos.core.protocol.distro.data.verify.digest.buckets";
+    
+    public static final String DATA_VERIFY_DIGEST_BUCKETS_STATE = "data_verify_digest_buckets";
+    
+    public static final int DEFAULT_DATA_VERIFY_DIGEST_BUCKETS = 256;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
@@ -67,4 +93,22 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_CHUNK_ENABLED = "nacos.core.protocol.distro.data.load.chunk.enabled";
+    
+    public static final String DATA_LOAD_CHUNK_ENABLED_STATE = "data_load_chunk_enabled";
+    
+    public static final boolean DEFAULT_DATA_LOAD_CHUNK_ENABLED = false;
+    
+    public static final String DATA_LOAD_CHUNK_COUNT = "nacos.core.protocol.distro.data.load.chunk.count";
+    
+    public static final String DATA_LOAD_CHUNK_COUNT_STATE = "data_load_chunk_count";
+    
+    public static final int DEFAULT_DATA_LOAD_CHUNK_COUNT = 64;
+    
+    public static final String DATA_LOAD_CHUNK_PARALLELISM = "nacos.core.protocol.distro.data.load.chunk.parallelism";
+    
+    public static final String DATA_LOAD_CHUNK_PARALLELISM_STATE = "data_load_chunk_parallelism";
+    
+    public static final int DEFAULT_DATA_LOAD_CHUNK_PARALLELISM = 2;
+    
 }
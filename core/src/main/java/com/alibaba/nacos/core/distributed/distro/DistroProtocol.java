@@ -26,6 +26,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadDataTask;
@@ -51,6 +52,8 @@ public class DistroProtocol {
     
     private volatile boolean isInitialized = false;
     
+    private DistroLoadDataTask loadDataTask;
+    
     public DistroProtocol(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
             DistroTaskEngineHolder distroTaskEngineHolder) {
         this.memberManager = memberManager;
@@ -80,8 +83,9 @@ public class DistroProtocol {
                 isInitialized = false;
             }
         };
-        GlobalExecutor.submitLoadDataTask(
-                new DistroLoadDataTask(memberManager, distroComponentHolder, DistroConfig.getInstance(), loadCallback));
+        loadDataTask = new DistroLoadDataTask(memberManager, distroComponentHolder, DistroConfig.getInstance(),
+                loadCallback);
+        GlobalExecutor.submitLoadDataTask(loadDataTask);
     }
     
     private void startVerifyTask() {
@@ -94,6 +98,24 @@ public class DistroProtocol {
         return isInitialized;
     }
     
+    /**
+     * Get count of loaded snapshot chunks during chunked snapshot load.
+     *
+     * @return count of loaded snapshot chunks
+     */
+    public int getLoadedSnapshotChunks() {
+        return null == loadDataTask ? 0 : loadDataTask.getLoadedChunkCount();
+    }
+    
+    /**
+     * Get count of total snapshot chunks during chunked snapshot load.
+     *
+     * @return count of total snapshot chunks, {@code 0} if chunked snapshot load is not used
+     */
+    public int getTotalSnapshotChunks() {
+        return null == loadDataTask ? 0 : loadDataTask.getTotalChunkCount();
+    }
+    
     /**
      * Start to sync by configured delay.
      *
@@ -224,4 +246,20 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one chunk of datum snapshot.
+     *
+     * @param type  datum type
+     * @param chunk chunk of snapshot
+     * @return datum snapshot in the chunk
+     */
+    public DistroData onSnapshot(String type, DistroSnapshotChunk chunk) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return new DistroData(chunk.toDistroKey(type), new byte[0]);
+        }
+        return distroDataStorage.getDatumSnapshot(chunk);
+    }
 }
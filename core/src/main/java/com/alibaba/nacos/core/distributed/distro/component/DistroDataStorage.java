@@ -18,7 +18,9 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -50,6 +52,27 @@ public interface DistroDataStorage {
      */
     DistroData getDistroData(DistroKey distroKey);
     
+    /**
+     * Whether this distro data storage support getting datum of several keys in one batch.
+     *
+     * @return {@code true} if support, otherwise {@code false}
+     */
+    default boolean isSupportBatchSync() {
+        return false;
+    }
+    
+    /**
+     * Get distro datum of several keys, which will be synced to target server in one request.
+     *
+     * @param distroKeys   keys of distro datum
+     * @param targetServer target server of the batch
+     * @return need to sync datum, {@code null} if no datum need to sync
+     * @throws UnsupportedOperationException if method isSupportBatchSync is false
+     */
+    default DistroData getBatchDistroData(Collection<DistroKey> distroKeys, String targetServer) {
+        throw new UnsupportedOperationException("Batch sync is not supported by " + getClass().getSimpleName());
+    }
+    
     /**
      * Get all distro datum snapshot.
      *
@@ -57,6 +80,19 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one chunk of distro datum snapshot.
+     *
+     * <p>Default implementation doesn't support chunk and returns the whole snapshot, the loader will apply it as the
+     * whole snapshot.
+     *
+     * @param chunk chunk of snapshot
+     * @return datum in the chunk
+     */
+    default DistroData getDatumSnapshot(DistroSnapshotChunk chunk) {
+        return getDatumSnapshot();
+    }
+    
     /**
      * Get verify datum.
      *
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 
 /**
  * Distro transport agent.
@@ -89,4 +90,17 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one chunk of datum snapshot from target server.
+     *
+     * <p>Default implementation doesn't support chunk and gets the whole snapshot.
+     *
+     * @param targetServer target server.
+     * @param chunk        chunk of snapshot
+     * @return distro data
+     */
+    default DistroData getDatumSnapshot(String targetServer, DistroSnapshotChunk chunk) {
+        return getDatumSnapshot(targetServer);
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+import com.alibaba.nacos.consistency.DataOperation;
+
+/**
+ * Distro snapshot chunk.
+ *
+ * <p>A chunk is one hash range of the whole snapshot, it is encoded into the resource key of {@link DistroKey} so that
+ * the snapshot request and response can carry it without changing the transport entities. A server which doesn't
+ * know chunk will ignore it and reply the whole snapshot.
+ *
+ * @author Nacos
+ */
+public class DistroSnapshotChunk {
+    
+    private static final String CHUNK_KEY_PREFIX = DataOperation.SNAPSHOT.name() + ":";
+    
+    private static final String CHUNK_KEY_SEPARATOR = "/";
+    
+    private static final int CHUNK_KEY_SEGMENTS = 2;
+    
+    private final int index;
+    
+    private final int count;
+    
+    public DistroSnapshotChunk(int index, int count) {
+        this.index = index;
+        this.count = count;
+    }
+    
+    public int getIndex() {
+        return index;
+    }
+    
+    public int getCount() {
+        return count;
+    }
+    
+    /**
+     * Build distro key of this chunk.
+     *
+     * @param resourceType resource type of snapshot
+     * @return distro key of this chunk
+     */
+    public DistroKey toDistroKey(String resourceType) {
+        return new DistroKey(CHUNK_KEY_PREFIX + index + CHUNK_KEY_SEPARATOR + count, resourceType);
+    }
+    
+    /**
+     * Parse chunk from distro key.
+     *
+     * @param distroKey distro key
+     * @return chunk of the key, or {@code null} if the key is not a snapshot chunk key
+     */
+    public static DistroSnapshotChunk parse(DistroKey distroKey) {
+        if (null == distroKey || null == distroKey.getResourceKey() || !distroKey.getResourceKey()
+                .startsWith(CHUNK_KEY_PREFIX)) {
+            return null;
+        }
+        String[] segments = distroKey.getResourceKey().substring(CHUNK_KEY_PREFIX.length())
+                .split(CHUNK_KEY_SEPARATOR);
+        if (segments.length != CHUNK_KEY_SEGMENTS) {
+            return null;
+        }
+        try {
+            int index = Integer.parseInt(segments[0]);
+            int count = Integer.parseInt(segments[1]);
+            if (count <= 0 || index < 0 || index >= count) {
+                return null;
+            }
+            return new DistroSnapshotChunk(index, count);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Whether the input distro key is the key of this chunk.
+     *
+     * @param distroKey distro key
+     * @return {@code true} if the key is this chunk, otherwise {@code false}
+     */
+    public boolean isKeyOf(DistroKey distroKey) {
+        DistroSnapshotChunk other = parse(distroKey);
+        return null != other && other.index == index && other.count == count;
+    }
+    
+    @Override
+    public String toString() {
+        return index + CHUNK_KEY_SEPARATOR + count;
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.core.distributed.distro.task.delay;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.core.utils.Loggers;
 
 /**
@@ -44,6 +45,11 @@ public class DistroDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         return super.getProcessor(actualKey);
     }
     
+    @Override
+    protected void recordProcessCost(long scanCostNanos, long dispatchCostNanos, int dispatchCount) {
+        MetricsMonitor.recordDelayTaskEngineCost("distro", scanCostNanos, dispatchCostNanos, dispatchCount);
+    }
+    
     private Object getActualKey(Object key) {
         return key instanceof DistroKey ? ((DistroKey) key).getResourceType() : key;
     }
@@ -18,12 +18,18 @@ package com.alibaba.nacos.core.distributed.distro.task.delay;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncBatchChangeTask;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncChangeTask;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncDeleteTask;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Distro delay task processor.
  *
@@ -31,10 +37,17 @@ import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncDeleteTa
  */
 public class DistroDelayTaskProcessor implements NacosTaskProcessor {
     
+    private static final String BATCH_KEY_SEPARATOR = "##";
+    
     private final DistroTaskEngineHolder distroTaskEngineHolder;
     
     private final DistroComponentHolder distroComponentHolder;
     
+    /**
+     * Batch tasks which might still accept keys, one per resource type and target server.
+     */
+    private final Map<String, DistroSyncBatchChangeTask> openBatchTasks = new ConcurrentHashMap<>();
+    
     public DistroDelayTaskProcessor(DistroTaskEngineHolder distroTaskEngineHolder,
             DistroComponentHolder distroComponentHolder) {
         this.distroTaskEngineHolder = distroTaskEngineHolder;
@@ -51,10 +64,22 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
         switch (distroDelayTask.getAction()) {
             case DELETE:
                 DistroSyncDeleteTask syncDeleteTask = new DistroSyncDeleteTask(distroKey, distroComponentHolder);
+                if (isBatchSync(distroKey)) {
+                    // Keep delete ordered with batched changes in the same worker, and close current batch so that
+                    // later changes won't be sent before this delete.
+                    String batchKey = buildBatchKey(distroKey);
+                    openBatchTasks.remove(batchKey);
+                    distroTaskEngineHolder.getExecuteWorkersManager().addTask(batchKey, syncDeleteTask);
+                    return true;
+                }
                 distroTaskEngineHolder.getExecuteWorkersManager().addTask(distroKey, syncDeleteTask);
                 return true;
             case CHANGE:
             case ADD:
+                if (isBatchSync(distroKey)) {
+                    addToBatch(distroKey);
+                    return true;
+                }
                 DistroSyncChangeTask syncChangeTask = new DistroSyncChangeTask(distroKey, distroComponentHolder);
                 distroTaskEngineHolder.getExecuteWorkersManager().addTask(distroKey, syncChangeTask);
                 return true;
@@ -62,4 +87,29 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
                 return false;
         }
     }
+    
+    private boolean isBatchSync(DistroKey distroKey) {
+        if (!DistroConfig.getInstance().isSyncBatchEnabled()) {
+            return false;
+        }
+        DistroDataStorage dataStorage = distroComponentHolder.findDataStorage(distroKey.getResourceType());
+        return null != dataStorage && dataStorage.isSupportBatchSync();
+    }
+    
+    private void addToBatch(DistroKey distroKey) {
+        String batchKey = buildBatchKey(distroKey);
+        DistroSyncBatchChangeTask batchTask = openBatchTasks.get(batchKey);
+        if (null != batchTask && batchTask.tryAdd(distroKey)) {
+            return;
+        }
+        batchTask = new DistroSyncBatchChangeTask(distroKey.getResourceType(), distroKey.getTargetServer(),
+                DistroConfig.getInstance().getSyncBatchSize(), distroComponentHolder);
+        batchTask.tryAdd(distroKey);
+        openBatchTasks.put(batchKey, batchTask);
+        distroTaskEngineHolder.getExecuteWorkersManager().addTask(batchKey, batchTask);
+    }
+    
+    private String buildBatchKey(DistroKey distroKey) {
+        return distroKey.getResourceType() + BATCH_KEY_SEPARATOR + distroKey.getTargetServer();
+    }
 }
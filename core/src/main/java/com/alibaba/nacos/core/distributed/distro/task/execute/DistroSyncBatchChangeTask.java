@@ -0,0 +1,149 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConstants;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Distro sync change task for several keys to the same target server.
+ *
+ * <p>The task keeps accepting keys until it starts to run or reaches the max size, so that changes generated while
+ * this task is waiting in the execute worker are sent in the same request. Each key is retried by itself if the batch
+ * failed.
+ *
+ * @author Nacos
+ */
+public class DistroSyncBatchChangeTask extends AbstractDistroExecuteTask {
+    
+    private static final DataOperation OPERATION = DataOperation.CHANGE;
+    
+    private final int maxSize;
+    
+    private final Set<DistroKey> distroKeys;
+    
+    private boolean started;
+    
+    public DistroSyncBatchChangeTask(String resourceType, String targetServer, int maxSize,
+            DistroComponentHolder distroComponentHolder) {
+        super(new DistroKey(DistroConstants.BATCH_SYNC_KEY, resourceType, targetServer), distroComponentHolder);
+        this.maxSize = maxSize;
+        this.distroKeys = new LinkedHashSet<>();
+    }
+    
+    /**
+     * Try to add a key into this batch, the same key will be merged.
+     *
+     * @param distroKey distro key of changed data
+     * @return {@code true} if added, {@code false} if this batch has started or is full
+     */
+    public synchronized boolean tryAdd(DistroKey distroKey) {
+        if (started) {
+            return false;
+        }
+        if (distroKeys.contains(distroKey)) {
+            return true;
+        }
+        if (distroKeys.size() >= maxSize) {
+            return false;
+        }
+        return distroKeys.add(distroKey);
+    }
+    
+    public synchronized int size() {
+        return distroKeys.size();
+    }
+    
+    @Override
+    public void run() {
+        synchronized (this) {
+            started = true;
+        }
+        super.run();
+    }
+    
+    @Override
+    protected DataOperation getDataOperation() {
+        return OPERATION;
+    }
+    
+    @Override
+    protected boolean doExecute() {
+        String type = getDistroKey().getResourceType();
+        DistroData distroData = getDistroData(type);
+        if (null == distroData) {
+            Loggers.DISTRO.warn("[DISTRO] {} with null data to sync, skip", toString());
+            return true;
+        }
+        return getDistroComponentHolder().findTransportAgent(type)
+                .syncData(distroData, getDistroKey().getTargetServer());
+    }
+    
+    @Override
+    protected void doExecuteWithCallback(DistroCallback callback) {
+        String type = getDistroKey().getResourceType();
+        DistroData distroData = getDistroData(type);
+        if (null == distroData) {
+            Loggers.DISTRO.warn("[DISTRO] {} with null data to sync, skip", toString());
+            return;
+        }
+        getDistroComponentHolder().findTransportAgent(type)
+                .syncData(distroData, getDistroKey().getTargetServer(), callback);
+    }
+    
+    @Override
+    protected void handleFailedTask() {
+        String type = getDistroKey().getResourceType();
+        DistroFailedTaskHandler failedTaskHandler = getDistroComponentHolder().findFailedTaskHandler(type);
+        if (null == failedTaskHandler) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find failed task for type {}, so discarded", type);
+            return;
+        }
+        for (DistroKey each : getDistroKeys()) {
+            failedTaskHandler.retry(each, OPERATION);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroSyncBatchChangeTask for " + getDistroKey().toString() + " with " + size() + " keys";
+    }
+    
+    private synchronized Collection<DistroKey> getDistroKeys() {
+        return new ArrayList<>(distroKeys);
+    }
+    
+    private DistroData getDistroData(String type) {
+        DistroData result = getDistroComponentHolder().findDataStorage(type)
+                .getBatchDistroData(getDistroKeys(), getDistroKey().getTargetServer());
+        if (null != result) {
+            result.setType(OPERATION);
+        }
+        return result;
+    }
+}
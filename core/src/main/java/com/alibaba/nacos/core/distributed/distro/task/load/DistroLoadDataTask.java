@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -24,12 +26,23 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Distro load data task.
@@ -48,6 +61,12 @@ public class DistroLoadDataTask implements Runnable {
     
     private final Map<String, Boolean> loadCompletedMap;
     
+    private final Map<String, ChunkLoadState> chunkLoadStates;
+    
+    private final AtomicInteger loadedChunkCount = new AtomicInteger();
+    
+    private final AtomicInteger totalChunkCount = new AtomicInteger();
+    
     public DistroLoadDataTask(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
             DistroConfig distroConfig, DistroCallback loadCallback) {
         this.memberManager = memberManager;
@@ -55,6 +74,7 @@ public class DistroLoadDataTask implements Runnable {
         this.distroConfig = distroConfig;
         this.loadCallback = loadCallback;
         loadCompletedMap = new HashMap<>(1);
+        chunkLoadStates = new HashMap<>(1);
     }
     
     @Override
@@ -97,6 +117,9 @@ public class DistroLoadDataTask implements Runnable {
                     resourceType, transportAgent, dataProcessor);
             return false;
         }
+        if (distroConfig.isLoadDataChunkEnabled() && distroConfig.getLoadDataChunkCount() > 1) {
+            return loadChunkedSnapshotFromRemote(resourceType, transportAgent, dataProcessor);
+        }
         for (Member each : memberManager.allMembersWithoutSelf()) {
             long startTime = System.currentTimeMillis();
             try {
@@ -120,6 +143,121 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    /**
+     * Load snapshot chunk by chunk, each chunk is applied once it arrived, so that the whole snapshot never needs to be
+     * held in memory. Chunks are fetched by several workers from different members in parallel, and the loaded chunks
+     * are remembered so that a retry only loads the missing chunks.
+     */
+    private boolean loadChunkedSnapshotFromRemote(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) {
+        ChunkLoadState state = chunkLoadStates.computeIfAbsent(resourceType,
+                type -> new ChunkLoadState(distroConfig.getLoadDataChunkCount()));
+        final List<Member> members = new ArrayList<>(memberManager.allMembersWithoutSelf());
+        Queue<Integer> pendingChunks = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < state.chunkCount; i++) {
+            if (!state.loadedChunks.contains(i)) {
+                pendingChunks.add(i);
+            }
+        }
+        long startTime = System.currentTimeMillis();
+        int parallelism = Math.max(1, Math.min(distroConfig.getLoadDataChunkParallelism(), pendingChunks.size()));
+        Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} by {} chunks, pending {} chunks, parallelism {}",
+                resourceType, state.chunkCount, pendingChunks.size(), parallelism);
+        Runnable worker = () -> {
+            Integer chunkIndex = pendingChunks.poll();
+            while (null != chunkIndex && !state.isCompleted()) {
+                loadSnapshotChunk(resourceType, state, chunkIndex, members, transportAgent, dataProcessor);
+                chunkIndex = pendingChunks.poll();
+            }
+        };
+        if (parallelism == 1) {
+            worker.run();
+        } else {
+            runInParallel(worker, parallelism);
+        }
+        Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {}, loaded {}/{} chunks.",
+                System.currentTimeMillis() - startTime, resourceType, state.loadedChunks.size(), state.chunkCount);
+        if (state.isCompleted()) {
+            distroComponentHolder.findDataStorage(resourceType).finishInitial();
+            return true;
+        }
+        return false;
+    }
+    
+    private void runInParallel(Runnable worker, int parallelism) {
+        ExecutorService executor = ExecutorFactory.newFixedExecutorService(parallelism,
+                new NameThreadFactory("com.alibaba.nacos.core.protocol.distro.load"));
+        try {
+            List<Callable<Object>> workers = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                workers.add(Executors.callable(worker));
+            }
+            executor.invokeAll(workers);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private void loadSnapshotChunk(String resourceType, ChunkLoadState state, int chunkIndex, List<Member> members,
+            DistroTransportAgent transportAgent, DistroDataProcessor dataProcessor) {
+        DistroSnapshotChunk chunk = new DistroSnapshotChunk(chunkIndex, state.chunkCount);
+        for (int i = 0; i < members.size() && !state.isCompleted(); i++) {
+            String address = members.get((chunkIndex + i) % members.size()).getAddress();
+            try {
+                DistroData distroData = transportAgent.getDatumSnapshot(address, chunk);
+                if (null == distroData) {
+                    continue;
+                }
+                boolean wholeSnapshot = !chunk.isKeyOf(distroData.getDistroKey());
+                boolean result = dataProcessor.processSnapshot(distroData);
+                Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} chunk {} from {}, size {}, whole {}, result: {}",
+                        resourceType, chunk, address, getDistroDataLength(distroData), wholeSnapshot, result);
+                if (result) {
+                    markChunkLoaded(state, chunkIndex, wholeSnapshot);
+                    return;
+                }
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-INIT] load snapshot {} chunk {} from {} failed.", resourceType, chunk,
+                        address, e);
+            }
+        }
+    }
+    
+    private void markChunkLoaded(ChunkLoadState state, int chunkIndex, boolean wholeSnapshot) {
+        if (!wholeSnapshot) {
+            if (state.loadedChunks.add(chunkIndex)) {
+                loadedChunkCount.incrementAndGet();
+            }
+            return;
+        }
+        // The target server doesn't support chunk and replied the whole snapshot, which covers all chunks.
+        for (int i = 0; i < state.chunkCount; i++) {
+            if (state.loadedChunks.add(i)) {
+                loadedChunkCount.incrementAndGet();
+            }
+        }
+    }
+    
+    /**
+     * Get count of loaded snapshot chunks, only available when chunked snapshot load is enabled.
+     *
+     * @return count of loaded snapshot chunks
+     */
+    public int getLoadedChunkCount() {
+        return loadedChunkCount.get();
+    }
+    
+    /**
+     * Get count of total snapshot chunks, {@code 0} means chunked snapshot load is not started.
+     *
+     * @return count of total snapshot chunks
+     */
+    public int getTotalChunkCount() {
+        return totalChunkCount.get();
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -135,4 +273,21 @@ public class DistroLoadDataTask implements Runnable {
         }
         return true;
     }
+    
+    private class ChunkLoadState {
+        
+        private final int chunkCount;
+        
+        private final Set<Integer> loadedChunks;
+        
+        private ChunkLoadState(int chunkCount) {
+            this.chunkCount = chunkCount;
+            this.loadedChunks = ConcurrentHashMap.newKeySet(chunkCount);
+            totalChunkCount.addAndGet(chunkCount);
+        }
+        
+        private boolean isCompleted() {
+            return loadedChunks.size() >= chunkCount;
+        }
+    }
 }
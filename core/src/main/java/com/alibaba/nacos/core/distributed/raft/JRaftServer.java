@@ -27,9 +27,11 @@ import com.alibaba.nacos.consistency.ProtoMessageUtil;
 import com.alibaba.nacos.consistency.RequestProcessor;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
 import com.alibaba.nacos.consistency.exception.ConsistencyException;
 import com.alibaba.nacos.core.distributed.raft.exception.DuplicateRaftGroupException;
 import com.alibaba.nacos.core.distributed.raft.exception.JRaftException;
@@ -59,6 +61,7 @@ import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.option.CliOptions;
 import com.alipay.sofa.jraft.option.NodeOptions;
 import com.alipay.sofa.jraft.option.RaftOptions;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcProcessor;
 import com.alipay.sofa.jraft.rpc.RpcServer;
@@ -104,6 +107,14 @@ import java.util.function.BiConsumer;
 @SuppressWarnings("all")
 public class JRaftServer {
     
+    private static final String READ_PATH_READ_INDEX = "read_index";
+    
+    private static final String READ_PATH_LEASE = "lease";
+    
+    private static final String READ_PATH_LOCAL = "local";
+    
+    private static final String READ_PATH_LEADER = "leader";
+    
     // Existential life cycle
     
     private RpcServer rpcServer;
@@ -116,6 +127,8 @@ public class JRaftServer {
     
     private Map<String, RaftGroupTuple> multiRaftGroup = new ConcurrentHashMap<>();
     
+    private Map<String, RaftGroupCommitter> groupCommitters = new ConcurrentHashMap<>();
+    
     private volatile boolean isStarted = false;
     
     private volatile boolean isShutdown = false;
@@ -142,6 +155,16 @@ public class JRaftServer {
     
     private int rpcRequestTimeoutMs;
     
+    private boolean groupCommitEnabled;
+    
+    private int groupCommitWindowMs;
+    
+    private int groupCommitMaxSize;
+    
+    private ReadConsistency readConsistency;
+    
+    private int localReadMaxLag;
+    
     public JRaftServer() {
         this.conf = new Configuration();
     }
@@ -170,6 +193,18 @@ public class JRaftServer {
         rpcRequestTimeoutMs = ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.RAFT_RPC_REQUEST_TIMEOUT_MS),
                 RaftSysConstants.DEFAULT_RAFT_RPC_REQUEST_TIMEOUT_MS);
         
+        groupCommitEnabled = ConvertUtils.toBoolean(raftConfig.getVal(RaftSysConstants.GROUP_COMMIT_ENABLED),
+                RaftSysConstants.DEFAULT_GROUP_COMMIT_ENABLED);
+        groupCommitWindowMs = ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.GROUP_COMMIT_WINDOW_MS),
+                RaftSysConstants.DEFAULT_GROUP_COMMIT_WINDOW_MS);
+        groupCommitMaxSize = ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.GROUP_COMMIT_MAX_SIZE),
+                RaftSysConstants.DEFAULT_GROUP_COMMIT_MAX_SIZE);
+        
+        readConsistency = ReadConsistency.parse(raftConfig.getValOfDefault(RaftSysConstants.RAFT_READ_CONSISTENCY,
+                RaftSysConstants.DEFAULT_READ_CONSISTENCY), ReadConsistency.LINEARIZABLE);
+        localReadMaxLag = ConvertUtils.toInt(raftConfig.getVal(RaftSysConstants.LOCAL_READ_MAX_LAG),
+                RaftSysConstants.DEFAULT_LOCAL_READ_MAX_LAG);
+        
         nodeOptions.setSharedElectionTimer(true);
         nodeOptions.setSharedVoteTimer(true);
         nodeOptions.setSharedStepDownTimer(true);
@@ -259,6 +294,10 @@ public class JRaftServer {
             // Because BaseRpcServer has been started before, it is not allowed to start again here
             Node node = raftGroupService.start(false);
             machine.setNode(node);
+            if (groupCommitEnabled) {
+                groupCommitters.put(groupName,
+                        new RaftGroupCommitter(groupName, this, node, groupCommitWindowMs, groupCommitMaxSize));
+            }
             RouteTable.getInstance().updateConfiguration(groupName, configuration);
             
             RaftExecutor.executeByCommon(() -> registerSelfToCluster(groupName, localPeerId, configuration));
@@ -282,14 +321,29 @@ public class JRaftServer {
         }
         final Node node = tuple.node;
         final RequestProcessor processor = tuple.processor;
+        final ReadConsistency consistency = ReadConsistency
+                .parse(request.getExtendInfoMap().get(ReadConsistency.EXTEND_INFO_KEY), readConsistency);
+        if (ReadConsistency.LOCAL == consistency && isLocalReadable(node)) {
+            try {
+                future.complete(processor.onRequest(request));
+                MetricsMonitor.raftReadServed(READ_PATH_LOCAL);
+                return future;
+            } catch (Throwable t) {
+                Loggers.RAFT.warn("Raft local read failed, go to lease read logic : {}", t.toString());
+            }
+        }
+        // Lease read lets the leader answer the read index within its lease, and the read is served by local node
+        final boolean leaseRead = ReadConsistency.LINEARIZABLE != consistency;
+        final String readPath = leaseRead ? READ_PATH_LEASE : READ_PATH_READ_INDEX;
         try {
-            node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
+            ReadIndexClosure closure = new ReadIndexClosure() {
                 @Override
                 public void run(Status status, long index, byte[] reqCtx) {
                     if (status.isOk()) {
                         try {
                             Response response = processor.onRequest(request);
                             future.complete(response);
+                            MetricsMonitor.raftReadServed(readPath);
                         } catch (Throwable t) {
                             MetricsMonitor.raftReadIndexFailed();
                             future.completeExceptionally(new ConsistencyException(
@@ -300,12 +354,19 @@ public class JRaftServer {
                     MetricsMonitor.raftReadIndexFailed();
                     Loggers.RAFT.error("ReadIndex has error : {}, go to Leader read.", status.getErrorMsg());
                     MetricsMonitor.raftReadFromLeader();
+                    MetricsMonitor.raftReadServed(READ_PATH_LEADER);
                     readFromLeader(request, future);
                 }
-            });
+            };
+            if (leaseRead) {
+                node.readIndex(ReadOnlyOption.ReadOnlyLeaseBased, BytesUtil.EMPTY_BYTES, closure);
+            } else {
+                node.readIndex(BytesUtil.EMPTY_BYTES, closure);
+            }
             return future;
         } catch (Throwable e) {
             MetricsMonitor.raftReadFromLeader();
+            MetricsMonitor.raftReadServed(READ_PATH_LEADER);
             Loggers.RAFT.warn("Raft linear read failed, go to Leader read logic : {}", e.toString());
             // run raft read
             readFromLeader(request, future);
@@ -313,6 +374,21 @@ public class JRaftServer {
         }
     }
     
+    /**
+     * Whether the local state machine can serve stale-bounded reads, that is the node knows the leader and the applied
+     * log entries lag behind the known committed index within {@link RaftSysConstants#LOCAL_READ_MAX_LAG}.
+     *
+     * @param node raft node
+     * @return {@code true} if the local state machine can serve the read
+     */
+    boolean isLocalReadable(Node node) {
+        PeerId leaderId = node.getLeaderId();
+        if (null == leaderId || leaderId.isEmpty()) {
+            return false;
+        }
+        return node.getLastCommittedIndex() - node.getLastAppliedLogIndex() <= localReadMaxLag;
+    }
+    
     public void readFromLeader(final ReadRequest request, final CompletableFuture<Response> future) {
         commit(request.getGroup(), request, future);
     }
@@ -331,7 +407,7 @@ public class JRaftServer {
         final Node node = tuple.node;
         if (node.isLeader()) {
             // The leader node directly applies this request
-            applyOperation(node, data, closure);
+            applyOnLeader(node, data, closure);
         } else {
             // Forward to Leader for request processing
             invokeToLeader(group, data, rpcRequestTimeoutMs, closure);
@@ -394,6 +470,25 @@ public class JRaftServer {
         }
     }
     
+    /**
+     * Apply the request on the leader node, both for local requests and requests forwarded by followers. Writes are
+     * coalesced into one log entry if group commit of their raft group is enabled.
+     *
+     * @param node    leader node of the raft group
+     * @param data    request to apply
+     * @param closure closure notified with the response of the request
+     */
+    public void applyOnLeader(Node node, Message data, FailoverClosure closure) {
+        if (data instanceof WriteRequest) {
+            final RaftGroupCommitter committer = groupCommitters.get(((WriteRequest) data).getGroup());
+            if (committer != null) {
+                committer.commit((WriteRequest) data, closure);
+                return;
+            }
+        }
+        applyOperation(node, data, closure);
+    }
+    
     public void applyOperation(Node node, Message data, FailoverClosure closure) {
         final Task task = new Task();
         task.setDone(new NacosClosure(data, status -> {
@@ -540,6 +635,11 @@ public class JRaftServer {
         this.multiRaftGroup = map;
     }
     
+    @JustForTest
+    void mockGroupCommitters(Map<String, RaftGroupCommitter> map) {
+        this.groupCommitters = map;
+    }
+    
     CliService getCliService() {
         return cliService;
     }
@@ -119,7 +119,9 @@ class NacosStateMachine extends StateMachineAdapter {
                     LoggerUtils.printIfDebugEnabled(Loggers.RAFT, "receive log : {}", message);
                     
                     if (message instanceof WriteRequest) {
-                        Response response = processor.onApply((WriteRequest) message);
+                        final WriteRequest request = (WriteRequest) message;
+                        Response response = RaftGroupCommitter.isGroupCommit(request) ? applyGroupCommit(request)
+                                : processor.onApply(request);
                         postProcessor(response, closure);
                     }
                     
@@ -148,6 +150,36 @@ class NacosStateMachine extends StateMachineAdapter {
         }
     }
     
+    /**
+     * Apply all write requests coalesced into one log entry in order, the response of each request is returned to its
+     * own caller.
+     *
+     * <p>Requests are not applied in one storage transaction, so an exception of one request fails only that request.
+     * Failing the whole log entry would replay the requests already applied before it.
+     *
+     * @param request write request produced by {@link RaftGroupCommitter}
+     * @return response whose data carries the responses of all requests
+     */
+    private Response applyGroupCommit(WriteRequest request) {
+        List<WriteRequest> requests = RaftGroupCommitter.decodeRequests(request.getData());
+        List<Response> responses = new ArrayList<>(requests.size());
+        for (WriteRequest each : requests) {
+            responses.add(applyInGroupCommit(each));
+        }
+        return Response.newBuilder().setSuccess(true).setData(RaftGroupCommitter.encodeResponses(responses))
+                .build();
+    }
+    
+    private Response applyInGroupCommit(WriteRequest request) {
+        try {
+            return processor.onApply(request);
+        } catch (Throwable e) {
+            Loggers.RAFT.error("processor : {}, apply request of group commit failed, key : {}", processor,
+                    request.getKey(), e);
+            return Response.newBuilder().setSuccess(false).setErrMsg(e.toString()).build();
+        }
+    }
+    
     public void setNode(Node node) {
         this.node = node;
     }
@@ -0,0 +1,296 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft;
+
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.consistency.exception.ConsistencyException;
+import com.alibaba.nacos.core.distributed.raft.utils.FailoverClosure;
+import com.alibaba.nacos.core.distributed.raft.utils.RaftExecutor;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
+import com.alibaba.nacos.core.utils.Loggers;
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.error.RaftError;
+import com.google.protobuf.ByteString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Group commit of one raft group.
+ *
+ * <p>Concurrent write requests submitted on the leader are coalesced into a single log entry, which is flushed either
+ * when the batch reaches the max size or when the commit window of the first request expires. The state machine
+ * applies all requests of the entry in order and returns their responses in one response, which is fanned back to the
+ * closure of each request.
+ *
+ * @author Nacos
+ */
+class RaftGroupCommitter {
+    
+    /**
+     * Operation of the write request which wraps a batch of write requests.
+     */
+    static final String GROUP_COMMIT_OPERATION = "@@groupCommit";
+    
+    private final String group;
+    
+    private final JRaftServer server;
+    
+    private final Node node;
+    
+    private final int windowMs;
+    
+    private final int maxSize;
+    
+    private final Object lock = new Object();
+    
+    private List<PendingWrite> pending = new ArrayList<>();
+    
+    private long firstPendingNanos;
+    
+    private boolean flushScheduled;
+    
+    RaftGroupCommitter(String group, JRaftServer server, Node node, int windowMs, int maxSize) {
+        this.group = group;
+        this.server = server;
+        this.node = node;
+        this.windowMs = Math.max(windowMs, 0);
+        this.maxSize = Math.max(maxSize, 1);
+    }
+    
+    /**
+     * Add the write request to the current batch.
+     *
+     * @param request write request
+     * @param closure closure to receive the result of the request
+     */
+    void commit(WriteRequest request, FailoverClosure closure) {
+        List<PendingWrite> ready = null;
+        long startNanos = 0L;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                firstPendingNanos = System.nanoTime();
+            }
+            pending.add(new PendingWrite(request, closure));
+            if (pending.size() >= maxSize) {
+                startNanos = firstPendingNanos;
+                ready = drain();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                RaftExecutor.scheduleByCommon(this::flush, windowMs);
+            }
+        }
+        if (null != ready) {
+            apply(ready, startNanos);
+        }
+    }
+    
+    /**
+     * Apply all pending write requests no matter whether the batch is full.
+     */
+    void flush() {
+        List<PendingWrite> ready;
+        long startNanos;
+        synchronized (lock) {
+            flushScheduled = false;
+            startNanos = firstPendingNanos;
+            ready = drain();
+        }
+        if (!ready.isEmpty()) {
+            apply(ready, startNanos);
+        }
+    }
+    
+    int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+    
+    private List<PendingWrite> drain() {
+        List<PendingWrite> result = pending;
+        pending = new ArrayList<>();
+        return result;
+    }
+    
+    private void apply(List<PendingWrite> batch, long startNanos) {
+        if (batch.size() == 1) {
+            PendingWrite write = batch.get(0);
+            server.applyOperation(node, write.request, new SingleClosure(write.closure, startNanos));
+            return;
+        }
+        List<WriteRequest> requests = new ArrayList<>(batch.size());
+        for (PendingWrite each : batch) {
+            requests.add(each.request);
+        }
+        WriteRequest batchRequest = WriteRequest.newBuilder().setGroup(group).setOperation(GROUP_COMMIT_OPERATION)
+                .setData(encodeRequests(requests)).build();
+        server.applyOperation(node, batchRequest, new BatchClosure(batch, startNanos));
+    }
+    
+    static boolean isGroupCommit(WriteRequest request) {
+        return GROUP_COMMIT_OPERATION.equals(request.getOperation());
+    }
+    
+    static ByteString encodeRequests(List<WriteRequest> requests) {
+        ByteString.Output output = ByteString.newOutput();
+        try {
+            for (WriteRequest each : requests) {
+                each.writeDelimitedTo(output);
+            }
+        } catch (IOException e) {
+            throw new ConsistencyException(e);
+        }
+        return output.toByteString();
+    }
+    
+    static List<WriteRequest> decodeRequests(ByteString data) {
+        List<WriteRequest> result = new ArrayList<>();
+        try (InputStream input = data.newInput()) {
+            WriteRequest request;
+            while (null != (request = WriteRequest.parseDelimitedFrom(input))) {
+                result.add(request);
+            }
+        } catch (IOException e) {
+            throw new ConsistencyException(e);
+        }
+        return result;
+    }
+    
+    static ByteString encodeResponses(List<Response> responses) {
+        ByteString.Output output = ByteString.newOutput();
+        try {
+            for (Response each : responses) {
+                each.writeDelimitedTo(output);
+            }
+        } catch (IOException e) {
+            throw new ConsistencyException(e);
+        }
+        return output.toByteString();
+    }
+    
+    static List<Response> decodeResponses(ByteString data) {
+        List<Response> result = new ArrayList<>();
+        try (InputStream input = data.newInput()) {
+            Response response;
+            while (null != (response = Response.parseDelimitedFrom(input))) {
+                result.add(response);
+            }
+        } catch (IOException e) {
+            throw new ConsistencyException(e);
+        }
+        return result;
+    }
+    
+    private class SingleClosure implements FailoverClosure {
+        
+        private final FailoverClosure closure;
+        
+        private final long startNanos;
+        
+        private SingleClosure(FailoverClosure closure, long startNanos) {
+            this.closure = closure;
+            this.startNanos = startNanos;
+        }
+        
+        @Override
+        public void setResponse(Response response) {
+            closure.setResponse(response);
+        }
+        
+        @Override
+        public void setThrowable(Throwable throwable) {
+            closure.setThrowable(throwable);
+        }
+        
+        @Override
+        public void run(Status status) {
+            if (status.isOk()) {
+                MetricsMonitor.recordRaftGroupCommit(group, 1, System.nanoTime() - startNanos);
+            }
+            closure.run(status);
+        }
+    }
+    
+    private class BatchClosure implements FailoverClosure {
+        
+        private final List<PendingWrite> batch;
+        
+        private final long startNanos;
+        
+        private volatile Response response;
+        
+        private volatile Throwable throwable;
+        
+        private BatchClosure(List<PendingWrite> batch, long startNanos) {
+            this.batch = batch;
+            this.startNanos = startNanos;
+        }
+        
+        @Override
+        public void setResponse(Response response) {
+            this.response = response;
+        }
+        
+        @Override
+        public void setThrowable(Throwable throwable) {
+            this.throwable = throwable;
+        }
+        
+        @Override
+        public void run(Status status) {
+            if (!status.isOk()) {
+                for (PendingWrite each : batch) {
+                    each.closure.setThrowable(throwable);
+                    each.closure.run(status);
+                }
+                return;
+            }
+            MetricsMonitor.recordRaftGroupCommit(group, batch.size(), System.nanoTime() - startNanos);
+            List<Response> responses = null == response ? new ArrayList<>() : decodeResponses(response.getData());
+            for (int i = 0; i < batch.size(); i++) {
+                PendingWrite each = batch.get(i);
+                if (i < responses.size()) {
+                    each.closure.setResponse(responses.get(i));
+                    each.closure.run(status);
+                } else {
+                    String errMsg = String.format("Group commit of %s returned %d responses for %d requests, "
+                            + "missing response of request %d", group, responses.size(), batch.size(), i);
+                    Loggers.RAFT.error(errMsg);
+                    each.closure.setThrowable(new ConsistencyException(errMsg));
+                    each.closure.run(new Status(RaftError.UNKNOWN, errMsg));
+                }
+            }
+        }
+    }
+    
+    private static class PendingWrite {
+        
+        private final WriteRequest request;
+        
+        private final FailoverClosure closure;
+        
+        private PendingWrite(WriteRequest request, FailoverClosure closure) {
+            this.request = request;
+            this.closure = closure;
+        }
+    }
+}
@@ -126,6 +126,35 @@ public final class RaftSysConstants {
      */
     public static final boolean DEFAULT_ENABLE_LOG_ENTRY_CHECKSUM = false;
     
+    /**
+     * Whether to coalesce concurrent write requests of one raft group into a single log entry, default false
+     * 是否将同一 raft group 的并发写请求合并为一条日志，默认关闭
+     */
+    public static final boolean DEFAULT_GROUP_COMMIT_ENABLED = false;
+    
+    /**
+     * The maximum time a write request waits for other requests to join its log entry, 2 ms by default
+     * 写请求等待其他请求合并进同一条日志的最长时间，默认 2 毫秒
+     */
+    public static final int DEFAULT_GROUP_COMMIT_WINDOW_MS = 2;
+    
+    /**
+     * The maximum number of write requests coalesced into one log entry, 64 by default 合并进同一条日志的最大写请求数，默认 64
+     */
+    public static final int DEFAULT_GROUP_COMMIT_MAX_SIZE = 64;
+    
+    /**
+     * The read consistency level of read requests which do not specify one, linearizable by default
+     * 未指定一致性级别的读请求所使用的读一致性级别，默认线性一致读
+     */
+    public static final String DEFAULT_READ_CONSISTENCY = "linearizable";
+    
+    /**
+     * The maximum number of committed but not yet applied log entries allowed by local reads, 128 by default
+     * 本地读允许的已提交但未应用的最大日志条数，默认 128
+     */
+    public static final int DEFAULT_LOCAL_READ_MAX_LAG = 128;
+    
     // ========= setting key ========= //
     
     public static final String RAFT_STATE = "raft";
@@ -235,4 +264,32 @@ public final class RaftSysConstants {
      * Whether to enable LogEntry checksum
      */
     public static final String ENABLE_LOG_ENTRY_CHECKSUM = "enable_log_entry_checksum";
+    
+    /**
+     * Whether to coalesce concurrent write requests of one raft group into a single log entry. Only enable it after
+     * every member has been upgraded, older members can not apply the batched log entries.
+     */
+    public static final String GROUP_COMMIT_ENABLED = "group_commit_enabled";
+    
+    /**
+     * The maximum time in milliseconds a write request waits for other requests to join its log entry, default is 2
+     */
+    public static final String GROUP_COMMIT_WINDOW_MS = "group_commit_window_ms";
+    
+    /**
+     * The maximum number of write requests coalesced into one log entry, default is 64
+     */
+    public static final String GROUP_COMMIT_MAX_SIZE = "group_commit_max_size";
+    
+    /**
+     * The read consistency level of read requests which do not specify one, one of linearizable, lease and local,
+     * default is linearizable
+     */
+    public static final String RAFT_READ_CONSISTENCY = "read_consistency";
+    
+    /**
+     * The maximum number of committed but not yet applied log entries allowed by local reads, a node lagging further
+     * serves the read as a lease read, default is 128
+     */
+    public static final String LOCAL_READ_MAX_LAG = "local_read_max_lag";
 }
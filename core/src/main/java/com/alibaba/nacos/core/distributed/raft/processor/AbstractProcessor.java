@@ -89,7 +89,7 @@ public abstract class AbstractProcessor {
             }
         };
         
-        server.applyOperation(tuple.getNode(), message, closure);
+        server.applyOnLeader(tuple.getNode(), message, closure);
     }
     
 }
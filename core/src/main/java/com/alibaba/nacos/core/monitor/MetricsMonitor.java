@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.monitor;
 
+import com.alibaba.nacos.common.remote.codec.PayloadCompressionStats;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.alibaba.nacos.common.utils.StringUtils;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.ImmutableTag;
@@ -92,6 +94,23 @@ public final class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("type", clusterServerExecutorMetric.getType()));
         initGrpcServerExecutorMetric(tags, clusterServerExecutorMetric);
+        
+        initPayloadCompressionMetric(immutableTag, "outbound", PayloadCompressor.getOutboundStats());
+        initPayloadCompressionMetric(immutableTag, "inbound", PayloadCompressor.getInboundStats());
+    }
+    
+    private static void initPayloadCompressionMetric(Tag moduleTag, String direction, PayloadCompressionStats stats) {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(moduleTag);
+        tags.add(new ImmutableTag("name", "grpc_payload_uncompressed_bytes"));
+        tags.add(new ImmutableTag("direction", direction));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, stats.getUncompressedBytes());
+        
+        tags = new ArrayList<>();
+        tags.add(moduleTag);
+        tags.add(new ImmutableTag("name", "grpc_payload_compressed_bytes"));
+        tags.add(new ImmutableTag("direction", direction));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, stats.getCompressedBytes());
     }
 
     private static void initGrpcServerExecutorMetric(List<Tag> tags, GrpcServerExecutorMetric metric) {
@@ -143,6 +162,16 @@ public final class MetricsMonitor {
         RAFT_FROM_LEADER.record(1);
     }
     
+    /**
+     * record one raft read served by the path.
+     *
+     * @param path path serving the read, such as read_index, lease, local and leader
+     */
+    public static void raftReadServed(String path) {
+        NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", "module", "core", "name", "raft_read_served",
+                "path", path).record(1);
+    }
+    
     public static Timer getRaftApplyLogTimer() {
         return RAFT_APPLY_LOG_TIMER;
     }
@@ -311,4 +340,38 @@ public final class MetricsMonitor {
                 )
         ).record(costTime, TimeUnit.NANOSECONDS);
     }
+    
+    /**
+     * record cost of one process round of delay task execute engine.
+     *
+     * @param engine            name of engine
+     * @param scanCostNanos     cost of finding tasks to process
+     * @param dispatchCostNanos cost of processing tasks
+     * @param dispatchCount     count of processed tasks
+     */
+    public static void recordDelayTaskEngineCost(String engine, long scanCostNanos, long dispatchCostNanos,
+            int dispatchCount) {
+        NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "core", "name",
+                "delayTaskEngineScanRt", "engine", engine).record(scanCostNanos, TimeUnit.NANOSECONDS);
+        if (dispatchCount > 0) {
+            NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "core", "name",
+                    "delayTaskEngineDispatchRt", "engine", engine).record(dispatchCostNanos, TimeUnit.NANOSECONDS);
+            NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", "module", "core", "name",
+                    "delayTaskEngineDispatchCount", "engine", engine).record(dispatchCount);
+        }
+    }
+    
+    /**
+     * record one log entry committed by raft group commit.
+     *
+     * @param group           raft group
+     * @param batchSize       count of write requests coalesced into the log entry
+     * @param commitCostNanos cost from the first request joining the batch to the log entry being applied
+     */
+    public static void recordRaftGroupCommit(String group, int batchSize, long commitCostNanos) {
+        NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", "module", "core", "name",
+                "raft_group_commit_batch_size", "group", group).record(batchSize);
+        NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "core", "name",
+                "raft_group_commit_rt", "group", group).record(commitCostNanos, TimeUnit.NANOSECONDS);
+    }
 }
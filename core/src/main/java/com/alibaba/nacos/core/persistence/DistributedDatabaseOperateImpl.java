@@ -32,6 +32,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
@@ -232,8 +233,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), cls);
             }
@@ -256,8 +256,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), cls);
             }
@@ -280,8 +279,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(),
                         ClassUtils.resolveGenericTypeByInterface(mapper.getClass()));
@@ -305,8 +303,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), List.class);
             }
@@ -329,8 +326,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), List.class);
             }
@@ -353,8 +349,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), List.class);
             }
@@ -365,6 +360,21 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    /**
+     * Build read request, the read consistency level specified by the caller is carried by the extend info.
+     *
+     * @param data serialized {@link SelectRequest}
+     * @return {@link ReadRequest}
+     */
+    private ReadRequest buildReadRequest(byte[] data) {
+        ReadRequest.Builder builder = ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data));
+        String consistency = EmbeddedStorageContextHolder.getExtendInfo(PersistenceConstant.EXTEND_READ_CONSISTENCY);
+        if (StringUtils.isNotBlank(consistency)) {
+            builder.putExtendInfo(ReadConsistency.EXTEND_INFO_KEY, consistency);
+        }
+        return builder.build();
+    }
+    
     /**
      * In some business situations, you need to avoid the timeout issue, so blockRead is used to determine this.
      *
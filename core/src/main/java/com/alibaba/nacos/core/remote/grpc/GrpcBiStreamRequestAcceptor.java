@@ -26,10 +26,14 @@ import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.ability.discover.NacosAbilityManagerHolder;
 import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.impl.JsonPayloadCodec;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
 import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
@@ -121,6 +125,15 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
                         // map to table
                         connection.setAbilityTable(setUpRequest.getAbilityTable());
                     }
+                    String preferredCodec = EnvUtil.getProperty(
+                            GrpcServerConstants.GrpcConfig.SDK_PAYLOAD_CODEC_PROPERTY, JsonPayloadCodec.NAME);
+                    connection.setPayloadCodec(PayloadCodecManager.getInstance()
+                            .negotiate(preferredCodec, setUpRequest.getAbilityTable()));
+                    int compressionThreshold = EnvUtil.getProperty(
+                            GrpcServerConstants.GrpcConfig.SDK_COMPRESSION_THRESHOLD_PROPERTY, Integer.class,
+                            PayloadCompressor.DISABLED);
+                    connection.setCompressionThreshold(
+                            PayloadCompressor.negotiate(compressionThreshold, setUpRequest.getAbilityTable()));
                     boolean rejectSdkOnStarting = metaInfo.isSdkSource() && !ApplicationUtils.isStarted();
                     
                     if (rejectSdkOnStarting || !connectionManager.register(connectionId, connection)) {
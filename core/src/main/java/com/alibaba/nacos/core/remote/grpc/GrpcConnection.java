@@ -25,6 +25,9 @@ import com.alibaba.nacos.api.remote.RequestFuture;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
 import com.alibaba.nacos.core.remote.Connection;
@@ -54,6 +57,10 @@ public class GrpcConnection extends Connection {
     
     private Channel channel;
     
+    private PayloadCodec payloadCodec = PayloadCodecManager.getInstance().getDefaultCodec();
+    
+    private int compressionThreshold = PayloadCompressor.DISABLED;
+    
     private static TpsControlManager tpsControlManager;
     
     public GrpcConnection(ConnectionMeta metaInfo, StreamObserver streamObserver, Channel channel) {
@@ -74,7 +81,7 @@ public class GrpcConnection extends Connection {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 try {
-                    Payload payload = GrpcUtils.convert(request);
+                    Payload payload = compressIfNecessary(GrpcUtils.convert(request, payloadCodec));
                     traceIfNecessary(payload);
                     streamObserver.onNext(payload);
                     return true;
@@ -211,4 +218,30 @@ public class GrpcConnection extends Connection {
     public boolean isConnected() {
         return channel != null && channel.isOpen() && channel.isActive();
     }
+    
+    public PayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+    
+    public void setPayloadCodec(PayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+    
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+    
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+    
+    /**
+     * compress payload sent to client if its body is larger than the threshold negotiated with client.
+     *
+     * @param payload payload to send.
+     * @return compressed payload or the origin one.
+     */
+    public Payload compressIfNecessary(Payload payload) {
+        return PayloadCompressor.compress(payload, compressionThreshold);
+    }
 }
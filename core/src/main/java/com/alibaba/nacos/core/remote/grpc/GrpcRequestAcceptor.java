@@ -193,7 +193,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             connectionManager.refreshActiveTime(requestMeta.getConnectionId());
             prepareRequestContext(request, requestMeta, connection);
             Response response = requestHandler.handleRequest(request, requestMeta);
-            Payload payloadResponse = GrpcUtils.convert(response);
+            Payload payloadResponse = compressIfNecessary(connection, GrpcUtils.convert(response));
             traceIfNecessary(payloadResponse, false);
             if (response.getErrorCode() == NacosException.OVER_THRESHOLD) {
                 RpcScheduledExecutor.CONTROL_SCHEDULER.schedule(() -> {
@@ -224,6 +224,13 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
         
     }
     
+    private Payload compressIfNecessary(Connection connection, Payload payloadResponse) {
+        if (connection instanceof GrpcConnection) {
+            return ((GrpcConnection) connection).compressIfNecessary(payloadResponse);
+        }
+        return payloadResponse;
+    }
+    
     private void prepareRequestContext(Request request, RequestMeta requestMeta, Connection connection) {
         RequestContext requestContext = RequestContextHolder.getContext();
         requestContext.setRequestId(request.getRequestId());
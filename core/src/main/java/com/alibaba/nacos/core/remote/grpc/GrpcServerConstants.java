@@ -79,6 +79,11 @@ final class GrpcServerConstants {
         
         static final String SDK_PERMIT_KEEP_ALIVE_TIME = NACOS_REMOTE_SERVER_GRPC_SDK_PREFIX + "permit-keep-alive-time";
         
+        static final String SDK_PAYLOAD_CODEC_PROPERTY = NACOS_REMOTE_SERVER_GRPC_SDK_PREFIX + "payload-codec";
+        
+        static final String SDK_COMPRESSION_THRESHOLD_PROPERTY =
+                NACOS_REMOTE_SERVER_GRPC_SDK_PREFIX + "compression-threshold";
+        
         static final String CLUSTER_MAX_INBOUND_MSG_SIZE_PROPERTY =
                 NACOS_REMOTE_SERVER_GRPC_CLUSTER_PREFIX + "max-inbound-message-size";
         
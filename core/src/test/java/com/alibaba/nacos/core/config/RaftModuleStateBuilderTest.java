@@ -69,5 +69,10 @@ class RaftModuleStateBuilderTest {
         assertEquals(RaftSysConstants.DEFAULT_REPLICATOR_PIPELINE, states.get(RaftSysConstants.REPLICATOR_PIPELINE));
         assertEquals(RaftSysConstants.DEFAULT_MAX_REPLICATOR_INFLIGHT_MSGS, states.get(RaftSysConstants.MAX_REPLICATOR_INFLIGHT_MSGS));
         assertEquals(RaftSysConstants.DEFAULT_ENABLE_LOG_ENTRY_CHECKSUM, states.get(RaftSysConstants.ENABLE_LOG_ENTRY_CHECKSUM));
+        assertEquals(RaftSysConstants.DEFAULT_GROUP_COMMIT_ENABLED, states.get(RaftSysConstants.GROUP_COMMIT_ENABLED));
+        assertEquals(RaftSysConstants.DEFAULT_GROUP_COMMIT_WINDOW_MS, states.get(RaftSysConstants.GROUP_COMMIT_WINDOW_MS));
+        assertEquals(RaftSysConstants.DEFAULT_GROUP_COMMIT_MAX_SIZE, states.get(RaftSysConstants.GROUP_COMMIT_MAX_SIZE));
+        assertEquals(RaftSysConstants.DEFAULT_READ_CONSISTENCY, states.get(RaftSysConstants.RAFT_READ_CONSISTENCY));
+        assertEquals(RaftSysConstants.DEFAULT_LOCAL_READ_MAX_LAG, states.get(RaftSysConstants.LOCAL_READ_MAX_LAG));
     }
 }
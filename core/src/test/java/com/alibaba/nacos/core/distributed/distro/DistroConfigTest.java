@@ -27,6 +27,7 @@ import java.lang.reflect.Constructor;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DistroConfigTest {
     
@@ -95,6 +96,13 @@ class DistroConfigTest {
         environment.setProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, String.valueOf(verifyIntervalMillis));
         environment.setProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, String.valueOf(verifyTimeoutMillis));
         environment.setProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, String.valueOf(loadDataRetryDelayMillis));
+        environment.setProperty(DistroConstants.DATA_VERIFY_DIGEST_ENABLED, "true");
+        environment.setProperty(DistroConstants.DATA_VERIFY_DIGEST_BUCKETS, "64");
+        environment.setProperty(DistroConstants.DATA_SYNC_BATCH_ENABLED, "true");
+        environment.setProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, "50");
+        environment.setProperty(DistroConstants.DATA_LOAD_CHUNK_ENABLED, "true");
+        environment.setProperty(DistroConstants.DATA_LOAD_CHUNK_COUNT, "16");
+        environment.setProperty(DistroConstants.DATA_LOAD_CHUNK_PARALLELISM, "4");
         
         Constructor<DistroConfig> declaredConstructor = DistroConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
@@ -106,6 +114,13 @@ class DistroConfigTest {
         assertEquals(distroConfig.getVerifyIntervalMillis(), verifyIntervalMillis);
         assertEquals(distroConfig.getVerifyTimeoutMillis(), verifyTimeoutMillis);
         assertEquals(distroConfig.getLoadDataRetryDelayMillis(), loadDataRetryDelayMillis);
+        assertTrue(distroConfig.isVerifyDigestEnabled());
+        assertEquals(64, distroConfig.getVerifyDigestBuckets());
+        assertTrue(distroConfig.isSyncBatchEnabled());
+        assertEquals(50, distroConfig.getSyncBatchSize());
+        assertTrue(distroConfig.isLoadDataChunkEnabled());
+        assertEquals(16, distroConfig.getLoadDataChunkCount());
+        assertEquals(4, distroConfig.getLoadDataChunkParallelism());
         
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistroSnapshotChunkTest {
+    
+    private final String type = "com.alibaba.nacos.naming.iplist.";
+    
+    @Test
+    void testToDistroKeyAndParse() {
+        DistroSnapshotChunk chunk = new DistroSnapshotChunk(3, 16);
+        DistroKey distroKey = chunk.toDistroKey(type);
+        assertEquals(type, distroKey.getResourceType());
+        DistroSnapshotChunk actual = DistroSnapshotChunk.parse(distroKey);
+        assertEquals(3, actual.getIndex());
+        assertEquals(16, actual.getCount());
+        assertTrue(chunk.isKeyOf(distroKey));
+        assertFalse(new DistroSnapshotChunk(4, 16).isKeyOf(distroKey));
+    }
+    
+    @Test
+    void testParseIllegalKey() {
+        assertNull(DistroSnapshotChunk.parse(null));
+        assertNull(DistroSnapshotChunk.parse(new DistroKey(DataOperation.SNAPSHOT.name(), type)));
+        assertNull(DistroSnapshotChunk.parse(new DistroKey("SNAPSHOT:a/16", type)));
+        assertNull(DistroSnapshotChunk.parse(new DistroKey("SNAPSHOT:16/16", type)));
+        assertNull(DistroSnapshotChunk.parse(new DistroKey("SNAPSHOT:1", type)));
+    }
+}
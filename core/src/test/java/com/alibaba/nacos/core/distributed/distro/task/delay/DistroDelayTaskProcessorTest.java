@@ -0,0 +1,117 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.delay;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroExecuteTaskExecuteEngine;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncBatchChangeTask;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncChangeTask;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncDeleteTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroDelayTaskProcessorTest {
+    
+    private final String type = "com.alibaba.nacos.naming.iplist.";
+    
+    private final String targetServer = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroTaskEngineHolder distroTaskEngineHolder;
+    
+    @Mock
+    private DistroExecuteTaskExecuteEngine executeTaskExecuteEngine;
+    
+    @Mock
+    private DistroDataStorage distroDataStorage;
+    
+    private DistroDelayTaskProcessor processor;
+    
+    @BeforeEach
+    void setUp() {
+        DistroComponentHolder componentHolder = new DistroComponentHolder();
+        componentHolder.registerDataStorage(type, distroDataStorage);
+        when(distroTaskEngineHolder.getExecuteWorkersManager()).thenReturn(executeTaskExecuteEngine);
+        lenient().when(distroDataStorage.isSupportBatchSync()).thenReturn(true);
+        processor = new DistroDelayTaskProcessor(distroTaskEngineHolder, componentHolder);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        DistroConfig.getInstance().setSyncBatchEnabled(false);
+    }
+    
+    @Test
+    void testProcessChangeWithoutBatch() {
+        DistroKey distroKey = buildKey("a");
+        assertTrue(processor.process(new DistroDelayTask(distroKey, DataOperation.CHANGE, 0L)));
+        verify(executeTaskExecuteEngine).addTask(eq(distroKey), isA(DistroSyncChangeTask.class));
+    }
+    
+    @Test
+    void testProcessChangeWithBatch() {
+        DistroConfig.getInstance().setSyncBatchEnabled(true);
+        assertTrue(processor.process(new DistroDelayTask(buildKey("a"), DataOperation.CHANGE, 0L)));
+        assertTrue(processor.process(new DistroDelayTask(buildKey("b"), DataOperation.ADD, 0L)));
+        ArgumentCaptor<AbstractExecuteTask> captor = ArgumentCaptor.forClass(AbstractExecuteTask.class);
+        verify(executeTaskExecuteEngine).addTask(any(), captor.capture());
+        DistroSyncBatchChangeTask batchTask = assertInstanceOf(DistroSyncBatchChangeTask.class, captor.getValue());
+        assertEquals(2, batchTask.size());
+    }
+    
+    @Test
+    void testProcessDeleteClosesBatch() {
+        DistroConfig.getInstance().setSyncBatchEnabled(true);
+        processor.process(new DistroDelayTask(buildKey("a"), DataOperation.CHANGE, 0L));
+        processor.process(new DistroDelayTask(buildKey("a"), DataOperation.DELETE, 0L));
+        processor.process(new DistroDelayTask(buildKey("a"), DataOperation.CHANGE, 0L));
+        ArgumentCaptor<Object> keyCaptor = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<AbstractExecuteTask> taskCaptor = ArgumentCaptor.forClass(AbstractExecuteTask.class);
+        verify(executeTaskExecuteEngine, times(3)).addTask(keyCaptor.capture(), taskCaptor.capture());
+        assertInstanceOf(DistroSyncBatchChangeTask.class, taskCaptor.getAllValues().get(0));
+        assertInstanceOf(DistroSyncDeleteTask.class, taskCaptor.getAllValues().get(1));
+        assertInstanceOf(DistroSyncBatchChangeTask.class, taskCaptor.getAllValues().get(2));
+        assertEquals(keyCaptor.getAllValues().get(0), keyCaptor.getAllValues().get(1));
+    }
+    
+    private DistroKey buildKey(String resourceKey) {
+        return new DistroKey(resourceKey, type, targetServer);
+    }
+}
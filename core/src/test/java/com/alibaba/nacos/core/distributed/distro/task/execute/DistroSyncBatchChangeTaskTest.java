@@ -0,0 +1,122 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroSyncBatchChangeTaskTest {
+    
+    private final String type = "com.alibaba.nacos.naming.iplist.";
+    
+    private final String targetServer = "1.1.1.1:8848";
+    
+    @Mock
+    private DistroDataStorage distroDataStorage;
+    
+    @Mock
+    private DistroTransportAgent distroTransportAgent;
+    
+    @Mock
+    private DistroFailedTaskHandler distroFailedTaskHandler;
+    
+    private DistroComponentHolder componentHolder;
+    
+    private DistroSyncBatchChangeTask batchTask;
+    
+    @BeforeEach
+    void setUp() {
+        componentHolder = new DistroComponentHolder();
+        componentHolder.registerDataStorage(type, distroDataStorage);
+        componentHolder.registerTransportAgent(type, distroTransportAgent);
+        componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
+        batchTask = new DistroSyncBatchChangeTask(type, targetServer, 2, componentHolder);
+    }
+    
+    @Test
+    void testTryAdd() {
+        assertTrue(batchTask.tryAdd(buildKey("a")));
+        assertTrue(batchTask.tryAdd(buildKey("a")));
+        assertTrue(batchTask.tryAdd(buildKey("b")));
+        assertEquals(2, batchTask.size());
+        assertFalse(batchTask.tryAdd(buildKey("c")));
+        assertTrue(batchTask.tryAdd(buildKey("b")));
+    }
+    
+    @Test
+    void testRunSuccess() {
+        batchTask.tryAdd(buildKey("a"));
+        batchTask.tryAdd(buildKey("b"));
+        DistroData distroData = new DistroData();
+        when(distroDataStorage.getBatchDistroData(anyCollection(), eq(targetServer))).thenReturn(distroData);
+        when(distroTransportAgent.syncData(distroData, targetServer)).thenReturn(true);
+        batchTask.run();
+        ArgumentCaptor<Collection<DistroKey>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(distroDataStorage).getBatchDistroData(captor.capture(), eq(targetServer));
+        assertEquals(2, captor.getValue().size());
+        assertEquals(DataOperation.CHANGE, distroData.getType());
+        assertFalse(batchTask.tryAdd(buildKey("c")));
+        verify(distroFailedTaskHandler, never()).retry(any(), any());
+    }
+    
+    @Test
+    void testRunFailedRetryEachKey() {
+        batchTask.tryAdd(buildKey("a"));
+        batchTask.tryAdd(buildKey("b"));
+        DistroData distroData = new DistroData();
+        when(distroDataStorage.getBatchDistroData(anyCollection(), eq(targetServer))).thenReturn(distroData);
+        when(distroTransportAgent.syncData(distroData, targetServer)).thenReturn(false);
+        batchTask.run();
+        verify(distroFailedTaskHandler).retry(buildKey("a"), DataOperation.CHANGE);
+        verify(distroFailedTaskHandler).retry(buildKey("b"), DataOperation.CHANGE);
+    }
+    
+    @Test
+    void testRunWithoutData() {
+        batchTask.tryAdd(buildKey("a"));
+        batchTask.run();
+        verify(distroTransportAgent, never()).syncData(any(), any());
+    }
+    
+    private DistroKey buildKey(String resourceKey) {
+        return new DistroKey(resourceKey, type, targetServer);
+    }
+}
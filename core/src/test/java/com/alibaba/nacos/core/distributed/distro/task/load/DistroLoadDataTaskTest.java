@@ -26,6 +26,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,10 +40,16 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,8 +103,8 @@ class DistroLoadDataTaskTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
+        lenient().when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        lenient().when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
@@ -109,4 +116,61 @@ class DistroLoadDataTaskTest {
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    void testRunWithChunk() {
+        mockChunkConfig(2);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), any(DistroSnapshotChunk.class))).thenAnswer(
+                invocation -> new DistroData(invocation.getArgument(1, DistroSnapshotChunk.class).toDistroKey(type),
+                        new byte[0]));
+        when(distroDataProcessor.processSnapshot(any(DistroData.class))).thenReturn(true);
+        distroLoadDataTask.run();
+        verify(distroDataProcessor, times(4)).processSnapshot(any(DistroData.class));
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+        assertEquals(4, distroLoadDataTask.getLoadedChunkCount());
+        assertEquals(4, distroLoadDataTask.getTotalChunkCount());
+    }
+    
+    @Test
+    void testRunWithChunkFromOldServer() {
+        mockChunkConfig(1);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), any(DistroSnapshotChunk.class))).thenReturn(
+                distroData);
+        distroLoadDataTask.run();
+        verify(distroDataProcessor).processSnapshot(distroData);
+        verify(distroDataStorage).finishInitial();
+        assertEquals(4, distroLoadDataTask.getLoadedChunkCount());
+    }
+    
+    @Test
+    void testRunWithChunkRetryMissingChunks() {
+        mockChunkConfig(1);
+        when(distroConfig.getLoadDataRetryDelayMillis()).thenReturn(3600000L);
+        AtomicBoolean failed = new AtomicBoolean(true);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), any(DistroSnapshotChunk.class))).thenAnswer(
+                invocation -> {
+                    DistroSnapshotChunk chunk = invocation.getArgument(1, DistroSnapshotChunk.class);
+                    if (failed.get() && 2 == chunk.getIndex()) {
+                        throw new IllegalStateException("mock failed");
+                    }
+                    return new DistroData(chunk.toDistroKey(type), new byte[0]);
+                });
+        when(distroDataProcessor.processSnapshot(any(DistroData.class))).thenReturn(true);
+        distroLoadDataTask.run();
+        assertEquals(3, distroLoadDataTask.getLoadedChunkCount());
+        verify(distroDataStorage, never()).finishInitial();
+        failed.set(false);
+        clearInvocations(distroDataProcessor);
+        distroLoadDataTask.run();
+        verify(distroDataProcessor, times(1)).processSnapshot(any(DistroData.class));
+        verify(distroDataStorage).finishInitial();
+        assertEquals(4, distroLoadDataTask.getLoadedChunkCount());
+    }
+    
+    private void mockChunkConfig(int parallelism) {
+        when(distroConfig.isLoadDataChunkEnabled()).thenReturn(true);
+        when(distroConfig.getLoadDataChunkCount()).thenReturn(4);
+        when(distroConfig.getLoadDataChunkParallelism()).thenReturn(parallelism);
+    }
 }
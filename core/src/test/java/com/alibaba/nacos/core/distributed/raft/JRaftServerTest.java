@@ -19,6 +19,7 @@ package com.alibaba.nacos.core.distributed.raft;
 import com.alibaba.nacos.common.model.RestResult;
 import com.alibaba.nacos.common.model.RestResultUtils;
 import com.alibaba.nacos.consistency.RequestProcessor;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
@@ -32,11 +33,13 @@ import com.alipay.sofa.jraft.Node;
 import com.alipay.sofa.jraft.RaftGroupService;
 import com.alipay.sofa.jraft.RouteTable;
 import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
 import com.alipay.sofa.jraft.conf.Configuration;
 import com.alipay.sofa.jraft.core.NodeImpl;
 import com.alipay.sofa.jraft.core.State;
 import com.alipay.sofa.jraft.entity.PeerId;
 import com.alipay.sofa.jraft.error.RemotingException;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.rpc.CliRequests;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcClient;
@@ -71,10 +74,13 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -278,6 +284,94 @@ class JRaftServerTest {
         verify(cliClientServiceMock).getRpcClient();
     }
     
+    @Test
+    void testCommitWithGroupCommit() {
+        RaftGroupCommitter committer = mock(RaftGroupCommitter.class);
+        server.mockGroupCommitters(Collections.singletonMap("test_nacos", committer));
+        when(node.isLeader()).thenReturn(true);
+        WriteRequest writeRequest = WriteRequest.newBuilder().setGroup("test_nacos").build();
+        server.commit("test_nacos", writeRequest, new CompletableFuture<>());
+        verify(committer).commit(eq(writeRequest), any(FailoverClosure.class));
+        verify(node, never()).apply(any());
+        
+        // read requests committed by readFromLeader are never coalesced
+        server.commit("test_nacos", ReadRequest.newBuilder().setGroup("test_nacos").build(), new CompletableFuture<>());
+        verify(node).apply(any());
+    }
+    
+    @Test
+    void testApplyForwardedWriteWithGroupCommit() {
+        RaftGroupCommitter committer = mock(RaftGroupCommitter.class);
+        server.mockGroupCommitters(Collections.singletonMap("test_nacos", committer));
+        WriteRequest writeRequest = WriteRequest.newBuilder().setGroup("test_nacos").build();
+        FailoverClosure closure = mock(FailoverClosure.class);
+        server.applyOnLeader(node, writeRequest, closure);
+        verify(committer).commit(writeRequest, closure);
+        verify(node, never()).apply(any());
+        
+        // groups without group commit are applied directly
+        server.applyOnLeader(node, WriteRequest.newBuilder().setGroup("other").build(), closure);
+        verify(node).apply(any());
+    }
+    
+    @Test
+    void testGetWithLinearizableRead() {
+        Response response = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(any())).thenReturn(response);
+        doAnswer(invocation -> {
+            invocation.getArgument(1, ReadIndexClosure.class).run(Status.OK(), 1L, null);
+            return null;
+        }).when(node).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+        CompletableFuture<Response> actual = server.get(ReadRequest.newBuilder().setGroup("test_nacos").build());
+        assertEquals(response, actual.join());
+        verify(node, never()).readIndex(any(ReadOnlyOption.class), any(byte[].class), any(ReadIndexClosure.class));
+    }
+    
+    @Test
+    void testGetWithLeaseRead() {
+        Response response = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(any())).thenReturn(response);
+        doAnswer(invocation -> {
+            invocation.getArgument(2, ReadIndexClosure.class).run(Status.OK(), 1L, null);
+            return null;
+        }).when(node).readIndex(eq(ReadOnlyOption.ReadOnlyLeaseBased), any(byte[].class), any(ReadIndexClosure.class));
+        CompletableFuture<Response> actual = server.get(buildReadRequest(ReadConsistency.LEASE));
+        assertEquals(response, actual.join());
+        verify(node, never()).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+    }
+    
+    @Test
+    void testGetWithLocalRead() {
+        Response response = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(any())).thenReturn(response);
+        when(node.getLeaderId()).thenReturn(peerId1);
+        when(node.getLastCommittedIndex()).thenReturn(10L);
+        when(node.getLastAppliedLogIndex()).thenReturn(9L);
+        CompletableFuture<Response> actual = server.get(buildReadRequest(ReadConsistency.LOCAL));
+        assertEquals(response, actual.join());
+        verify(node, never()).readIndex(any(ReadOnlyOption.class), any(byte[].class), any(ReadIndexClosure.class));
+    }
+    
+    @Test
+    void testGetWithLocalReadLagging() {
+        when(node.getLeaderId()).thenReturn(peerId1);
+        when(node.getLastCommittedIndex()).thenReturn(1000L);
+        when(node.getLastAppliedLogIndex()).thenReturn(1L);
+        server.get(buildReadRequest(ReadConsistency.LOCAL));
+        verify(requestProcessor, never()).onRequest(any());
+        verify(node).readIndex(eq(ReadOnlyOption.ReadOnlyLeaseBased), any(byte[].class), any(ReadIndexClosure.class));
+        
+        // without leader, the local state machine may be arbitrarily stale
+        when(node.getLeaderId()).thenReturn(PeerId.emptyPeer());
+        when(node.getLastCommittedIndex()).thenReturn(1L);
+        assertFalse(server.isLocalReadable(node));
+    }
+    
+    private ReadRequest buildReadRequest(ReadConsistency consistency) {
+        return ReadRequest.newBuilder().setGroup("test_nacos")
+                .putExtendInfo(ReadConsistency.EXTEND_INFO_KEY, consistency.name()).build();
+    }
+    
     @Test
     void testRegisterSelfToCluster() {
         PeerId selfPeerId = new PeerId("4.4.4.4", 8080);
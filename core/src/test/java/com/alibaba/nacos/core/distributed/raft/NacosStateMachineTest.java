@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft;
+
+import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alipay.sofa.jraft.Iterator;
+import com.alipay.sofa.jraft.Status;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NacosStateMachineTest {
+    
+    @Mock
+    private JRaftServer server;
+    
+    @Mock
+    private RequestProcessor4CP processor;
+    
+    @Mock
+    private Iterator iterator;
+    
+    private NacosStateMachine stateMachine;
+    
+    @BeforeEach
+    void setUp() {
+        when(processor.group()).thenReturn("test_group");
+        when(processor.loadSnapshotOperate()).thenReturn(Collections.emptyList());
+        stateMachine = new NacosStateMachine(server, processor);
+    }
+    
+    @Test
+    void testOnApplyGroupCommit() {
+        WriteRequest request1 = WriteRequest.newBuilder().setKey("1").build();
+        WriteRequest request2 = WriteRequest.newBuilder().setKey("2").build();
+        Response response1 = Response.newBuilder().setSuccess(true).build();
+        Response response2 = Response.newBuilder().setSuccess(false).setErrMsg("failed").build();
+        when(processor.onApply(request1)).thenReturn(response1);
+        when(processor.onApply(request2)).thenReturn(response2);
+        AtomicReference<NacosClosure.NacosStatus> result = new AtomicReference<>();
+        mockIterator(new NacosClosure(buildBatch(request1, request2),
+                status -> result.set((NacosClosure.NacosStatus) status)));
+        
+        stateMachine.onApply(iterator);
+        
+        assertTrue(result.get().isOk());
+        List<Response> responses = RaftGroupCommitter.decodeResponses(result.get().getResponse().getData());
+        assertEquals(Arrays.asList(response1, response2), responses);
+        verify(iterator, never()).setErrorAndRollback(anyLong(), any(Status.class));
+    }
+    
+    @Test
+    void testOnApplyGroupCommitWithMiddleRequestFailed() {
+        WriteRequest request1 = WriteRequest.newBuilder().setKey("1").build();
+        WriteRequest request2 = WriteRequest.newBuilder().setKey("2").build();
+        WriteRequest request3 = WriteRequest.newBuilder().setKey("3").build();
+        Response success = Response.newBuilder().setSuccess(true).build();
+        when(processor.onApply(request1)).thenReturn(success);
+        when(processor.onApply(request2)).thenThrow(new IllegalStateException("test"));
+        when(processor.onApply(request3)).thenReturn(success);
+        AtomicReference<NacosClosure.NacosStatus> result = new AtomicReference<>();
+        mockIterator(new NacosClosure(buildBatch(request1, request2, request3),
+                status -> result.set((NacosClosure.NacosStatus) status)));
+        
+        stateMachine.onApply(iterator);
+        
+        // the failed request must not roll back the log entry, otherwise request1 is applied again when replayed.
+        assertTrue(result.get().isOk());
+        List<Response> responses = RaftGroupCommitter.decodeResponses(result.get().getResponse().getData());
+        assertEquals(3, responses.size());
+        assertTrue(responses.get(0).getSuccess());
+        assertFalse(responses.get(1).getSuccess());
+        assertTrue(responses.get(1).getErrMsg().contains("test"));
+        assertTrue(responses.get(2).getSuccess());
+        verify(processor).onApply(request3);
+        verify(iterator, never()).setErrorAndRollback(anyLong(), any(Status.class));
+    }
+    
+    private void mockIterator(NacosClosure closure) {
+        when(iterator.hasNext()).thenReturn(true, false);
+        when(iterator.done()).thenReturn(closure);
+    }
+    
+    private WriteRequest buildBatch(WriteRequest... requests) {
+        ByteString data = RaftGroupCommitter.encodeRequests(Arrays.asList(requests));
+        return WriteRequest.newBuilder().setGroup("test_group")
+                .setOperation(RaftGroupCommitter.GROUP_COMMIT_OPERATION).setData(data).build();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft;
+
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.consistency.exception.ConsistencyException;
+import com.alibaba.nacos.core.distributed.raft.utils.FailoverClosure;
+import com.alibaba.nacos.core.distributed.raft.utils.FailoverClosureImpl;
+import com.alibaba.nacos.core.distributed.raft.utils.RaftExecutor;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.error.RaftError;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RaftGroupCommitterTest {
+    
+    private static final String GROUP = "test_group";
+    
+    @Mock
+    private JRaftServer server;
+    
+    @Mock
+    private Node node;
+    
+    @BeforeAll
+    static void beforeClass() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        RaftExecutor.init(new RaftConfig());
+    }
+    
+    @Test
+    void testCommitFlushWhenBatchFull() {
+        RaftGroupCommitter committer = new RaftGroupCommitter(GROUP, server, node, 60000, 2);
+        WriteRequest request1 = buildRequest("1");
+        final WriteRequest request2 = buildRequest("2");
+        CompletableFuture<Response> future1 = new CompletableFuture<>();
+        final CompletableFuture<Response> future2 = new CompletableFuture<>();
+        committer.commit(request1, new FailoverClosureImpl(future1));
+        verify(server, never()).applyOperation(any(), any(), any());
+        assertEquals(1, committer.pendingCount());
+        committer.commit(request2, new FailoverClosureImpl(future2));
+        assertEquals(0, committer.pendingCount());
+        
+        ArgumentCaptor<Message> batchCaptor = ArgumentCaptor.forClass(Message.class);
+        ArgumentCaptor<FailoverClosure> closureCaptor = ArgumentCaptor.forClass(FailoverClosure.class);
+        verify(server).applyOperation(eq(node), batchCaptor.capture(), closureCaptor.capture());
+        WriteRequest batch = (WriteRequest) batchCaptor.getValue();
+        assertTrue(RaftGroupCommitter.isGroupCommit(batch));
+        assertEquals(GROUP, batch.getGroup());
+        assertEquals(Arrays.asList(request1, request2), RaftGroupCommitter.decodeRequests(batch.getData()));
+        
+        Response success = Response.newBuilder().setSuccess(true).build();
+        Response failed = Response.newBuilder().setSuccess(false).setErrMsg("failed").build();
+        FailoverClosure batchClosure = closureCaptor.getValue();
+        batchClosure.setResponse(Response.newBuilder().setSuccess(true)
+                .setData(RaftGroupCommitter.encodeResponses(Arrays.asList(success, failed))).build());
+        batchClosure.run(Status.OK());
+        assertEquals(success, future1.join());
+        assertEquals(failed, future2.join());
+    }
+    
+    @Test
+    void testFlushSingleRequest() {
+        RaftGroupCommitter committer = new RaftGroupCommitter(GROUP, server, node, 60000, 64);
+        WriteRequest request = buildRequest("1");
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        committer.commit(request, new FailoverClosureImpl(future));
+        try (MockedStatic<MetricsMonitor> metricsMonitor = mockStatic(MetricsMonitor.class)) {
+            committer.flush();
+            ArgumentCaptor<FailoverClosure> closureCaptor = ArgumentCaptor.forClass(FailoverClosure.class);
+            verify(server).applyOperation(eq(node), eq(request), closureCaptor.capture());
+            assertEquals(0, committer.pendingCount());
+            // commit latency is recorded when the request is committed instead of submitted.
+            metricsMonitor.verify(() -> MetricsMonitor.recordRaftGroupCommit(anyString(), anyInt(), anyLong()),
+                    never());
+            Response success = Response.newBuilder().setSuccess(true).build();
+            closureCaptor.getValue().setResponse(success);
+            closureCaptor.getValue().run(Status.OK());
+            metricsMonitor.verify(() -> MetricsMonitor.recordRaftGroupCommit(eq(GROUP), eq(1), anyLong()));
+            assertEquals(success, future.join());
+        }
+    }
+    
+    @Test
+    void testFlushAfterWindow() {
+        RaftGroupCommitter committer = new RaftGroupCommitter(GROUP, server, node, 1, 64);
+        WriteRequest request = buildRequest("1");
+        FailoverClosure closure = new FailoverClosureImpl(new CompletableFuture<>());
+        committer.commit(request, closure);
+        verify(server, timeout(3000L)).applyOperation(eq(node), eq(request), any());
+    }
+    
+    @Test
+    void testBatchFailed() {
+        RaftGroupCommitter committer = new RaftGroupCommitter(GROUP, server, node, 60000, 2);
+        CompletableFuture<Response> future1 = new CompletableFuture<>();
+        CompletableFuture<Response> future2 = new CompletableFuture<>();
+        committer.commit(buildRequest("1"), new FailoverClosureImpl(future1));
+        committer.commit(buildRequest("2"), new FailoverClosureImpl(future2));
+        ArgumentCaptor<FailoverClosure> closureCaptor = ArgumentCaptor.forClass(FailoverClosure.class);
+        verify(server).applyOperation(eq(node), any(), closureCaptor.capture());
+        FailoverClosure batchClosure = closureCaptor.getValue();
+        batchClosure.setThrowable(new IllegalStateException("test"));
+        batchClosure.run(new Status(RaftError.EPERM, "not leader"));
+        assertTrue(future1.isCompletedExceptionally());
+        assertTrue(future2.isCompletedExceptionally());
+    }
+    
+    @Test
+    void testBatchMissingResponse() {
+        RaftGroupCommitter committer = new RaftGroupCommitter(GROUP, server, node, 60000, 2);
+        CompletableFuture<Response> future1 = new CompletableFuture<>();
+        CompletableFuture<Response> future2 = new CompletableFuture<>();
+        committer.commit(buildRequest("1"), new FailoverClosureImpl(future1));
+        committer.commit(buildRequest("2"), new FailoverClosureImpl(future2));
+        ArgumentCaptor<FailoverClosure> closureCaptor = ArgumentCaptor.forClass(FailoverClosure.class);
+        verify(server).applyOperation(eq(node), any(), closureCaptor.capture());
+        FailoverClosure batchClosure = closureCaptor.getValue();
+        Response success = Response.newBuilder().setSuccess(true).build();
+        batchClosure.setResponse(Response.newBuilder().setSuccess(true)
+                .setData(RaftGroupCommitter.encodeResponses(Collections.singletonList(success))).build());
+        batchClosure.run(Status.OK());
+        assertEquals(success, future1.join());
+        assertTrue(future2.isCompletedExceptionally());
+        CompletionException exception = assertThrows(CompletionException.class, future2::join);
+        assertInstanceOf(ConsistencyException.class, exception.getCause());
+        assertTrue(exception.getCause().getMessage().contains("missing response of request 1"));
+    }
+    
+    @Test
+    void testCodec() {
+        List<WriteRequest> requests = Arrays.asList(buildRequest("1"), WriteRequest.getDefaultInstance(),
+                buildRequest("3"));
+        assertEquals(requests, RaftGroupCommitter.decodeRequests(RaftGroupCommitter.encodeRequests(requests)));
+        assertTrue(RaftGroupCommitter.decodeRequests(ByteString.EMPTY).isEmpty());
+        List<Response> responses = Arrays.asList(Response.newBuilder().setSuccess(true).build(),
+                Response.newBuilder().setErrMsg("error").build());
+        assertEquals(responses, RaftGroupCommitter.decodeResponses(RaftGroupCommitter.encodeResponses(responses)));
+        assertFalse(RaftGroupCommitter.isGroupCommit(buildRequest("1")));
+    }
+    
+    private WriteRequest buildRequest(String key) {
+        return WriteRequest.newBuilder().setGroup(GROUP).setKey(key).setOperation("put")
+                .setData(ByteString.copyFromUtf8("data-" + key)).build();
+    }
+}
@@ -92,6 +92,13 @@ public class ServerStatusManager {
             return Optional.empty();
         }
         if (!distroProtocol.isInitialized()) {
+            int totalChunks = distroProtocol.getTotalSnapshotChunks();
+            int loadedChunks = distroProtocol.getLoadedSnapshotChunks();
+            if (totalChunks > 0 && loadedChunks < totalChunks) {
+                return Optional.of(String.format(
+                        "Distro snapshot is loading, loaded %d/%d chunks, please see logs `protocol-distro.log` "
+                                + "to see details.", loadedChunks, totalChunks));
+            }
             return Optional.of(
                     "Distro snapshot load failed, please see logs `protocol-distro.log` or `naming-distro.log` to see details.");
         }
@@ -20,11 +20,14 @@ import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.DistroConstants;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -45,6 +48,8 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -63,11 +68,14 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     private final DistroProtocol distroProtocol;
     
+    private final DistroClientDigestVerifier digestVerifier;
+    
     private volatile boolean isFinishInitial;
     
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
+        this.digestVerifier = new DistroClientDigestVerifier(clientManager, distroProtocol, this);
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
@@ -141,6 +149,9 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         switch (distroData.getType()) {
             case ADD:
             case CHANGE:
+                if (isBatchData(distroData)) {
+                    return processBatchData(distroData);
+                }
                 ClientSyncData clientSyncData = ApplicationUtils.getBean(Serializer.class)
                         .deserialize(distroData.getContent(), ClientSyncData.class);
                 handlerClientSyncData(clientSyncData);
@@ -155,6 +166,27 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
     }
     
+    private boolean isBatchData(DistroData distroData) {
+        return null != distroData.getDistroKey() && DistroConstants.BATCH_SYNC_KEY.equals(
+                distroData.getDistroKey().getResourceKey());
+    }
+    
+    private boolean processBatchData(DistroData distroData) {
+        ClientSyncDatumSnapshot batch = ApplicationUtils.getBean(Serializer.class)
+                .deserialize(distroData.getContent(), ClientSyncDatumSnapshot.class);
+        boolean result = true;
+        for (ClientSyncData each : batch.getClientSyncDataList()) {
+            try {
+                handlerClientSyncData(each);
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[Client-Add] Handle batch distro client sync data {} failed.",
+                        each.getClientId(), e);
+                result = false;
+            }
+        }
+        return result;
+    }
+    
     private void handlerClientSyncData(ClientSyncData clientSyncData) {
         Loggers.DISTRO
                 .info("[Client-Add] Received distro client sync data {}, revision={}", clientSyncData.getClientId(),
@@ -225,6 +257,9 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public boolean processVerifyData(DistroData distroData, String sourceAddress) {
+        if (digestVerifier.isDigestData(distroData)) {
+            return digestVerifier.verify(distroData);
+        }
         DistroClientVerifyInfo verifyData = ApplicationUtils.getBean(Serializer.class)
                 .deserialize(distroData.getContent(), DistroClientVerifyInfo.class);
         if (clientManager.verifyClient(verifyData)) {
@@ -246,6 +281,9 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public DistroData getDistroData(DistroKey distroKey) {
+        if (digestVerifier.isBucketsKey(distroKey)) {
+            return digestVerifier.getBucketsVerifyData(distroKey);
+        }
         Client client = clientManager.getClient(distroKey.getResourceKey());
         if (null == client) {
             return null;
@@ -254,10 +292,46 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return new DistroData(distroKey, data);
     }
     
+    @Override
+    public boolean isSupportBatchSync() {
+        return true;
+    }
+    
+    @Override
+    public DistroData getBatchDistroData(Collection<DistroKey> distroKeys, String targetServer) {
+        List<ClientSyncData> datum = new LinkedList<>();
+        for (DistroKey each : distroKeys) {
+            Client client = clientManager.getClient(each.getResourceKey());
+            if (null == client || !client.isEphemeral()) {
+                continue;
+            }
+            datum.add(client.generateSyncData());
+        }
+        if (datum.isEmpty()) {
+            return null;
+        }
+        ClientSyncDatumSnapshot batch = new ClientSyncDatumSnapshot();
+        batch.setClientSyncDataList(datum);
+        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(batch);
+        return new DistroData(new DistroKey(DistroConstants.BATCH_SYNC_KEY, TYPE, targetServer), data);
+    }
+    
     @Override
     public DistroData getDatumSnapshot() {
+        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), generateSnapshot(null));
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(DistroSnapshotChunk chunk) {
+        return new DistroData(chunk.toDistroKey(TYPE), generateSnapshot(chunk));
+    }
+    
+    private byte[] generateSnapshot(DistroSnapshotChunk chunk) {
         List<ClientSyncData> datum = new LinkedList<>();
         for (String each : clientManager.allClientId()) {
+            if (null != chunk && DistroClientVerifyDigest.bucketOf(each, chunk.getCount()) != chunk.getIndex()) {
+                continue;
+            }
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
@@ -266,12 +340,15 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
         snapshot.setClientSyncDataList(datum);
-        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
-        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
+        return ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
     }
     
     @Override
     public List<DistroData> getVerifyData() {
+        if (DistroConfig.getInstance().isVerifyDigestEnabled()) {
+            return Collections.singletonList(
+                    digestVerifier.buildVerifyData(DistroConfig.getInstance().getVerifyDigestBuckets()));
+        }
         List<DistroData> result = null;
         for (String each : clientManager.allClientId()) {
             Client client = clientManager.getClient(each);
@@ -0,0 +1,255 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Distro client verifier by bucket digests.
+ *
+ * <p>Instead of one verify data for each client, the source server sends the digests of buckets of its responsible
+ * clients. The target server keeps the clients verified from each source server and compares their digests with the
+ * received ones. Clients in matched buckets are renewed directly, and only the clients in mismatched buckets are
+ * queried from source server and verified one by one, so the verify traffic depends on the difference of data rather
+ * than the count of clients.
+ *
+ * @author Nacos
+ */
+public class DistroClientDigestVerifier {
+    
+    public static final String VERIFY_DIGEST_KEY = "@@verifyDigest";
+    
+    private static final String VERIFY_BUCKETS_KEY_PREFIX = "@@verifyBuckets:";
+    
+    private static final String BUCKETS_SEPARATOR = ",";
+    
+    private static final String KEY_SEPARATOR = ":";
+    
+    private final ClientManager clientManager;
+    
+    private final DistroProtocol distroProtocol;
+    
+    private final DistroDataProcessor dataProcessor;
+    
+    /**
+     * source server address -> id of clients verified from the source server.
+     */
+    private final ConcurrentHashMap<String, Set<String>> sourceClients = new ConcurrentHashMap<>();
+    
+    private final Set<String> verifyingSources = ConcurrentHashMap.newKeySet();
+    
+    public DistroClientDigestVerifier(ClientManager clientManager, DistroProtocol distroProtocol,
+            DistroDataProcessor dataProcessor) {
+        this.clientManager = clientManager;
+        this.distroProtocol = distroProtocol;
+        this.dataProcessor = dataProcessor;
+    }
+    
+    /**
+     * Build verify data with digests of responsible clients.
+     *
+     * @param bucketCount count of buckets
+     * @return verify data
+     */
+    public DistroData buildVerifyData(int bucketCount) {
+        DistroClientVerifyDigest digest = new DistroClientVerifyDigest(EnvUtil.getLocalAddress(), bucketCount);
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (isResponsibleEphemeralClient(client)) {
+                digest.addClient(client.getClientId(), client.getRevision());
+            }
+        }
+        DistroData result = new DistroData(new DistroKey(VERIFY_DIGEST_KEY, DistroClientDataProcessor.TYPE),
+                ApplicationUtils.getBean(Serializer.class).serialize(digest));
+        result.setType(DataOperation.VERIFY);
+        return result;
+    }
+    
+    public boolean isDigestData(DistroData distroData) {
+        return VERIFY_DIGEST_KEY.equals(distroData.getDistroKey().getResourceKey());
+    }
+    
+    public boolean isBucketsKey(DistroKey distroKey) {
+        String resourceKey = distroKey.getResourceKey();
+        return null != resourceKey && resourceKey.startsWith(VERIFY_BUCKETS_KEY_PREFIX);
+    }
+    
+    /**
+     * Get verify info of responsible clients in the buckets queried by target server.
+     *
+     * @param distroKey key with count of buckets and the queried buckets
+     * @return verify data of the buckets
+     */
+    public DistroData getBucketsVerifyData(DistroKey distroKey) {
+        String[] segments = distroKey.getResourceKey().substring(VERIFY_BUCKETS_KEY_PREFIX.length())
+                .split(KEY_SEPARATOR);
+        int bucketCount = Integer.parseInt(segments[0]);
+        Set<Integer> buckets = new HashSet<>();
+        for (String each : segments[1].split(BUCKETS_SEPARATOR)) {
+            buckets.add(Integer.parseInt(each));
+        }
+        List<DistroClientVerifyInfo> verifyInfos = new ArrayList<>();
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (isResponsibleEphemeralClient(client) && buckets
+                    .contains(DistroClientVerifyDigest.bucketOf(client.getClientId(), bucketCount))) {
+                verifyInfos.add(new DistroClientVerifyInfo(client.getClientId(), client.getRevision()));
+            }
+        }
+        DistroClientVerifyDigest digest = new DistroClientVerifyDigest();
+        digest.setSource(EnvUtil.getLocalAddress());
+        digest.setVerifyInfos(verifyInfos);
+        return new DistroData(distroKey, ApplicationUtils.getBean(Serializer.class).serialize(digest));
+    }
+    
+    /**
+     * Verify the digests received from source server.
+     *
+     * <p>Clients in matched buckets are renewed. Mismatched buckets are verified asynchronously by querying the
+     * clients in them from source server.
+     *
+     * @param distroData verify data with digests
+     * @return {@code true} if the digests are accepted, otherwise {@code false}
+     */
+    public boolean verify(DistroData distroData) {
+        DistroClientVerifyDigest remoteDigest = ApplicationUtils.getBean(Serializer.class)
+                .deserialize(distroData.getContent(), DistroClientVerifyDigest.class);
+        String source = remoteDigest.getSource();
+        long[] remoteDigests = remoteDigest.getDigests();
+        if (StringUtils.isBlank(source) || null == remoteDigests || 0 == remoteDigests.length) {
+            return false;
+        }
+        int bucketCount = remoteDigests.length;
+        Set<String> clients = sourceClients.computeIfAbsent(source, key -> ConcurrentHashMap.newKeySet());
+        DistroClientVerifyDigest localDigest = new DistroClientVerifyDigest(source, bucketCount);
+        Iterator<String> iterator = clients.iterator();
+        while (iterator.hasNext()) {
+            Client client = clientManager.getClient(iterator.next());
+            if (null == client || !client.isEphemeral() || clientManager.isResponsibleClient(client)) {
+                iterator.remove();
+                continue;
+            }
+            localDigest.addClient(client.getClientId(), client.getRevision());
+        }
+        Set<Integer> mismatchedBuckets = new HashSet<>();
+        for (int i = 0; i < bucketCount; i++) {
+            if (remoteDigests[i] != localDigest.getDigests()[i]) {
+                mismatchedBuckets.add(i);
+            }
+        }
+        for (String each : clients) {
+            Client client = clientManager.getClient(each);
+            if (null != client && !mismatchedBuckets.contains(DistroClientVerifyDigest.bucketOf(each, bucketCount))) {
+                clientManager.verifyClient(new DistroClientVerifyInfo(each, client.getRevision()));
+            }
+        }
+        if (!mismatchedBuckets.isEmpty()) {
+            MetricsMonitor.getDistroVerifyMismatchedBuckets().addAndGet(mismatchedBuckets.size());
+            if (verifyingSources.add(source)) {
+                GlobalExecutor.getCallbackExecutor().execute(() -> {
+                    try {
+                        verifyBuckets(source, bucketCount, mismatchedBuckets);
+                    } catch (Exception e) {
+                        Loggers.DISTRO.warn("[DISTRO-DIGEST] verify buckets from {} failed", source, e);
+                    } finally {
+                        verifyingSources.remove(source);
+                    }
+                });
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Query clients in buckets from source server and verify them one by one, the clients failed to verify are
+     * queried from source server again.
+     *
+     * @param source      source server address
+     * @param bucketCount count of buckets
+     * @param buckets     mismatched buckets
+     */
+    void verifyBuckets(String source, int bucketCount, Set<Integer> buckets) {
+        DistroKey bucketsKey = new DistroKey(buildBucketsKey(bucketCount, buckets), DistroClientDataProcessor.TYPE,
+                source);
+        DistroData bucketsData = distroProtocol.queryFromRemote(bucketsKey);
+        if (null == bucketsData || null == bucketsData.getContent()) {
+            return;
+        }
+        DistroClientVerifyDigest remoteDigest = ApplicationUtils.getBean(Serializer.class)
+                .deserialize(bucketsData.getContent(), DistroClientVerifyDigest.class);
+        List<DistroClientVerifyInfo> verifyInfos = remoteDigest.getVerifyInfos();
+        if (null == verifyInfos) {
+            return;
+        }
+        Set<String> clients = sourceClients.computeIfAbsent(source, key -> ConcurrentHashMap.newKeySet());
+        Set<String> remoteClients = new HashSet<>(verifyInfos.size());
+        for (DistroClientVerifyInfo each : verifyInfos) {
+            remoteClients.add(each.getClientId());
+            if (!clientManager.verifyClient(each)) {
+                Loggers.DISTRO.info("client {} is invalid, get new client from {}", each.getClientId(), source);
+                syncClientFromSource(each.getClientId(), source);
+            }
+            clients.add(each.getClientId());
+        }
+        // clients not in source server any more will not be renewed and expire later.
+        clients.removeIf(each -> !remoteClients.contains(each) && buckets
+                .contains(DistroClientVerifyDigest.bucketOf(each, bucketCount)));
+    }
+    
+    private void syncClientFromSource(String clientId, String source) {
+        DistroData clientData = distroProtocol
+                .queryFromRemote(new DistroKey(clientId, DistroClientDataProcessor.TYPE, source));
+        if (null == clientData || null == clientData.getContent()) {
+            return;
+        }
+        clientData.setType(DataOperation.ADD);
+        dataProcessor.processData(clientData);
+    }
+    
+    private String buildBucketsKey(int bucketCount, Set<Integer> buckets) {
+        StringBuilder result = new StringBuilder(VERIFY_BUCKETS_KEY_PREFIX).append(bucketCount).append(KEY_SEPARATOR);
+        for (Integer each : buckets) {
+            result.append(each).append(BUCKETS_SEPARATOR);
+        }
+        result.setLength(result.length() - BUCKETS_SEPARATOR.length());
+        return result.toString();
+    }
+    
+    private boolean isResponsibleEphemeralClient(Client client) {
+        return null != client && client.isEphemeral() && clientManager.isResponsibleClient(client);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Digest for verifying clients by buckets.
+ *
+ * <p>Clients are hashed into buckets by client id, the digest of a bucket is the xor of the hash of client id and
+ * revision of each client in it, so it doesn't depend on the order of clients. When it is the reply of querying
+ * mismatched buckets, {@link #verifyInfos} contains the clients in the queried buckets.
+ *
+ * @author Nacos
+ */
+public class DistroClientVerifyDigest implements Serializable {
+    
+    private static final long serialVersionUID = -2816426426338212467L;
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private String source;
+    
+    private long[] digests;
+    
+    private List<DistroClientVerifyInfo> verifyInfos;
+    
+    public DistroClientVerifyDigest() {
+    }
+    
+    public DistroClientVerifyDigest(String source, int bucketCount) {
+        this.source = source;
+        this.digests = new long[bucketCount];
+    }
+    
+    /**
+     * Add a client into the digest of its bucket.
+     *
+     * @param clientId client id
+     * @param revision revision of client
+     */
+    public void addClient(String clientId, long revision) {
+        digests[bucketOf(clientId, digests.length)] ^= hashOf(clientId, revision);
+    }
+    
+    /**
+     * Get the bucket of client.
+     *
+     * @param clientId    client id
+     * @param bucketCount count of buckets
+     * @return index of bucket
+     */
+    public static int bucketOf(String clientId, int bucketCount) {
+        return (int) Math.floorMod(hashOf(clientId), (long) bucketCount);
+    }
+    
+    private static long hashOf(String clientId, long revision) {
+        return mix(hashOf(clientId) ^ mix(revision));
+    }
+    
+    private static long hashOf(String value) {
+        long result = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            result ^= value.charAt(i);
+            result *= FNV_PRIME;
+        }
+        return mix(result);
+    }
+    
+    private static long mix(long value) {
+        long result = value;
+        result = (result ^ (result >>> 33)) * 0xff51afd7ed558ccdL;
+        result = (result ^ (result >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return result ^ (result >>> 33);
+    }
+    
+    public String getSource() {
+        return source;
+    }
+    
+    public void setSource(String source) {
+        this.source = source;
+    }
+    
+    public long[] getDigests() {
+        return digests;
+    }
+    
+    public void setDigests(long[] digests) {
+        this.digests = digests;
+    }
+    
+    public List<DistroClientVerifyInfo> getVerifyInfos() {
+        return verifyInfos;
+    }
+    
+    public void setVerifyInfos(List<DistroClientVerifyInfo> verifyInfos) {
+        this.verifyInfos = verifyInfos;
+    }
+}
@@ -43,4 +43,60 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push instances changed since last acknowledged revision to clients supporting delta push.
+     */
+    public static final String DELTA_PUSH_ENABLED = "nacos.naming.push.delta.enabled";
+    
+    public static final boolean DEFAULT_DELTA_PUSH_ENABLED = true;
+    
+    /**
+     * Services with fewer instances than this value are always pushed fully.
+     */
+    public static final String DELTA_PUSH_MIN_INSTANCES = "nacos.naming.push.delta.minInstances";
+    
+    public static final int DEFAULT_DELTA_PUSH_MIN_INSTANCES = 100;
+    
+    /**
+     * Max changes kept for each service, subscriber which acknowledged an older revision gets a full push.
+     */
+    public static final String DELTA_PUSH_CHANGE_LOG_CAPACITY = "nacos.naming.push.delta.changeLogCapacity";
+    
+    public static final int DEFAULT_DELTA_PUSH_CHANGE_LOG_CAPACITY = 16;
+    
+    /**
+     * Whether adjust the push delay of each service by its change rate.
+     */
+    public static final String ADAPTIVE_PUSH_DELAY_ENABLED = "nacos.naming.push.adaptive.enabled";
+    
+    public static final boolean DEFAULT_ADAPTIVE_PUSH_DELAY_ENABLED = true;
+    
+    /**
+     * Push delay of services which have not changed recently, unit: milliseconds.
+     */
+    public static final String ADAPTIVE_PUSH_MIN_DELAY = "nacos.naming.push.adaptive.minDelay";
+    
+    public static final long DEFAULT_ADAPTIVE_PUSH_MIN_DELAY = 100L;
+    
+    /**
+     * Max push delay of services which change frequently, unit: milliseconds.
+     */
+    public static final String ADAPTIVE_PUSH_MAX_DELAY = "nacos.naming.push.adaptive.maxDelay";
+    
+    public static final long DEFAULT_ADAPTIVE_PUSH_MAX_DELAY = 5000L;
+    
+    /**
+     * Services changing more times per second than this value are hot, their push delay is stretched.
+     */
+    public static final String ADAPTIVE_PUSH_HOT_CHANGE_RATE = "nacos.naming.push.adaptive.hotChangeRate";
+    
+    public static final double DEFAULT_ADAPTIVE_PUSH_HOT_CHANGE_RATE = 1.0D;
+    
+    /**
+     * Min interval between two pushes to all subscribers of one service, unit: milliseconds.
+     */
+    public static final String ADAPTIVE_PUSH_MIN_INTERVAL = "nacos.naming.push.adaptive.minPushInterval";
+    
+    public static final long DEFAULT_ADAPTIVE_PUSH_MIN_INTERVAL = 1000L;
 }
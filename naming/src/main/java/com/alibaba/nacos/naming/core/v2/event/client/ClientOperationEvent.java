@@ -46,6 +46,14 @@ public class ClientOperationEvent extends Event {
         return service;
     }
     
+    /**
+     * Operations of one client are handled in order, including the release of client.
+     */
+    @Override
+    public Object shardKey() {
+        return clientId;
+    }
+    
     /**
      * Client register service event.
      */
@@ -0,0 +1,226 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Recent instance changes of one service, every change of push data gets a new revision.
+ *
+ * <p>Revisions are generated by {@link ServiceStorage} and unique among all services, so a revision acknowledged
+ * before the service was removed and created again never matches a new change.
+ *
+ * @author xiweng.yy
+ */
+public class ServiceChangeLog {
+    
+    private final LinkedList<Change> changes = new LinkedList<>();
+    
+    private ServiceInfo current;
+    
+    private long revision = -1L;
+    
+    /**
+     * Record new push data of service, and generate a new revision if instances changed.
+     *
+     * @param pushData           new push data
+     * @param capacity           max changes kept, {@code 0} means only track current revision
+     * @param revisionGenerator  generator of new revision
+     * @return revision of push data
+     */
+    public synchronized long record(ServiceInfo pushData, int capacity, LongSupplier revisionGenerator) {
+        if (null == current) {
+            revision = revisionGenerator.getAsLong();
+        } else {
+            Change change = diff(current.getHosts(), pushData.getHosts());
+            if (!change.isEmpty()) {
+                change.baseRevision = revision;
+                revision = revisionGenerator.getAsLong();
+                change.revision = revision;
+                changes.addLast(change);
+            }
+        }
+        while (changes.size() > capacity) {
+            changes.removeFirst();
+        }
+        current = pushData;
+        return revision;
+    }
+    
+    /**
+     * Get revision of push data.
+     *
+     * @param pushData push data
+     * @return revision of push data, {@code -1} if push data is not the latest recorded one
+     */
+    public synchronized long revisionOf(ServiceInfo pushData) {
+        return current == pushData ? revision : -1L;
+    }
+    
+    /**
+     * Merge changes from base revision to the target revision.
+     *
+     * @param baseRevision   base revision acknowledged by subscriber
+     * @param targetRevision target revision, usually the revision of push data
+     * @return merged delta, {@code null} if the changes between revisions are not kept anymore
+     */
+    public synchronized Delta deltaOf(long baseRevision, long targetRevision) {
+        if (baseRevision == targetRevision) {
+            return new Delta(baseRevision, targetRevision);
+        }
+        if (targetRevision != revision) {
+            return null;
+        }
+        Iterator<Change> iterator = changes.iterator();
+        Change change = null;
+        while (iterator.hasNext()) {
+            Change each = iterator.next();
+            if (each.baseRevision == baseRevision) {
+                change = each;
+                break;
+            }
+        }
+        if (null == change) {
+            return null;
+        }
+        Delta result = new Delta(baseRevision, targetRevision);
+        result.merge(change);
+        while (iterator.hasNext()) {
+            result.merge(iterator.next());
+        }
+        return result;
+    }
+    
+    private static Change diff(List<Instance> oldHosts, List<Instance> newHosts) {
+        Map<String, Instance> oldHostMap = new HashMap<>(oldHosts.size());
+        for (Instance each : oldHosts) {
+            oldHostMap.put(each.toInetAddr(), each);
+        }
+        Change result = new Change();
+        for (Instance each : newHosts) {
+            String key = each.toInetAddr();
+            Instance old = oldHostMap.remove(key);
+            // instances not changed are the same objects in push data, see ServiceSnapshot.
+            if (null == old) {
+                result.added.put(key, each);
+            } else if (old != each && !Objects.equals(old.toString(), each.toString())) {
+                result.modified.put(key, each);
+            }
+        }
+        result.removed.putAll(oldHostMap);
+        return result;
+    }
+    
+    private static class Change {
+        
+        private final Map<String, Instance> added = new HashMap<>(2);
+        
+        private final Map<String, Instance> modified = new HashMap<>(2);
+        
+        private final Map<String, Instance> removed = new HashMap<>(2);
+        
+        private long baseRevision;
+        
+        private long revision;
+        
+        private boolean isEmpty() {
+            return added.isEmpty() && modified.isEmpty() && removed.isEmpty();
+        }
+    }
+    
+    /**
+     * Instances changed between two revisions, keyed by {@link Instance#toInetAddr()}.
+     */
+    public static class Delta {
+        
+        private final long baseRevision;
+        
+        private final long revision;
+        
+        private final Map<String, Instance> added = new LinkedHashMap<>();
+        
+        private final Map<String, Instance> modified = new LinkedHashMap<>();
+        
+        private final Map<String, Instance> removed = new LinkedHashMap<>();
+        
+        Delta(long baseRevision, long revision) {
+            this.baseRevision = baseRevision;
+            this.revision = revision;
+        }
+        
+        private void merge(Change change) {
+            for (Map.Entry<String, Instance> entry : change.added.entrySet()) {
+                // removed and added again, it existed at base revision.
+                if (null != removed.remove(entry.getKey())) {
+                    modified.put(entry.getKey(), entry.getValue());
+                } else {
+                    added.put(entry.getKey(), entry.getValue());
+                }
+            }
+            for (Map.Entry<String, Instance> entry : change.modified.entrySet()) {
+                if (added.containsKey(entry.getKey())) {
+                    added.put(entry.getKey(), entry.getValue());
+                } else {
+                    modified.put(entry.getKey(), entry.getValue());
+                }
+            }
+            for (Map.Entry<String, Instance> entry : change.removed.entrySet()) {
+                // added and removed again, it didn't exist at base revision.
+                if (null == added.remove(entry.getKey())) {
+                    modified.remove(entry.getKey());
+                    removed.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        
+        public long getBaseRevision() {
+            return baseRevision;
+        }
+        
+        public long getRevision() {
+            return revision;
+        }
+        
+        public Collection<Instance> getAdded() {
+            return Collections.unmodifiableCollection(added.values());
+        }
+        
+        public Collection<Instance> getModified() {
+            return Collections.unmodifiableCollection(modified.values());
+        }
+        
+        public Collection<Instance> getRemoved() {
+            return Collections.unmodifiableCollection(removed.values());
+        }
+        
+        public int size() {
+            return added.size() + modified.size() + removed.size();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Instances of one service parsed from publish info of every client, kept to generate push data incrementally.
+ *
+ * <p>Instances parsed for a client are reused while the publish info of the client is the same object and the healthy
+ * status and metadata of each instance are not changed, so a change of one client only parses instances of that client
+ * again. Parsed {@link Instance} are shared by push data of different revisions and must not be modified.
+ *
+ * <p>Not thread safe, guarded by {@link ServiceStorage}.
+ *
+ * @author xiweng.yy
+ */
+class ServiceSnapshot {
+    
+    private Map<String, ClientInstances> clientInstances = Collections.emptyMap();
+    
+    ClientInstances getClientInstances(String clientId) {
+        return clientInstances.get(clientId);
+    }
+    
+    /**
+     * Replace instances of all clients, clients not in new map are removed.
+     *
+     * @param clientInstances clientId -> instances parsed for the client
+     */
+    void update(Map<String, ClientInstances> clientInstances) {
+        this.clientInstances = clientInstances;
+    }
+    
+    int clientCount() {
+        return clientInstances.size();
+    }
+    
+    /**
+     * Instances parsed from the publish info of one client.
+     */
+    static class ClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final List<SnapshotInstance> instances;
+        
+        ClientInstances(InstancePublishInfo publishInfo, List<SnapshotInstance> instances) {
+            this.publishInfo = publishInfo;
+            this.instances = instances;
+        }
+        
+        List<SnapshotInstance> getInstances() {
+            return instances;
+        }
+        
+        /**
+         * Whether the instances are parsed from current publish info and metadata.
+         *
+         * @param currentPublishInfo current publish info of the client
+         * @param metadataGetter     get current instance metadata by metadataId, {@code null} if absent
+         * @return {@code true} if instances can be reused
+         */
+        boolean isUpToDate(InstancePublishInfo currentPublishInfo, Function<String, InstanceMetadata> metadataGetter) {
+            if (publishInfo != currentPublishInfo) {
+                return false;
+            }
+            for (SnapshotInstance each : instances) {
+                if (!each.isUpToDate(metadataGetter)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+    
+    /**
+     * One parsed instance and the states it's parsed from.
+     */
+    static class SnapshotInstance {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final String metadataId;
+        
+        private final boolean healthy;
+        
+        private final InstanceMetadata metadata;
+        
+        private final Instance instance;
+        
+        /**
+         * Identity of the instance same as {@link Instance#equals(Object)}, computed once.
+         */
+        private final String key;
+        
+        SnapshotInstance(InstancePublishInfo publishInfo, String metadataId, boolean healthy,
+                InstanceMetadata metadata, Instance instance) {
+            this.publishInfo = publishInfo;
+            this.metadataId = metadataId;
+            this.healthy = healthy;
+            this.metadata = metadata;
+            this.instance = instance;
+            this.key = instance.toString();
+        }
+        
+        Instance getInstance() {
+            return instance;
+        }
+        
+        String getKey() {
+            return key;
+        }
+        
+        private boolean isUpToDate(Function<String, InstanceMetadata> metadataGetter) {
+            // healthy status is changed in place by health checker, metadata is always replaced by a new object.
+            return healthy == publishInfo.isHealthy() && metadata == metadataGetter.apply(metadataId);
+        }
+    }
+}
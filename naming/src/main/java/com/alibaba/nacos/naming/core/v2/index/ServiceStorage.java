@@ -28,17 +28,25 @@ import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * Service storage.
@@ -60,6 +68,12 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceChangeLog> serviceChangeLogs;
+    
+    private final ConcurrentMap<Service, ServiceSnapshot> serviceSnapshots;
+    
+    private final AtomicLong revisionGenerator;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +82,9 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceChangeLogs = new ConcurrentHashMap<>();
+        this.serviceSnapshots = new ConcurrentHashMap<>();
+        this.revisionGenerator = new AtomicLong();
     }
     
     public Set<String> getClusters(Service service) {
@@ -78,20 +95,53 @@ public class ServiceStorage {
         return serviceDataIndexes.containsKey(service) ? serviceDataIndexes.get(service) : getPushData(service);
     }
     
+    /**
+     * Generate push data of service from current instances of clients.
+     *
+     * <p>Instances of clients not changed since last generation are reused, see {@link ServiceSnapshot}. Generations of
+     * the same service are serialized, so the cached data and change log always move forward.
+     *
+     * @param service service
+     * @return new push data
+     */
     public ServiceInfo getPushData(Service service) {
         ServiceInfo result = emptyServiceInfo(service);
         if (!ServiceManager.getInstance().containSingleton(service)) {
             return result;
         }
         Service singleton = ServiceManager.getInstance().getSingleton(service);
-        result.setHosts(getAllInstancesFromIndex(singleton));
-        serviceDataIndexes.put(singleton, result);
+        long start = System.nanoTime();
+        synchronized (serviceSnapshots.computeIfAbsent(singleton, key -> new ServiceSnapshot())) {
+            result.setHosts(getAllInstancesFromIndex(singleton));
+            serviceChangeLogs.computeIfAbsent(singleton, key -> new ServiceChangeLog())
+                    .record(result, PushConfig.getInstance().getDeltaPushChangeLogCapacity(),
+                            revisionGenerator::incrementAndGet);
+            serviceDataIndexes.put(singleton, result);
+        }
+        MetricsMonitor.getPushDataRebuildTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         return result;
     }
     
+    /**
+     * Get recent instance changes of service.
+     *
+     * @param service service
+     * @return change log of service, empty if push data of service has never been generated
+     */
+    public Optional<ServiceChangeLog> getChangeLog(Service service) {
+        return Optional.ofNullable(serviceChangeLogs.get(service));
+    }
+    
+    /**
+     * Remove cached push data, cluster index and change log of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceChangeLogs.remove(service);
+        serviceSnapshots.remove(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -104,44 +154,63 @@ public class ServiceStorage {
     }
     
     private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
+        ServiceSnapshot snapshot = serviceSnapshots.computeIfAbsent(service, key -> new ServiceSnapshot());
+        Collection<String> clientIds = serviceIndexesManager.getAllClientsRegisteredService(service);
+        Map<String, ServiceSnapshot.ClientInstances> newClientInstances = new HashMap<>(clientIds.size());
+        Function<String, InstanceMetadata> metadataGetter = metadataId -> metadataManager
+                .getInstanceMetadata(service, metadataId).orElse(null);
+        Set<String> instanceKeys = new HashSet<>();
         Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
+        List<Instance> result = new ArrayList<>(Math.max(clientIds.size(), snapshot.clientCount()));
+        long reused = 0;
+        long parsed = 0;
+        for (String each : clientIds) {
             Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
+            if (!instancePublishInfo.isPresent()) {
+                continue;
+            }
+            InstancePublishInfo publishInfo = instancePublishInfo.get();
+            ServiceSnapshot.ClientInstances clientInstances = snapshot.getClientInstances(each);
+            if (null != clientInstances && clientInstances.isUpToDate(publishInfo, metadataGetter)) {
+                reused += clientInstances.getInstances().size();
+            } else {
+                clientInstances = parseClientInstances(service, publishInfo, metadataGetter);
+                parsed += clientInstances.getInstances().size();
+            }
+            newClientInstances.put(each, clientInstances);
+            for (ServiceSnapshot.SnapshotInstance instance : clientInstances.getInstances()) {
+                // the same instance may be published by different clients.
+                if (instanceKeys.add(instance.getKey())) {
+                    result.add(instance.getInstance());
                 }
+                clusters.add(instance.getInstance().getClusterName());
             }
         }
+        snapshot.update(newClientInstances);
+        MetricsMonitor.incrementPushDataInstances(reused, parsed);
         // cache clusters of this service
         serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+        return result;
     }
     
     /**
-     * Parse batch instance.
-     * @param service service
-     * @param batchInstancePublishInfo batchInstancePublishInfo
-     * @return batch instance list
+     * Parse instances of one client, if it is a BatchInstancePublishInfo type, every instance in it is parsed.
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
-        List<Instance> resultInstanceList = new ArrayList<>();
-        List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
-        for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+    private ServiceSnapshot.ClientInstances parseClientInstances(Service service, InstancePublishInfo publishInfo,
+            Function<String, InstanceMetadata> metadataGetter) {
+        List<InstancePublishInfo> instancePublishInfos = publishInfo instanceof BatchInstancePublishInfo
+                ? ((BatchInstancePublishInfo) publishInfo).getInstancePublishInfos()
+                : Collections.singletonList(publishInfo);
+        List<ServiceSnapshot.SnapshotInstance> instances = new ArrayList<>(instancePublishInfos.size());
+        for (InstancePublishInfo each : instancePublishInfos) {
+            String metadataId = each.getMetadataId();
+            // states are recorded before parsing, so a change during parsing leads to parse again next time.
+            boolean healthy = each.isHealthy();
+            InstanceMetadata metadata = metadataGetter.apply(metadataId);
+            instances.add(new ServiceSnapshot.SnapshotInstance(each, metadataId, healthy, metadata,
+                    parseInstance(service, each, metadata)));
         }
-        return resultInstanceList;
+        return new ServiceSnapshot.ClientInstances(publishInfo, instances);
     }
     
     private Optional<InstancePublishInfo> getInstanceInfo(String clientId, Service service) {
@@ -152,11 +221,11 @@ public class ServiceStorage {
         return Optional.ofNullable(client.getInstancePublishInfo(service));
     }
     
-    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo) {
+    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo, InstanceMetadata metadata) {
         Instance result = InstanceUtil.parseToApiInstance(service, instanceInfo);
-        Optional<InstanceMetadata> metadata = metadataManager
-                .getInstanceMetadata(service, instanceInfo.getMetadataId());
-        metadata.ifPresent(instanceMetadata -> InstanceUtil.updateInstanceMetadata(result, instanceMetadata));
+        if (null != metadata) {
+            InstanceUtil.updateInstanceMetadata(result, metadata);
+        }
         return result;
     }
 }
@@ -24,6 +24,7 @@ import com.alibaba.nacos.naming.misc.Loggers;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -77,6 +78,52 @@ public class MetricsMonitor {
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicLong pushPayloadCacheHit = new AtomicLong();
+    
+    private final AtomicLong pushPayloadCacheMiss = new AtomicLong();
+    
+    /**
+     * Bytes not serialized again because of sharing push payload between subscribers.
+     */
+    private final AtomicLong pushPayloadBytesSaved = new AtomicLong();
+    
+    private final AtomicLong deltaPush = new AtomicLong();
+    
+    /**
+     * Full push sent to subscribers supporting delta push, because of revision gap or unsupported selection.
+     */
+    private final AtomicLong deltaPushFallback = new AtomicLong();
+    
+    /**
+     * Instances reused from last push data when push data is generated again.
+     */
+    private final AtomicLong pushDataInstanceReused = new AtomicLong();
+    
+    /**
+     * Instances parsed from publish info when push data is generated, because they're new or changed.
+     */
+    private final AtomicLong pushDataInstanceParsed = new AtomicLong();
+    
+    /**
+     * Push tasks whose delay is stretched because the service changes frequently.
+     */
+    private final AtomicLong pushDelayStretched = new AtomicLong();
+    
+    /**
+     * Push tasks whose delay is shrunk because the service has not changed recently.
+     */
+    private final AtomicLong pushDelayShrunk = new AtomicLong();
+    
+    /**
+     * Push tasks deferred because the service has been pushed within min push interval.
+     */
+    private final AtomicLong pushThrottled = new AtomicLong();
+    
+    /**
+     * Buckets whose digest mismatched in distro verify, clients in them are verified one by one.
+     */
+    private final AtomicLong distroVerifyMismatchedBuckets = new AtomicLong();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -87,6 +134,16 @@ public class MetricsMonitor {
      */
     private final ConcurrentHashMap<String, AtomicInteger> namingPublisher = new ConcurrentHashMap<>();
     
+    /**
+     * publisher#shard -> staged event count of the shard of sharding event publisher.
+     */
+    private final ConcurrentHashMap<String, AtomicInteger> eventShardQueueDepth = new ConcurrentHashMap<>();
+    
+    /**
+     * publisher#shard -> count of events handled by publishing thread because the shard is full.
+     */
+    private final ConcurrentHashMap<String, AtomicLong> eventShardOverflow = new ConcurrentHashMap<>();
+    
     /**
      * topn service change count.
      */
@@ -127,6 +184,16 @@ public class MetricsMonitor {
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_publisher", tags, namingPublisher.get("v2"));
     }
     
+    private static <T extends Number> T registerShardMetrics(String name, String publisher, int shard, T number) {
+        List<Tag> tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "naming"));
+        tags.add(new ImmutableTag("name", name));
+        tags.add(new ImmutableTag("publisher", publisher));
+        tags.add(new ImmutableTag("shard", String.valueOf(shard)));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, number);
+        return number;
+    }
+    
     private <T extends Number> void registerToMetrics(String name, T number) {
         List<Tag> tags = new ArrayList<>();
         tags.add(new ImmutableTag("module", "naming"));
@@ -194,10 +261,79 @@ public class MetricsMonitor {
         return INSTANCE.serviceChangedEventQueueSize;
     }
     
+    public static AtomicInteger getEventShardQueueDepth(String publisher, int shard) {
+        return INSTANCE.eventShardQueueDepth.computeIfAbsent(publisher + "#" + shard,
+                key -> registerShardMetrics("eventShardQueueDepth", publisher, shard, new AtomicInteger()));
+    }
+    
+    public static AtomicLong getEventShardOverflow(String publisher, int shard) {
+        return INSTANCE.eventShardOverflow.computeIfAbsent(publisher + "#" + shard,
+                key -> registerShardMetrics("eventShardOverflow", publisher, shard, new AtomicLong()));
+    }
+    
     public static AtomicInteger getPushPendingTaskCount() {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    public static AtomicLong getPushPayloadCacheHit() {
+        return INSTANCE.pushPayloadCacheHit;
+    }
+    
+    public static AtomicLong getPushPayloadCacheMiss() {
+        return INSTANCE.pushPayloadCacheMiss;
+    }
+    
+    public static AtomicLong getPushPayloadBytesSaved() {
+        return INSTANCE.pushPayloadBytesSaved;
+    }
+    
+    public static AtomicLong getDeltaPush() {
+        return INSTANCE.deltaPush;
+    }
+    
+    public static AtomicLong getDeltaPushFallback() {
+        return INSTANCE.deltaPushFallback;
+    }
+    
+    public static AtomicLong getPushDataInstanceReused() {
+        return INSTANCE.pushDataInstanceReused;
+    }
+    
+    public static AtomicLong getPushDataInstanceParsed() {
+        return INSTANCE.pushDataInstanceParsed;
+    }
+    
+    public static Timer getPushDataRebuildTimer() {
+        return NacosMeterRegistryCenter
+                .timer(METER_REGISTRY, "nacos_timer", "module", "naming", "name", "pushDataRebuildRt");
+    }
+    
+    public static AtomicLong getPushDelayStretched() {
+        return INSTANCE.pushDelayStretched;
+    }
+    
+    public static AtomicLong getPushDelayShrunk() {
+        return INSTANCE.pushDelayShrunk;
+    }
+    
+    public static AtomicLong getPushThrottled() {
+        return INSTANCE.pushThrottled;
+    }
+    
+    public static AtomicLong getDistroVerifyMismatchedBuckets() {
+        return INSTANCE.distroVerifyMismatchedBuckets;
+    }
+    
+    /**
+     * Record the push delay decided by the change rate of service.
+     *
+     * @param delay push delay in milliseconds
+     */
+    public static void recordAdaptivePushDelay(long delay) {
+        NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", "module", "naming", "name",
+                "adaptivePushDelay").record(delay);
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -227,6 +363,28 @@ public class MetricsMonitor {
         INSTANCE.totalPushCostForAvg.addAndGet(costTime);
     }
     
+    public static void incrementPushPayloadCacheHit(int savedBytes) {
+        INSTANCE.pushPayloadCacheHit.incrementAndGet();
+        INSTANCE.pushPayloadBytesSaved.addAndGet(savedBytes);
+    }
+    
+    public static void incrementPushPayloadCacheMiss() {
+        INSTANCE.pushPayloadCacheMiss.incrementAndGet();
+    }
+    
+    public static void incrementDeltaPush() {
+        INSTANCE.deltaPush.incrementAndGet();
+    }
+    
+    public static void incrementDeltaPushFallback() {
+        INSTANCE.deltaPushFallback.incrementAndGet();
+    }
+    
+    public static void incrementPushDataInstances(long reused, long parsed) {
+        INSTANCE.pushDataInstanceReused.addAndGet(reused);
+        INSTANCE.pushDataInstanceParsed.addAndGet(parsed);
+    }
+    
     public static void incrementFailPush() {
         INSTANCE.failedPush.incrementAndGet();
     }
@@ -318,5 +476,13 @@ public class MetricsMonitor {
         getTotalPushCountForAvg().set(0);
         getMaxPushCostMonitor().set(-1);
         getAvgPushCostMonitor().set(-1);
+        getPushPayloadCacheHit().set(0);
+        getPushPayloadCacheMiss().set(0);
+        getPushPayloadBytesSaved().set(0);
+        getDeltaPush().set(0);
+        getDeltaPushFallback().set(0);
+        getPushDelayStretched().set(0);
+        getPushDelayShrunk().set(0);
+        getPushThrottled().set(0);
     }
 }
@@ -17,7 +17,10 @@
 package com.alibaba.nacos.naming.monitor.collector;
 
 import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.ShardingEventPublisher;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import org.springframework.stereotype.Service;
@@ -47,6 +50,21 @@ public class ServiceEventQueueSizeMetricsCollector {
                     (int) NotifyCenter.getPublisher(ServiceEvent.ServiceSubscribedEvent.class).currentEventSize());
             MetricsMonitor.getServiceChangedEventQueueSize().set(
                     (int) NotifyCenter.getPublisher(ServiceEvent.ServiceChangedEvent.class).currentEventSize());
+            collectShardMetrics(ServiceEvent.class.getSimpleName(),
+                    NotifyCenter.getPublisher(ServiceEvent.ServiceChangedEvent.class));
+            collectShardMetrics(ClientOperationEvent.class.getSimpleName(),
+                    NotifyCenter.getPublisher(ClientOperationEvent.ClientRegisterServiceEvent.class));
         }, DELAY_SECONDS, DELAY_SECONDS, TimeUnit.SECONDS);
     }
+    
+    private static void collectShardMetrics(String publisherName, EventPublisher publisher) {
+        if (!(publisher instanceof ShardingEventPublisher)) {
+            return;
+        }
+        ShardingEventPublisher shardingPublisher = (ShardingEventPublisher) publisher;
+        for (int i = 0; i < shardingPublisher.getShardCount(); i++) {
+            MetricsMonitor.getEventShardQueueDepth(publisherName, i).set(shardingPublisher.getQueueDepth(i));
+            MetricsMonitor.getEventShardOverflow(publisherName, i).set(shardingPublisher.getOverflowCount(i));
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.pojo;
 
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -46,6 +47,11 @@ public class Subscriber implements Serializable {
     
     private String cluster;
     
+    /**
+     * Revision of service info last acknowledged by this subscriber, only used by delta push in this server.
+     */
+    private transient volatile long ackedRevision = -1L;
+    
     public Subscriber() {
     }
     
@@ -130,6 +136,15 @@ public class Subscriber implements Serializable {
         this.cluster = cluster;
     }
     
+    @JsonIgnore
+    public long getAckedRevision() {
+        return ackedRevision;
+    }
+    
+    public void setAckedRevision(long ackedRevision) {
+        this.ackedRevision = ackedRevision;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -37,6 +37,22 @@ public class PushConfig extends AbstractDynamicConfig {
     
     private long pushTaskRetryDelay = PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY;
     
+    private boolean deltaPushEnabled = PushConstants.DEFAULT_DELTA_PUSH_ENABLED;
+    
+    private int deltaPushMinInstances = PushConstants.DEFAULT_DELTA_PUSH_MIN_INSTANCES;
+    
+    private int deltaPushChangeLogCapacity = PushConstants.DEFAULT_DELTA_PUSH_CHANGE_LOG_CAPACITY;
+    
+    private boolean adaptivePushDelayEnabled = PushConstants.DEFAULT_ADAPTIVE_PUSH_DELAY_ENABLED;
+    
+    private long adaptivePushMinDelay = PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_DELAY;
+    
+    private long adaptivePushMaxDelay = PushConstants.DEFAULT_ADAPTIVE_PUSH_MAX_DELAY;
+    
+    private double adaptivePushHotChangeRate = PushConstants.DEFAULT_ADAPTIVE_PUSH_HOT_CHANGE_RATE;
+    
+    private long adaptivePushMinInterval = PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_INTERVAL;
+    
     private PushConfig() {
         super(PUSH);
         resetConfig();
@@ -50,12 +66,33 @@ public class PushConfig extends AbstractDynamicConfig {
                 .getProperty(PushConstants.PUSH_TASK_TIMEOUT, Long.class, PushConstants.DEFAULT_PUSH_TASK_TIMEOUT);
         pushTaskRetryDelay = EnvUtil.getProperty(PushConstants.PUSH_TASK_RETRY_DELAY, Long.class,
                 PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY);
+        deltaPushEnabled = EnvUtil.getProperty(PushConstants.DELTA_PUSH_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_DELTA_PUSH_ENABLED);
+        deltaPushMinInstances = EnvUtil.getProperty(PushConstants.DELTA_PUSH_MIN_INSTANCES, Integer.class,
+                PushConstants.DEFAULT_DELTA_PUSH_MIN_INSTANCES);
+        deltaPushChangeLogCapacity = EnvUtil.getProperty(PushConstants.DELTA_PUSH_CHANGE_LOG_CAPACITY, Integer.class,
+                PushConstants.DEFAULT_DELTA_PUSH_CHANGE_LOG_CAPACITY);
+        adaptivePushDelayEnabled = EnvUtil.getProperty(PushConstants.ADAPTIVE_PUSH_DELAY_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_ADAPTIVE_PUSH_DELAY_ENABLED);
+        adaptivePushMinDelay = EnvUtil.getProperty(PushConstants.ADAPTIVE_PUSH_MIN_DELAY, Long.class,
+                PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_DELAY);
+        adaptivePushMaxDelay = EnvUtil.getProperty(PushConstants.ADAPTIVE_PUSH_MAX_DELAY, Long.class,
+                PushConstants.DEFAULT_ADAPTIVE_PUSH_MAX_DELAY);
+        adaptivePushHotChangeRate = EnvUtil.getProperty(PushConstants.ADAPTIVE_PUSH_HOT_CHANGE_RATE, Double.class,
+                PushConstants.DEFAULT_ADAPTIVE_PUSH_HOT_CHANGE_RATE);
+        adaptivePushMinInterval = EnvUtil.getProperty(PushConstants.ADAPTIVE_PUSH_MIN_INTERVAL, Long.class,
+                PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_INTERVAL);
     }
     
     @Override
     protected String printConfig() {
         return "PushConfig{" + "pushTaskDelay=" + pushTaskDelay + ", pushTaskTimeout=" + pushTaskTimeout
-                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + '}';
+                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + ", deltaPushEnabled=" + deltaPushEnabled
+                + ", deltaPushMinInstances=" + deltaPushMinInstances + ", deltaPushChangeLogCapacity="
+                + deltaPushChangeLogCapacity + ", adaptivePushDelayEnabled=" + adaptivePushDelayEnabled
+                + ", adaptivePushMinDelay=" + adaptivePushMinDelay + ", adaptivePushMaxDelay=" + adaptivePushMaxDelay
+                + ", adaptivePushHotChangeRate=" + adaptivePushHotChangeRate + ", adaptivePushMinInterval="
+                + adaptivePushMinInterval + '}';
     }
     
     public static PushConfig getInstance() {
@@ -73,4 +110,41 @@ public class PushConfig extends AbstractDynamicConfig {
     public long getPushTaskRetryDelay() {
         return pushTaskRetryDelay;
     }
+    
+    public boolean isDeltaPushEnabled() {
+        return deltaPushEnabled;
+    }
+    
+    public int getDeltaPushMinInstances() {
+        return deltaPushMinInstances;
+    }
+    
+    /**
+     * Get max changes kept for each service.
+     *
+     * @return max changes kept, {@code 0} if delta push is disabled
+     */
+    public int getDeltaPushChangeLogCapacity() {
+        return deltaPushEnabled ? deltaPushChangeLogCapacity : 0;
+    }
+    
+    public boolean isAdaptivePushDelayEnabled() {
+        return adaptivePushDelayEnabled;
+    }
+    
+    public long getAdaptivePushMinDelay() {
+        return adaptivePushMinDelay;
+    }
+    
+    public long getAdaptivePushMaxDelay() {
+        return adaptivePushMaxDelay;
+    }
+    
+    public double getAdaptivePushHotChangeRate() {
+        return adaptivePushHotChangeRate;
+    }
+    
+    public long getAdaptivePushMinInterval() {
+        return adaptivePushMinInterval;
+    }
 }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.index.ServiceChangeLog;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 
 import java.util.HashMap;
@@ -36,9 +37,19 @@ public class PushDataWrapper {
     
     private final Map<String, Object> processedDatum;
     
+    private final ServiceChangeLog changeLog;
+    
+    private final long revision;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(serviceMetadata, originalData, null);
+    }
+    
+    public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData, ServiceChangeLog changeLog) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
+        this.changeLog = changeLog;
+        this.revision = null == changeLog ? -1L : changeLog.revisionOf(originalData);
         processedDatum = new HashMap<>(1);
     }
     
@@ -50,6 +61,28 @@ public class PushDataWrapper {
         return serviceMetadata;
     }
     
+    /**
+     * Get revision of original data.
+     *
+     * @return revision, {@code -1} if the revision of original data is unknown
+     */
+    public long getRevision() {
+        return revision;
+    }
+    
+    /**
+     * Get instances changed from base revision to the revision of original data.
+     *
+     * @param baseRevision base revision
+     * @return delta, empty if revision unknown or changes not kept anymore
+     */
+    public Optional<ServiceChangeLog.Delta> getDelta(long baseRevision) {
+        if (revision < 0 || baseRevision < 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(changeLog.deltaOf(baseRevision, revision));
+    }
+    
     public <T> Optional<T> getProcessedPushData(String key) {
         return Optional.ofNullable((T) processedDatum.get(key));
     }
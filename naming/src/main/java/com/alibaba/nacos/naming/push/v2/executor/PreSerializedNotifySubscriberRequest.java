@@ -0,0 +1,49 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PreSerializedRequest;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+
+/**
+ * Notify subscriber request whose body is taken from a shared {@link SerializedPushPayload}.
+ *
+ * @author xiweng.yy
+ */
+public class PreSerializedNotifySubscriberRequest extends NotifySubscriberRequest implements PreSerializedRequest {
+    
+    private static final String PAYLOAD_TYPE = NotifySubscriberRequest.class.getSimpleName();
+    
+    private final SerializedPushPayload payload;
+    
+    public PreSerializedNotifySubscriberRequest(SerializedPushPayload payload) {
+        this.payload = payload;
+        setServiceInfo(payload.getServiceInfo());
+        setRevision(payload.getRevision());
+    }
+    
+    @Override
+    public String getPayloadType() {
+        return PAYLOAD_TYPE;
+    }
+    
+    @Override
+    public byte[] serializeBody(PayloadCodec codec) {
+        return payload.bodyOf(codec, getRequestId());
+    }
+}
@@ -16,16 +16,35 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
-import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.index.ServiceChangeLog;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * Push execute service for rpc.
  *
@@ -34,25 +53,134 @@ import org.springframework.stereotype.Component;
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    private static final String PAYLOAD_KEY_PREFIX = "rpc@@";
+    
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
     }
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
-        pushService.pushWithoutAck(clientId,
-                NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
+        pushService.pushWithoutAck(clientId, new PreSerializedNotifySubscriberRequest(getPushPayload(data, subscriber)));
     }
     
     @Override
     public void doPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
             NamingPushCallback callBack) {
-        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
-        callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        SerializedPushPayload payload = getPushPayload(data, subscriber);
+        callBack.setActualServiceInfo(payload.getServiceInfo());
+        if (!isDeltaPushAvailable(clientId, data)) {
+            pushService.pushWithCallback(clientId, new PreSerializedNotifySubscriberRequest(payload), callBack,
+                    GlobalExecutor.getCallbackExecutor());
+            return;
+        }
+        // only the service info selected by per instance conditions can be patched by delta.
+        boolean revisionTrackable = !payload.getServiceInfo().isReachProtectionThreshold() && !isSelectBySubscriberIp(
+                data.getServiceMetadata());
+        ServerRequest request = revisionTrackable ? buildDeltaRequest(subscriber, data, payload.getServiceInfo()) : null;
+        if (null == request) {
+            MetricsMonitor.incrementDeltaPushFallback();
+            request = new PreSerializedNotifySubscriberRequest(payload);
+        } else {
+            MetricsMonitor.incrementDeltaPush();
+        }
+        long pushedRevision = revisionTrackable ? data.getRevision() : -1L;
+        pushService.pushWithCallback(clientId, request, new RevisionAckPushCallback(callBack, subscriber, pushedRevision),
+                GlobalExecutor.getCallbackExecutor());
+    }
+    
+    private boolean isDeltaPushAvailable(String clientId, PushDataWrapper data) {
+        if (data.getRevision() <= 0 || !PushConfig.getInstance().isDeltaPushEnabled()) {
+            return false;
+        }
+        Connection connection = connectionManager.getConnection(clientId);
+        if (null == connection || null == connection.getAbilityTable()) {
+            return false;
+        }
+        Map<String, Boolean> abilityTable = connection.getAbilityTable();
+        return Boolean.TRUE.equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_SERVICE_PUSH.getName()));
+    }
+    
+    private NotifySubscriberDeltaRequest buildDeltaRequest(Subscriber subscriber, PushDataWrapper data,
+            ServiceInfo serviceInfo) {
+        if (subscriber.getAckedRevision() <= 0
+                || data.getOriginalData().getHosts().size() < PushConfig.getInstance().getDeltaPushMinInstances()) {
+            return null;
+        }
+        Optional<ServiceChangeLog.Delta> delta = data.getDelta(subscriber.getAckedRevision());
+        if (!delta.isPresent()) {
+            return null;
+        }
+        NotifySubscriberDeltaRequest result = new NotifySubscriberDeltaRequest();
+        result.setServiceName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setClusters(serviceInfo.getClusters());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setAllIPs(serviceInfo.isAllIPs());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        result.setBaseRevision(delta.get().getBaseRevision());
+        result.setRevision(delta.get().getRevision());
+        Set<String> clusters = StringUtils.isBlank(serviceInfo.getClusters()) ? new HashSet<>()
+                : new HashSet<>(Arrays.asList(serviceInfo.getClusters().split(",")));
+        for (Instance each : delta.get().getAdded()) {
+            if (isSelected(clusters, each)) {
+                result.getAddedInstances().add(each);
+            }
+        }
+        for (Instance each : delta.get().getModified()) {
+            // modified instance maybe disabled or moved out of subscribed clusters.
+            List<Instance> target = isSelected(clusters, each) ? result.getModifiedInstances()
+                    : result.getRemovedInstances();
+            target.add(each);
+        }
+        result.getRemovedInstances().addAll(delta.get().getRemoved());
+        return result;
+    }
+    
+    /**
+     * Same conditions as {@link ServiceUtil#selectInstancesWithHealthyProtection} used by push.
+     */
+    private boolean isSelected(Collection<String> clusters, Instance instance) {
+        return instance.isEnabled() && (clusters.isEmpty() || clusters.contains(instance.getClusterName()));
+    }
+    
+    /**
+     * Get serialized push payload for subscriber.
+     *
+     * <p>The selected service info only depends on subscriber's cluster unless the service has a selector which
+     * select instances by subscriber's ip, so subscribers with same cluster share one payload serialized once for the
+     * push data.
+     */
+    private SerializedPushPayload getPushPayload(PushDataWrapper data, Subscriber subscriber) {
+        long revision = Math.max(data.getRevision(), 0L);
+        if (isSelectBySubscriberIp(data.getServiceMetadata())) {
+            MetricsMonitor.incrementPushPayloadCacheMiss();
+            return SerializedPushPayload.build(getServiceInfo(data, subscriber), revision);
+        }
+        String key = PAYLOAD_KEY_PREFIX + subscriber.getCluster();
+        Optional<SerializedPushPayload> cached = data.getProcessedPushData(key);
+        if (cached.isPresent()) {
+            MetricsMonitor.incrementPushPayloadCacheHit(cached.get().size());
+            return cached.get();
+        }
+        MetricsMonitor.incrementPushPayloadCacheMiss();
+        SerializedPushPayload result = SerializedPushPayload.build(getServiceInfo(data, subscriber), revision);
+        data.addProcessedPushData(key, result);
+        return result;
+    }
+    
+    private boolean isSelectBySubscriberIp(ServiceMetadata serviceMetadata) {
+        if (null == serviceMetadata || null == serviceMetadata.getSelector()) {
+            return false;
+        }
+        return !(serviceMetadata.getSelector() instanceof NoneSelector);
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
@@ -60,4 +188,44 @@ public class PushExecutorRpcImpl implements PushExecutor {
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
     }
+    
+    /**
+     * Record revision acknowledged by subscriber, a failed push resets it so the retry pushes full service info.
+     */
+    private static class RevisionAckPushCallback implements NamingPushCallback {
+        
+        private final NamingPushCallback delegate;
+        
+        private final Subscriber subscriber;
+        
+        private final long pushedRevision;
+        
+        private RevisionAckPushCallback(NamingPushCallback delegate, Subscriber subscriber, long pushedRevision) {
+            this.delegate = delegate;
+            this.subscriber = subscriber;
+            this.pushedRevision = pushedRevision;
+        }
+        
+        @Override
+        public void setActualServiceInfo(ServiceInfo serviceInfo) {
+            delegate.setActualServiceInfo(serviceInfo);
+        }
+        
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+        
+        @Override
+        public void onSuccess() {
+            subscriber.setAckedRevision(pushedRevision);
+            delegate.onSuccess();
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            subscriber.setAckedRevision(-1L);
+            delegate.onFail(e);
+        }
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialized body of {@link NotifySubscriberRequest} shared by all subscribers with the same selected service info.
+ *
+ * <p>The body is encoded once per codec with a placeholder request id and split around it, so building the body for
+ * one subscriber only concatenates bytes.
+ *
+ * @author xiweng.yy
+ */
+public class SerializedPushPayload {
+    
+    private static final String REQUEST_ID_PLACEHOLDER = "${nacos.push.requestId}";
+    
+    private final ServiceInfo serviceInfo;
+    
+    private final long revision;
+    
+    private final Map<String, SplitBody> bodies = new ConcurrentHashMap<>(2);
+    
+    private final SplitBody defaultBody;
+    
+    private SerializedPushPayload(ServiceInfo serviceInfo, long revision) {
+        this.serviceInfo = serviceInfo;
+        this.revision = revision;
+        PayloadCodec defaultCodec = PayloadCodecManager.getInstance().getDefaultCodec();
+        this.defaultBody = encode(defaultCodec);
+        this.bodies.put(defaultCodec.getName(), defaultBody);
+    }
+    
+    /**
+     * Serialize push request body of service info.
+     *
+     * @param serviceInfo selected service info to push
+     * @return serialized push payload
+     */
+    public static SerializedPushPayload build(ServiceInfo serviceInfo) {
+        return build(serviceInfo, 0L);
+    }
+    
+    /**
+     * Serialize push request body of service info with revision.
+     *
+     * @param serviceInfo selected service info to push
+     * @param revision    revision of service info, {@code 0} if not tracked
+     * @return serialized push payload
+     */
+    public static SerializedPushPayload build(ServiceInfo serviceInfo, long revision) {
+        return new SerializedPushPayload(serviceInfo, revision);
+    }
+    
+    /**
+     * Build request body encoded by codec with request id, the shared part is encoded once for each codec.
+     *
+     * @param codec     codec negotiated with subscriber
+     * @param requestId request id, only digits generated by push ack id generator
+     * @return request body
+     */
+    public byte[] bodyOf(PayloadCodec codec, String requestId) {
+        SplitBody body = bodies.computeIfAbsent(codec.getName(), name -> encode(codec));
+        return body.join(codec.encodeString(requestId));
+    }
+    
+    public ServiceInfo getServiceInfo() {
+        return serviceInfo;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    /**
+     * Get size of the shared part of body encoded by default codec.
+     *
+     * @return bytes size
+     */
+    public int size() {
+        return defaultBody.size();
+    }
+    
+    private SplitBody encode(PayloadCodec codec) {
+        NotifySubscriberRequest template = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        template.setRequestId(REQUEST_ID_PLACEHOLDER);
+        template.setRevision(revision);
+        byte[] bytes = codec.encode(template, NotifySubscriberRequest.class);
+        byte[] placeholder = codec.encodeString(REQUEST_ID_PLACEHOLDER);
+        int index = indexOf(bytes, placeholder);
+        if (index < 0) {
+            throw new IllegalStateException(
+                    "Can't find request id in notify subscriber request encoded by codec " + codec.getName());
+        }
+        byte[] head = new byte[index];
+        System.arraycopy(bytes, 0, head, 0, index);
+        int tailStart = index + placeholder.length;
+        byte[] tail = new byte[bytes.length - tailStart];
+        System.arraycopy(bytes, tailStart, tail, 0, tail.length);
+        return new SplitBody(head, tail);
+    }
+    
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+    
+    private static class SplitBody {
+        
+        private final byte[] head;
+        
+        private final byte[] tail;
+        
+        private SplitBody(byte[] head, byte[] tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+        
+        private byte[] join(byte[] requestId) {
+            byte[] result = new byte[head.length + requestId.length + tail.length];
+            System.arraycopy(head, 0, result, 0, head.length);
+            System.arraycopy(requestId, 0, result, head.length, requestId.length);
+            System.arraycopy(tail, 0, result, head.length + requestId.length, tail.length);
+            return result;
+        }
+        
+        private int size() {
+            return head.length + tail.length;
+        }
+    }
+}
@@ -16,9 +16,11 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.common.task.AbstractDelayTask;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.core.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
@@ -48,6 +50,8 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     
     private final SwitchDomain switchDomain;
     
+    private final PushRateController pushRateController = new PushRateController();
+    
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
                                       PushExecutor pushExecutor, SwitchDomain switchDomain) {
@@ -81,12 +85,45 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         return pushExecutor;
     }
     
+    PushRateController getPushRateController() {
+        return pushRateController;
+    }
+    
+    @Override
+    public void addTask(Object key, AbstractDelayTask newTask) {
+        if (newTask instanceof PushDelayTask && ((PushDelayTask) newTask).isPushToAll()) {
+            PushDelayTask pushDelayTask = (PushDelayTask) newTask;
+            pushDelayTask.setTaskInterval(pushRateController
+                    .adjustDelay(pushDelayTask.getService(), pushDelayTask.getTaskInterval(),
+                            pushDelayTask.getLastProcessTime()));
+        }
+        super.addTask(key, newTask);
+    }
+    
+    /**
+     * Put the push task back without counting it as a change, because the service is pushed too frequently.
+     *
+     * @param pushDelayTask push task deferred
+     * @param waitTime      time to wait in milliseconds
+     */
+    private void deferTask(PushDelayTask pushDelayTask, long waitTime) {
+        pushDelayTask.setLastProcessTime(System.currentTimeMillis());
+        pushDelayTask.setTaskInterval(waitTime);
+        super.addTask(pushDelayTask.getService(), pushDelayTask);
+    }
+    
     @Override
     protected void processTasks() {
         if (!switchDomain.isPushEnabled()) {
             return;
         }
         super.processTasks();
+        pushRateController.cleanExpiredRates(System.currentTimeMillis());
+    }
+    
+    @Override
+    protected void recordProcessCost(long scanCostNanos, long dispatchCostNanos, int dispatchCount) {
+        MetricsMonitor.recordDelayTaskEngineCost("push", scanCostNanos, dispatchCostNanos, dispatchCount);
     }
     
     private static class PushDelayTaskProcessor implements NacosTaskProcessor {
@@ -101,6 +138,13 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         public boolean process(NacosTask task) {
             PushDelayTask pushDelayTask = (PushDelayTask) task;
             Service service = pushDelayTask.getService();
+            if (pushDelayTask.isPushToAll()) {
+                long waitTime = executeEngine.getPushRateController().acquirePush(service, System.currentTimeMillis());
+                if (waitTime > 0) {
+                    executeEngine.deferTask(pushDelayTask, waitTime);
+                    return true;
+                }
+            }
             NamingExecuteTaskDispatcher.getInstance()
                     .dispatchAndExecuteTask(service, new PushExecuteTask(service, executeEngine, pushDelayTask));
             return true;
@@ -0,0 +1,157 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.task;
+
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nacos naming push rate controller, adjusts the push delay of each service by its change rate.
+ *
+ * <p>The change rate of a service is estimated by a change count decaying exponentially over time. A service which
+ * has not changed recently is pushed after min delay. A service changing faster than hot change rate gets a delay
+ * stretched proportionally, up to max delay, so that more changes are merged into one push. Pushes to all subscribers
+ * of one service are also kept at least min push interval apart.
+ *
+ * @author Nacos
+ */
+public class PushRateController {
+    
+    /**
+     * Time constant of the decaying change count, a service not changed within it is quiet.
+     */
+    private static final long RATE_WINDOW = TimeUnit.SECONDS.toMillis(10);
+    
+    private static final long EXPIRED_TIME = TimeUnit.MINUTES.toMillis(5);
+    
+    private static final long CLEAN_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+    
+    private final ConcurrentHashMap<Service, ServiceRate> serviceRates = new ConcurrentHashMap<>();
+    
+    private volatile long lastCleanTime = System.currentTimeMillis();
+    
+    /**
+     * Record a change of service and decide the push delay for it.
+     *
+     * @param service service changed
+     * @param delay   push delay requested
+     * @param now     current time in milliseconds
+     * @return push delay adjusted by change rate of service
+     */
+    public long adjustDelay(Service service, long delay, long now) {
+        PushConfig pushConfig = PushConfig.getInstance();
+        if (!pushConfig.isAdaptivePushDelayEnabled()) {
+            return delay;
+        }
+        ServiceRate serviceRate = serviceRates.computeIfAbsent(service, key -> new ServiceRate());
+        long result = delay;
+        synchronized (serviceRate) {
+            boolean quiet = serviceRate.isQuiet(now);
+            double changeRate = serviceRate.recordChange(now);
+            double hotChangeRate = pushConfig.getAdaptivePushHotChangeRate();
+            if (quiet) {
+                result = Math.min(delay, pushConfig.getAdaptivePushMinDelay());
+            } else if (changeRate > hotChangeRate) {
+                long stretched = (long) (delay * changeRate / hotChangeRate);
+                result = Math.max(delay, Math.min(stretched, pushConfig.getAdaptivePushMaxDelay()));
+            }
+        }
+        if (result < delay) {
+            MetricsMonitor.getPushDelayShrunk().incrementAndGet();
+        } else if (result > delay) {
+            MetricsMonitor.getPushDelayStretched().incrementAndGet();
+        }
+        MetricsMonitor.recordAdaptivePushDelay(result);
+        return result;
+    }
+    
+    /**
+     * Try to start a push to all subscribers of service, the push is recorded if it can be executed now.
+     *
+     * @param service service to push
+     * @param now     current time in milliseconds
+     * @return time to wait before the push in milliseconds, {@code 0} if the push can be executed now
+     */
+    public long acquirePush(Service service, long now) {
+        PushConfig pushConfig = PushConfig.getInstance();
+        if (!pushConfig.isAdaptivePushDelayEnabled()) {
+            return 0L;
+        }
+        ServiceRate serviceRate = serviceRates.computeIfAbsent(service, key -> new ServiceRate());
+        synchronized (serviceRate) {
+            long waitTime = serviceRate.lastPushTime + pushConfig.getAdaptivePushMinInterval() - now;
+            if (serviceRate.lastPushTime > 0 && waitTime > 0) {
+                MetricsMonitor.getPushThrottled().incrementAndGet();
+                return waitTime;
+            }
+            serviceRate.lastPushTime = now;
+            return 0L;
+        }
+    }
+    
+    /**
+     * Remove the rates of services which neither changed nor pushed for a long time.
+     *
+     * @param now current time in milliseconds
+     */
+    public void cleanExpiredRates(long now) {
+        if (now - lastCleanTime < CLEAN_INTERVAL) {
+            return;
+        }
+        lastCleanTime = now;
+        serviceRates.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+    }
+    
+    int size() {
+        return serviceRates.size();
+    }
+    
+    private static class ServiceRate {
+        
+        private double changeCount;
+        
+        private long lastChangeTime;
+        
+        private long lastPushTime;
+        
+        private boolean isQuiet(long now) {
+            return 0 == lastChangeTime || now - lastChangeTime >= RATE_WINDOW;
+        }
+        
+        /**
+         * Record a change and get current change rate.
+         *
+         * @return changes per second
+         */
+        private double recordChange(long now) {
+            if (lastChangeTime > 0 && now > lastChangeTime) {
+                changeCount *= Math.exp(-(double) (now - lastChangeTime) / RATE_WINDOW);
+            }
+            changeCount += 1;
+            lastChangeTime = Math.max(lastChangeTime, now);
+            return changeCount * TimeUnit.SECONDS.toMillis(1) / RATE_WINDOW;
+        }
+        
+        private synchronized boolean isExpired(long now) {
+            return now - Math.max(lastChangeTime, lastPushTime) > EXPIRED_TIME;
+        }
+    }
+}
@@ -94,6 +94,19 @@ class ServerStatusManagerTest {
         assertTrue(errorMsg.get().contains("distro"));
     }
     
+    @Test
+    void testGetErrorMsgForDistroLoading() {
+        when(protocolManager.isCpInit()).thenReturn(true);
+        when(globalConfig.isDataWarmup()).thenReturn(true);
+        when(protocolManager.getCpProtocol()).thenReturn(cpProtocol);
+        when(distroProtocol.isInitialized()).thenReturn(false);
+        when(distroProtocol.getTotalSnapshotChunks()).thenReturn(64);
+        when(distroProtocol.getLoadedSnapshotChunks()).thenReturn(16);
+        Optional<String> errorMsg = serverStatusManager.getErrorMsg();
+        assertTrue(errorMsg.isPresent());
+        assertTrue(errorMsg.get().contains("16/64"));
+    }
+    
     @Test
     void testGetErrorMsgForRaft() {
         when(protocolManager.isCpInit()).thenReturn(true);
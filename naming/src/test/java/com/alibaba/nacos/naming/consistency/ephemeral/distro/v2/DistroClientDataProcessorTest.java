@@ -18,9 +18,12 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.DistroConstants;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -41,6 +44,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -50,10 +54,12 @@ import org.springframework.context.ConfigurableApplicationContext;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -376,6 +382,48 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetBatchDistroData() {
+        assertTrue(distroClientDataProcessor.isSupportBatchSync());
+        List<DistroKey> keys = new LinkedList<>();
+        keys.add(new DistroKey(CLIENT_ID, DistroClientDataProcessor.TYPE, MOCK_TARGET_SERVER));
+        keys.add(new DistroKey("nonExist", DistroClientDataProcessor.TYPE, MOCK_TARGET_SERVER));
+        DistroData actual = distroClientDataProcessor.getBatchDistroData(keys, MOCK_TARGET_SERVER);
+        assertEquals(DistroConstants.BATCH_SYNC_KEY, actual.getDistroKey().getResourceKey());
+        assertEquals(MOCK_TARGET_SERVER, actual.getDistroKey().getTargetServer());
+        ArgumentCaptor<ClientSyncDatumSnapshot> captor = ArgumentCaptor.forClass(ClientSyncDatumSnapshot.class);
+        verify(serializer).serialize(captor.capture());
+        assertEquals(1, captor.getValue().getClientSyncDataList().size());
+        assertNull(distroClientDataProcessor.getBatchDistroData(keys.subList(1, 2), MOCK_TARGET_SERVER));
+    }
+    
+    @Test
+    void testProcessBatchData() {
+        ClientSyncDatumSnapshot batch = new ClientSyncDatumSnapshot();
+        batch.setClientSyncDataList(Collections.singletonList(clientSyncData));
+        when(serializer.deserialize(any(), eq(ClientSyncDatumSnapshot.class))).thenReturn(batch);
+        distroData.setType(DataOperation.CHANGE);
+        distroKey.setResourceKey(DistroConstants.BATCH_SYNC_KEY);
+        assertTrue(distroClientDataProcessor.processData(distroData));
+        verify(clientManager).syncClientConnected(CLIENT_ID, clientSyncData.getAttributes());
+        assertEquals(1L, client.getRevision());
+    }
+    
+    @Test
+    void testGetDatumSnapshotChunk() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        int bucket = DistroClientVerifyDigest.bucketOf(CLIENT_ID, 4);
+        DistroSnapshotChunk chunk = new DistroSnapshotChunk(bucket, 4);
+        DistroData actual = distroClientDataProcessor.getDatumSnapshot(chunk);
+        assertTrue(chunk.isKeyOf(actual.getDistroKey()));
+        DistroSnapshotChunk otherChunk = new DistroSnapshotChunk((bucket + 1) % 4, 4);
+        distroClientDataProcessor.getDatumSnapshot(otherChunk);
+        ArgumentCaptor<ClientSyncDatumSnapshot> captor = ArgumentCaptor.forClass(ClientSyncDatumSnapshot.class);
+        verify(serializer, Mockito.times(2)).serialize(captor.capture());
+        assertEquals(1, captor.getAllValues().get(0).getClientSyncDataList().size());
+        assertTrue(captor.getAllValues().get(1).getClientSyncDataList().isEmpty());
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
@@ -386,4 +434,19 @@ class DistroClientDataProcessorTest {
         assertEquals(CLIENT_ID, list.iterator().next().getDistroKey().getResourceKey());
         assertEquals(DistroClientDataProcessor.TYPE, list.iterator().next().getDistroKey().getResourceType());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testGetVerifyDataWithDigest() {
+        EnvUtil.setLocalAddress(MOCK_TARGET_SERVER);
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        DistroConfig.getInstance().setVerifyDigestEnabled(true);
+        try {
+            List<DistroData> list = distroClientDataProcessor.getVerifyData();
+            assertEquals(1, list.size());
+            assertEquals(DataOperation.VERIFY, list.get(0).getType());
+            assertEquals(DistroClientDigestVerifier.VERIFY_DIGEST_KEY, list.get(0).getDistroKey().getResourceKey());
+        } finally {
+            DistroConfig.getInstance().setVerifyDigestEnabled(false);
+        }
+    }
+}
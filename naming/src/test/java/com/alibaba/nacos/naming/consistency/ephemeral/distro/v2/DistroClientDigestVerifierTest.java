@@ -0,0 +1,194 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.naming.cluster.transport.JacksonSerializer;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistroClientDigestVerifierTest {
+    
+    private static final String SOURCE = "1.1.1.1:8848";
+    
+    private static final int BUCKETS = 16;
+    
+    private final Map<String, Client> sourceClients = new HashMap<>();
+    
+    private final Map<String, Client> targetClients = new HashMap<>();
+    
+    @Mock
+    private ClientManager sourceClientManager;
+    
+    @Mock
+    private ClientManager targetClientManager;
+    
+    @Mock
+    private DistroProtocol distroProtocol;
+    
+    @Mock
+    private DistroDataProcessor dataProcessor;
+    
+    @Mock
+    private ConfigurableApplicationContext applicationContext;
+    
+    private DistroClientDigestVerifier sourceVerifier;
+    
+    private DistroClientDigestVerifier targetVerifier;
+    
+    @BeforeEach
+    void setUp() {
+        lenient().when(applicationContext.getBean(Serializer.class)).thenReturn(new JacksonSerializer());
+        ApplicationUtils.injectContext(applicationContext);
+        EnvUtil.setLocalAddress(SOURCE);
+        for (String each : Arrays.asList("c1", "c2", "c3")) {
+            sourceClients.put(each, new ConnectionBasedClient(each, true, 1L));
+            targetClients.put(each, new ConnectionBasedClient(each, false, 1L));
+        }
+        lenient().when(sourceClientManager.allClientId()).thenAnswer(invocation -> sourceClients.keySet());
+        lenient().when(sourceClientManager.getClient(any()))
+                .thenAnswer(invocation -> sourceClients.get(invocation.<String>getArgument(0)));
+        lenient().when(sourceClientManager.isResponsibleClient(any())).thenReturn(true);
+        lenient().when(targetClientManager.getClient(any()))
+                .thenAnswer(invocation -> targetClients.get(invocation.<String>getArgument(0)));
+        lenient().when(distroProtocol.queryFromRemote(any())).thenAnswer(invocation -> {
+            DistroKey distroKey = invocation.getArgument(0);
+            assertEquals(SOURCE, distroKey.getTargetServer());
+            return sourceVerifier.isBucketsKey(distroKey) ? sourceVerifier.getBucketsVerifyData(distroKey)
+                    : new DistroData(distroKey, new byte[] {1});
+        });
+        sourceVerifier = new DistroClientDigestVerifier(sourceClientManager, distroProtocol, dataProcessor);
+        targetVerifier = new DistroClientDigestVerifier(targetClientManager, distroProtocol, dataProcessor);
+    }
+    
+    @Test
+    void testBuildVerifyData() {
+        DistroData verifyData = sourceVerifier.buildVerifyData(BUCKETS);
+        assertEquals(DataOperation.VERIFY, verifyData.getType());
+        assertTrue(sourceVerifier.isDigestData(verifyData));
+        final DistroClientVerifyDigest actual = new JacksonSerializer()
+                .deserialize(verifyData.getContent(), DistroClientVerifyDigest.class);
+        DistroClientVerifyDigest expected = new DistroClientVerifyDigest(SOURCE, BUCKETS);
+        expected.addClient("c3", 1L);
+        expected.addClient("c1", 1L);
+        expected.addClient("c2", 1L);
+        assertEquals(SOURCE, actual.getSource());
+        assertArrayEquals(expected.getDigests(), actual.getDigests());
+    }
+    
+    @Test
+    void testDigestChangedWithRevision() {
+        DistroClientVerifyDigest digest = new DistroClientVerifyDigest(SOURCE, BUCKETS);
+        digest.addClient("c1", 1L);
+        long[] before = digest.getDigests().clone();
+        digest.addClient("c1", 1L);
+        digest.addClient("c1", 2L);
+        assertFalse(Arrays.equals(before, digest.getDigests()));
+        int bucket = DistroClientVerifyDigest.bucketOf("c1", BUCKETS);
+        assertTrue(bucket >= 0 && bucket < BUCKETS);
+    }
+    
+    @Test
+    void testVerifyBucketsTrackClients() {
+        when(targetClientManager.verifyClient(any())).thenReturn(true);
+        targetVerifier.verifyBuckets(SOURCE, BUCKETS, allBuckets());
+        verify(targetClientManager, times(3)).verifyClient(any());
+        verify(dataProcessor, never()).processData(any());
+        // all buckets matched after tracked, clients are renewed without querying source server.
+        assertTrue(targetVerifier.verify(sourceVerifier.buildVerifyData(BUCKETS)));
+        verify(targetClientManager, times(6)).verifyClient(any());
+        verify(distroProtocol, times(1)).queryFromRemote(any());
+    }
+    
+    @Test
+    void testVerifyBucketsSyncInvalidClient() {
+        when(targetClientManager.verifyClient(any()))
+                .thenAnswer(invocation -> !"c2".equals(invocation.<DistroClientVerifyInfo>getArgument(0).getClientId()));
+        targetVerifier.verifyBuckets(SOURCE, BUCKETS, allBuckets());
+        ArgumentCaptor<DistroData> captor = ArgumentCaptor.forClass(DistroData.class);
+        verify(dataProcessor).processData(captor.capture());
+        assertEquals("c2", captor.getValue().getDistroKey().getResourceKey());
+        assertEquals(DataOperation.ADD, captor.getValue().getType());
+    }
+    
+    @Test
+    void testVerifyBucketsUntrackRemovedClient() {
+        when(targetClientManager.verifyClient(any())).thenReturn(true);
+        targetVerifier.verifyBuckets(SOURCE, BUCKETS, allBuckets());
+        sourceClients.remove("c2");
+        Set<Integer> bucket = new HashSet<>();
+        bucket.add(DistroClientVerifyDigest.bucketOf("c2", BUCKETS));
+        targetVerifier.verifyBuckets(SOURCE, BUCKETS, bucket);
+        clearInvocations(targetClientManager);
+        // c2 is not renewed any more and will expire.
+        assertTrue(targetVerifier.verify(sourceVerifier.buildVerifyData(BUCKETS)));
+        ArgumentCaptor<DistroClientVerifyInfo> captor = ArgumentCaptor.forClass(DistroClientVerifyInfo.class);
+        verify(targetClientManager, times(2)).verifyClient(captor.capture());
+        Set<String> renewed = captor.getAllValues().stream().map(DistroClientVerifyInfo::getClientId)
+                .collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList("c1", "c3")), renewed);
+    }
+    
+    @Test
+    void testVerifyInvalidDigest() {
+        DistroClientVerifyDigest digest = new DistroClientVerifyDigest();
+        DistroData distroData = new DistroData(
+                new DistroKey(DistroClientDigestVerifier.VERIFY_DIGEST_KEY, DistroClientDataProcessor.TYPE),
+                new JacksonSerializer().serialize(digest));
+        assertFalse(targetVerifier.verify(distroData));
+    }
+    
+    private Set<Integer> allBuckets() {
+        return IntStream.range(0, BUCKETS).boxed().collect(Collectors.toSet());
+    }
+}
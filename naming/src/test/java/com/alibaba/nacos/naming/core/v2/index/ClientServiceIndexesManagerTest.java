@@ -17,13 +17,16 @@
 package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -39,6 +42,7 @@ import java.util.concurrent.ConcurrentMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 
 @ExtendWith(MockitoExtension.class)
 class ClientServiceIndexesManagerTest {
@@ -180,6 +184,21 @@ class ClientServiceIndexesManagerTest {
         assertEquals(2, allClientsSubscribeService.size());
     }
     
+    @Test
+    void testAddSubscriberIndexesPublishOnlyFirstTime()
+            throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        String clientId = "clientId";
+        Method addSubscriberIndexes = ClientServiceIndexesManager.class.getDeclaredMethod("addSubscriberIndexes",
+                Service.class, String.class);
+        addSubscriberIndexes.setAccessible(true);
+        try (MockedStatic<NotifyCenter> notifyCenter = Mockito.mockStatic(NotifyCenter.class)) {
+            addSubscriberIndexes.invoke(clientServiceIndexesManager, service, clientId);
+            addSubscriberIndexes.invoke(clientServiceIndexesManager, service, clientId);
+            notifyCenter.verify(() -> NotifyCenter.publishEvent(any(ServiceEvent.ServiceSubscribedEvent.class)),
+                    Mockito.times(1));
+        }
+    }
+    
     @Test
     void testRemoveSubscriberIndexes() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         String clientId = "clientId";
@@ -0,0 +1,114 @@
+/*
+ * Copyright 1999-2018 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServiceChangeLogTest {
+    
+    private ServiceChangeLog changeLog;
+    
+    private AtomicLong revisionGenerator;
+    
+    @BeforeEach
+    void setUp() {
+        changeLog = new ServiceChangeLog();
+        revisionGenerator = new AtomicLong();
+    }
+    
+    @Test
+    void testRecordWithoutChange() {
+        long revision = record(2, instance("1.1.1.1", 1.0D));
+        ServiceInfo same = serviceInfo(instance("1.1.1.1", 1.0D));
+        assertEquals(revision, changeLog.record(same, 2, revisionGenerator::incrementAndGet));
+        assertEquals(revision, changeLog.revisionOf(same));
+        assertEquals(-1L, changeLog.revisionOf(serviceInfo(instance("1.1.1.1", 1.0D))));
+        assertEquals(0, changeLog.deltaOf(revision, revision).size());
+    }
+    
+    @Test
+    void testDeltaOf() {
+        long base = record(2, instance("1.1.1.1", 1.0D), instance("1.1.1.2", 1.0D));
+        final long middle = record(2, instance("1.1.1.1", 2.0D), instance("1.1.1.2", 1.0D), instance("1.1.1.3", 1.0D));
+        long latest = record(2, instance("1.1.1.1", 2.0D), instance("1.1.1.3", 1.0D), instance("1.1.1.4", 1.0D));
+        ServiceChangeLog.Delta delta = changeLog.deltaOf(base, latest);
+        assertEquals(base, delta.getBaseRevision());
+        assertEquals(latest, delta.getRevision());
+        assertEquals(2, delta.getAdded().size());
+        assertEquals(1, delta.getModified().size());
+        assertEquals(1, delta.getRemoved().size());
+        assertEquals("1.1.1.2", delta.getRemoved().iterator().next().getIp());
+        delta = changeLog.deltaOf(middle, latest);
+        assertEquals(1, delta.getAdded().size());
+        assertTrue(delta.getModified().isEmpty());
+        assertEquals(1, delta.getRemoved().size());
+        assertNull(changeLog.deltaOf(base, middle));
+    }
+    
+    @Test
+    void testDeltaOfMergeAddAndRemove() {
+        long base = record(4, instance("1.1.1.1", 1.0D));
+        record(4, instance("1.1.1.1", 1.0D), instance("1.1.1.2", 1.0D));
+        record(4);
+        long latest = record(4, instance("1.1.1.1", 3.0D));
+        ServiceChangeLog.Delta delta = changeLog.deltaOf(base, latest);
+        assertTrue(delta.getAdded().isEmpty());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertEquals(1, delta.getModified().size());
+        assertEquals(3.0D, delta.getModified().iterator().next().getWeight());
+    }
+    
+    @Test
+    void testDeltaOfOverCapacity() {
+        long base = record(1, instance("1.1.1.1", 1.0D));
+        final long middle = record(1, instance("1.1.1.1", 2.0D));
+        long latest = record(1, instance("1.1.1.1", 3.0D));
+        assertNull(changeLog.deltaOf(base, latest));
+        assertEquals(1, changeLog.deltaOf(middle, latest).size());
+    }
+    
+    private long record(int capacity, Instance... instances) {
+        return changeLog.record(serviceInfo(instances), capacity, revisionGenerator::incrementAndGet);
+    }
+    
+    private ServiceInfo serviceInfo(Instance... instances) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>(Arrays.asList(instances));
+        result.setHosts(hosts);
+        return result;
+    }
+    
+    private Instance instance(String ip, double weight) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setWeight(weight);
+        return result;
+    }
+}
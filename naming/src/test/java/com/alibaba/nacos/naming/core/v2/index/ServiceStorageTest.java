@@ -18,24 +18,32 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
@@ -43,6 +51,8 @@ import java.util.concurrent.ConcurrentMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -66,9 +76,6 @@ class ServiceStorageTest {
     @Mock
     private ServiceInfo serviceInfo;
     
-    @Mock
-    private InstancePublishInfo instancePublishInfo;
-    
     private ServiceStorage serviceStorage;
     
     @BeforeEach
@@ -155,12 +162,75 @@ class ServiceStorageTest {
     @Test
     void testParseInstance() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
-        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class, InstancePublishInfo.class);
+        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class,
+                InstancePublishInfo.class, InstanceMetadata.class);
         parseInstance.setAccessible(true);
-        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE, instancePublishInfo);
+        InstanceMetadata metadata = new InstanceMetadata();
+        metadata.setWeight(2.0D);
+        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE,
+                new InstancePublishInfo("1.1.1.1", 8848), metadata);
         
-        Mockito.verify(namingMetadataManager).getInstanceMetadata(SERVICE, instancePublishInfo.getMetadataId());
         assertNotNull(instance);
+        assertEquals(2.0D, instance.getWeight(), 0.0D);
+    }
+    
+    @Test
+    void testGetPushDataReuseUnchangedInstances() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        try {
+            InstancePublishInfo publishInfo1 = new InstancePublishInfo("1.1.1.1", 8848);
+            publishInfo1.setHealthy(true);
+            InstancePublishInfo publishInfo2 = new InstancePublishInfo("2.2.2.2", 8848);
+            publishInfo2.setHealthy(true);
+            Client client1 = Mockito.mock(Client.class);
+            Client client2 = Mockito.mock(Client.class);
+            Mockito.when(client1.getInstancePublishInfo(singleton)).thenReturn(publishInfo1);
+            Mockito.when(client2.getInstancePublishInfo(singleton)).thenReturn(publishInfo2);
+            Mockito.when(clientManagerDelegate.getClient("client1")).thenReturn(client1);
+            Mockito.when(clientManagerDelegate.getClient("client2")).thenReturn(client2);
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                    .thenReturn(Arrays.asList("client1", "client2"));
+            Map<String, Instance> first = hostsOf(serviceStorage.getPushData(singleton));
+            assertEquals(2, first.size());
+            
+            Map<String, Instance> second = hostsOf(serviceStorage.getPushData(singleton));
+            assertSame(first.get("1.1.1.1"), second.get("1.1.1.1"));
+            assertSame(first.get("2.2.2.2"), second.get("2.2.2.2"));
+            
+            // healthy changed in place by health checker.
+            publishInfo2.setHealthy(false);
+            Map<String, Instance> third = hostsOf(serviceStorage.getPushData(singleton));
+            assertSame(first.get("1.1.1.1"), third.get("1.1.1.1"));
+            assertNotSame(first.get("2.2.2.2"), third.get("2.2.2.2"));
+            assertFalse(third.get("2.2.2.2").isHealthy());
+            
+            // metadata is replaced by a new object.
+            InstanceMetadata metadata = new InstanceMetadata();
+            metadata.setEnabled(false);
+            Mockito.when(namingMetadataManager.getInstanceMetadata(singleton, publishInfo1.getMetadataId()))
+                    .thenReturn(Optional.of(metadata));
+            Map<String, Instance> fourth = hostsOf(serviceStorage.getPushData(singleton));
+            assertFalse(fourth.get("1.1.1.1").isEnabled());
+            assertSame(third.get("2.2.2.2"), fourth.get("2.2.2.2"));
+            
+            // client2 deregistered.
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                    .thenReturn(Collections.singletonList("client1"));
+            Map<String, Instance> fifth = hostsOf(serviceStorage.getPushData(singleton));
+            assertEquals(1, fifth.size());
+            assertSame(fourth.get("1.1.1.1"), fifth.get("1.1.1.1"));
+        } finally {
+            ServiceManager.getInstance().removeSingleton(singleton);
+        }
+    }
+    
+    private Map<String, Instance> hostsOf(ServiceInfo serviceInfo) {
+        Map<String, Instance> result = new HashMap<>();
+        for (Instance each : serviceInfo.getHosts()) {
+            result.put(each.getIp(), each);
+        }
+        return result;
     }
     
 }
\ No newline at end of file
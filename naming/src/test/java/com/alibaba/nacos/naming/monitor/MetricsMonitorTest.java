@@ -100,4 +100,13 @@ class MetricsMonitorTest {
         MetricsMonitor.incrementIpCountWithBatchRegister(new InstancePublishInfo(), newTest);
         assertEquals(2, MetricsMonitor.getIpCountMonitor().get());
     }
+    
+    @Test
+    void testEventShardMetrics() {
+        MetricsMonitor.getEventShardQueueDepth("ServiceEvent", 1).set(10);
+        MetricsMonitor.getEventShardOverflow("ServiceEvent", 1).set(2);
+        assertEquals(10, MetricsMonitor.getEventShardQueueDepth("ServiceEvent", 1).get());
+        assertEquals(2, MetricsMonitor.getEventShardOverflow("ServiceEvent", 1).get());
+        assertEquals(0, MetricsMonitor.getEventShardQueueDepth("ServiceEvent", 0).get());
+    }
 }
@@ -29,6 +29,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PushConfigTest {
     
@@ -66,12 +67,23 @@ class PushConfigTest {
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_DELAY, String.valueOf(pushTaskDelay));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_TIMEOUT, String.valueOf(pushTaskTimeout));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_RETRY_DELAY, String.valueOf(pushTaskRetryDelay));
+        mockEnvironment.setProperty(PushConstants.DELTA_PUSH_MIN_INSTANCES, "10");
+        mockEnvironment.setProperty(PushConstants.DELTA_PUSH_CHANGE_LOG_CAPACITY, "4");
+        mockEnvironment.setProperty(PushConstants.ADAPTIVE_PUSH_MAX_DELAY, "3000");
+        mockEnvironment.setProperty(PushConstants.ADAPTIVE_PUSH_HOT_CHANGE_RATE, "2.5");
         Constructor<PushConfig> declaredConstructor = PushConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
         PushConfig pushConfig = declaredConstructor.newInstance();
         assertEquals(pushTaskDelay, pushConfig.getPushTaskDelay());
         assertEquals(pushTaskTimeout, pushConfig.getPushTaskTimeout());
         assertEquals(pushTaskRetryDelay, pushConfig.getPushTaskRetryDelay());
-        
+        assertTrue(pushConfig.isDeltaPushEnabled());
+        assertEquals(10, pushConfig.getDeltaPushMinInstances());
+        assertEquals(4, pushConfig.getDeltaPushChangeLogCapacity());
+        assertTrue(pushConfig.isAdaptivePushDelayEnabled());
+        assertEquals(PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_DELAY, pushConfig.getAdaptivePushMinDelay());
+        assertEquals(3000L, pushConfig.getAdaptivePushMaxDelay());
+        assertEquals(2.5D, pushConfig.getAdaptivePushHotChangeRate());
+        assertEquals(PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_INTERVAL, pushConfig.getAdaptivePushMinInterval());
     }
 }
@@ -16,11 +16,16 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.index.ServiceChangeLog;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
@@ -32,6 +37,7 @@ import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,13 +45,19 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +69,12 @@ class PushExecutorRpcImplTest {
     @Mock
     private RpcPushService pushService;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    @Mock
+    private Connection connection;
+    
     @Mock
     private Subscriber subscriber;
     
@@ -80,7 +98,7 @@ class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
@@ -103,6 +121,100 @@ class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushShareSerializedPayloadForSameCluster() {
+        when(subscriber.getCluster()).thenReturn("");
+        pushExecutor.doPush(rpcClientId, subscriber, pushData);
+        pushExecutor.doPush(rpcClientId, subscriber, pushData);
+        ArgumentCaptor<NotifySubscriberRequest> captor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        verify(pushService, times(2)).pushWithoutAck(eq(rpcClientId), captor.capture());
+        assertSame(captor.getAllValues().get(0).getServiceInfo(), captor.getAllValues().get(1).getServiceInfo());
+        verify(selectorManager, times(1)).select(any(), any(), any());
+    }
+    
+    @Test
+    void testDoPushWithCallbackByDelta() {
+        ServiceChangeLog changeLog = new ServiceChangeLog();
+        AtomicLong revisionGenerator = new AtomicLong();
+        List<Instance> instances = buildInstances(120);
+        final long baseRevision = changeLog.record(buildServiceInfo(instances), 16, revisionGenerator::incrementAndGet);
+        instances = buildInstances(120);
+        instances.get(0).setWeight(2.0D);
+        instances.remove(1);
+        ServiceInfo latest = buildServiceInfo(instances);
+        final long revision = changeLog.record(latest, 16, revisionGenerator::incrementAndGet);
+        pushData = new PushDataWrapper(serviceMetadata, latest, changeLog);
+        mockDeltaAbility();
+        when(subscriber.getAckedRevision()).thenReturn(baseRevision);
+        doAnswer(invocationOnMock -> {
+            invocationOnMock.<PushCallBack>getArgument(2).onSuccess();
+            return null;
+        }).when(pushService).pushWithCallback(eq(rpcClientId), any(), any(), eq(GlobalExecutor.getCallbackExecutor()));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        ArgumentCaptor<NotifySubscriberDeltaRequest> captor = ArgumentCaptor.forClass(NotifySubscriberDeltaRequest.class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), captor.capture(), any(),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        NotifySubscriberDeltaRequest request = captor.getValue();
+        assertEquals(baseRevision, request.getBaseRevision());
+        assertEquals(revision, request.getRevision());
+        assertTrue(request.getAddedInstances().isEmpty());
+        assertEquals(1, request.getModifiedInstances().size());
+        assertEquals(1, request.getRemovedInstances().size());
+        ArgumentCaptor<ServiceInfo> fullCaptor = ArgumentCaptor.forClass(ServiceInfo.class);
+        verify(pushCallBack).setActualServiceInfo(fullCaptor.capture());
+        ServiceInfo full = fullCaptor.getValue();
+        assertEquals(full.getChecksum(), request.getChecksum());
+        assertEquals(full.isAllIPs(), request.isAllIPs());
+        assertEquals(full.isReachProtectionThreshold(), request.isReachProtectionThreshold());
+        verify(subscriber).setAckedRevision(revision);
+        verify(pushCallBack).onSuccess();
+    }
+    
+    @Test
+    void testDoPushWithCallbackFallbackToFullForRevisionGap() {
+        ServiceChangeLog changeLog = new ServiceChangeLog();
+        AtomicLong revisionGenerator = new AtomicLong();
+        ServiceInfo latest = buildServiceInfo(buildInstances(120));
+        final long revision = changeLog.record(latest, 16, revisionGenerator::incrementAndGet);
+        pushData = new PushDataWrapper(serviceMetadata, latest, changeLog);
+        mockDeltaAbility();
+        when(subscriber.getAckedRevision()).thenReturn(revision + 100);
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        ArgumentCaptor<NotifySubscriberRequest> captor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        ArgumentCaptor<PushCallBack> callbackCaptor = ArgumentCaptor.forClass(PushCallBack.class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), captor.capture(), callbackCaptor.capture(),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        assertEquals(revision, captor.getValue().getRevision());
+        assertEquals(120, captor.getValue().getServiceInfo().getHosts().size());
+        callbackCaptor.getValue().onFail(new RuntimeException("test"));
+        verify(subscriber).setAckedRevision(-1L);
+        verify(pushCallBack).onFail(any());
+    }
+    
+    private void mockDeltaAbility() {
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        when(connection.getAbilityTable()).thenReturn(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_SUPPORT_DELTA_SERVICE_PUSH.getName(), true));
+    }
+    
+    private List<Instance> buildInstances(int count) {
+        List<Instance> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Instance instance = new Instance();
+            instance.setIp("127.0.0." + i);
+            instance.setPort(8848);
+            instance.setClusterName("DEFAULT");
+            result.add(instance);
+        }
+        return result;
+    }
+    
+    private ServiceInfo buildServiceInfo(List<Instance> instances) {
+        ServiceInfo result = new ServiceInfo("G@@S");
+        result.setHosts(new ArrayList<>(instances));
+        return result;
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
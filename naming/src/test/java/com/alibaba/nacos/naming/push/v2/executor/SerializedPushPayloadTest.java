@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import com.alibaba.nacos.common.remote.codec.impl.CompactPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.impl.JsonPayloadCodec;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SerializedPushPayloadTest {
+    
+    @BeforeAll
+    static void setUpBeforeClass() {
+        PayloadRegistry.init();
+    }
+    
+    @Test
+    void testBodyOfSameAsJsonSerialization() {
+        ServiceInfo serviceInfo = buildServiceInfo();
+        NotifySubscriberRequest expected = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        expected.setRequestId("12345");
+        SerializedPushPayload payload = SerializedPushPayload.build(serviceInfo);
+        assertArrayEquals(JacksonUtils.toJsonBytes(expected), payload.bodyOf(new JsonPayloadCodec(), "12345"));
+        assertTrue(payload.size() > 0);
+    }
+    
+    @Test
+    void testBodyOfSameAsCompactEncoding() {
+        ServiceInfo serviceInfo = buildServiceInfo();
+        NotifySubscriberRequest expected = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        expected.setRequestId("12345");
+        expected.setRevision(3L);
+        SerializedPushPayload payload = SerializedPushPayload.build(serviceInfo, 3L);
+        PayloadCodec codec = new CompactPayloadCodec();
+        assertArrayEquals(codec.encode(expected, NotifySubscriberRequest.class), payload.bodyOf(codec, "12345"));
+        expected.setRequestId("123456");
+        assertArrayEquals(codec.encode(expected, NotifySubscriberRequest.class), payload.bodyOf(codec, "123456"));
+    }
+    
+    @Test
+    void testPreSerializedRequestParsedByReceiver() {
+        PreSerializedNotifySubscriberRequest request = new PreSerializedNotifySubscriberRequest(
+                SerializedPushPayload.build(buildServiceInfo()));
+        request.setRequestId("67890");
+        Payload grpcPayload = GrpcUtils.convert(request);
+        assertEquals(NotifySubscriberRequest.class.getSimpleName(), grpcPayload.getMetadata().getType());
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(grpcPayload);
+        assertEquals("67890", actual.getRequestId());
+        assertEquals(request.getServiceInfo().toString(), actual.getServiceInfo().toString());
+    }
+    
+    @Test
+    void testPreSerializedRequestParsedByReceiverWithCompactCodec() {
+        PreSerializedNotifySubscriberRequest request = new PreSerializedNotifySubscriberRequest(
+                SerializedPushPayload.build(buildServiceInfo(), 5L));
+        request.setRequestId("67890");
+        Payload grpcPayload = GrpcUtils.convert(request,
+                PayloadCodecManager.getInstance().getCodec(CompactPayloadCodec.NAME));
+        assertEquals(CompactPayloadCodec.NAME, grpcPayload.getBody().getTypeUrl());
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(grpcPayload);
+        assertEquals("67890", actual.getRequestId());
+        assertEquals(5L, actual.getRevision());
+        assertEquals(request.getServiceInfo().getHosts().size(), actual.getServiceInfo().getHosts().size());
+    }
+    
+    private ServiceInfo buildServiceInfo() {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setServiceName("G@@S");
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        return serviceInfo;
+    }
+}
@@ -39,6 +39,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -99,4 +100,17 @@ class PushDelayTaskExecuteEngineTest {
         verify(pushExecutor).doPushWithCallback(anyString(), any(Subscriber.class), any(PushDataWrapper.class),
                 any(NamingPushCallback.class));
     }
+    
+    @Test
+    void testPushToAllThrottled() throws InterruptedException {
+        executeEngine.addTask(service, new PushDelayTask(service, 0L));
+        TimeUnit.MILLISECONDS.sleep(200L);
+        executeEngine.addTask(service, new PushDelayTask(service, 0L));
+        TimeUnit.MILLISECONDS.sleep(200L);
+        verify(pushExecutor).doPushWithCallback(anyString(), any(Subscriber.class), any(PushDataWrapper.class),
+                any(NamingPushCallback.class));
+        TimeUnit.MILLISECONDS.sleep(1000L);
+        verify(pushExecutor, times(2)).doPushWithCallback(anyString(), any(Subscriber.class),
+                any(PushDataWrapper.class), any(NamingPushCallback.class));
+    }
 }
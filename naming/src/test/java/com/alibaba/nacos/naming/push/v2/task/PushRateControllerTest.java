@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.task;
+
+import com.alibaba.nacos.naming.constants.PushConstants;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PushRateControllerTest {
+    
+    private static final long DELAY = PushConstants.DEFAULT_PUSH_TASK_DELAY;
+    
+    private final Service service = Service.newService("N", "G", "S");
+    
+    private PushRateController pushRateController;
+    
+    @BeforeEach
+    void setUp() {
+        pushRateController = new PushRateController();
+        MetricsMonitor.resetPush();
+    }
+    
+    @Test
+    void testQuietServiceDelayShrunk() {
+        assertEquals(PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_DELAY, pushRateController.adjustDelay(service, DELAY, 1000L));
+        long afterQuiet = 1000L + TimeUnit.SECONDS.toMillis(10);
+        assertEquals(PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_DELAY,
+                pushRateController.adjustDelay(service, DELAY, afterQuiet));
+        assertEquals(0L, pushRateController.adjustDelay(Service.newService("N", "G", "S1"), 0L, 1000L));
+        assertEquals(2, MetricsMonitor.getPushDelayShrunk().get());
+    }
+    
+    @Test
+    void testNormalServiceDelayKept() {
+        pushRateController.adjustDelay(service, DELAY, 1000L);
+        assertEquals(DELAY, pushRateController.adjustDelay(service, DELAY, 3000L));
+        assertEquals(0, MetricsMonitor.getPushDelayStretched().get());
+    }
+    
+    @Test
+    void testHotServiceDelayStretched() {
+        long now = 1000L;
+        long lastDelay = 0L;
+        for (int i = 0; i < 20; i++) {
+            lastDelay = pushRateController.adjustDelay(service, DELAY, now);
+            now += 100L;
+        }
+        assertTrue(lastDelay > DELAY);
+        assertTrue(lastDelay <= PushConstants.DEFAULT_ADAPTIVE_PUSH_MAX_DELAY);
+        assertTrue(MetricsMonitor.getPushDelayStretched().get() > 0);
+        for (int i = 0; i < 500; i++) {
+            lastDelay = pushRateController.adjustDelay(service, DELAY, now);
+            now += 10L;
+        }
+        assertEquals(PushConstants.DEFAULT_ADAPTIVE_PUSH_MAX_DELAY, lastDelay);
+    }
+    
+    @Test
+    void testAcquirePush() {
+        assertEquals(0L, pushRateController.acquirePush(service, 1000L));
+        assertEquals(PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_INTERVAL - 200L,
+                pushRateController.acquirePush(service, 1200L));
+        assertEquals(1, MetricsMonitor.getPushThrottled().get());
+        assertEquals(0L, pushRateController.acquirePush(service, 1000L + PushConstants.DEFAULT_ADAPTIVE_PUSH_MIN_INTERVAL));
+    }
+    
+    @Test
+    void testCleanExpiredRates() {
+        long now = System.currentTimeMillis();
+        pushRateController.adjustDelay(service, DELAY, now);
+        pushRateController.acquirePush(Service.newService("N", "G", "S1"), now + TimeUnit.MINUTES.toMillis(3));
+        assertEquals(2, pushRateController.size());
+        pushRateController.cleanExpiredRates(now + 1000L);
+        assertEquals(2, pushRateController.size());
+        pushRateController.cleanExpiredRates(now + TimeUnit.MINUTES.toMillis(6));
+        assertEquals(1, pushRateController.size());
+    }
+}
@@ -22,10 +22,13 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotChunk;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -84,4 +87,21 @@ class DistroDataRequestHandlerTest {
         DistroDataResponse response4 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         assertNull(response4.getDistroData());
     }
+    
+    @Test
+    void testHandleSnapshotChunk() throws NacosException {
+        DistroSnapshotChunk chunk = new DistroSnapshotChunk(1, 4);
+        DistroData distroData = new DistroData();
+        Mockito.when(distroProtocol.onSnapshot(Mockito.eq(DistroClientDataProcessor.TYPE), Mockito.any()))
+                .thenReturn(distroData);
+        DistroDataRequest distroDataRequest = new DistroDataRequest();
+        distroDataRequest.setDataOperation(SNAPSHOT);
+        distroDataRequest.setDistroData(new DistroData(chunk.toDistroKey(DistroClientDataProcessor.TYPE), new byte[0]));
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, new RequestMeta());
+        assertEquals(distroData, response.getDistroData());
+        ArgumentCaptor<DistroSnapshotChunk> captor = ArgumentCaptor.forClass(DistroSnapshotChunk.class);
+        Mockito.verify(distroProtocol).onSnapshot(Mockito.eq(DistroClientDataProcessor.TYPE), captor.capture());
+        assertEquals(1, captor.getValue().getIndex());
+        assertEquals(4, captor.getValue().getCount());
+    }
 }
@@ -50,6 +50,11 @@ public class PersistenceConstant {
      */
     public static final String EXTEND_NEED_READ_UNTIL_HAVE_DATA = "00--0-read-join-0--00";
     
+    /**
+     * Specifies the read consistency level of reads, see {@link com.alibaba.nacos.consistency.cp.ReadConsistency}.
+     */
+    public static final String EXTEND_READ_CONSISTENCY = "00--0-read-consistency-0--00";
+    
     public static final String CONFIG_MODEL_RAFT_GROUP = "nacos_config";
     
 }
@@ -16,12 +16,15 @@
 
 package com.alibaba.nacos.persistence.repository.embedded;
 
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
+import com.alibaba.nacos.persistence.constants.PersistenceConstant;
 import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Embedded storae context holder.
@@ -104,6 +107,42 @@ public class EmbeddedStorageContextHolder {
         return exist;
     }
     
+    /**
+     * Get extend info.
+     *
+     * @param key key
+     * @return value of key, {@code null} if absent
+     */
+    public static String getExtendInfo(String key) {
+        return EXTEND_INFO_CONTEXT.get().get(key);
+    }
+    
+    /**
+     * Remove extend info.
+     *
+     * @param key key
+     */
+    public static void removeExtendInfo(String key) {
+        EXTEND_INFO_CONTEXT.get().remove(key);
+    }
+    
+    /**
+     * Execute the reads of the supplier with the read consistency level, the level is removed after the reads.
+     *
+     * @param consistency read consistency level, see {@link ReadConsistency}
+     * @param reads       reads to execute
+     * @param <T>         type of result
+     * @return result of reads
+     */
+    public static <T> T readWithConsistency(ReadConsistency consistency, Supplier<T> reads) {
+        putExtendInfo(PersistenceConstant.EXTEND_READ_CONSISTENCY, consistency.name());
+        try {
+            return reads.get();
+        } finally {
+            removeExtendInfo(PersistenceConstant.EXTEND_READ_CONSISTENCY);
+        }
+    }
+    
     public static List<ModifyRequest> getCurrentSqlContext() {
         return SQL_CONTEXT.get();
     }
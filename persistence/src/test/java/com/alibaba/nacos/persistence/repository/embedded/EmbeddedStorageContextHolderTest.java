@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.persistence.repository.embedded;
 
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
+import com.alibaba.nacos.persistence.constants.PersistenceConstant;
 import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class EmbeddedStorageContextHolderTest {
@@ -67,4 +71,13 @@ class EmbeddedStorageContextHolderTest {
         assertTrue(EmbeddedStorageContextHolder.containsExtendInfo("testPutAllExtendInfo"));
         assertEquals("test_value", EmbeddedStorageContextHolder.getCurrentExtendInfo().get("testPutAllExtendInfo"));
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testReadWithConsistency() {
+        String actual = EmbeddedStorageContextHolder.readWithConsistency(ReadConsistency.LEASE,
+                () -> EmbeddedStorageContextHolder.getExtendInfo(PersistenceConstant.EXTEND_READ_CONSISTENCY));
+        assertEquals(ReadConsistency.LEASE.name(), actual);
+        assertFalse(EmbeddedStorageContextHolder.containsExtendInfo(PersistenceConstant.EXTEND_READ_CONSISTENCY));
+        assertNull(EmbeddedStorageContextHolder.getExtendInfo(PersistenceConstant.EXTEND_READ_CONSISTENCY));
+    }
+}